@@ -1,6 +1,11 @@
 package com.example.demo.common.config;
 
 import com.example.demo.common.mail.properties.EmailProperties;
+import com.example.demo.domain.performance.properties.OnSaleProperties;
+import com.example.demo.domain.performance.properties.PerformanceCacheProperties;
+import com.example.demo.domain.queue.properties.AdmissionQueueProperties;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties;
+import com.example.demo.infra.datasource.properties.ReplicaDataSourceProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,6 +21,11 @@ import org.springframework.context.annotation.Configuration;
  * 25. 12. 16.   oldolgol331          Initial creation
  */
 @Configuration
-@EnableConfigurationProperties(EmailProperties.class)
+@EnableConfigurationProperties({EmailProperties.class,
+                                AdmissionQueueProperties.class,
+                                SeatHoldProperties.class,
+                                PerformanceCacheProperties.class,
+                                OnSaleProperties.class,
+                                ReplicaDataSourceProperties.class})
 public class EnableConfigurationPropertiesConfig {
 }
@@ -0,0 +1,30 @@
+package com.example.demo.common.response;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * PackageName : com.example.demo.common.response
+ * FileName    : CursorSlice
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 커서 기반 페이징 결과
+ *               전체 개수를 세지 않으므로 다음 페이지 존재 여부와 다음 페이지를 조회할 커서만 제공합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;    // 다음 페이지 커서 (마지막 페이지면 null)
+
+    public CursorSlice(final List<T> content, final Pageable pageable, final String nextCursor) {
+        super(content, pageable, nextCursor != null);
+        this.nextCursor = nextCursor;
+    }
+
+}
@@ -68,6 +68,11 @@ public enum ErrorCode {
     PERFORMANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "PM001", "해당 공연을 찾을 수 없습니다."),
     INVALID_PERFORMANCE_DATE(HttpStatus.BAD_REQUEST, "PM002", "공연 날짜가 유효하지 않습니다."),
     DELETE_NOT_ALLOWED_HAS_RESERVATION(HttpStatus.BAD_REQUEST, "PM003", "예매 내역이 존재하여 삭제할 수 없습니다."),
+    VENUE_LAYOUT_NOT_FOUND(HttpStatus.NOT_FOUND, "PM004", "해당 좌석 배치 템플릿을 찾을 수 없습니다."),
+    INVALID_VENUE_LAYOUT(HttpStatus.BAD_REQUEST, "PM005", "좌석 배치 템플릿이 유효하지 않습니다. 블록이 겹치거나 좌석 수가 너무 많습니다."),
+    INVALID_PERFORMANCE_CURSOR(HttpStatus.BAD_REQUEST, "PM006", "공연 목록 커서가 유효하지 않습니다."),
+    INVALID_ON_SALE_TIME(HttpStatus.BAD_REQUEST, "PM007", "예매 오픈 시간은 공연 시작 시간 이전이어야 합니다."),
+    PERFORMANCE_NOT_ON_SALE(HttpStatus.FORBIDDEN, "PM008", "아직 예매가 시작되지 않은 공연입니다."),
 
     // 좌석(Seat)
     SEAT_NOT_FOUND(HttpStatus.NOT_FOUND, "ST001", "해당 좌석을 찾을 수 없습니다."),
@@ -103,10 +108,20 @@ public enum ErrorCode {
     EXPIRE_PAYMENT_VERIFICATION_TIME(HttpStatus.BAD_REQUEST, "PY019", "결제 검증 유효 시간이 만료되었습니다."),
     PAYMENT_ACCOUNT_MISMATCH(HttpStatus.BAD_REQUEST, "PY020", "결제 계정 정보가 일치하지 않습니다."),
     PAYMENT_KEY_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PY021", "결제 키 생성에 실패했습니다."),
+    PAYMENT_VERIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "PY022", "결제 검증 요청을 찾을 수 없습니다."),
+    PAYMENT_VERIFICATION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PY023", "결제 검증 요청을 접수할 수 없습니다."),
+
+    // 입장 대기열(Admission Queue)
+    ADMISSION_QUEUE_NOT_ACTIVE(HttpStatus.BAD_REQUEST, "AQ001", "입장 대기열이 운영 중인 공연이 아닙니다."),
+    ADMISSION_TOKEN_NOT_FOUND(HttpStatus.NOT_FOUND, "AQ002", "입장 대기 정보를 찾을 수 없습니다. 대기열에 다시 진입해주세요."),
+    ADMISSION_REQUIRED(HttpStatus.FORBIDDEN, "AQ003", "입장 토큰이 유효하지 않습니다. 대기열을 통해 입장해주세요."),
 
     // 인프라(Infra)
     LOCK_ACQUISITION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "IN001", "락을 획득하지 못했습니다."),
-    LOCK_THREAD_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "IN002", "락 스레드가 중단되었습니다.");
+    LOCK_THREAD_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "IN002", "락 스레드가 중단되었습니다."),
+    SEAT_HOLD_MAILBOX_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "IN003", "좌석 선점 요청이 처리되지 않았습니다. 잠시 후 다시 시도해주세요."),
+    SEAT_HOLD_MAILBOX_CLOSED(HttpStatus.SERVICE_UNAVAILABLE, "IN004", "좌석 선점 요청을 받을 수 없는 상태입니다. 잠시 후 다시 시도해주세요."),
+    SEAT_HOLD_OWNER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "IN005", "좌석 선점 담당 서버에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String     code;
@@ -43,8 +43,12 @@ public enum SuccessCode {
     PERFORMANCE_CREATE_SUCCESS(HttpStatus.CREATED, "공연 생성이 성공적으로 완료되었습니다."),
     PERFORMANCE_LIST_SEARCH_SUCCESS(HttpStatus.OK, "공연 목록 조회가 성공적으로 완료되었습니다."),
     PERFORMANCE_READ_SUCCESS(HttpStatus.OK, "공연 상세 조회가 성공적으로 완료되었습니다."),
+    PERFORMANCE_AUTOCOMPLETE_SUCCESS(HttpStatus.OK, "공연 이름 자동완성 조회가 성공적으로 완료되었습니다."),
     UPDATE_PERFORMANCE_INFO_SUCCESS(HttpStatus.OK, "공연 정보를 성공적으로 수정했습니다."),
     DELETE_PERFORMANCE_SUCCESS(HttpStatus.OK, "공연 삭제가 성공적으로 완료되었습니다."),
+    SEAT_MAP_READ_SUCCESS(HttpStatus.OK, "좌석 배치도 조회가 성공적으로 완료되었습니다."),
+    VENUE_LAYOUT_CREATE_SUCCESS(HttpStatus.CREATED, "좌석 배치 템플릿 생성이 성공적으로 완료되었습니다."),
+    VENUE_LAYOUT_READ_SUCCESS(HttpStatus.OK, "좌석 배치 템플릿 조회가 성공적으로 완료되었습니다."),
 
     // 예약(Reservation)
     RESERVATION_CREATE_SUCCESS(HttpStatus.CREATED, "좌석 예약 생성이 성공적으로 완료되었습니다."),
@@ -53,7 +57,15 @@ public enum SuccessCode {
     // 결제(Payment)
     PRE_PAYMENT_SAVE_SUCCESS(HttpStatus.CREATED, "결제 검증 정보가 성공적으로 저장되었습니다."),
     PAYMENT_SUCCESS(HttpStatus.OK, "결제가 성공적으로 완료되었습니다."),
-    PAYMENT_REFUND_SUCCESS(HttpStatus.OK, "결제 취소가 성공적으로 완료되었습니다.");
+    PAYMENT_REFUND_SUCCESS(HttpStatus.OK, "결제 취소가 성공적으로 완료되었습니다."),
+    PAYMENT_VERIFICATION_ACCEPTED(HttpStatus.ACCEPTED, "결제 검증 요청이 성공적으로 접수되었습니다."),
+    PAYMENT_VERIFICATION_STATUS_READ_SUCCESS(HttpStatus.OK, "결제 검증 상태 조회가 성공적으로 완료되었습니다."),
+
+    // 입장 대기열(Admission Queue)
+    ADMISSION_QUEUE_ACTIVATE_SUCCESS(HttpStatus.OK, "입장 대기열이 성공적으로 활성화되었습니다."),
+    ADMISSION_QUEUE_DEACTIVATE_SUCCESS(HttpStatus.OK, "입장 대기열이 성공적으로 비활성화되었습니다."),
+    ADMISSION_QUEUE_ENTER_SUCCESS(HttpStatus.CREATED, "입장 대기열에 성공적으로 진입했습니다."),
+    ADMISSION_QUEUE_STATUS_READ_SUCCESS(HttpStatus.OK, "입장 대기 상태 조회가 성공적으로 완료되었습니다.");
 
     private final HttpStatus status;
     private final String     message;
@@ -6,6 +6,7 @@ import com.example.demo.common.response.util.PageResponseConverter;
 import java.util.Map;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
@@ -42,20 +43,22 @@ public class PageResponseAdvice implements ResponseBodyAdvice<Object> {
         CustomPageResponse annotation = returnType.getMethodAnnotation(CustomPageResponse.class);
         if (annotation == null) return body;
 
-        Page<?>        page        = null;
+        Slice<?>       slice       = null;
         ApiResponse<?> apiResponse = null;
 
-        if (body instanceof Page) page = (Page<?>) body;
+        if (body instanceof Slice) slice = (Slice<?>) body;
         else if (body instanceof ApiResponse) {
             apiResponse = (ApiResponse<?>) body;
-            if (apiResponse.getData() instanceof Page) page = (Page<?>) apiResponse.getData();
+            if (apiResponse.getData() instanceof Slice) slice = (Slice<?>) apiResponse.getData();
         }
 
-        if (page == null) return body;
+        if (slice == null) return body;
 
-        Map<String, Object> customPageResponse = PageResponseConverter.convertPageToCustomMap(page, annotation);
+        Map<String, Object> customPageResponse = slice instanceof Page<?> page
+                                                 ? PageResponseConverter.convertPageToCustomMap(page, annotation)
+                                                 : PageResponseConverter.convertSliceToCustomMap(slice, annotation);
 
-        if (body instanceof Page) return customPageResponse;
+        if (body instanceof Slice) return customPageResponse;
         else return ApiResponse.of(apiResponse.getStatus(), apiResponse.getMessage(), customPageResponse);
     }
 
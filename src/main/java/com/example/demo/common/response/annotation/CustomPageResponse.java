@@ -47,4 +47,6 @@ public @interface CustomPageResponse {
 
     boolean hasNext() default true;
 
+    boolean nextCursor() default true;
+
 }
@@ -2,11 +2,13 @@ package com.example.demo.common.response.util;
 
 import static lombok.AccessLevel.PRIVATE;
 
+import com.example.demo.common.response.CursorSlice;
 import com.example.demo.common.response.annotation.CustomPageResponse;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * PackageName : com.example.demo.common.response.util
@@ -40,4 +42,26 @@ public abstract class PageResponseConverter {
         return map;
     }
 
+    /**
+     * 전체 개수가 없는 Slice를 변환합니다. 커서 기반 페이징 결과라면 다음 페이지 커서를 함께 담습니다.
+     *
+     * @param slice      - 페이징 결과
+     * @param annotation - 응답 필드 설정
+     * @return 응답 맵
+     */
+    public static Map<String, Object> convertSliceToCustomMap(final Slice<?> slice,
+                                                              final CustomPageResponse annotation) {
+        Map<String, Object> map = new HashMap<>();
+        if (annotation.content()) map.put("content", slice.getContent());
+        if (annotation.size()) map.put("size", slice.getSize());
+        if (annotation.numberOfElements()) map.put("number_of_elements", slice.getNumberOfElements());
+        if (annotation.sort()) map.put("sort", slice.getSort());
+        if (annotation.empty()) map.put("empty", slice.isEmpty());
+        if (annotation.hasContent()) map.put("has_content", slice.hasContent());
+        if (annotation.hasNext()) map.put("has_next", slice.hasNext());
+        if (annotation.nextCursor() && slice instanceof CursorSlice<?> cursorSlice)
+            map.put("next_cursor", cursorSlice.getNextCursor());
+        return map;
+    }
+
 }
@@ -99,21 +99,38 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/v1/performances").hasAuthority("ROLE_ADMIN")
                         .requestMatchers(HttpMethod.GET,
                                          "/api/v1/performances",
-                                         "/api/v1/performances/{performanceId}").permitAll()
+                                         "/api/v1/performances/scroll",
+                                         "/api/v1/performances/autocomplete",
+                                         "/api/v1/performances/{performanceId}",
+                                         "/api/v1/performances/{performanceId}/seats/map").permitAll()
                         .requestMatchers(HttpMethod.PUT,
                                          "/api/v1/performances/{performanceId}").hasAuthority("ROLE_ADMIN")
                         .requestMatchers(HttpMethod.DELETE,
                                          "/api/v1/performances/{performanceId}").hasAuthority("ROLE_ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/venue-layouts").hasAuthority("ROLE_ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/venue-layouts/{layoutId}").permitAll()
 
                         // Reservation
-                        .requestMatchers(HttpMethod.POST, "/api/v1/reservations").authenticated()
+                        .requestMatchers(HttpMethod.POST,
+                                         "/api/v1/reservations",
+                                         "/api/v1/reservations/bulk").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/reservations").authenticated()
 
                         // Payment
                         .requestMatchers(HttpMethod.POST,
                                          "/api/v1/payments/prepare",
                                          "/api/v1/payments/complete",
+                                         "/api/v1/payments/complete/async",
                                          "/api/v1/payments/refund").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/payments/verifications/{paymentId}").authenticated()
+
+                        // Admission Queue
+                        .requestMatchers(HttpMethod.POST, "/api/v1/admission-queues/{performanceId}/activation")
+                        .hasAuthority("ROLE_ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, "/api/v1/admission-queues/{performanceId}/activation")
+                        .hasAuthority("ROLE_ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/admission-queues/{performanceId}").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/admission-queues/{performanceId}").authenticated()
 
                         // ETC
                         .anyRequest().authenticated())
@@ -0,0 +1,38 @@
+package com.example.demo.common.util;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.NoArgsConstructor;
+import org.springframework.util.DigestUtils;
+
+/**
+ * PackageName : com.example.demo.common.util
+ * FileName    : ETagUtils
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : ETag 생성 유틸리티
+ *               응답 본문 대신 응답을 결정하는 버전 값(수정 일시, 좌석 현황 등)으로 ETag를 만들어, 본문을 직렬화하지 않고도 변경 여부를
+ *               판단할 수 있게 합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@NoArgsConstructor(access = PRIVATE)
+public abstract class ETagUtils {
+
+    /**
+     * 버전 값으로 강한 ETag를 생성합니다. 응답 본문의 모든 값은 버전 값이 같으면 같아야 합니다.
+     *
+     * @param versions - 응답을 결정하는 버전 값 목록
+     * @return 따옴표로 감싼 ETag
+     */
+    public static String generate(final Object... versions) {
+        String joined = Arrays.stream(versions).map(String::valueOf).collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.demo.common.util;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.Map;
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.common.util
+ * FileName    : HangulUtils
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 한글 자모 분해 유틸리티
+ *               완성형 한글을 호환용 자모로 분해하며, 입력 중인 글자도 접두사로 일치하도록 겹모음과 겹받침은 두 자모로 나눕니다.
+ *               (예: "과" -> "ㄱㅗㅏ"이므로 입력 중인 "고"("ㄱㅗ")의 확장이 됩니다.)
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@NoArgsConstructor(access = PRIVATE)
+public abstract class HangulUtils {
+
+    private static final char   HANGUL_BEGIN = '가';
+    private static final char   HANGUL_END   = '힣';
+    private static final String CHOSUNG      = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSUNG     = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSUNG     = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(Map.entry('ㅘ', "ㅗㅏ"),
+                                                                              Map.entry('ㅙ', "ㅗㅐ"),
+                                                                              Map.entry('ㅚ', "ㅗㅣ"),
+                                                                              Map.entry('ㅝ', "ㅜㅓ"),
+                                                                              Map.entry('ㅞ', "ㅜㅔ"),
+                                                                              Map.entry('ㅟ', "ㅜㅣ"),
+                                                                              Map.entry('ㅢ', "ㅡㅣ"),
+                                                                              Map.entry('ㄳ', "ㄱㅅ"),
+                                                                              Map.entry('ㄵ', "ㄴㅈ"),
+                                                                              Map.entry('ㄶ', "ㄴㅎ"),
+                                                                              Map.entry('ㄺ', "ㄹㄱ"),
+                                                                              Map.entry('ㄻ', "ㄹㅁ"),
+                                                                              Map.entry('ㄼ', "ㄹㅂ"),
+                                                                              Map.entry('ㄽ', "ㄹㅅ"),
+                                                                              Map.entry('ㄾ', "ㄹㅌ"),
+                                                                              Map.entry('ㄿ', "ㄹㅍ"),
+                                                                              Map.entry('ㅀ', "ㄹㅎ"));
+
+    /**
+     * 문자열을 자모로 분해합니다. 한글이 아닌 문자는 소문자로 바꾸고, 공백은 제거합니다.
+     *
+     * @param text - 문자열
+     * @return 자모 문자열
+     */
+    public static String decompose(final String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (isSyllable(c)) {
+                int index = c - HANGUL_BEGIN;
+                sb.append(CHOSUNG.charAt(index / 588));
+                appendJamo(sb, JUNGSUNG.charAt(index % 588 / 28));
+                if (index % 28 != 0) appendJamo(sb, JONGSUNG.charAt(index % 28));
+            } else appendJamo(sb, Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 문자열의 초성을 추출합니다. 한글이 아닌 문자는 소문자로 바꾸고, 공백은 제거합니다.
+     *
+     * @param text - 문자열
+     * @return 초성 문자열
+     */
+    public static String chosung(final String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            sb.append(isSyllable(c) ? CHOSUNG.charAt((c - HANGUL_BEGIN) / 588) : Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 문자열이 초성(자음)으로만 이루어져 있는지 확인합니다. 공백은 무시합니다.
+     *
+     * @param text - 문자열
+     * @return 초성으로만 이루어져 있으면 true
+     */
+    public static boolean isChosungOnly(final String text) {
+        boolean hasChosung = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (CHOSUNG.indexOf(c) < 0) return false;
+            hasChosung = true;
+        }
+        return hasChosung;
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private static boolean isSyllable(final char c) {
+        return c >= HANGUL_BEGIN && c <= HANGUL_END;
+    }
+
+    private static void appendJamo(final StringBuilder sb, final char jamo) {
+        String split = COMPOUND_JAMO.get(jamo);
+        if (split != null) sb.append(split);
+        else sb.append(jamo);
+    }
+
+}
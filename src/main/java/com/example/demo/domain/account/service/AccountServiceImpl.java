@@ -295,6 +295,7 @@ public class AccountServiceImpl implements AccountService {
      * @param accountId - 계정 ID
      * @param request   - 계정 비밀번호 변경 요청 DTO
      */
+    @Transactional
     @Override
     public void changePassword(final UUID accountId, final AccountPasswordUpdateRequest request) {
         if (!request.isNewPasswordConfirmed()) throw new BusinessException(PASSWORD_MISMATCH); // 신규 비밀번호 != 신규 비밀번호 확인
@@ -350,11 +351,12 @@ public class AccountServiceImpl implements AccountService {
     }
 
     /**
-     * 계정 엔티티를 조회합니다.
+     * 계정 엔티티를 조회합니다. 예약/결제 흐름에서 계정을 확인할 때 사용하며, 가입 직후의 계정도 찾을 수 있도록 primary에서 조회합니다.
      *
      * @param accountId - 계정 ID
      * @return 조회된 계정 엔티티
      */
+    @Transactional  // 예약/결제 쓰기 흐름의 계정 확인은 복제본을 거치지 않음
     @Override
     public Account findByAccountId(final UUID accountId) {
         return accountRepository.findByIdAndStatus(accountId, ACTIVE)
@@ -0,0 +1,188 @@
+package com.example.demo.domain.performance.cache;
+
+import com.example.demo.domain.performance.dto.PerformancePageValue;
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceDetailResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.SeatCountValue;
+import com.example.demo.domain.performance.properties.PerformanceCacheProperties;
+import com.example.demo.infra.redis.cache.TwoLevelCache;
+import com.example.demo.infra.datasource.properties.ReplicaDataSourceProperties;
+import com.example.demo.infra.redis.cache.TwoLevelCacheManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PackageName : com.example.demo.domain.performance.cache
+ * FileName    : PerformanceCatalogCache
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 목록/상세 조회 캐시
+ *               자주 바뀌지 않는 공연 정보는 길게, 예약마다 바뀌는 좌석 현황은 짧게 캐시하도록 두 정보를 따로 저장합니다.
+ *               공연 정보는 공연이 생성/수정/삭제된 트랜잭션이 커밋된 후 모든 노드에서 무효화되며, 좌석 현황은 만료 시간으로만 갱신됩니다.
+ *               복제본을 사용하면 무효화 직후 아직 복제되지 않은 값이 다시 캐시될 수 있으므로, 최대 복제 지연 시간 후 한 번 더 무효화합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+public class PerformanceCatalogCache {
+
+    private final TwoLevelCache<PerformanceDetailResponse> detailCache;     // 공연 ID -> 공연 상세 정보
+    private final TwoLevelCache<PerformancePageValue>      pageCache;       // 검색어, 페이징 정보 -> 공연 목록
+    private final TwoLevelCache<SeatCountValue>            seatCountCache;  // 공연 ID -> 좌석 현황
+    private final TaskScheduler                            taskScheduler;
+    private final Duration                                 staleReadWindow; // 복제본에서 이전 값을 읽을 수 있는 최대 시간
+
+    public PerformanceCatalogCache(final TwoLevelCacheManager cacheManager,
+                                   final PerformanceCacheProperties properties,
+                                   final ReplicaDataSourceProperties replicaDataSourceProperties,
+                                   final TaskScheduler taskScheduler) {
+        Duration catalogLocalTtl    = Duration.ofMillis(properties.getCatalogLocalTtlMillis());
+        Duration catalogRemoteTtl   = Duration.ofMillis(properties.getCatalogRemoteTtlMillis());
+        Duration seatCountLocalTtl  = Duration.ofMillis(properties.getSeatCountLocalTtlMillis());
+        Duration seatCountRemoteTtl = Duration.ofMillis(properties.getSeatCountRemoteTtlMillis());
+
+        this.detailCache = cacheManager.create("performance-detail",
+                                               PerformanceDetailResponse.class,
+                                               catalogLocalTtl,
+                                               catalogRemoteTtl,
+                                               properties.getLocalMaxSize());
+        this.pageCache = cacheManager.create("performance-page",
+                                             PerformancePageValue.class,
+                                             catalogLocalTtl,
+                                             catalogRemoteTtl,
+                                             properties.getLocalMaxSize());
+        this.seatCountCache = cacheManager.create("performance-seat-count",
+                                                  SeatCountValue.class,
+                                                  seatCountLocalTtl,
+                                                  seatCountRemoteTtl,
+                                                  properties.getLocalMaxSize());
+        this.taskScheduler = taskScheduler;
+        this.staleReadWindow = Duration.ofMillis(replicaDataSourceProperties.getStaleReadWindowMillis());
+    }
+
+    /**
+     * 공연 상세 정보를 조회합니다. 응답의 좌석 현황은 캐시 시점의 값이므로 getSeatCounts()로 조회한 값으로 바꿔야 합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param loader        - 원본 조회 함수
+     * @return 공연 상세 정보 응답 DTO
+     */
+    public PerformanceDetailResponse getPerformance(final Long performanceId,
+                                                    final Supplier<PerformanceDetailResponse> loader) {
+        return detailCache.get(String.valueOf(performanceId), loader);
+    }
+
+    /**
+     * 공연 목록을 조회합니다. 응답의 좌석 현황은 캐시 시점의 값이므로 getSeatCounts()로 조회한 값으로 바꿔야 합니다.
+     *
+     * @param keyword  - 검색어
+     * @param pageable - 페이징 객체
+     * @param loader   - 원본 조회 함수
+     * @return 공연 페이징 목록 응답 DTO
+     */
+    public Page<PerformanceListResponse> getPerformances(final String keyword,
+                                                         final Pageable pageable,
+                                                         final Supplier<Page<PerformanceListResponse>> loader) {
+        return pageCache.get(getPageKey(keyword, pageable), () -> PerformancePageValue.from(loader.get()))
+                        .toPage(pageable);
+    }
+
+    /**
+     * 공연별 좌석 현황을 조회합니다. 캐시에 없는 공연만 모아 원본에서 한 번에 조회하며, 좌석 현황이 없는 공연은 0석으로 응답합니다.
+     *
+     * @param performanceIds - 공연 ID 목록
+     * @param loader         - 캐시에 없는 공연 ID 목록으로 원본을 조회하는 함수
+     * @return 공연 ID별 좌석 현황
+     */
+    public Map<Long, SeatCountValue> getSeatCounts(final Collection<Long> performanceIds,
+                                                   final Function<List<Long>, List<SeatCountValue>> loader) {
+        Map<String, SeatCountValue> found = seatCountCache.getAll(
+                performanceIds.stream().map(String::valueOf).toList(),
+                missingKeys -> {
+                    Map<String, SeatCountValue> loaded = new HashMap<>();
+                    missingKeys.forEach(key -> loaded.put(key, SeatCountValue.empty(Long.valueOf(key))));
+                    loader.apply(missingKeys.stream().map(Long::valueOf).toList())
+                          .forEach(seatCount -> loaded.put(String.valueOf(seatCount.getPerformanceId()), seatCount));
+                    return loaded;
+                }
+        );
+        return found.values().stream().collect(Collectors.toMap(SeatCountValue::getPerformanceId, Function.identity()));
+    }
+
+    /**
+     * 공연 목록 캐시를 무효화합니다. 트랜잭션이 진행 중이면 커밋 이후에 무효화합니다.
+     */
+    public void evictPerformances() {
+        runAfterCommit(pageCache::invalidate);
+    }
+
+    /**
+     * 이 노드의 로컬 공연 목록 캐시만 비웁니다. 다른 노드가 변경한 공연을 이 노드에 반영할 때 사용하며, Redis 캐시의 무효화는 공연을
+     * 변경한 노드가 맡습니다.
+     */
+    public void evictLocalPerformances() {
+        pageCache.invalidateLocal();
+    }
+
+    /**
+     * 공연 상세 정보와 공연 목록 캐시를 무효화합니다. 트랜잭션이 진행 중이면 커밋 이후에 무효화합니다.
+     */
+    public void evictPerformance() {
+        runAfterCommit(() -> {
+            detailCache.invalidate();
+            pageCache.invalidate();
+        });
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 트랜잭션이 진행 중이면 커밋 이후에, 아니면 즉시 작업을 수행합니다.
+     * 커밋 전에 무효화하면 커밋 전의 값을 다시 조회해 캐시할 수 있기 때문입니다.
+     *
+     * @param task - 캐시 무효화 작업
+     */
+    private void runAfterCommit(final Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runAndRepeatAfterReplication(task);
+                }
+            });
+        else runAndRepeatAfterReplication(task);
+    }
+
+    /**
+     * 작업을 수행하고, 복제본을 사용하면 커밋된 값이 복제본에 반영될 시간이 지난 뒤 한 번 더 수행합니다.
+     *
+     * @param task - 캐시 무효화 작업
+     */
+    private void runAndRepeatAfterReplication(final Runnable task) {
+        task.run();
+        if (!staleReadWindow.isZero()) taskScheduler.schedule(task, Instant.now().plus(staleReadWindow));
+    }
+
+    private String getPageKey(final String keyword, final Pageable pageable) {
+        return "%s|%d|%d|%s".formatted(keyword == null ? "" : keyword.trim(),
+                                       pageable.getPageNumber(),
+                                       pageable.getPageSize(),
+                                       pageable.getSort());
+    }
+
+}
@@ -1,29 +1,39 @@
 package com.example.demo.domain.performance.controller;
 
 import static com.example.demo.common.response.SuccessCode.DELETE_PERFORMANCE_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.PERFORMANCE_AUTOCOMPLETE_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PERFORMANCE_CREATE_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PERFORMANCE_LIST_SEARCH_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PERFORMANCE_READ_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.SEAT_MAP_READ_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.UPDATE_PERFORMANCE_INFO_SUCCESS;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
 import com.example.demo.common.response.ApiResponse;
+import com.example.demo.common.response.CursorSlice;
 import com.example.demo.common.response.SuccessCode;
 import com.example.demo.common.response.annotation.CustomPageResponse;
+import com.example.demo.common.util.ETagUtils;
 import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceCreateRequest;
 import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceUpdateRequest;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceDetailResponse;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceSuggestionResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.SeatMapResponse;
 import com.example.demo.domain.performance.service.PerformanceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -66,7 +76,9 @@ public class PerformanceController {
 
     @GetMapping
     @CustomPageResponse(numberOfElements = false, empty = false, hasContent = false)
-    @Operation(summary = "공연 목록 조회", description = "검색어와 페이징을 지원하는 공연 목록을 조회합니다.")
+    @Operation(summary = "공연 목록 조회",
+               description = "검색어와 페이징을 지원하는 공연 목록을 조회합니다. "
+                             + "응답의 ETag를 If-None-Match로 전달하면 변경되지 않은 경우 304를 응답합니다.")
     public ResponseEntity<ApiResponse<Page<PerformanceListResponse>>> getPerformances(
             @RequestParam(required = false) final String keyword,
             @PageableDefault(page = 1,
@@ -78,15 +90,64 @@ public class PerformanceController {
                 keyword,
                 PageRequest.of(pageable.getPageNumber() - 1, pageable.getPageSize(), pageable.getSort())
         );
-        return ResponseEntity.ok(ApiResponse.success(PERFORMANCE_LIST_SEARCH_SUCCESS, responseData));
+        return ResponseEntity.ok()
+                             .cacheControl(CacheControl.noCache())
+                             .eTag(getETag(responseData))
+                             .body(ApiResponse.success(PERFORMANCE_LIST_SEARCH_SUCCESS, responseData));
+    }
+
+    @GetMapping("/scroll")
+    @CustomPageResponse(numberOfElements = false, empty = false, hasContent = false)
+    @Operation(summary = "공연 목록 커서 조회",
+               description = "전체 개수 없이 공연 목록을 조회합니다. 응답의 next_cursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorSlice<PerformanceListResponse>>> scrollPerformances(
+            @RequestParam(required = false) final String keyword,
+            @RequestParam(required = false) final String cursor,
+            @PageableDefault(size = 10, sort = "createdAt", direction = DESC) final Pageable pageable
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(PERFORMANCE_LIST_SEARCH_SUCCESS,
+                                                     performanceService.scrollPerformances(keyword,
+                                                                                           cursor,
+                                                                                           pageable)));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "공연 이름 자동완성",
+               description = "입력 중인 검색어로 시작하는 공연 이름을 최신 공연부터 조회합니다. 초성으로도 조회할 수 있습니다.")
+    public ResponseEntity<ApiResponse<List<PerformanceSuggestionResponse>>> getSuggestions(
+            @RequestParam final String keyword,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(10) final int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(PERFORMANCE_AUTOCOMPLETE_SUCCESS,
+                                                     performanceService.getSuggestions(keyword, size)));
     }
 
     @GetMapping("/{performanceId}")
-    @Operation(summary = "공연 상세 조회", description = "특정 공연의 상세 정보와 좌석 현황을 조회합니다.")
+    @Operation(summary = "공연 상세 조회",
+               description = "특정 공연의 상세 정보와 좌석 현황을 조회합니다. "
+                             + "응답의 ETag를 If-None-Match로 전달하면 변경되지 않은 경우 304를 응답합니다.")
     public ResponseEntity<ApiResponse<PerformanceDetailResponse>> getPerformance(
             @PathVariable("performanceId") @Min(1) final Long id
     ) {
-        return ResponseEntity.ok(ApiResponse.success(PERFORMANCE_READ_SUCCESS, performanceService.getPerformance(id)));
+        PerformanceDetailResponse responseData = performanceService.getPerformance(id);
+        return ResponseEntity.ok()
+                             .cacheControl(CacheControl.noCache())
+                             .eTag(ETagUtils.generate(responseData.getId(),
+                                                      responseData.getUpdatedAt(),
+                                                      responseData.getRemainingSeats(),
+                                                      responseData.getTotalSeats()))
+                             .body(ApiResponse.success(PERFORMANCE_READ_SUCCESS, responseData));
+    }
+
+    @GetMapping("/{performanceId}/seats/map")
+    @Operation(summary = "공연 좌석 배치도 조회",
+               description = "좌석별 상태를 압축하여 조회합니다. sinceVersion을 전달하면 이후 변경된 좌석만 조회합니다.")
+    public ResponseEntity<ApiResponse<SeatMapResponse>> getSeatMap(
+            @PathVariable("performanceId") @Min(1) final Long id,
+            @RequestParam(required = false) @Min(0) final Long sinceVersion
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(SEAT_MAP_READ_SUCCESS,
+                                                     performanceService.getSeatMap(id, sinceVersion)));
     }
 
     @PutMapping("/{performanceId}")
@@ -104,4 +165,24 @@ public class PerformanceController {
         return ResponseEntity.ok(ApiResponse.success(DELETE_PERFORMANCE_SUCCESS));
     }
 
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 공연 목록의 ETag를 생성합니다. 페이지 정보는 요청 URL에 포함되므로, 전체 개수와 각 공연의 수정 일시, 좌석 현황으로 생성합니다.
+     * 수정 일시는 마이크로초 단위로 저장되므로 같은 초 안의 수정도 구분됩니다.
+     *
+     * @param page - 공연 페이징 목록
+     * @return ETag
+     */
+    private String getETag(final Page<PerformanceListResponse> page) {
+        return ETagUtils.generate(Stream.concat(Stream.of(page.getTotalElements()),
+                                                page.getContent()
+                                                    .stream()
+                                                    .flatMap(performance -> Stream.of(performance.getId(),
+                                                                                      performance.getUpdatedAt(),
+                                                                                      performance.getRemainingSeats(),
+                                                                                      performance.getTotalSeats())))
+                                        .toArray());
+    }
+
 }
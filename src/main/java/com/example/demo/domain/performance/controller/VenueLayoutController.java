@@ -0,0 +1,63 @@
+package com.example.demo.domain.performance.controller;
+
+import static com.example.demo.common.response.SuccessCode.VENUE_LAYOUT_CREATE_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.VENUE_LAYOUT_READ_SUCCESS;
+
+import com.example.demo.common.response.ApiResponse;
+import com.example.demo.common.response.SuccessCode;
+import com.example.demo.domain.performance.dto.VenueLayoutRequest.VenueLayoutCreateRequest;
+import com.example.demo.domain.performance.dto.VenueLayoutResponse.VenueLayoutDetailResponse;
+import com.example.demo.domain.performance.service.VenueLayoutService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * PackageName : com.example.demo.domain.performance.controller
+ * FileName    : VenueLayoutController
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 배치 템플릿(VenueLayout) 컨트롤러
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@RestController
+@RequestMapping("/api/v1/venue-layouts")
+@RequiredArgsConstructor
+@Tag(name = "좌석 배치 템플릿 API", description = "공연장 좌석 배치 템플릿 생성, 조회 API를 제공합니다.")
+public class VenueLayoutController {
+
+    private final VenueLayoutService venueLayoutService;
+
+    @PostMapping
+    @Operation(summary = "좌석 배치 템플릿 생성",
+               description = "구역/열/좌석 수와 블록별 가격으로 좌석 배치 템플릿을 등록합니다. 응답은 템플릿 ID입니다.")
+    public ResponseEntity<ApiResponse<Long>> createVenueLayout(
+            @Valid @RequestBody final VenueLayoutCreateRequest request
+    ) {
+        Long layoutId = venueLayoutService.createVenueLayout(request);
+        final SuccessCode successCode = VENUE_LAYOUT_CREATE_SUCCESS;
+        return ResponseEntity.status(successCode.getStatus()).body(ApiResponse.success(successCode, layoutId));
+    }
+
+    @GetMapping("/{layoutId}")
+    @Operation(summary = "좌석 배치 템플릿 조회",
+               description = "템플릿 좌석을 열 단위로 조회합니다. 공연 좌석 배치도의 좌석 상태와 좌석 순서로 대응됩니다.")
+    public ResponseEntity<ApiResponse<VenueLayoutDetailResponse>> getVenueLayout(
+            @PathVariable("layoutId") @Min(1) final Long id
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(VENUE_LAYOUT_READ_SUCCESS, venueLayoutService.getVenueLayout(id)));
+    }
+
+}
@@ -1,7 +1,11 @@
 package com.example.demo.domain.performance.dao;
 
 import com.example.demo.domain.performance.model.Performance;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * PackageName : com.example.demo.domain.performance.dao
@@ -15,4 +19,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * 25. 12. 15.   oldolgol331          Initial creation
  */
 public interface PerformanceRepository extends JpaRepository<Performance, Long>, PerformanceRepositoryCustom {
+
+    @Query("SELECT p.id FROM Performance p WHERE p.endTime > :now ORDER BY p.id")
+    List<Long> findIdsByEndTimeAfter(@Param("now") LocalDateTime now);   // 아직 끝나지 않은 공연 ID 목록
+
 }
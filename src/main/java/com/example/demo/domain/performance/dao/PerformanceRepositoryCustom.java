@@ -1,10 +1,17 @@
 package com.example.demo.domain.performance.dao;
 
+import com.example.demo.common.response.CursorSlice;
+import com.example.demo.domain.performance.dto.PerformanceCursor;
+import com.example.demo.domain.performance.dto.PerformanceOnSaleValue;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceDetailResponse;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.PerformanceSearchValue;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * PackageName : com.example.demo.domain.performance.dao
@@ -23,4 +30,15 @@ public interface PerformanceRepositoryCustom {
 
     Page<PerformanceListResponse> getPerformances(String keyword, Pageable pageable);
 
+    CursorSlice<PerformanceListResponse> scrollPerformances(String keyword,
+                                                            PerformanceCursor cursor,
+                                                            Sort sort,
+                                                            int size);
+
+    List<PerformanceSearchValue> getSearchValues(Long lastPerformanceId, int size);
+
+    Optional<PerformanceSearchValue> getSearchValue(Long performanceId);
+
+    List<PerformanceOnSaleValue> getOnSaleSchedules(LocalDateTime after);
+
 }
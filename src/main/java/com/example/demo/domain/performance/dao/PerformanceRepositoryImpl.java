@@ -1,26 +1,33 @@
 package com.example.demo.domain.performance.dao;
 
-import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
-
+import com.example.demo.common.response.CursorSlice;
+import com.example.demo.domain.performance.dto.PerformanceCursor;
+import com.example.demo.domain.performance.dto.PerformanceOnSaleValue;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceDetailResponse;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.PerformanceSearchValue;
+import com.example.demo.domain.performance.dto.QPerformanceOnSaleValue;
 import com.example.demo.domain.performance.dto.QPerformanceResponse_PerformanceDetailResponse;
 import com.example.demo.domain.performance.dto.QPerformanceResponse_PerformanceListResponse;
+import com.example.demo.domain.performance.dto.QPerformanceSearchValue;
 import com.example.demo.domain.performance.model.QPerformance;
-import com.example.demo.domain.performance.model.QSeat;
+import com.example.demo.domain.performance.model.QPerformanceStats;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
@@ -31,6 +38,7 @@ import org.springframework.util.StringUtils;
  * Author      : oldolgol331
  * Date        : 25. 12. 16.
  * Description : Performance 엔티티 커스텀 DAO 구현체
+ *               잔여/전체 좌석 수는 좌석을 집계하지 않고 performance_stats 카운터 슬롯의 합으로 조회합니다.
  * =====================================================================================================================
  * DATE          AUTHOR               DESCRIPTION
  * ---------------------------------------------------------------------------------------------------------------------
@@ -40,8 +48,8 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class PerformanceRepositoryImpl implements PerformanceRepositoryCustom {
 
-    private static final QPerformance PERFORMANCE = QPerformance.performance;
-    private static final QSeat        SEAT        = QSeat.seat;
+    private static final QPerformance      PERFORMANCE = QPerformance.performance;
+    private static final QPerformanceStats STATS       = QPerformanceStats.performanceStats;
 
     private final JPAQueryFactory jpaQueryFactory;
 
@@ -60,16 +68,14 @@ public class PerformanceRepositoryImpl implements PerformanceRepositoryCustom {
                                                           PERFORMANCE.info,
                                                           PERFORMANCE.startTime,
                                                           PERFORMANCE.endTime,
-                                                          new CaseBuilder().when(SEAT.status.eq(AVAILABLE))
-                                                                           .then(1)
-                                                                           .otherwise(0)
-                                                                           .sum()
-                                                                           .intValue(),
-                                                          SEAT.id.count().intValue(),
+                                                          STATS.availableSeats.sum().coalesce(0).intValue(),
+                                                          STATS.totalSeats.sum().coalesce(0).intValue(),
+                                                          PERFORMANCE.layoutId,
+                                                          PERFORMANCE.onSaleAt,
                                                           PERFORMANCE.createdAt,
                                                           PERFORMANCE.updatedAt))
                                                   .from(PERFORMANCE)
-                                                  .leftJoin(PERFORMANCE.seats, SEAT)
+                                                  .leftJoin(STATS).on(STATS.performanceId.eq(PERFORMANCE.id))
                                                   .where(PERFORMANCE.id.eq(performanceId))
                                                   .groupBy(PERFORMANCE.id)
                                                   .fetchOne());
@@ -99,17 +105,13 @@ public class PerformanceRepositoryImpl implements PerformanceRepositoryCustom {
                                                                                                                         PERFORMANCE.venue,
                                                                                                                         PERFORMANCE.startTime,
                                                                                                                         PERFORMANCE.endTime,
-                                                                                                                        new CaseBuilder().when(SEAT.status.eq(AVAILABLE))
-                                                                                                                                         .then(1)
-                                                                                                                                         .otherwise(0)
-                                                                                                                                         .sum()
-                                                                                                                                         .intValue(),
-                                                                                                                        SEAT.id.count().intValue(),
+                                                                                                                        STATS.availableSeats.sum().coalesce(0).intValue(),
+                                                                                                                        STATS.totalSeats.sum().coalesce(0).intValue(),
                                                                                                                         PERFORMANCE.createdAt,
                                                                                                                         PERFORMANCE.updatedAt)
                                                                )
                                                                .from(PERFORMANCE)
-                                                               .leftJoin(PERFORMANCE.seats, SEAT)
+                                                               .leftJoin(STATS).on(STATS.performanceId.eq(PERFORMANCE.id))
                                                                .where(PERFORMANCE.id.in(ids))
                                                                .groupBy(PERFORMANCE.id)
                                                                .orderBy(getSortCondition(pageable))
@@ -122,8 +124,130 @@ public class PerformanceRepositoryImpl implements PerformanceRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 공연 검색 결과를 커서 기반으로 조회합니다. 커서 이후의 공연만 정렬 기준 인덱스로 찾으므로 OFFSET으로 앞선 공연을 읽고 버리지 않으며,
+     * 전체 개수를 세지 않고 한 건을 더 조회하여 다음 페이지 존재 여부를 판단합니다.
+     *
+     * @param keyword - 검색어
+     * @param cursor  - 이전 페이지의 커서 (첫 페이지면 null)
+     * @param sort    - 정렬 조건 (커서가 있으면 커서의 정렬 기준을 사용)
+     * @param size    - 페이지 크기
+     * @return 공연 커서 페이징 목록 응답 DTO
+     */
+    @Override
+    public CursorSlice<PerformanceListResponse> scrollPerformances(final String keyword,
+                                                                   final PerformanceCursor cursor,
+                                                                   final Sort sort,
+                                                                   final int size) {
+        String  sortProperty = cursor != null ? cursor.getSortProperty() : getCursorSortProperty(sort);
+        boolean ascending    = cursor != null ? cursor.isAscending() : isAscending(sort, sortProperty);
+        Order   direction    = ascending ? Order.ASC : Order.DESC;
+
+        DateTimePath<LocalDateTime> sortPath = getCursorSortPath(sortProperty);
+        OrderSpecifier<?>[]         orderBy  = {new OrderSpecifier<>(direction, sortPath),
+                                                new OrderSpecifier<>(direction, PERFORMANCE.id)};
+
+        List<Long> ids = jpaQueryFactory.select(PERFORMANCE.id)
+                                        .from(PERFORMANCE)
+                                        .where(matchAgainstKeyword(keyword), afterCursor(cursor, sortPath))
+                                        .orderBy(orderBy)
+                                        .limit(size + 1)
+                                        .fetch();
+        Pageable pageable = PageRequest.of(0, size, Sort.by(ascending ? Sort.Direction.ASC : Sort.Direction.DESC,
+                                                             sortProperty));
+        if (ids.isEmpty()) return new CursorSlice<>(List.of(), pageable, null);
+
+        boolean hasNext = ids.size() > size;
+        if (hasNext) ids = ids.subList(0, size);
+
+        List<PerformanceListResponse> content = jpaQueryFactory.select(new QPerformanceResponse_PerformanceListResponse(
+                                                                       PERFORMANCE.id,
+                                                                       PERFORMANCE.name,
+                                                                       PERFORMANCE.venue,
+                                                                       PERFORMANCE.startTime,
+                                                                       PERFORMANCE.endTime,
+                                                                       STATS.availableSeats.sum()
+                                                                                           .coalesce(0)
+                                                                                           .intValue(),
+                                                                       STATS.totalSeats.sum()
+                                                                                       .coalesce(0)
+                                                                                       .intValue(),
+                                                                       PERFORMANCE.createdAt,
+                                                                       PERFORMANCE.updatedAt))
+                                                               .from(PERFORMANCE)
+                                                               .leftJoin(STATS)
+                                                               .on(STATS.performanceId.eq(PERFORMANCE.id))
+                                                               .where(PERFORMANCE.id.in(ids))
+                                                               .groupBy(PERFORMANCE.id)
+                                                               .orderBy(orderBy)
+                                                               .fetch();
+
+        String nextCursor = hasNext && !content.isEmpty()
+                            ? PerformanceCursor.of(sortProperty, ascending, content.getLast()).encode()
+                            : null;
+        return new CursorSlice<>(content, pageable, nextCursor);
+    }
+
+    /**
+     * 공연 검색 색인 문서를 공연 ID 순으로 조회합니다. 마지막으로 조회한 공연 ID 이후부터 조회하므로 전체 공연을 나누어 적재할 수 있습니다.
+     *
+     * @param lastPerformanceId - 마지막으로 조회한 공연 ID (처음이면 null)
+     * @param size              - 조회할 공연 수
+     * @return 공연 검색 색인 문서 목록
+     */
+    @Override
+    public List<PerformanceSearchValue> getSearchValues(final Long lastPerformanceId, final int size) {
+        return jpaQueryFactory.select(searchValueProjection())
+                              .from(PERFORMANCE)
+                              .where(lastPerformanceId == null ? null : PERFORMANCE.id.gt(lastPerformanceId))
+                              .orderBy(PERFORMANCE.id.asc())
+                              .limit(size)
+                              .fetch();
+    }
+
+    /**
+     * 공연 검색 색인 문서를 조회합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @return 공연 검색 색인 문서
+     */
+    @Override
+    public Optional<PerformanceSearchValue> getSearchValue(final Long performanceId) {
+        return Optional.ofNullable(jpaQueryFactory.select(searchValueProjection())
+                                                  .from(PERFORMANCE)
+                                                  .where(PERFORMANCE.id.eq(performanceId))
+                                                  .fetchOne());
+    }
+
+    /**
+     * 기준 일시 이후에 예매가 열리는 공연의 예매 오픈 일시를 예매 오픈 순으로 조회합니다.
+     *
+     * @param after - 기준 일시
+     * @return 공연 ID별 예매 오픈 일시 목록
+     */
+    @Override
+    public List<PerformanceOnSaleValue> getOnSaleSchedules(final LocalDateTime after) {
+        return jpaQueryFactory.select(new QPerformanceOnSaleValue(PERFORMANCE.id, PERFORMANCE.onSaleAt))
+                              .from(PERFORMANCE)
+                              .where(PERFORMANCE.onSaleAt.gt(after))
+                              .orderBy(PERFORMANCE.onSaleAt.asc())
+                              .fetch();
+    }
+
     // ========================= 내부 메서드 =========================
 
+    private QPerformanceSearchValue searchValueProjection() {
+        return new QPerformanceSearchValue(PERFORMANCE.id,
+                                           PERFORMANCE.name,
+                                           PERFORMANCE.venue,
+                                           PERFORMANCE.info,
+                                           PERFORMANCE.startTime,
+                                           PERFORMANCE.endTime,
+                                           PERFORMANCE.onSaleAt,
+                                           PERFORMANCE.createdAt,
+                                           PERFORMANCE.updatedAt);
+    }
+
     /**
      * 검색어와 일치하는 게시글을 찾는데 사용되는 조건식(FULLTEXT INDEX MATCH() AGAINST() BOOLEAN MODE)입니다.
      *
@@ -140,6 +264,49 @@ public class PerformanceRepositoryImpl implements PerformanceRepositoryCustom {
                           .gt(0);
     }
 
+    /**
+     * 커서 이후의 공연을 찾는 조건식입니다. 정렬 기준 값이 같은 공연은 공연 ID로 순서를 정합니다.
+     *
+     * @param cursor   - 이전 페이지의 커서
+     * @param sortPath - 정렬 기준 컬럼
+     * @return 조건식
+     */
+    private BooleanExpression afterCursor(final PerformanceCursor cursor, final DateTimePath<LocalDateTime> sortPath) {
+        if (cursor == null) return null;
+        if (cursor.isAscending())
+            return sortPath.gt(cursor.getValue())
+                           .or(sortPath.eq(cursor.getValue()).and(PERFORMANCE.id.gt(cursor.getId())));
+        return sortPath.lt(cursor.getValue())
+                       .or(sortPath.eq(cursor.getValue()).and(PERFORMANCE.id.lt(cursor.getId())));
+    }
+
+    /**
+     * 커서 기반 조회의 정렬 기준을 정합니다. 정렬 조건 중 처음으로 지원하는 정렬 기준을 사용하며, 없으면 생성 일시를 사용합니다.
+     *
+     * @param sort - 정렬 조건
+     * @return 정렬 기준
+     */
+    private String getCursorSortProperty(final Sort sort) {
+        return sort.stream()
+                   .map(Sort.Order::getProperty)
+                   .filter(PerformanceCursor::isSortProperty)
+                   .findFirst()
+                   .orElse(PerformanceCursor.DEFAULT_SORT_PROPERTY);
+    }
+
+    private boolean isAscending(final Sort sort, final String sortProperty) {
+        Sort.Order order = sort.getOrderFor(sortProperty);
+        return order != null && order.isAscending();
+    }
+
+    private DateTimePath<LocalDateTime> getCursorSortPath(final String sortProperty) {
+        return switch (sortProperty) {
+            case "startTime" -> PERFORMANCE.startTime;
+            case "endTime" -> PERFORMANCE.endTime;
+            default -> PERFORMANCE.createdAt;
+        };
+    }
+
     /**
      * 정렬 조건을 생성합니다. 기본적으로 최신 공연부터 조회됩니다.
      *
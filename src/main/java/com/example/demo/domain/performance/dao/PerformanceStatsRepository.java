@@ -0,0 +1,36 @@
+package com.example.demo.domain.performance.dao;
+
+import com.example.demo.domain.performance.dto.SeatCountValue;
+import com.example.demo.domain.performance.model.PerformanceStats;
+import com.example.demo.domain.performance.model.PerformanceStatsId;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : PerformanceStatsRepository
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : PerformanceStats 엔티티 DAO
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public interface PerformanceStatsRepository extends JpaRepository<PerformanceStats, PerformanceStatsId>,
+                                                    PerformanceStatsRepositoryCustom {
+
+    @Query("SELECT new com.example.demo.domain.performance.dto.SeatCountValue("
+           + "s.performanceId, SUM(s.availableSeats), SUM(s.totalSeats)) "
+           + "FROM PerformanceStats s WHERE s.performanceId IN :performanceIds GROUP BY s.performanceId")
+    List<SeatCountValue> findSeatCountsByPerformanceIdIn(@Param("performanceIds") Collection<Long> performanceIds);
+
+    @Modifying
+    @Query("DELETE FROM PerformanceStats s WHERE s.performanceId = :performanceId")
+    int deleteByPerformanceId(@Param("performanceId") Long performanceId);
+
+}
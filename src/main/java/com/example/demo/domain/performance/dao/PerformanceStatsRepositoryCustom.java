@@ -0,0 +1,22 @@
+package com.example.demo.domain.performance.dao;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : PerformanceStatsRepositoryCustom
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : PerformanceStats 엔티티 커스텀 DAO
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public interface PerformanceStatsRepositoryCustom {
+
+    void initialize(Long performanceId, int totalSeats);
+
+    void addAvailableSeats(Long performanceId, int delta);
+
+    boolean reconcile(Long performanceId);
+
+}
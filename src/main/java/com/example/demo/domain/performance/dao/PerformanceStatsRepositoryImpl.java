@@ -0,0 +1,118 @@
+package com.example.demo.domain.performance.dao;
+
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : PerformanceStatsRepositoryImpl
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : PerformanceStats 엔티티 커스텀 DAO 구현체
+ *               카운터 변경은 읽지 않고 증감분만 UPDATE하며, 임의의 슬롯 행을 골라 같은 공연의 동시 갱신이 한 행에 몰리지 않도록 합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Repository
+@RequiredArgsConstructor
+public class PerformanceStatsRepositoryImpl implements PerformanceStatsRepositoryCustom {
+
+    static final int SLOT_COUNT = 16;   // 공연당 카운터 슬롯 수
+
+    private static final String INSERT_SQL        = "INSERT INTO performance_stats "
+                                                    + "(performance_id, slot, total_seats, available_seats) VALUES ";
+    private static final String INSERT_ROW        = "(?, ?, ?, ?)";
+    private static final String ADD_AVAILABLE_SQL = "UPDATE performance_stats "
+                                                    + "SET available_seats = available_seats + ? "
+                                                    + "WHERE performance_id = ? AND slot = ?";
+    private static final String LOCK_SQL          = "SELECT total_seats, available_seats FROM performance_stats "
+                                                    + "WHERE performance_id = ? FOR UPDATE";
+    private static final String COUNT_SEATS_SQL   = "SELECT COUNT(*), "
+                                                    + "COALESCE(SUM(CASE WHEN status = ? THEN 1 ELSE 0 END), 0) "
+                                                    + "FROM seats WHERE performance_id = ?";
+    private static final String RESET_SQL         = "UPDATE performance_stats "
+                                                    + "SET total_seats = CASE WHEN slot = 0 THEN ? ELSE 0 END, "
+                                                    + "available_seats = CASE WHEN slot = 0 THEN ? ELSE 0 END "
+                                                    + "WHERE performance_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 공연의 카운터 슬롯을 모두 생성합니다. 첫 슬롯에 좌석 수를 담고 나머지 슬롯은 0으로 시작합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param totalSeats    - 생성된 좌석 수 (모두 예약 가능)
+     */
+    @Override
+    public void initialize(final Long performanceId, final int totalSeats) {
+        insertSlots(performanceId, totalSeats, totalSeats);
+    }
+
+    /**
+     * 공연의 예약 가능 좌석 수에 증감분을 더합니다. 좌석 상태를 바꾸는 트랜잭션 안에서 호출해야 좌석 상태와 함께 커밋되거나 롤백됩니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param delta         - 증감분 (선점 시 음수, 반환 시 양수)
+     */
+    @Override
+    public void addAvailableSeats(final Long performanceId, final int delta) {
+        if (delta == 0) return;
+        jdbcTemplate.update(ADD_AVAILABLE_SQL, delta, performanceId, ThreadLocalRandom.current().nextInt(SLOT_COUNT));
+    }
+
+    /**
+     * 좌석 테이블에서 공연의 좌석 수를 다시 세어 카운터를 맞춥니다. 첫 슬롯에 좌석 수를 담고 나머지 슬롯은 0으로 되돌리며,
+     * 카운터 슬롯이 없는 공연(카운터 도입 전에 생성된 공연)은 슬롯을 생성합니다. 슬롯 행을 먼저 잠근 뒤 좌석을 세므로, 재계산 중
+     * 좌석 상태를 바꾼 트랜잭션의 증감분은 재계산 결과에 한 번만 반영됩니다. 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @return 재계산 전 카운터가 실제 좌석 수와 달랐는지 여부
+     */
+    @Override
+    public boolean reconcile(final Long performanceId) {
+        List<int[]> slots = jdbcTemplate.query(LOCK_SQL,
+                                               (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)},
+                                               performanceId);
+        int[] actual = jdbcTemplate.queryForObject(COUNT_SEATS_SQL,
+                                                   (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)},
+                                                   AVAILABLE.name(),
+                                                   performanceId);
+
+        if (slots.isEmpty()) {
+            insertSlots(performanceId, actual[0], actual[1]);
+            return true;
+        }
+
+        int totalSeats     = slots.stream().mapToInt(slot -> slot[0]).sum();
+        int availableSeats = slots.stream().mapToInt(slot -> slot[1]).sum();
+        jdbcTemplate.update(RESET_SQL, actual[0], actual[1], performanceId);
+        return totalSeats != actual[0] || availableSeats != actual[1];
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void insertSlots(final Long performanceId, final int totalSeats, final int availableSeats) {
+        StringBuilder sql = new StringBuilder(INSERT_SQL);
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (slot > 0) sql.append(", ");
+            sql.append(INSERT_ROW);
+        }
+        jdbcTemplate.update(sql.toString(), ps -> {
+            int index = 1;
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                ps.setLong(index++, performanceId);
+                ps.setInt(index++, slot);
+                ps.setInt(index++, slot == 0 ? totalSeats : 0);
+                ps.setInt(index++, slot == 0 ? availableSeats : 0);
+            }
+        });
+    }
+
+}
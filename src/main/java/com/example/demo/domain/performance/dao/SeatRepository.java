@@ -3,12 +3,17 @@ package com.example.demo.domain.performance.dao;
 import static jakarta.persistence.LockModeType.PESSIMISTIC_WRITE;
 import static org.hibernate.jpa.SpecHints.HINT_SPEC_LOCK_TIMEOUT;
 
+import com.example.demo.domain.performance.dto.SeatStatusValue;
 import com.example.demo.domain.performance.model.Seat;
 import com.example.demo.domain.performance.model.SeatStatus;
+import com.example.demo.domain.reservation.model.ReservationStatus;
 import jakarta.persistence.QueryHint;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
@@ -24,13 +29,51 @@ import org.springframework.data.repository.query.Param;
  * ---------------------------------------------------------------------------------------------------------------------
  * 25. 12. 15.   oldolgol331          Initial creation
  */
-public interface SeatRepository extends JpaRepository<Seat, Long> {
+public interface SeatRepository extends JpaRepository<Seat, Long>, SeatRepositoryCustom {
 
     @Lock(PESSIMISTIC_WRITE)
-    @Query("SELECT s FROM Seat s WHERE s.id = :id")
+    @Query("SELECT s FROM Seat s WHERE s.id IN :ids ORDER BY s.id")
     @QueryHints({@QueryHint(name = HINT_SPEC_LOCK_TIMEOUT, value = "3000")})
-    Optional<Seat> findByIdWithLock(@Param("id") Long id);
+    List<Seat> findAllByIdInWithLock(@Param("ids") Collection<Long> ids);   // 교착 상태 방지를 위해 ID 순으로 락 획득
+
+    long countByIdInAndPerformanceId(Collection<Long> ids, Long performanceId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Seat s SET s.status = :reserved, s.version = s.version + 1 "
+           + "WHERE s.id IN :ids AND s.performance.id = :performanceId AND s.status = :available")
+    int holdAvailableSeats(@Param("ids") Collection<Long> ids,
+                           @Param("performanceId") Long performanceId,
+                           @Param("available") SeatStatus available,
+                           @Param("reserved") SeatStatus reserved);   // 예약 가능한 좌석만 임시 예약 상태로 변경
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Seat s SET s.status = :reserved, s.fencingToken = :fencingToken, s.version = s.version + 1 "
+           + "WHERE s.id = :id AND s.performance.id = :performanceId AND s.status = :available "
+           + "AND s.fencingToken < :fencingToken")
+    int holdAvailableSeatWithFencingToken(@Param("id") Long id,
+                                          @Param("performanceId") Long performanceId,
+                                          @Param("available") SeatStatus available,
+                                          @Param("reserved") SeatStatus reserved,
+                                          @Param("fencingToken") long fencingToken);   // 더 큰 펜싱 토큰으로만 선점
 
     boolean existsByPerformanceIdAndStatusNot(Long performanceId, SeatStatus status);
 
+    @Query("SELECT new com.example.demo.domain.performance.dto.SeatStatusValue(s.id, s.status) "
+           + "FROM Seat s WHERE s.performance.id = :performanceId")
+    List<SeatStatusValue> findSeatStatusesByPerformanceId(@Param("performanceId") Long performanceId);
+
+    @Query("SELECT s.id FROM Seat s WHERE s.id IN :ids AND s.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") SeatStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Seat s SET s.status = :available, s.version = s.version + 1 "
+           + "WHERE s.id IN :ids AND s.status = :reserved "
+           + "AND EXISTS (SELECT 1 FROM Reservation r "
+           + "            WHERE r.seatId = s.id AND r.status = :pending AND r.expiredAt < :now)")
+    int releaseExpiredSeats(@Param("ids") Collection<Long> ids,
+                            @Param("now") LocalDateTime now,
+                            @Param("reserved") SeatStatus reserved,
+                            @Param("available") SeatStatus available,
+                            @Param("pending") ReservationStatus pending);   // 만료된 결제 대기 예약이 있는 좌석만 반환
+
 }
@@ -0,0 +1,20 @@
+package com.example.demo.domain.performance.dao;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : SeatRepositoryCustom
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : Seat 엔티티 커스텀 DAO
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public interface SeatRepositoryCustom {
+
+    int bulkInsertSeats(Long performanceId, String seatCodePrefix, int totalSeats, int price);
+
+    int copySeatsFromLayout(Long performanceId, Long layoutId);
+
+}
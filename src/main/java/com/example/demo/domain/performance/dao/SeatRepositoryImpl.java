@@ -0,0 +1,125 @@
+package com.example.demo.domain.performance.dao;
+
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : SeatRepositoryImpl
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : Seat 엔티티 커스텀 DAO 구현체
+ *               좌석은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로, 대량 생성은 JDBC multi-row INSERT로 처리합니다.
+ *               좌석 배치 템플릿이 있는 공연은 INSERT ... SELECT 한 문장으로 DB 안에서 템플릿 좌석을 복사합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatRepositoryImpl implements SeatRepositoryCustom {
+
+    private static final int    BULK_INSERT_CHUNK_SIZE = 1000;  // INSERT 한 문장에 담을 좌석 수
+    private static final String BULK_INSERT_SQL        = "INSERT INTO seats "
+                                                         + "(performance_id, seat_code, price, status, fencing_token, "
+                                                         + "created_at, updated_at, version) VALUES ";
+    private static final String BULK_INSERT_ROW        = "(?, ?, ?, ?, 0, ?, ?, 0)";
+    private static final String COPY_FROM_LAYOUT_SQL   = "INSERT INTO seats "
+                                                         + "(performance_id, layout_seat_id, seat_code, price, status, "
+                                                         + "fencing_token, created_at, updated_at, version) "
+                                                         + "SELECT ?, ls.layout_seat_id, ls.seat_code, ls.price, ?, "
+                                                         + "0, ?, ?, 0 "
+                                                         + "FROM venue_layout_seats ls WHERE ls.layout_id = ? "
+                                                         + "ORDER BY ls.layout_seat_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 공연 좌석을 좌석 번호 순서대로 대량 생성합니다. 좌석 엔티티를 만들지 않고, 정해진 수만큼씩 multi-row INSERT로 저장하므로
+     * 좌석 수와 관계없이 사용하는 메모리가 일정합니다. 영속성 컨텍스트를 거치지 않으므로, 이미 조회한 공연의 좌석 목록에는
+     * 반영되지 않습니다.
+     *
+     * @param performanceId  - 공연 ID
+     * @param seatCodePrefix - 좌석 번호 접두사 (예: "A-" -> A-1, A-2, ...)
+     * @param totalSeats     - 생성할 좌석 수
+     * @param price          - 가격
+     * @return 생성된 좌석 수
+     */
+    @Override
+    public int bulkInsertSeats(final Long performanceId,
+                               final String seatCodePrefix,
+                               final int totalSeats,
+                               final int price) {
+        Timestamp now          = Timestamp.valueOf(LocalDateTime.now());
+        String    fullChunkSql = buildInsertSql(Math.min(BULK_INSERT_CHUNK_SIZE, totalSeats));
+
+        int inserted = 0;
+        for (int from = 1; from <= totalSeats; from += BULK_INSERT_CHUNK_SIZE) {
+            int firstSeatNumber = from;
+            int size            = Math.min(BULK_INSERT_CHUNK_SIZE, totalSeats - from + 1);
+            String sql = size == BULK_INSERT_CHUNK_SIZE ? fullChunkSql : buildInsertSql(size);
+            inserted += jdbcTemplate.update(sql,
+                                            ps -> bindSeats(ps,
+                                                            performanceId,
+                                                            seatCodePrefix,
+                                                            firstSeatNumber,
+                                                            size,
+                                                            price,
+                                                            now));
+        }
+        return inserted;
+    }
+
+    /**
+     * 좌석 배치 템플릿의 좌석을 공연 좌석으로 복사합니다. 좌석 데이터를 애플리케이션으로 읽어 오지 않고 INSERT ... SELECT 한 문장으로
+     * 복사하며, 템플릿 좌석 ID 순서대로 저장하므로 공연 좌석 ID 순서와 템플릿 좌석 순서가 같습니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param layoutId      - 좌석 배치 템플릿 ID
+     * @return 생성된 좌석 수
+     */
+    @Override
+    public int copySeatsFromLayout(final Long performanceId, final Long layoutId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(COPY_FROM_LAYOUT_SQL, performanceId, AVAILABLE.name(), now, now, layoutId);
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private static String buildInsertSql(final int rows) {
+        StringBuilder sql = new StringBuilder(BULK_INSERT_SQL.length() + rows * (BULK_INSERT_ROW.length() + 2));
+        sql.append(BULK_INSERT_SQL);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(BULK_INSERT_ROW);
+        }
+        return sql.toString();
+    }
+
+    private static void bindSeats(final PreparedStatement ps,
+                                  final Long performanceId,
+                                  final String seatCodePrefix,
+                                  final int firstSeatNumber,
+                                  final int size,
+                                  final int price,
+                                  final Timestamp now) throws SQLException {
+        int index = 1;
+        for (int i = 0; i < size; i++) {
+            ps.setLong(index++, performanceId);
+            ps.setString(index++, seatCodePrefix + (firstSeatNumber + i));
+            ps.setInt(index++, price);
+            ps.setString(index++, AVAILABLE.name());
+            ps.setTimestamp(index++, now);
+            ps.setTimestamp(index++, now);
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.demo.domain.performance.dao;
+
+import com.example.demo.domain.performance.model.VenueLayout;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : VenueLayoutRepository
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : VenueLayout 엔티티 DAO
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public interface VenueLayoutRepository extends JpaRepository<VenueLayout, Long> {
+}
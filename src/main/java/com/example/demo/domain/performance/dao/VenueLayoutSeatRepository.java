@@ -0,0 +1,30 @@
+package com.example.demo.domain.performance.dao;
+
+import com.example.demo.domain.performance.dto.VenueLayoutResponse.VenueLayoutRowResponse;
+import com.example.demo.domain.performance.model.VenueLayoutSeat;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : VenueLayoutSeatRepository
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : VenueLayoutSeat 엔티티 DAO
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public interface VenueLayoutSeatRepository extends JpaRepository<VenueLayoutSeat, Long>,
+                                                   VenueLayoutSeatRepositoryCustom {
+
+    @Query("SELECT new com.example.demo.domain.performance.dto.VenueLayoutResponse$VenueLayoutRowResponse("
+           + "s.section, s.seatRow, COUNT(s), MIN(s.price)) "
+           + "FROM VenueLayoutSeat s WHERE s.layoutId = :layoutId "
+           + "GROUP BY s.section, s.seatRow ORDER BY MIN(s.id)")
+    List<VenueLayoutRowResponse> findRowsByLayoutId(@Param("layoutId") Long layoutId);  // 좌석 순서대로 열 단위 요약
+
+}
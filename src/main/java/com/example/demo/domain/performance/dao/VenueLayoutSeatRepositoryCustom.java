@@ -0,0 +1,21 @@
+package com.example.demo.domain.performance.dao;
+
+import com.example.demo.domain.performance.dto.VenueLayoutRequest.VenueLayoutBlockRequest;
+import java.util.List;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : VenueLayoutSeatRepositoryCustom
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : VenueLayoutSeat 엔티티 커스텀 DAO
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public interface VenueLayoutSeatRepositoryCustom {
+
+    int bulkInsertLayoutSeats(Long layoutId, List<VenueLayoutBlockRequest> blocks);
+
+}
@@ -0,0 +1,97 @@
+package com.example.demo.domain.performance.dao;
+
+import com.example.demo.domain.performance.dto.VenueLayoutRequest.VenueLayoutBlockRequest;
+import com.example.demo.domain.performance.model.VenueLayoutSeat;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : VenueLayoutSeatRepositoryImpl
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : VenueLayoutSeat 엔티티 커스텀 DAO 구현체
+ *               템플릿 좌석도 IDENTITY 전략이므로, 좌석 블록을 펼쳐 JDBC multi-row INSERT로 저장합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Repository
+@RequiredArgsConstructor
+public class VenueLayoutSeatRepositoryImpl implements VenueLayoutSeatRepositoryCustom {
+
+    private static final int    BULK_INSERT_CHUNK_SIZE = 1000;  // INSERT 한 문장에 담을 좌석 수
+    private static final String BULK_INSERT_SQL        = "INSERT INTO venue_layout_seats "
+                                                         + "(layout_id, section, seat_row, seat_number, seat_code, "
+                                                         + "price, created_at, updated_at) VALUES ";
+    private static final String BULK_INSERT_ROW        = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좌석 블록을 구역, 열, 좌석 번호 순서로 펼쳐 템플릿 좌석을 대량 생성합니다. 블록 순서대로 저장하므로 템플릿 좌석 ID 순서가
+     * 곧 좌석 순서가 됩니다.
+     *
+     * @param layoutId - 좌석 배치 템플릿 ID
+     * @param blocks   - 좌석 블록 목록
+     * @return 생성된 템플릿 좌석 수
+     */
+    @Override
+    public int bulkInsertLayoutSeats(final Long layoutId, final List<VenueLayoutBlockRequest> blocks) {
+        Timestamp             now      = Timestamp.valueOf(LocalDateTime.now());
+        List<VenueLayoutSeat> chunk    = new ArrayList<>(BULK_INSERT_CHUNK_SIZE);
+        int                   inserted = 0;
+
+        for (VenueLayoutBlockRequest block : blocks)
+            for (int row = block.getStartRow(); row <= block.getEndRow(); row++)
+                for (int number = 1; number <= block.getSeatsPerRow(); number++) {
+                    chunk.add(VenueLayoutSeat.of(layoutId, block.getSection(), row, number, block.getPrice()));
+                    if (chunk.size() == BULK_INSERT_CHUNK_SIZE) inserted += flush(chunk, now);
+                }
+        if (!chunk.isEmpty()) inserted += flush(chunk, now);
+        return inserted;
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private int flush(final List<VenueLayoutSeat> chunk, final Timestamp now) {
+        int inserted = jdbcTemplate.update(buildInsertSql(chunk.size()), ps -> bindLayoutSeats(ps, chunk, now));
+        chunk.clear();
+        return inserted;
+    }
+
+    private static String buildInsertSql(final int rows) {
+        StringBuilder sql = new StringBuilder(BULK_INSERT_SQL.length() + rows * (BULK_INSERT_ROW.length() + 2));
+        sql.append(BULK_INSERT_SQL);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(BULK_INSERT_ROW);
+        }
+        return sql.toString();
+    }
+
+    private static void bindLayoutSeats(final PreparedStatement ps,
+                                        final List<VenueLayoutSeat> chunk,
+                                        final Timestamp now) throws SQLException {
+        int index = 1;
+        for (VenueLayoutSeat seat : chunk) {
+            ps.setLong(index++, seat.getLayoutId());
+            ps.setString(index++, seat.getSection());
+            ps.setInt(index++, seat.getSeatRow());
+            ps.setInt(index++, seat.getSeatNumber());
+            ps.setString(index++, seat.getSeatCode());
+            ps.setInt(index++, seat.getPrice());
+            ps.setTimestamp(index++, now);
+            ps.setTimestamp(index++, now);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.example.demo.domain.performance.dto;
+
+import static com.example.demo.common.response.ErrorCode.INVALID_PERFORMANCE_CURSOR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dto
+ * FileName    : PerformanceCursor
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 목록 커서
+ *               마지막으로 조회한 공연의 정렬 기준 값과 공연 ID를 담으며, 클라이언트에는 Base64(URL-safe) 문자열로 전달합니다.
+ *               정렬 기준도 커서에 담으므로, 커서로 다음 페이지를 조회할 때는 요청의 정렬 조건 대신 커서의 정렬 기준을 사용합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+@RequiredArgsConstructor
+public class PerformanceCursor {
+
+    public static final  String      DEFAULT_SORT_PROPERTY = "createdAt";
+    private static final Set<String> SORT_PROPERTIES       = Set.of("startTime", "endTime", "createdAt");
+    private static final String      DELIMITER             = "|";
+
+    private final String        sortProperty;   // 정렬 기준 (startTime, endTime, createdAt)
+    private final boolean       ascending;      // 오름차순 여부 (공연 ID도 같은 방향으로 정렬)
+    private final LocalDateTime value;          // 마지막 공연의 정렬 기준 값
+    private final Long          id;             // 마지막 공연 ID
+
+    public static boolean isSortProperty(final String property) {
+        return SORT_PROPERTIES.contains(property);
+    }
+
+    /**
+     * 페이지의 마지막 공연으로 다음 페이지 커서를 생성합니다.
+     *
+     * @param sortProperty - 정렬 기준
+     * @param ascending    - 오름차순 여부
+     * @param last         - 페이지의 마지막 공연
+     * @return 공연 목록 커서
+     */
+    public static PerformanceCursor of(final String sortProperty,
+                                       final boolean ascending,
+                                       final PerformanceListResponse last) {
+        LocalDateTime value = switch (sortProperty) {
+            case "startTime" -> last.getStartTime();
+            case "endTime" -> last.getEndTime();
+            default -> last.getCreatedAt();
+        };
+        return new PerformanceCursor(sortProperty, ascending, value, last.getId());
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor - 커서 문자열
+     * @return 공연 목록 커서
+     */
+    public static PerformanceCursor decode(final String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), UTF_8).split("\\" + DELIMITER);
+            if (parts.length != 4 || !isSortProperty(parts[0])) throw new BusinessException(INVALID_PERFORMANCE_CURSOR);
+            return new PerformanceCursor(parts[0],
+                                         "ASC".equals(parts[1]),
+                                         LocalDateTime.parse(parts[2]),
+                                         Long.valueOf(parts[3]));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(INVALID_PERFORMANCE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sortProperty, ascending ? "ASC" : "DESC", value.toString(), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.example.demo.domain.performance.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dto
+ * FileName    : PerformanceOnSaleValue
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 ID별 예매 오픈 일시 (예매 오픈 일정 적재용)
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+public class PerformanceOnSaleValue {
+
+    private final Long          performanceId;  // 공연 ID
+    private final LocalDateTime onSaleAt;       // 예매 오픈 일시
+
+    @QueryProjection
+    public PerformanceOnSaleValue(final Long performanceId, final LocalDateTime onSaleAt) {
+        this.performanceId = performanceId;
+        this.onSaleAt = onSaleAt;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.example.demo.domain.performance.dto;
+
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dto
+ * FileName    : PerformancePageValue
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 목록 한 페이지 (공연 목록 캐시용)
+ *               Page 구현체는 JSON으로 역직렬화할 수 없으므로 목록과 전체 개수만 저장하고, 조회 시 요청의 페이징 정보로 복원합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+public class PerformancePageValue {
+
+    private final List<PerformanceListResponse> content;        // 페이지 목록
+    private final long                          totalElements;  // 전체 공연 수
+
+    @JsonCreator
+    public PerformancePageValue(@JsonProperty("content") final List<PerformanceListResponse> content,
+                                @JsonProperty("totalElements") final long totalElements) {
+        this.content = new ArrayList<>(content);    // 불변 리스트는 타입 정보와 함께 역직렬화할 수 없으므로 복사
+        this.totalElements = totalElements;
+    }
+
+    public static PerformancePageValue from(final Page<PerformanceListResponse> page) {
+        return new PerformancePageValue(page.getContent(), page.getTotalElements());
+    }
+
+    public Page<PerformanceListResponse> toPage(final Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+
+}
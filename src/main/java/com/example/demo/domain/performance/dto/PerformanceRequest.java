@@ -3,6 +3,7 @@ package com.example.demo.domain.performance.dto;
 import static lombok.AccessLevel.PRIVATE;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -51,14 +52,26 @@ public abstract class PerformanceRequest {
         @Schema(description = "공연 종료 시간")
         private LocalDateTime endTime;
 
-        @Min(value = 1, message = "좌석 수는 최소 1개 이상이어야 합니다.")
-        @Schema(description = "공연 생성 시 자동으로 만들 좌석 수")
+        @Schema(description = "예매 오픈 시간, 비우면 즉시 예매할 수 있습니다.")
+        private LocalDateTime onSaleAt;
+
+        @Min(value = 0, message = "좌석 수는 0개 이상이어야 합니다.")
+        @Schema(description = "공연 생성 시 자동으로 만들 좌석 수 (좌석 배치 템플릿을 사용하면 무시)")
         private int totalSeats;
 
         @Min(value = 0, message = "가격은 0원 이상이어야 합니다.")
-        @Schema(description = "공연 가격")
+        @Schema(description = "공연 가격 (좌석 배치 템플릿을 사용하면 무시)")
         private int price;
 
+        @Min(value = 1, message = "좌석 배치 템플릿 ID는 1 이상이어야 합니다.")
+        @Schema(description = "좌석을 복사할 좌석 배치 템플릿 ID")
+        private Long layoutId;
+
+        @AssertTrue(message = "좌석 수는 최소 1개 이상이어야 합니다.")
+        public boolean isSeatSourceSpecified() {
+            return layoutId != null || totalSeats >= 1;
+        }
+
     }
 
     @Data
@@ -86,6 +99,9 @@ public abstract class PerformanceRequest {
         @Schema(description = "공연 종료 시간")
         private LocalDateTime endTime;
 
+        @Schema(description = "예매 오픈 시간, 비우면 즉시 예매할 수 있습니다.")
+        private LocalDateTime onSaleAt;
+
     }
 
 }
@@ -4,13 +4,20 @@ import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.example.demo.domain.performance.model.Performance;
+import com.example.demo.domain.performance.model.SeatStatus;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.querydsl.core.annotations.QueryProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 
 /**
  * PackageName : com.example.demo.domain.performance.dto
@@ -93,6 +100,18 @@ public abstract class PerformanceResponse {
                                                performance.getUpdatedAt());
         }
 
+        public PerformanceListResponse withSeatCount(final SeatCountValue seatCount) {
+            return new PerformanceListResponse(id,
+                                               name,
+                                               venue,
+                                               startTime,
+                                               endTime,
+                                               seatCount.getRemainingSeats(),
+                                               seatCount.getTotalSeats(),
+                                               createdAt,
+                                               updatedAt);
+        }
+
     }
 
     @Getter
@@ -119,6 +138,12 @@ public abstract class PerformanceResponse {
         @JsonProperty("total_seats")
         @Schema(description = "전체 좌석 수")
         private final int           totalSeats;
+        @JsonProperty("layout_id")
+        @Schema(description = "좌석 배치 템플릿 ID, 템플릿으로 좌석을 만든 공연이면 템플릿과 좌석 배치도로 좌석 지도를 그릴 수 있습니다.")
+        private final Long          layoutId;
+        @JsonProperty("on_sale_at")
+        @Schema(description = "예매 오픈 일시, null이면 즉시 예매할 수 있습니다.")
+        private final LocalDateTime onSaleAt;
         @JsonProperty("created_at")
         @Schema(description = "생성 일시")
         private final LocalDateTime createdAt;
@@ -127,6 +152,7 @@ public abstract class PerformanceResponse {
         private final LocalDateTime updatedAt;
 
         @QueryProjection
+        @JsonCreator
         public PerformanceDetailResponse(@JsonProperty("id") final Long id,
                                          @JsonProperty("name") final String name,
                                          @JsonProperty("venue") final String venue,
@@ -135,6 +161,8 @@ public abstract class PerformanceResponse {
                                          @JsonProperty("end_time") final LocalDateTime endTime,
                                          @JsonProperty("remaining_seats") final int remainingSeats,
                                          @JsonProperty("total_seats") final int totalSeats,
+                                         @JsonProperty("layout_id") final Long layoutId,
+                                         @JsonProperty("on_sale_at") final LocalDateTime onSaleAt,
                                          @JsonProperty("created_at") final LocalDateTime createdAt,
                                          @JsonProperty("updated_at") final LocalDateTime updatedAt) {
             this.id = id;
@@ -145,6 +173,8 @@ public abstract class PerformanceResponse {
             this.endTime = endTime;
             this.remainingSeats = remainingSeats;
             this.totalSeats = totalSeats;
+            this.layoutId = layoutId;
+            this.onSaleAt = onSaleAt;
             this.createdAt = createdAt;
             this.updatedAt = updatedAt;
         }
@@ -161,10 +191,112 @@ public abstract class PerformanceResponse {
                                                                   .filter(s -> s.getStatus() == AVAILABLE)
                                                                   .count(),
                                                  performance.getSeats().size(),
+                                                 performance.getLayoutId(),
+                                                 performance.getOnSaleAt(),
                                                  performance.getCreatedAt(),
                                                  performance.getUpdatedAt());
         }
 
+        public PerformanceDetailResponse withSeatCount(final SeatCountValue seatCount) {
+            return new PerformanceDetailResponse(id,
+                                                 name,
+                                                 venue,
+                                                 info,
+                                                 startTime,
+                                                 endTime,
+                                                 seatCount.getRemainingSeats(),
+                                                 seatCount.getTotalSeats(),
+                                                 layoutId,
+                                                 onSaleAt,
+                                                 createdAt,
+                                                 updatedAt);
+        }
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @Schema(name = "공연 이름 자동완성 응답 DTO")
+    public static class PerformanceSuggestionResponse {
+
+        @Schema(description = "공연 ID")
+        private final Long   id;
+        @Schema(description = "공연 이름")
+        private final String name;
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Schema(name = "공연 좌석 배치도 응답 DTO")
+    public static class SeatMapResponse {
+
+        @JsonProperty("performance_id")
+        @Schema(description = "공연 ID")
+        private final Long         performanceId;
+        @Schema(description = "좌석 배치도 버전, 다음 요청의 sinceVersion으로 전달하면 변경된 좌석만 응답합니다.")
+        private final long         version;
+        @Schema(description = "전체 좌석 스냅샷 여부, false이면 sinceVersion 이후 변경된 좌석만 포함합니다.")
+        private final boolean      snapshot;
+        @JsonProperty("seat_count")
+        @Schema(description = "응답에 포함된 좌석 수")
+        private final int          seatCount;
+        @JsonProperty("seat_id_ranges")
+        @Schema(description = "좌석 ID 오름차순 연속 구간 목록([시작 ID, 끝 ID]), 구간을 순서대로 펼친 위치가 좌석 인덱스입니다.")
+        private final List<long[]> seatIdRanges;
+        @Schema(description = "좌석 인덱스 순서의 2비트 좌석 상태(0: AVAILABLE, 1: TEMPORARY_RESERVED, 2: SOLD) 비트열, "
+                              + "한 바이트에 하위 비트부터 4좌석씩 담아 Base64로 인코딩합니다.")
+        private final String       statuses;
+
+        public static SeatMapResponse of(final Long performanceId,
+                                         final long version,
+                                         final boolean snapshot,
+                                         final SortedMap<Long, SeatStatus> seatStatuses) {
+            return new SeatMapResponse(performanceId,
+                                       version,
+                                       snapshot,
+                                       seatStatuses.size(),
+                                       toRanges(seatStatuses.keySet()),
+                                       pack(seatStatuses.values()));
+        }
+
+        // ========================= 내부 메서드 =========================
+
+        /**
+         * 오름차순 좌석 ID 목록을 연속 구간으로 압축합니다.
+         *
+         * @param seatIds - 오름차순 좌석 ID 목록
+         * @return 좌석 ID 연속 구간 목록
+         */
+        private static List<long[]> toRanges(final Collection<Long> seatIds) {
+            List<long[]> ranges = new ArrayList<>();
+            long[] range = null;
+            for (long seatId : seatIds) {
+                if (range != null && range[1] + 1 == seatId) range[1] = seatId;
+                else {
+                    range = new long[]{seatId, seatId};
+                    ranges.add(range);
+                }
+            }
+            return ranges;
+        }
+
+        /**
+         * 좌석 상태를 좌석당 2비트로 압축합니다.
+         *
+         * @param seatStatuses - 좌석 인덱스 순서의 좌석 상태 목록
+         * @return Base64로 인코딩된 좌석 상태 비트열
+         */
+        private static String pack(final Collection<SeatStatus> seatStatuses) {
+            byte[] packed = new byte[(seatStatuses.size() + 3) / 4];
+            int index = 0;
+            for (SeatStatus status : seatStatuses) {
+                packed[index >> 2] |= (byte) (status.ordinal() << ((index & 3) << 1));
+                index++;
+            }
+            return Base64.getEncoder().encodeToString(packed);
+        }
+
     }
 
 }
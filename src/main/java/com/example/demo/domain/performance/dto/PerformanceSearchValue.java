@@ -0,0 +1,62 @@
+package com.example.demo.domain.performance.dto;
+
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.querydsl.core.annotations.QueryProjection;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dto
+ * FileName    : PerformanceSearchValue
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 검색 색인 문서 (검색 색인 적재용)
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+public class PerformanceSearchValue {
+
+    private final Long          id;         // 공연 ID
+    private final String        name;       // 공연 이름
+    private final String        venue;      // 공연 장소
+    private final String        info;       // 공연 정보
+    private final LocalDateTime startTime;  // 공연 시작 시간
+    private final LocalDateTime endTime;    // 공연 종료 시간
+    private final LocalDateTime onSaleAt;   // 예매 오픈 일시
+    private final LocalDateTime createdAt;  // 생성 일시
+    private final LocalDateTime updatedAt;  // 수정 일시
+
+    @QueryProjection
+    public PerformanceSearchValue(final Long id,
+                                  final String name,
+                                  final String venue,
+                                  final String info,
+                                  final LocalDateTime startTime,
+                                  final LocalDateTime endTime,
+                                  final LocalDateTime onSaleAt,
+                                  final LocalDateTime createdAt,
+                                  final LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.venue = venue;
+        this.info = info;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.onSaleAt = onSaleAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 공연 목록 응답 DTO로 변환합니다. 좌석 현황은 색인하지 않으므로 0석으로 채우며, 조회 시 좌석 현황 캐시의 값으로 바꿔야 합니다.
+     *
+     * @return 공연 목록 응답 DTO
+     */
+    public PerformanceListResponse toListResponse() {
+        return new PerformanceListResponse(id, name, venue, startTime, endTime, 0, 0, createdAt, updatedAt);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.demo.domain.performance.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dto
+ * FileName    : SeatCountValue
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 ID별 잔여/전체 좌석 수 (공연 좌석 현황 캐시용)
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+public class SeatCountValue {
+
+    @Schema(description = "공연 ID")
+    private final Long performanceId;
+
+    @Schema(description = "잔여 좌석 수")
+    private final int  remainingSeats;
+
+    @Schema(description = "전체 좌석 수")
+    private final int  totalSeats;
+
+    @JsonCreator
+    public SeatCountValue(@JsonProperty("performanceId") final Long performanceId,
+                          @JsonProperty("remainingSeats") final int remainingSeats,
+                          @JsonProperty("totalSeats") final int totalSeats) {
+        this.performanceId = performanceId;
+        this.remainingSeats = remainingSeats;
+        this.totalSeats = totalSeats;
+    }
+
+    public SeatCountValue(final Long performanceId, final Long remainingSeats, final Long totalSeats) {
+        this(performanceId, remainingSeats.intValue(), totalSeats.intValue());   // JPQL SUM()은 Long으로 반환
+    }
+
+    public static SeatCountValue empty(final Long performanceId) {
+        return new SeatCountValue(performanceId, 0, 0);
+    }
+
+}
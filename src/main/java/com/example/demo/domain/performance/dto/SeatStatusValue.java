@@ -0,0 +1,29 @@
+package com.example.demo.domain.performance.dto;
+
+import com.example.demo.domain.performance.model.SeatStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dto
+ * FileName    : SeatStatusValue
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 ID별 좌석 상태 (좌석 재고 적재용)
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatStatusValue {
+
+    @Schema(description = "좌석 ID")
+    private final Long       seatId;
+
+    @Schema(description = "좌석 상태")
+    private final SeatStatus status;
+
+}
@@ -0,0 +1,87 @@
+package com.example.demo.domain.performance.dto;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dto
+ * FileName    : VenueLayoutRequest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 배치 템플릿 요청 DTO
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@NoArgsConstructor(access = PRIVATE)
+@Schema(name = "좌석 배치 템플릿 요청 DTO")
+public abstract class VenueLayoutRequest {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "좌석 배치 템플릿 생성 요청 DTO")
+    public static class VenueLayoutCreateRequest {
+
+        @NotBlank(message = "템플릿 이름은 필수입니다.")
+        @Schema(description = "템플릿 이름")
+        private String name;
+
+        @NotBlank(message = "공연 장소는 필수입니다.")
+        @Schema(description = "공연 장소")
+        private String venue;
+
+        @Valid
+        @NotEmpty(message = "좌석 블록은 최소 1개 이상이어야 합니다.")
+        @Schema(description = "좌석 블록 목록, 블록 순서대로 좌석 순서가 정해집니다.")
+        private List<VenueLayoutBlockRequest> blocks;
+
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "좌석 블록 요청 DTO")
+    public static class VenueLayoutBlockRequest {
+
+        @NotBlank(message = "구역은 필수입니다.")
+        @Pattern(regexp = "^[0-9A-Za-z가-힣]{1,10}$", message = "구역은 1~10자 영문, 한글, 숫자만 사용 가능합니다.")
+        @Schema(description = "구역 (예: A, VIP)")
+        private String section;
+
+        @Min(value = 1, message = "시작 열은 1 이상이어야 합니다.")
+        @Schema(description = "블록 시작 열 번호")
+        private int startRow;
+
+        @Min(value = 1, message = "끝 열은 1 이상이어야 합니다.")
+        @Schema(description = "블록 끝 열 번호 (포함)")
+        private int endRow;
+
+        @Min(value = 1, message = "열당 좌석 수는 최소 1개 이상이어야 합니다.")
+        @Schema(description = "열당 좌석 수, 좌석 번호는 1번부터 매겨집니다.")
+        private int seatsPerRow;
+
+        @Min(value = 0, message = "가격은 0원 이상이어야 합니다.")
+        @Schema(description = "블록 좌석 가격 (가격 등급)")
+        private int price;
+
+        @AssertTrue(message = "끝 열은 시작 열보다 작을 수 없습니다.")
+        public boolean isRowRangeValid() {
+            return startRow <= endRow;
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.example.demo.domain.performance.dto;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.example.demo.domain.performance.model.VenueLayout;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dto
+ * FileName    : VenueLayoutResponse
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 배치 템플릿 응답 DTO
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@NoArgsConstructor(access = PRIVATE)
+@Schema(name = "좌석 배치 템플릿 응답 DTO")
+public abstract class VenueLayoutResponse {
+
+    @Getter
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Schema(name = "좌석 배치 템플릿 상세 정보 응답 DTO")
+    public static class VenueLayoutDetailResponse {
+
+        @Schema(description = "템플릿 ID")
+        private final Long                         id;
+        @Schema(description = "템플릿 이름")
+        private final String                       name;
+        @Schema(description = "공연 장소")
+        private final String                       venue;
+        @JsonProperty("total_seats")
+        @Schema(description = "전체 좌석 수")
+        private final int                          totalSeats;
+        @Schema(description = "좌석 순서대로 정렬된 열 목록, 열을 순서대로 펼친 위치가 공연 좌석 배치도의 좌석 인덱스입니다.")
+        private final List<VenueLayoutRowResponse> rows;
+
+        public static VenueLayoutDetailResponse of(final VenueLayout venueLayout,
+                                                   final List<VenueLayoutRowResponse> rows) {
+            return new VenueLayoutDetailResponse(venueLayout.getId(),
+                                                 venueLayout.getName(),
+                                                 venueLayout.getVenue(),
+                                                 venueLayout.getTotalSeats(),
+                                                 rows);
+        }
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @Schema(name = "좌석 배치 템플릿 열 응답 DTO")
+    public static class VenueLayoutRowResponse {
+
+        @Schema(description = "구역")
+        private final String  section;
+        @JsonProperty("seat_row")
+        @Schema(description = "열 번호")
+        private final Integer seatRow;
+        @JsonProperty("seat_count")
+        @Schema(description = "열의 좌석 수, 좌석 번호는 1번부터 좌석 수까지입니다.")
+        private final Long    seatCount;
+        @Schema(description = "열 좌석 가격")
+        private final Integer price;
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.example.demo.domain.performance.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * PackageName : com.example.demo.domain.performance.event
+ * FileName    : PerformanceChangedEvent
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 생성/수정/삭제 이벤트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+public class PerformanceChangedEvent extends ApplicationEvent {
+
+    private final Long performanceId;
+
+    public PerformanceChangedEvent(final Object source, final Long performanceId) {
+        super(source);
+        this.performanceId = performanceId;
+    }
+
+}
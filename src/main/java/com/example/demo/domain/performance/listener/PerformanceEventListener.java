@@ -0,0 +1,37 @@
+package com.example.demo.domain.performance.listener;
+
+import com.example.demo.domain.performance.event.PerformanceChangedEvent;
+import com.example.demo.domain.performance.search.PerformanceSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * PackageName : com.example.demo.domain.performance.listener
+ * FileName    : PerformanceEventListener
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 이벤트 리스너
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+public class PerformanceEventListener {
+
+    private final PerformanceSearchIndexer performanceSearchIndexer;
+
+    /**
+     * 공연 생성/수정/삭제 이벤트를 처리합니다. 커밋된 공연 정보로 색인해야 하므로 트랜잭션이 커밋된 후에 처리합니다.
+     * - 공연 검색 색인 갱신 요청
+     *
+     * @param event - 공연 생성/수정/삭제 이벤트
+     */
+    @TransactionalEventListener
+    public void handlePerformanceChanged(final PerformanceChangedEvent event) {
+        performanceSearchIndexer.publish(event.getPerformanceId());
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.example.demo.domain.performance.model;
 
+import static com.example.demo.common.response.ErrorCode.INVALID_ON_SALE_TIME;
 import static com.example.demo.common.response.ErrorCode.INVALID_PERFORMANCE_DATE;
 import static jakarta.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
@@ -66,6 +67,11 @@ public class Performance extends BaseAuditingEntity {
     @NotNull
     private LocalDateTime endTime;                  // 공연 종료 시간
 
+    @Column(updatable = false)
+    private Long layoutId;                          // 좌석을 복사한 좌석 배치 템플릿 ID (템플릿 없이 생성한 공연은 null)
+
+    private LocalDateTime onSaleAt;                 // 예매 오픈 일시 (null이면 생성 즉시 예매 가능)
+
     @OneToMany(mappedBy = "performance", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<Seat> seats = new ArrayList<>();   // 공연 좌석 정보 목록
 
@@ -73,12 +79,16 @@ public class Performance extends BaseAuditingEntity {
                         final String venue,
                         final String info,
                         final LocalDateTime startTime,
-                        final LocalDateTime endTime) {
+                        final LocalDateTime endTime,
+                        final LocalDateTime onSaleAt,
+                        final Long layoutId) {
         this.name = name;
         this.venue = venue;
         this.info = info;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.onSaleAt = onSaleAt;
+        this.layoutId = layoutId;
     }
 
     // ========================= 생성자 메서드 =========================
@@ -98,8 +108,31 @@ public class Performance extends BaseAuditingEntity {
                                  final String info,
                                  final LocalDateTime startTime,
                                  final LocalDateTime endTime) {
+        return of(name, venue, info, startTime, endTime, null, null);
+    }
+
+    /**
+     * 예매 오픈 일시와 좌석 배치 템플릿을 지정한 Performance 객체 생성
+     *
+     * @param name      - 공연명
+     * @param venue     - 장소
+     * @param info      - 공연 정보
+     * @param startTime - 공연 시작 시간
+     * @param endTime   - 공연 종료 시간
+     * @param onSaleAt  - 예매 오픈 일시 (null이면 생성 즉시 예매 가능)
+     * @param layoutId  - 좌석 배치 템플릿 ID (null이면 템플릿 없이 좌석 생성)
+     * @return Performance 객체
+     */
+    public static Performance of(final String name,
+                                 final String venue,
+                                 final String info,
+                                 final LocalDateTime startTime,
+                                 final LocalDateTime endTime,
+                                 final LocalDateTime onSaleAt,
+                                 final Long layoutId) {
         validatePerformanceTime(startTime, endTime);
-        return new Performance(name, venue, info, startTime, endTime);
+        validateOnSaleTime(onSaleAt, startTime);
+        return new Performance(name, venue, info, startTime, endTime, onSaleAt, layoutId);
     }
 
     // ========================= 검증 메서드 =========================
@@ -115,6 +148,17 @@ public class Performance extends BaseAuditingEntity {
             throw new BusinessException(INVALID_PERFORMANCE_DATE);
     }
 
+    /**
+     * 예매 오픈 일시를 검증합니다.
+     *
+     * @param inputOnSaleAt  - 예매 오픈 일시
+     * @param inputStartTime - 공연 시작 시간
+     */
+    private static void validateOnSaleTime(final LocalDateTime inputOnSaleAt, final LocalDateTime inputStartTime) {
+        if (inputOnSaleAt != null && !inputOnSaleAt.isBefore(inputStartTime))
+            throw new BusinessException(INVALID_ON_SALE_TIME);
+    }
+
     // ========================= 비즈니스 메서드 =========================
 
     /**
@@ -129,4 +173,14 @@ public class Performance extends BaseAuditingEntity {
         endTime = newEndTime;
     }
 
+    /**
+     * 예매 오픈 일시를 변경합니다. 공연 시간을 함께 변경한다면 공연 시간을 먼저 변경해야 합니다.
+     *
+     * @param newOnSaleAt - 변경할 예매 오픈 일시 (null이면 즉시 예매 가능)
+     */
+    public void setOnSaleAt(final LocalDateTime newOnSaleAt) {
+        validateOnSaleTime(newOnSaleAt, startTime);
+        onSaleAt = newOnSaleAt;
+    }
+
 }
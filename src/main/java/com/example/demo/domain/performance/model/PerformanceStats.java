@@ -0,0 +1,48 @@
+package com.example.demo.domain.performance.model;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.performance.model
+ * FileName    : PerformanceStats
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 좌석 현황 카운터 엔티티
+ *               좌석 상태가 바뀔 때마다 증감분만 반영하여, 공연 조회 시 좌석을 집계하지 않고 카운터를 읽습니다.
+ *               같은 공연의 동시 예약이 한 행의 락을 기다리지 않도록 카운터를 여러 슬롯 행으로 나누며, 슬롯 합계가 실제 값입니다.
+ *               카운터는 JDBC로만 변경하므로 엔티티는 조회에만 사용합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Entity
+@Table(name = "performance_stats")
+@IdClass(PerformanceStatsId.class)
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class PerformanceStats {
+
+    @Id
+    @Column(name = "performance_id", nullable = false, updatable = false)
+    private Long performanceId;     // 공연 ID
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private int slot;               // 카운터 슬롯
+
+    @Column(nullable = false)
+    private int totalSeats;         // 전체 좌석 수 증감분
+
+    @Column(nullable = false)
+    private int availableSeats;     // 예약 가능 좌석 수 증감분
+
+}
@@ -0,0 +1,29 @@
+package com.example.demo.domain.performance.model;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.performance.model
+ * FileName    : PerformanceStatsId
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 좌석 현황 카운터(PerformanceStats) 엔티티 복합키
+ *               공연 ID + 카운터 슬롯
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+@NoArgsConstructor(access = PRIVATE)
+@AllArgsConstructor
+@EqualsAndHashCode
+public final class PerformanceStatsId {
+    private Long performanceId;
+    private int  slot;
+}
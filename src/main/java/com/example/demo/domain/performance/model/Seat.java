@@ -74,6 +74,12 @@ public class Seat extends BaseAuditingEntity {
     @NotNull
     private Performance performance;    // 공연
 
+    @Column(updatable = false)
+    private Long layoutSeatId;          // 좌석을 복사한 템플릿 좌석 ID (템플릿 없이 생성한 좌석은 null)
+
+    @Column(nullable = false)
+    private long fencingToken;          // 마지막으로 좌석을 선점한 분산 락의 펜싱 토큰
+
     @Version
     @Getter(PRIVATE)
     private Long version;
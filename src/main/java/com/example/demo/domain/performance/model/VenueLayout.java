@@ -0,0 +1,70 @@
+package com.example.demo.domain.performance.model;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+import com.example.demo.common.model.BaseAuditingEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.performance.model
+ * FileName    : VenueLayout
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 배치 템플릿 엔티티
+ *               공연장의 구역/열/좌석 번호와 가격 등급을 한 번만 저장해 두고, 공연을 생성할 때 템플릿 좌석을 복사합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Entity
+@Table(name = "venue_layouts")
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class VenueLayout extends BaseAuditingEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "layout_id", nullable = false, updatable = false)
+    private Long id;            // ID
+
+    @Column(nullable = false)
+    @NotBlank
+    private String name;        // 템플릿 이름
+
+    @Column(nullable = false)
+    @NotBlank
+    private String venue;       // 공연 장소
+
+    @Column(nullable = false)
+    private int totalSeats;     // 전체 좌석 수
+
+    private VenueLayout(final String name, final String venue, final int totalSeats) {
+        this.name = name;
+        this.venue = venue;
+        this.totalSeats = totalSeats;
+    }
+
+    // ========================= 생성자 메서드 =========================
+
+    /**
+     * VenueLayout 객체 생성
+     *
+     * @param name       - 템플릿 이름
+     * @param venue      - 공연 장소
+     * @param totalSeats - 전체 좌석 수
+     * @return VenueLayout 객체
+     */
+    public static VenueLayout of(final String name, final String venue, final int totalSeats) {
+        return new VenueLayout(name, venue, totalSeats);
+    }
+
+}
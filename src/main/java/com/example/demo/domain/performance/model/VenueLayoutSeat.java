@@ -0,0 +1,104 @@
+package com.example.demo.domain.performance.model;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+import com.example.demo.common.model.BaseAuditingEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.performance.model
+ * FileName    : VenueLayoutSeat
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 배치 템플릿 좌석 엔티티
+ *               템플릿 좌석은 구역, 열, 좌석 번호 순서로 ID가 증가하도록 저장되며, 공연 좌석은 이 순서대로 복사됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Entity
+@Table(name = "venue_layout_seats")
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class VenueLayoutSeat extends BaseAuditingEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "layout_seat_id", nullable = false, updatable = false)
+    private Long id;            // ID
+
+    @Column(name = "layout_id", nullable = false, updatable = false)
+    private Long layoutId;      // 좌석 배치 템플릿 ID
+
+    @Column(nullable = false, updatable = false)
+    @NotBlank
+    private String section;     // 구역
+
+    @Column(nullable = false, updatable = false)
+    private int seatRow;        // 열 번호
+
+    @Column(nullable = false, updatable = false)
+    private int seatNumber;     // 열 내 좌석 번호
+
+    @Column(nullable = false, updatable = false)
+    @NotBlank
+    private String seatCode;    // 좌석 번호 (예: A-3-12)
+
+    @Column(nullable = false)
+    private int price;          // 가격
+
+    private VenueLayoutSeat(final Long layoutId,
+                            final String section,
+                            final int seatRow,
+                            final int seatNumber,
+                            final int price) {
+        this.layoutId = layoutId;
+        this.section = section;
+        this.seatRow = seatRow;
+        this.seatNumber = seatNumber;
+        this.seatCode = toSeatCode(section, seatRow, seatNumber);
+        this.price = price;
+    }
+
+    // ========================= 생성자 메서드 =========================
+
+    /**
+     * VenueLayoutSeat 객체 생성
+     *
+     * @param layoutId   - 좌석 배치 템플릿 ID
+     * @param section    - 구역
+     * @param seatRow    - 열 번호
+     * @param seatNumber - 열 내 좌석 번호
+     * @param price      - 가격
+     * @return VenueLayoutSeat 객체
+     */
+    public static VenueLayoutSeat of(final Long layoutId,
+                                     final String section,
+                                     final int seatRow,
+                                     final int seatNumber,
+                                     final int price) {
+        return new VenueLayoutSeat(layoutId, section, seatRow, seatNumber, price);
+    }
+
+    /**
+     * 구역, 열, 좌석 번호로 좌석 번호 문자열을 만듭니다.
+     *
+     * @param section    - 구역
+     * @param seatRow    - 열 번호
+     * @param seatNumber - 열 내 좌석 번호
+     * @return 좌석 번호 (예: A-3-12)
+     */
+    public static String toSeatCode(final String section, final int seatRow, final int seatNumber) {
+        return section + "-" + seatRow + "-" + seatNumber;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.example.demo.domain.performance.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * PackageName : com.example.demo.domain.performance.properties
+ * FileName    : OnSaleProperties
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 예매 오픈 준비 설정
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "on-sale")
+@Getter
+public class OnSaleProperties {
+
+    private final long warmUpIntervalMillis;    // 예매 오픈 일정 재적재 및 사전 준비 주기
+    private final long warmUpLeadMillis;        // 예매 오픈 몇 ms 전부터 사전 준비할지 (공연 정보 Redis 캐시 만료 시간보다 짧아야 함)
+
+    @ConstructorBinding
+    public OnSaleProperties(@DefaultValue("60000") final long warmUpIntervalMillis,
+                            @DefaultValue("300000") final long warmUpLeadMillis) {
+        this.warmUpIntervalMillis = warmUpIntervalMillis;
+        this.warmUpLeadMillis = warmUpLeadMillis;
+    }
+
+}
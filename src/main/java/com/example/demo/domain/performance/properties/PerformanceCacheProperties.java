@@ -0,0 +1,42 @@
+package com.example.demo.domain.performance.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * PackageName : com.example.demo.domain.performance.properties
+ * FileName    : PerformanceCacheProperties
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 조회 캐시 설정
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "performance-cache")
+@Getter
+public class PerformanceCacheProperties {
+
+    private final long catalogLocalTtlMillis;       // 공연 정보 로컬 캐시 만료 시간
+    private final long catalogRemoteTtlMillis;      // 공연 정보 Redis 캐시 만료 시간
+    private final long seatCountLocalTtlMillis;     // 좌석 현황 로컬 캐시 만료 시간
+    private final long seatCountRemoteTtlMillis;    // 좌석 현황 Redis 캐시 만료 시간
+    private final long localMaxSize;                // 캐시별 로컬 캐시 최대 항목 수
+
+    @ConstructorBinding
+    public PerformanceCacheProperties(@DefaultValue("5000") final long catalogLocalTtlMillis,
+                                      @DefaultValue("600000") final long catalogRemoteTtlMillis,
+                                      @DefaultValue("1000") final long seatCountLocalTtlMillis,
+                                      @DefaultValue("3000") final long seatCountRemoteTtlMillis,
+                                      @DefaultValue("10000") final long localMaxSize) {
+        this.catalogLocalTtlMillis = catalogLocalTtlMillis;
+        this.catalogRemoteTtlMillis = catalogRemoteTtlMillis;
+        this.seatCountLocalTtlMillis = seatCountLocalTtlMillis;
+        this.seatCountRemoteTtlMillis = seatCountRemoteTtlMillis;
+        this.localMaxSize = localMaxSize;
+    }
+
+}
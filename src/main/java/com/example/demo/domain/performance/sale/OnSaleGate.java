@@ -0,0 +1,111 @@
+package com.example.demo.domain.performance.sale;
+
+import static com.example.demo.common.response.ErrorCode.PERFORMANCE_NOT_ON_SALE;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dto.PerformanceOnSaleValue;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.performance.sale
+ * FileName    : OnSaleGate
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 예매 오픈 전 예약 요청 차단 컴포넌트
+ *               아직 예매가 열리지 않은 공연의 예매 오픈 시각만 메모리에 들고 있다가, 예약 요청마다 DB 조회 없이 현재 시각과 비교합니다.
+ *               일정은 주기적으로 DB에서 다시 적재하며, 공연이 생성/수정/삭제되면 공연을 변경한 노드는 커밋 직후, 다른 노드는 공연 색인 갱신
+ *               메시지를 받은 즉시 반영합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+public class OnSaleGate {
+
+    private final Map<Long, Schedule> schedules = new ConcurrentHashMap<>();  // 공연 ID -> 예매 오픈 일정
+    private final AtomicLong          sequence  = new AtomicLong();           // 일정 변경 순번
+
+    /**
+     * 예매가 열린 공연인지 검증합니다. 일정이 없는 공연은 예매가 열린 것으로 봅니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    public void validateOnSale(final Long performanceId) {
+        Schedule schedule = schedules.get(performanceId);
+        if (schedule != null && System.currentTimeMillis() < schedule.onSaleAtMillis)
+            throw new BusinessException(PERFORMANCE_NOT_ON_SALE);
+    }
+
+    /**
+     * 공연의 예매 오픈 일시를 반영합니다. 예매 오픈 일시가 없으면 즉시 예매할 수 있는 공연으로 반영합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param onSaleAt      - 예매 오픈 일시
+     */
+    public void update(final Long performanceId, final LocalDateTime onSaleAt) {
+        schedules.put(performanceId, new Schedule(toMillis(onSaleAt), sequence.incrementAndGet()));
+    }
+
+    /**
+     * 삭제된 공연을 반영합니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    public void remove(final Long performanceId) {
+        update(performanceId, null);
+    }
+
+    /**
+     * 예매가 열리지 않은 공연의 일정을 다시 적재합니다. 적재 함수가 DB를 조회하는 동안 update()/remove()로 반영된 공연은
+     * 조회 결과보다 최신이므로 덮어쓰지 않습니다.
+     *
+     * @param loader - 예매가 열리지 않은 공연의 예매 오픈 일정을 조회하는 함수
+     * @return 적재한 예매 오픈 일정 목록
+     */
+    public List<PerformanceOnSaleValue> refresh(final Supplier<List<PerformanceOnSaleValue>> loader) {
+        long                         startedAt = sequence.incrementAndGet();
+        List<PerformanceOnSaleValue> values    = loader.get();
+
+        Set<Long> loadedIds = new HashSet<>();
+        for (PerformanceOnSaleValue value : values) {
+            loadedIds.add(value.getPerformanceId());
+            schedules.compute(value.getPerformanceId(), (id, current) -> isUpdatedAfter(current, startedAt)
+                                                                         ? current
+                                                                         : new Schedule(toMillis(value.getOnSaleAt()),
+                                                                                        startedAt));
+        }
+        for (Long performanceId : schedules.keySet())
+            if (!loadedIds.contains(performanceId))
+                schedules.computeIfPresent(performanceId,
+                                           (id, current) -> isUpdatedAfter(current, startedAt) ? current : null);
+        return values;
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private static boolean isUpdatedAfter(final Schedule schedule, final long sequence) {
+        return schedule != null && schedule.sequence > sequence;
+    }
+
+    private static long toMillis(final LocalDateTime onSaleAt) {
+        return onSaleAt == null ? Long.MIN_VALUE : onSaleAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @RequiredArgsConstructor
+    private static class Schedule {
+        private final long onSaleAtMillis;  // 예매 오픈 시각(epoch ms), 즉시 예매 가능하면 Long.MIN_VALUE
+        private final long sequence;        // 반영된 시점의 일정 변경 순번
+    }
+
+}
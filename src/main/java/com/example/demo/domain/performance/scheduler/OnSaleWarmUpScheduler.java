@@ -0,0 +1,145 @@
+package com.example.demo.domain.performance.scheduler;
+
+import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.dto.PerformanceOnSaleValue;
+import com.example.demo.domain.performance.properties.OnSaleProperties;
+import com.example.demo.domain.performance.sale.OnSaleGate;
+import com.example.demo.domain.performance.service.PerformanceService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PostConstruct;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.performance.scheduler
+ * FileName    : OnSaleWarmUpScheduler
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 예매 오픈 준비 스케줄러
+ *               예매 오픈 일정을 주기적으로 다시 적재하고, 곧 예매가 열리는 공연은 오픈 전에 좌석 재고와 공연 정보/좌석 배치도 캐시를 미리
+ *               채우고 DB 커넥션 풀의 유휴 커넥션을 검증해 둡니다. Redis 클라이언트는 커넥션을 계속 열어 두므로 따로 준비하지 않습니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OnSaleWarmUpScheduler {
+
+    private final OnSaleGate               onSaleGate;
+    private final PerformanceRepository    performanceRepository;
+    private final PerformanceService       performanceService;
+    private final DataSource               dataSource;
+    private final OnSaleProperties         onSaleProperties;
+    private final Map<Long, LocalDateTime> warmedUp = new ConcurrentHashMap<>();    // 공연 ID -> 준비한 예매 오픈 일시
+
+    /**
+     * 예매 오픈 일정을 적재합니다. 웹 서버가 요청을 받기 전에 적재되도록 빈 초기화 시점에 실행합니다.
+     */
+    @PostConstruct
+    public void loadSchedules() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("예매 오픈 일정 적재 실패, 다음 주기에 다시 적재합니다.", e);
+        }
+    }
+
+    /**
+     * 예매 오픈 일정을 다시 적재하고, 준비 시간 안에 예매가 열리는 공연 중 아직 준비하지 않은 공연을 준비합니다.
+     */
+    @Scheduled(fixedDelayString = "${on-sale.warm-up-interval-millis:60000}")
+    public void warmUp() {
+        List<PerformanceOnSaleValue> schedules;
+        try {
+            schedules = refresh();
+        } catch (Exception e) {
+            log.warn("예매 오픈 일정 재적재 실패", e);
+            return;
+        }
+
+        Duration                     lead        = Duration.ofMillis(onSaleProperties.getWarmUpLeadMillis());
+        LocalDateTime                warmUpUntil = LocalDateTime.now().plus(lead);
+        List<PerformanceOnSaleValue> targets     = new ArrayList<>();
+        for (PerformanceOnSaleValue schedule : schedules)
+            if (!schedule.getOnSaleAt().isAfter(warmUpUntil)
+                && !schedule.getOnSaleAt().equals(warmedUp.get(schedule.getPerformanceId())))
+                targets.add(schedule);
+
+        Set<Long> scheduledIds = schedules.stream()
+                                          .map(PerformanceOnSaleValue::getPerformanceId)
+                                          .collect(Collectors.toSet());
+        warmedUp.keySet().retainAll(scheduledIds);  // 예매가 열렸거나 삭제된 공연은 제거
+        if (targets.isEmpty()) return;
+
+        for (PerformanceOnSaleValue target : targets) {
+            warmUpPerformance(target.getPerformanceId());
+            warmedUp.put(target.getPerformanceId(), target.getOnSaleAt());
+        }
+        primeConnectionPool();
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private List<PerformanceOnSaleValue> refresh() {
+        return onSaleGate.refresh(() -> performanceRepository.getOnSaleSchedules(LocalDateTime.now()));
+    }
+
+    /**
+     * 좌석 재고를 Redis에 적재하고 공연 정보와 좌석 배치도 캐시를 채웁니다. 좌석 배치도 조회 시 재고가 없으면 함께 적재됩니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    private void warmUpPerformance(final Long performanceId) {
+        try {
+            performanceService.getPerformance(performanceId);
+            performanceService.getSeatMap(performanceId, null);
+            log.info("예매 오픈 준비 완료 - performanceId: {}", performanceId);
+        } catch (Exception e) {
+            log.warn("예매 오픈 준비 실패 - performanceId: {}", performanceId, e);
+        }
+    }
+
+    /**
+     * 유휴 커넥션을 한꺼번에 빌려 검증합니다. 빌릴 때 HikariCP가 오래 쉬었던 커넥션을 검증하고 끊어진 커넥션은 새로 맺으므로,
+     * 예매 오픈 직후 요청이 끊어진 커넥션을 재연결하며 기다리지 않습니다. 요청 처리 중인 커넥션 수만큼은 빌리지 않습니다.
+     */
+    private void primeConnectionPool() {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) return;
+            HikariDataSource primary = dataSource.unwrap(HikariDataSource.class);  // 지연 커넥션 프록시를 거치지 않도록 풀에서 직접 획득
+            HikariPoolMXBean pool    = primary.getHikariPoolMXBean();
+            if (pool == null) return;
+
+            int count = pool.getIdleConnections();
+            for (int i = 0; i < count; i++) connections.add(primary.getConnection());
+        } catch (Exception e) {
+            log.warn("DB 커넥션 풀 준비 실패", e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (Exception e) {
+                    log.warn("DB 커넥션 반환 실패", e);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.example.demo.domain.performance.scheduler;
+
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_PERFORMANCE_STATS_RECONCILE_LOCK_KEY;
+
+import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.service.PerformanceService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.performance.scheduler
+ * FileName    : PerformanceStatsReconciler
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 좌석 현황 카운터 보정 스케줄러
+ *               아직 끝나지 않은 공연의 좌석 현황 카운터를 좌석 테이블 기준으로 다시 계산합니다. 카운터가 없는 공연(카운터 도입 전에
+ *               생성된 공연)은 카운터를 생성하므로, 애플리케이션 시작 시 한 번 실행해 기존 공연을 채우고 이후 매일 보정합니다.
+ *               클러스터 전체에서 리더 락을 획득한 한 노드만 실행하며, 공연마다 별도 트랜잭션으로 보정합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PerformanceStatsReconciler {
+
+    private final PerformanceRepository performanceRepository;
+    private final PerformanceService    performanceService;
+    private final RedissonClient        redissonClient;
+
+    /**
+     * 애플리케이션 시작 시 카운터를 보정합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * 리더 락을 획득한 경우에만 아직 끝나지 않은 공연의 카운터를 보정합니다. 다른 노드가 실행 중이면 대기하지 않고 건너뜁니다.
+     */
+    @Scheduled(cron = "${performance-stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(REDIS_PERFORMANCE_STATS_RECONCILE_LOCK_KEY);
+
+        try {
+            if (!lock.tryLock(0, TimeUnit.MILLISECONDS)) return;   // 임대 시간을 지정하지 않아 워치독이 락을 갱신
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.warn("좌석 현황 카운터 보정 리더 락 획득 실패", e);
+            return;
+        }
+
+        try {
+            reconcileAll();
+        } catch (Exception e) {
+            log.error("좌석 현황 카운터 보정 중 오류 발생", e);
+        } finally {
+            try {
+                if (lock.isHeldByCurrentThread()) lock.unlock();
+            } catch (Exception e) {
+                log.error("락 해제 중 오류 발생: {}", lock.getName(), e);
+            }
+        }
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void reconcileAll() {
+        List<Long> performanceIds = performanceRepository.findIdsByEndTimeAfter(LocalDateTime.now());
+
+        int corrected = 0;
+        for (Long performanceId : performanceIds) {
+            try {
+                if (performanceService.reconcileSeatCounts(performanceId)) corrected++;
+            } catch (Exception e) {
+                log.warn("좌석 현황 카운터 보정 실패 - performanceId: {}", performanceId, e);
+            }
+        }
+        if (corrected > 0) log.info("좌석 현황 카운터 보정 완료: {}/{}건", corrected, performanceIds.size());
+    }
+
+}
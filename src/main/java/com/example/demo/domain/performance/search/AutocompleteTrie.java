@@ -0,0 +1,175 @@
+package com.example.demo.domain.performance.search;
+
+import java.util.Arrays;
+
+/**
+ * PackageName : com.example.demo.domain.performance.search
+ * FileName    : AutocompleteTrie
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 자동완성 접두사 트라이
+ *               각 노드가 하위 키 전체에서 순위가 가장 높은(공연 ID가 가장 큰, 즉 최신) 공연 ID를 최대 개수만큼 미리 들고 있으므로,
+ *               조회는 접두사 길이만큼 노드를 따라가는 것으로 끝납니다.
+ *               키를 추가할 때는 경로의 노드에 공연 ID를 넣기만 하고, 키를 제거할 때는 경로의 노드를 아래에서부터 다시 계산합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+final class AutocompleteTrie {
+
+    private final int  maxSuggestions;  // 노드별 최대 공연 ID 수
+    private final Node root = new Node();
+
+    AutocompleteTrie(final int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    void add(final String key, final long id) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+            node.offer(id, maxSuggestions);
+        }
+        if (node.terminals == null) node.terminals = new PostingList();
+        node.terminals.add(id);
+    }
+
+    void remove(final String key, final long id) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].getChild(key.charAt(i));
+            if (path[i + 1] == null) return;
+        }
+
+        Node end = path[key.length()];
+        if (end.terminals == null || !end.terminals.remove(id)) return;
+        if (end.terminals.isEmpty()) end.terminals = null;
+
+        for (int i = key.length(); i >= 1; i--) {
+            Node node = path[i];
+            if (node.isEmpty()) path[i - 1].removeChild(key.charAt(i - 1));
+            else if (node.contains(id)) node.recompute(maxSuggestions);
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 키의 공연 ID를 순위순으로 조회합니다.
+     *
+     * @param prefix - 접두사
+     * @param limit  - 최대 공연 ID 수 (노드별 최대 공연 ID 수 이하)
+     * @return 공연 ID 배열
+     */
+    long[] search(final String prefix, final int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) node = node.getChild(prefix.charAt(i));
+        if (node == null || node == root) return new long[0];
+        return Arrays.copyOf(node.top, Math.min(limit, node.top.length));
+    }
+
+    private static final class Node {
+
+        private char[]      labels   = new char[0];  // 자식 노드 문자 (오름차순)
+        private Node[]      children = new Node[0];  // 자식 노드
+        private PostingList terminals;               // 이 노드에서 끝나는 키의 공연 ID
+        private long[]      top      = new long[0];  // 하위 키 전체의 상위 공연 ID (내림차순)
+
+        Node getChild(final char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(final char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) return children[index];
+
+            int  insertAt = -index - 1;
+            Node child    = new Node();
+            labels = insert(labels, insertAt, label);
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newChildren[insertAt] = child;
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(final char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) return;
+
+            char[] newLabels   = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return terminals == null && children.length == 0;
+        }
+
+        boolean contains(final long id) {
+            for (long topId : top) if (topId == id) return true;
+            return false;
+        }
+
+        /**
+         * 상위 공연 ID에 공연 ID를 넣습니다. 이미 있거나 순위가 최대 개수 밖이면 무시합니다.
+         *
+         * @param id  - 공연 ID
+         * @param max - 최대 공연 ID 수
+         */
+        void offer(final long id, final int max) {
+            int insertAt = 0;
+            while (insertAt < top.length && top[insertAt] > id) insertAt++;
+            if (insertAt < top.length && top[insertAt] == id) return;
+            if (insertAt >= max) return;
+
+            long[] newTop = new long[Math.min(top.length + 1, max)];
+            System.arraycopy(top, 0, newTop, 0, insertAt);
+            newTop[insertAt] = id;
+            System.arraycopy(top, insertAt, newTop, insertAt + 1, newTop.length - insertAt - 1);
+            top = newTop;
+        }
+
+        /**
+         * 이 노드에서 끝나는 공연 ID와 자식 노드의 상위 공연 ID로 상위 공연 ID를 다시 계산합니다.
+         *
+         * @param max - 최대 공연 ID 수
+         */
+        void recompute(final int max) {
+            long[] terminalIds = terminals == null ? new long[0] : terminals.toArray();
+            int    length      = terminalIds.length;
+            for (Node child : children) length += child.top.length;
+
+            long[] candidates = Arrays.copyOf(terminalIds, length);
+            int    offset     = terminalIds.length;
+            for (Node child : children) {
+                System.arraycopy(child.top, 0, candidates, offset, child.top.length);
+                offset += child.top.length;
+            }
+            Arrays.sort(candidates);
+
+            long[] newTop = new long[Math.min(max, candidates.length)];
+            int    count  = 0;
+            for (int i = candidates.length - 1; i >= 0 && count < newTop.length; i--)
+                if (count == 0 || newTop[count - 1] != candidates[i]) newTop[count++] = candidates[i];
+            top = Arrays.copyOf(newTop, count);
+        }
+
+        private static char[] insert(final char[] array, final int index, final char value) {
+            char[] result = new char[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+    }
+
+}
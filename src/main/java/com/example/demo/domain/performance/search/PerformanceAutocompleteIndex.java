@@ -0,0 +1,149 @@
+package com.example.demo.domain.performance.search;
+
+import com.example.demo.common.util.HangulUtils;
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceSuggestionResponse;
+import com.example.demo.domain.performance.dto.PerformanceSearchValue;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.performance.search
+ * FileName    : PerformanceAutocompleteIndex
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 이름 자동완성 색인
+ *               공연 이름을 자모로 분해한 키와 초성만 뽑은 키를 각각의 트라이에 넣으며, 이름 중간 단어부터 입력해도 찾을 수 있도록 단어마다
+ *               그 단어부터 끝까지를 키로 넣습니다. 초성으로만 입력하면 초성 트라이에서, 그 외에는 자모 트라이에서 찾으므로
+ *               "ㅇㅇㅇ", "아이", "아잉"(입력 중인 "아이유") 모두 "아이유 콘서트"와 일치합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+public class PerformanceAutocompleteIndex {
+
+    public static final  int MAX_SUGGESTIONS = 10;
+    private static final int MAX_KEY_LENGTH  = 64;  // 키 최대 길이 (이보다 긴 검색어는 앞부분으로만 찾음)
+
+    private final AutocompleteTrie jamoTrie    = new AutocompleteTrie(MAX_SUGGESTIONS);  // 자모 분해 키
+    private final AutocompleteTrie chosungTrie = new AutocompleteTrie(MAX_SUGGESTIONS);  // 초성 키
+    private final Map<Long, Entry> entries     = new HashMap<>();                        // 공연 ID -> 색인된 공연 이름
+    private final ReadWriteLock    lock        = new ReentrantReadWriteLock();
+
+    /**
+     * 공연 이름을 색인합니다. 이름이 바뀌지 않았거나 색인된 공연이 더 최근에 수정되었다면 무시합니다.
+     *
+     * @param value - 공연 검색 색인 문서
+     */
+    public void put(final PerformanceSearchValue value) {
+        Entry entry = new Entry(value.getName(), value.getUpdatedAt());
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(value.getId());
+            if (previous != null) {
+                if (previous.isNewerThan(entry)) return;
+                if (previous.getName().equals(entry.getName())) {
+                    entries.put(value.getId(), entry);
+                    return;
+                }
+                removeKeys(value.getId(), previous.getName());
+            }
+            entries.put(value.getId(), entry);
+            getKeys(entry.getName(), HangulUtils::decompose).forEach(key -> jamoTrie.add(key, value.getId()));
+            getKeys(entry.getName(), HangulUtils::chosung).forEach(key -> chosungTrie.add(key, value.getId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공연을 색인에서 제거합니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    public void remove(final Long performanceId) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(performanceId);
+            if (previous != null) removeKeys(performanceId, previous.getName());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 공연 이름을 최신 공연부터 조회합니다.
+     *
+     * @param keyword - 입력 중인 검색어
+     * @param size    - 최대 응답 수 (MAX_SUGGESTIONS 이하)
+     * @return 공연 이름 자동완성 응답 DTO 목록
+     */
+    public List<PerformanceSuggestionResponse> suggest(final String keyword, final int size) {
+        boolean chosungOnly = HangulUtils.isChosungOnly(keyword);
+        String  prefix      = truncate(chosungOnly ? HangulUtils.chosung(keyword) : HangulUtils.decompose(keyword));
+        if (prefix.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            long[] ids = (chosungOnly ? chosungTrie : jamoTrie).search(prefix, Math.min(size, MAX_SUGGESTIONS));
+
+            List<PerformanceSuggestionResponse> suggestions = new ArrayList<>(ids.length);
+            for (long id : ids) suggestions.add(new PerformanceSuggestionResponse(id, entries.get(id).getName()));
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void removeKeys(final Long performanceId, final String name) {
+        getKeys(name, HangulUtils::decompose).forEach(key -> jamoTrie.remove(key, performanceId));
+        getKeys(name, HangulUtils::chosung).forEach(key -> chosungTrie.remove(key, performanceId));
+    }
+
+    /**
+     * 공연 이름의 각 단어부터 끝까지를 정규화한 키 목록을 생성합니다.
+     *
+     * @param name      - 공연 이름
+     * @param normalize - 정규화 함수 (자모 분해 또는 초성 추출)
+     * @return 키 목록
+     */
+    private Set<String> getKeys(final String name, final Function<String, String> normalize) {
+        String[]    words = name.strip().split("\\s+");
+        Set<String> keys  = new LinkedHashSet<>();
+        for (int i = 0; i < words.length; i++) {
+            String key = truncate(normalize.apply(String.join("", List.of(words).subList(i, words.length))));
+            if (!key.isEmpty()) keys.add(key);
+        }
+        return keys;
+    }
+
+    private String truncate(final String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final String        name;       // 공연 이름
+        private final LocalDateTime updatedAt;  // 수정 일시
+
+        boolean isNewerThan(final Entry other) {
+            return updatedAt != null && other.updatedAt != null && updatedAt.isAfter(other.updatedAt);
+        }
+    }
+
+}
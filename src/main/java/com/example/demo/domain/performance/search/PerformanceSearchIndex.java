@@ -0,0 +1,239 @@
+package com.example.demo.domain.performance.search;
+
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.PerformanceSearchValue;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.performance.search
+ * FileName    : PerformanceSearchIndex
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 이름/정보 바이그램 역색인
+ *               MySQL FULLTEXT ngram 파서(ngram_token_size=2)와 같이 검색어를 공백으로 나눈 모든 단어가 공연 이름 또는 정보에 포함된 공연을
+ *               찾습니다. 바이그램 목록의 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인하므로 바이그램 순서가 다른 공연은 제외됩니다.
+ *               색인이 적재되기 전(isReady() == false)에는 검색하지 않고 FULLTEXT 검색을 사용해야 합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+public class PerformanceSearchIndex {
+
+    private final Map<Long, Document>       documents = new HashMap<>();  // 공연 ID -> 색인 문서
+    private final Map<Integer, PostingList> postings  = new HashMap<>();  // 바이그램 -> 공연 ID 목록
+    private final ReadWriteLock             lock      = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;   // 전체 공연 적재 완료 여부
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 공연을 색인합니다. 이미 색인된 공연이면 이전 바이그램을 지우고 다시 색인하며, 색인된 공연이 더 최근에 수정되었다면 무시합니다.
+     *
+     * @param value - 공연 검색 색인 문서
+     */
+    public void put(final PerformanceSearchValue value) {
+        Document document = Document.from(value);
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(value.getId());
+            if (previous != null) {
+                if (previous.isNewerThan(document)) return;
+                unindex(previous);
+            }
+            documents.put(value.getId(), document);
+            for (int bigram : document.getBigrams())
+                postings.computeIfAbsent(bigram, key -> new PostingList()).add(value.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공연을 색인에서 제거합니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    public void remove(final Long performanceId) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(performanceId);
+            if (previous != null) unindex(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 공연 목록을 조회합니다. 정렬 조건은 FULLTEXT 검색과 같으며, 기본적으로 최신 공연부터 조회됩니다.
+     *
+     * @param keyword  - 검색어
+     * @param pageable - 페이징 객체
+     * @return 공연 페이징 목록 응답 DTO (좌석 현황은 0석)
+     */
+    public Page<PerformanceListResponse> search(final String keyword, final Pageable pageable) {
+        String[] terms = keyword.trim().toLowerCase(Locale.ROOT).split("\\s+");
+
+        List<PerformanceListResponse> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long id : findCandidates(terms)) {
+                Document document = documents.get(id);
+                if (document.containsAll(terms)) matches.add(document.getResponse());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(getComparator(pageable.getSort()));
+        if (pageable.isUnpaged()) return new PageImpl<>(matches);
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to   = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(new ArrayList<>(matches.subList(from, to)), pageable, matches.size());
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void unindex(final Document document) {
+        for (int bigram : document.getBigrams()) {
+            PostingList postingList = postings.get(bigram);
+            if (postingList == null) continue;
+            postingList.remove(document.getId());
+            if (postingList.isEmpty()) postings.remove(bigram);
+        }
+    }
+
+    /**
+     * 검색어의 모든 바이그램을 포함하는 공연 ID를 찾습니다. 짧은 목록부터 교집합을 구하며, 두 글자 이상인 단어가 없으면 모든 공연이 후보입니다.
+     *
+     * @param terms - 검색 단어 목록
+     * @return 오름차순 후보 공연 ID 배열
+     */
+    private long[] findCandidates(final String[] terms) {
+        Set<Integer> bigrams = new HashSet<>();
+        for (String term : terms) addBigrams(term, bigrams);
+        if (bigrams.isEmpty()) return documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+
+        List<PostingList> lists = new ArrayList<>(bigrams.size());
+        for (int bigram : bigrams) {
+            PostingList postingList = postings.get(bigram);
+            if (postingList == null) return new long[0];
+            lists.add(postingList);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        long[] candidates = lists.getFirst().toArray();
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) candidates = lists.get(i).retainAll(candidates);
+        return candidates;
+    }
+
+    /**
+     * 정렬 조건을 생성합니다. 생성 일시 정렬이 없으면 최신 공연부터, 정렬 기준 값이 같으면 공연 ID 내림차순으로 정렬합니다.
+     *
+     * @param sort - 정렬 조건
+     * @return 정렬 조건
+     */
+    private Comparator<PerformanceListResponse> getComparator(final Sort sort) {
+        Comparator<PerformanceListResponse> comparator   = (a, b) -> 0;
+        boolean                             hasCreatedAt = false;
+        for (Sort.Order order : sort) {
+            Function<PerformanceListResponse, LocalDateTime> key = switch (order.getProperty()) {
+                case "startTime" -> PerformanceListResponse::getStartTime;
+                case "endTime" -> PerformanceListResponse::getEndTime;
+                case "createdAt" -> PerformanceListResponse::getCreatedAt;
+                default -> null;
+            };
+            if (key == null) continue;
+            if ("createdAt".equals(order.getProperty())) hasCreatedAt = true;
+
+            Comparator<PerformanceListResponse> next = Comparator.comparing(key, Comparator.nullsLast(
+                    Comparator.<LocalDateTime>naturalOrder()
+            ));
+            comparator = comparator.thenComparing(order.isAscending() ? next : next.reversed());
+        }
+        if (!hasCreatedAt)
+            comparator = comparator.thenComparing(PerformanceListResponse::getCreatedAt,
+                                                  Comparator.nullsLast(Comparator.reverseOrder()));
+        return comparator.thenComparing(PerformanceListResponse::getId, Comparator.reverseOrder());
+    }
+
+    private static void addBigrams(final String text, final Set<Integer> bigrams) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            char first  = text.charAt(i);
+            char second = text.charAt(i + 1);
+            if (Character.isWhitespace(first) || Character.isWhitespace(second)) continue;
+            bigrams.add(first << 16 | second);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Document {
+        private final Long                    id;         // 공연 ID
+        private final String                  name;       // 소문자로 바꾼 공연 이름
+        private final String                  info;       // 소문자로 바꾼 공연 정보
+        private final int[]                   bigrams;    // 공연 이름/정보의 바이그램 (제거 시 사용)
+        private final LocalDateTime           updatedAt;  // 수정 일시
+        private final PerformanceListResponse response;   // 검색 결과로 응답할 공연 목록 응답 DTO
+
+        static Document from(final PerformanceSearchValue value) {
+            String       name    = value.getName() == null ? "" : value.getName().toLowerCase(Locale.ROOT);
+            String       info    = value.getInfo() == null ? "" : value.getInfo().toLowerCase(Locale.ROOT);
+            Set<Integer> bigrams = new HashSet<>();
+            addBigrams(name, bigrams);
+            addBigrams(info, bigrams);
+            return new Document(value.getId(),
+                                name,
+                                info,
+                                bigrams.stream().mapToInt(Integer::intValue).toArray(),
+                                value.getUpdatedAt(),
+                                value.toListResponse());
+        }
+
+        boolean isNewerThan(final Document other) {
+            return updatedAt != null && other.updatedAt != null && updatedAt.isAfter(other.updatedAt);
+        }
+
+        boolean containsAll(final String[] terms) {
+            return Arrays.stream(terms).allMatch(term -> name.contains(term) || info.contains(term));
+        }
+    }
+
+}
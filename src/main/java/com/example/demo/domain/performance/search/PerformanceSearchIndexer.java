@@ -0,0 +1,172 @@
+package com.example.demo.domain.performance.search;
+
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_PERFORMANCE_SEARCH_INDEX_TOPIC;
+
+import com.example.demo.domain.performance.cache.PerformanceCatalogCache;
+import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.dto.PerformanceSearchValue;
+import com.example.demo.domain.performance.sale.OnSaleGate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.performance.search
+ * FileName    : PerformanceSearchIndexer
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 검색/자동완성 색인 적재 및 갱신 컴포넌트
+ *               애플리케이션이 시작되면 공연 테이블을 공연 ID 순으로 나누어 읽어 색인을 적재합니다.
+ *               공연이 생성/수정/삭제되면 공연을 변경한 노드가 커밋 직후 해당 공연만 다시 읽어 색인과 예매 오픈 일정을 갱신한 뒤
+ *               공연 목록 캐시를 무효화하고 Redis Pub/Sub으로 공연 ID를 발행합니다. 메시지를 받은 노드는 색인과 예매 오픈 일정을 갱신한
+ *               뒤 자신의 로컬 공연 목록 캐시만 비우므로, 공연 하나를 변경할 때 공유 캐시의 세대 번호는 한 번만 올라갑니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PerformanceSearchIndexer {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final PerformanceSearchIndex       performanceSearchIndex;
+    private final PerformanceAutocompleteIndex performanceAutocompleteIndex;
+    private final PerformanceRepository        performanceRepository;
+    private final PerformanceCatalogCache      performanceCatalogCache;
+    private final OnSaleGate                   onSaleGate;
+    private final RedissonClient               redissonClient;
+    private final Set<Long>                    removedDuringBuild = ConcurrentHashMap.newKeySet();  // 적재 중 삭제된 공연 ID
+
+    private RTopic topic;
+    private int    listenerId;
+
+    @PostConstruct
+    public void subscribe() {
+        topic = redissonClient.getTopic(REDIS_PERFORMANCE_SEARCH_INDEX_TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, performanceId) -> {
+            try {
+                reindex(Long.valueOf(performanceId));
+                performanceCatalogCache.evictLocalPerformances();
+            } catch (Exception e) {
+                log.warn("공연 검색 색인 갱신 실패 - performanceId: {}", performanceId, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        topic.removeListener(listenerId);
+    }
+
+    /**
+     * 애플리케이션 시작 후 색인을 적재합니다. 적재가 끝나기 전이나 실패한 경우에는 FULLTEXT 검색이 사용됩니다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            build();
+        } catch (Exception e) {
+            log.error("공연 검색 색인 적재 실패, FULLTEXT 검색을 계속 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 전체 공연을 색인에 적재합니다. 한 번에 하나의 트랜잭션으로 테이블 전체를 읽지 않도록 공연 ID 순으로 나누어 조회합니다.
+     */
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        Long lastId    = null;
+        int  count     = 0;
+        while (true) {
+            List<PerformanceSearchValue> values = performanceRepository.getSearchValues(lastId, BUILD_BATCH_SIZE);
+            values.forEach(this::putUnlessRemoved);
+            count += values.size();
+            if (values.size() < BUILD_BATCH_SIZE) break;
+            lastId = values.getLast().getId();
+        }
+        performanceSearchIndex.markReady();
+        removedDuringBuild.clear();
+
+        log.info("공연 검색 색인 적재 완료 - performances: {}, elapsed: {} ms",
+                 count,
+                 System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 이 노드의 색인과 예매 오픈 일정을 바로 갱신하고 공연 목록 캐시를 무효화한 뒤 모든 노드에 공연 색인 갱신을 요청합니다.
+     * 예매 오픈 차단은 일정이 없는 공연을 통과시키므로, 메시지가 늦거나 유실되더라도 공연을 변경한 노드는 메시지를 기다리지 않고
+     * 변경된 예매 오픈 일시로 차단합니다. 발행에 실패한 다른 노드의 예매 오픈 일정은 다음 일정 재적재 때 반영됩니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    public void publish(final Long performanceId) {
+        try {
+            reindex(performanceId);
+        } catch (Exception e) {
+            log.warn("공연 검색 색인 갱신 실패 - performanceId: {}", performanceId, e);
+        }
+        performanceCatalogCache.evictPerformances();
+
+        try {
+            topic.publish(String.valueOf(performanceId));
+        } catch (Exception e) {
+            log.warn("공연 검색 색인 갱신 메시지 발행 실패, 이 노드의 색인만 갱신되었습니다. - performanceId: {}", performanceId, e);
+        }
+    }
+
+    /**
+     * 공연을 다시 읽어 이 노드의 색인과 예매 오픈 일정을 갱신합니다. 공연이 없으면 색인에서 제거합니다. 공연 목록 캐시는 호출하는 쪽에서
+     * 무효화합니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    public void reindex(final Long performanceId) {
+        Optional<PerformanceSearchValue> value = performanceRepository.getSearchValue(performanceId);
+        if (value.isPresent()) {
+            put(value.get());
+            onSaleGate.update(performanceId, value.get().getOnSaleAt());
+        } else {
+            removeAndRemember(performanceId);
+            onSaleGate.remove(performanceId);
+        }
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 적재 중 삭제된 공연이 아니면 색인합니다. 삭제 전에 읽은 공연이 삭제 후에 색인되지 않도록 삭제와 같은 락 안에서 확인합니다.
+     *
+     * @param value - 공연 검색 색인 문서
+     */
+    private synchronized void putUnlessRemoved(final PerformanceSearchValue value) {
+        if (!removedDuringBuild.contains(value.getId())) put(value);
+    }
+
+    private void put(final PerformanceSearchValue value) {
+        performanceSearchIndex.put(value);
+        performanceAutocompleteIndex.put(value);
+    }
+
+    private synchronized void removeAndRemember(final Long performanceId) {
+        performanceSearchIndex.remove(performanceId);
+        performanceAutocompleteIndex.remove(performanceId);
+        if (!performanceSearchIndex.isReady()) removedDuringBuild.add(performanceId);
+    }
+
+}
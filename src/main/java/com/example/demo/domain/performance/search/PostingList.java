@@ -0,0 +1,79 @@
+package com.example.demo.domain.performance.search;
+
+import java.util.Arrays;
+
+/**
+ * PackageName : com.example.demo.domain.performance.search
+ * FileName    : PostingList
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 바이그램별 공연 ID 목록
+ *               공연 ID를 박싱하지 않도록 오름차순으로 정렬된 long 배열에 저장합니다. 새 공연의 ID는 항상 가장 크므로 대부분 배열 끝에 추가됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];  // 오름차순 공연 ID
+    private int    size;                              // 공연 ID 수
+
+    boolean add(final long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) return false;
+
+        int insertAt = -index - 1;
+        if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    boolean remove(final long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) return false;
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        if (size > INITIAL_CAPACITY && size * 4 < ids.length) ids = Arrays.copyOf(ids, ids.length / 2);
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * 주어진 공연 ID 중 이 목록에도 있는 ID만 남깁니다. 두 목록 모두 정렬되어 있으므로 한 번씩만 순회합니다.
+     *
+     * @param candidates - 오름차순 공연 ID 배열
+     * @return 교집합 공연 ID 배열
+     */
+    long[] retainAll(final long[] candidates) {
+        long[] result = new long[Math.min(candidates.length, size)];
+        int    count  = 0;
+        for (int i = 0, j = 0; i < candidates.length && j < size; ) {
+            if (candidates[i] < ids[j]) i++;
+            else if (candidates[i] > ids[j]) j++;
+            else {
+                result[count++] = candidates[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+}
@@ -1,9 +1,13 @@
 package com.example.demo.domain.performance.service;
 
+import com.example.demo.common.response.CursorSlice;
 import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceCreateRequest;
 import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceUpdateRequest;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceDetailResponse;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceSuggestionResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.SeatMapResponse;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -24,10 +28,20 @@ public interface PerformanceService {
 
     Page<PerformanceListResponse> getAllPerformances(String keyword, Pageable pageable);
 
+    CursorSlice<PerformanceListResponse> scrollPerformances(String keyword, String cursor, Pageable pageable);
+
+    List<PerformanceSuggestionResponse> getSuggestions(String keyword, int size);
+
     PerformanceDetailResponse getPerformance(Long performanceId);
 
     void updatePerformance(Long performanceId, PerformanceUpdateRequest request);
 
     void deletePerformance(Long performanceId);
 
+    void loadSeatInventory(Long performanceId);
+
+    SeatMapResponse getSeatMap(Long performanceId, Long sinceVersion);
+
+    boolean reconcileSeatCounts(Long performanceId);
+
 }
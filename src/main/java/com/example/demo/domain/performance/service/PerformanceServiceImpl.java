@@ -2,24 +2,53 @@ package com.example.demo.domain.performance.service;
 
 import static com.example.demo.common.response.ErrorCode.DELETE_NOT_ALLOWED_HAS_RESERVATION;
 import static com.example.demo.common.response.ErrorCode.PERFORMANCE_NOT_FOUND;
+import static com.example.demo.common.response.ErrorCode.VENUE_LAYOUT_NOT_FOUND;
 import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_SEAT_INVENTORY_TTL_AFTER_DAYS;
+import static org.springframework.transaction.annotation.Propagation.SUPPORTS;
 
 import com.example.demo.common.error.BusinessException;
+import com.example.demo.common.response.CursorSlice;
+import com.example.demo.domain.performance.cache.PerformanceCatalogCache;
 import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.dao.PerformanceStatsRepository;
+import com.example.demo.domain.performance.dao.VenueLayoutRepository;
+import com.example.demo.domain.performance.dto.PerformanceCursor;
 import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceCreateRequest;
 import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceUpdateRequest;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceDetailResponse;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceSuggestionResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.SeatMapResponse;
+import com.example.demo.domain.performance.dto.SeatCountValue;
+import com.example.demo.domain.performance.dto.SeatStatusValue;
+import com.example.demo.domain.performance.event.PerformanceChangedEvent;
 import com.example.demo.domain.performance.model.Performance;
 import com.example.demo.domain.performance.dao.SeatRepository;
-import com.example.demo.domain.performance.model.Seat;
+import com.example.demo.domain.performance.model.SeatStatus;
+import com.example.demo.domain.performance.search.PerformanceAutocompleteIndex;
+import com.example.demo.domain.performance.search.PerformanceSearchIndex;
+import com.example.demo.infra.redis.inventory.SeatInventoryManager;
+import com.example.demo.infra.redis.inventory.SeatInventorySnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 /**
  * PackageName : com.example.demo.domain.performance.service
@@ -35,55 +64,132 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
+@Slf4j
 public class PerformanceServiceImpl implements PerformanceService {
 
-    private final PerformanceRepository performanceRepository;
-    private final SeatRepository        seatRepository;
+    private static final long     SEAT_MAP_CACHE_MAX_SIZE     = 1000L;                   // 전체 스냅샷을 보관할 최대 공연 수
+    private static final Duration SEAT_MAP_CACHE_IDLE_TIMEOUT = Duration.ofMinutes(10);  // 조회되지 않은 스냅샷의 보관 시간
+
+    private final PerformanceRepository        performanceRepository;
+    private final SeatRepository               seatRepository;
+    private final VenueLayoutRepository        venueLayoutRepository;
+    private final PerformanceStatsRepository   performanceStatsRepository;
+    private final SeatInventoryManager         seatInventoryManager;
+    private final PerformanceCatalogCache      performanceCatalogCache;
+    private final PerformanceSearchIndex       performanceSearchIndex;
+    private final PerformanceAutocompleteIndex performanceAutocompleteIndex;
+    private final ApplicationEventPublisher    applicationEventPublisher;
+
+    private final Cache<Long, SeatMapResponse> seatMapCache = Caffeine.newBuilder()   // 공연 ID별 마지막 전체 스냅샷
+                                                                      .maximumSize(SEAT_MAP_CACHE_MAX_SIZE)
+                                                                      .expireAfterAccess(SEAT_MAP_CACHE_IDLE_TIMEOUT)
+                                                                      .build();
 
     /**
-     * 공연과 공연 좌석을 생성합니다.
+     * 공연과 공연 좌석을 생성합니다. 좌석 배치 템플릿 ID가 주어지면 템플릿 좌석을 복사하고, 그렇지 않으면 같은 가격의 좌석을
+     * 좌석 수만큼 생성합니다. 생성된 좌석 수로 공연 좌석 현황 카운터를 초기화합니다.
      *
      * @param request - 공연 생성 요청 DTO
      */
     @Transactional
     @Override
     public void createPerformance(final PerformanceCreateRequest request) {
+        Long layoutId = request.getLayoutId();
+        if (layoutId != null && !venueLayoutRepository.existsById(layoutId))
+            throw new BusinessException(VENUE_LAYOUT_NOT_FOUND);
+
         Performance performance = Performance.of(request.getName(),
                                                  request.getVenue(),
                                                  request.getInfo(),
                                                  request.getStartTime(),
-                                                 request.getEndTime());
-        performanceRepository.save(performance);
-
-        List<Seat> seats = IntStream.range(1, request.getTotalSeats() + 1)
-                                    .boxed()
-                                    .map(i -> Seat.of("A-" + i, request.getPrice(), performance))
-                                    .toList();
-        seatRepository.saveAll(seats);
+                                                 request.getEndTime(),
+                                                 request.getOnSaleAt(),
+                                                 layoutId);
+        Long performanceId = performanceRepository.save(performance).getId();
+
+        // 템플릿 좌석은 DB 안에서 INSERT ... SELECT로 복사하고, 그 외에는 좌석 엔티티를 만들지 않고 multi-row INSERT로 저장
+        // (IDENTITY 전략은 Hibernate 배치 INSERT 불가)
+        int seatCount = layoutId != null ? seatRepository.copySeatsFromLayout(performanceId, layoutId)
+                                         : seatRepository.bulkInsertSeats(performanceId,
+                                                                          "A-",
+                                                                          request.getTotalSeats(),
+                                                                          request.getPrice());
+        performanceStatsRepository.initialize(performanceId, seatCount);
+        applicationEventPublisher.publishEvent(new PerformanceChangedEvent(this, performanceId));
+        performanceCatalogCache.evictPerformances();
     }
 
     /**
-     * 공연 목록을 조회합니다.
+     * 공연 목록을 조회합니다. 공연 정보와 좌석 현황을 각각 캐시에서 조회하여 합칩니다.
+     * 검색어가 있고 공연 검색 색인이 적재되어 있으면 FULLTEXT 검색 대신 색인에서 검색합니다.
      *
      * @param keyword  - 검색어
      * @param pageable - 페이징 객체
      * @return 공연 페이징 목록 응답 DTO
      */
+    @Transactional(propagation = SUPPORTS, readOnly = true) // 캐시 적중 시 DB 커넥션을 점유하지 않도록 트랜잭션을 시작하지 않음
     @Override
     public Page<PerformanceListResponse> getAllPerformances(final String keyword, final Pageable pageable) {
-        return performanceRepository.getPerformances(keyword, pageable);
+        Page<PerformanceListResponse> page = performanceCatalogCache.getPerformances(
+                keyword,
+                pageable,
+                () -> StringUtils.hasText(keyword) && performanceSearchIndex.isReady()
+                      ? performanceSearchIndex.search(keyword, pageable)
+                      : performanceRepository.getPerformances(keyword, pageable)
+        );
+        Map<Long, SeatCountValue> seatCounts = getSeatCounts(page.map(PerformanceListResponse::getId).getContent());
+        return page.map(response -> response.withSeatCount(seatCounts.get(response.getId())));
+    }
+
+    /**
+     * 공연 목록을 커서 기반으로 조회합니다. 전체 개수를 세지 않으므로 몇 번째 페이지든 같은 비용으로 조회됩니다.
+     *
+     * @param keyword  - 검색어
+     * @param cursor   - 이전 페이지 응답의 next_cursor (첫 페이지면 null)
+     * @param pageable - 페이징 객체 (페이지 크기와 첫 페이지의 정렬 조건만 사용)
+     * @return 공연 커서 페이징 목록 응답 DTO
+     */
+    @Override
+    public CursorSlice<PerformanceListResponse> scrollPerformances(final String keyword,
+                                                                   final String cursor,
+                                                                   final Pageable pageable) {
+        return performanceRepository.scrollPerformances(keyword,
+                                                        cursor == null || cursor.isBlank()
+                                                        ? null
+                                                        : PerformanceCursor.decode(cursor),
+                                                        pageable.getSort(),
+                                                        pageable.getPageSize());
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 공연 이름을 조회합니다. 초성(예: "ㅇㅇㅇ")이나 입력 중인 글자(예: "아잉")로도 조회됩니다.
+     *
+     * @param keyword - 입력 중인 검색어
+     * @param size    - 최대 응답 수
+     * @return 공연 이름 자동완성 응답 DTO 목록
+     */
+    @Transactional(propagation = SUPPORTS)  // 메모리의 색인만 조회하므로 트랜잭션을 시작하지 않음
+    @Override
+    public List<PerformanceSuggestionResponse> getSuggestions(final String keyword, final int size) {
+        if (!StringUtils.hasText(keyword)) return List.of();
+        return performanceAutocompleteIndex.suggest(keyword, size);
     }
 
     /**
-     * 공연 상세 정보를 조회합니다.
+     * 공연 상세 정보를 조회합니다. 공연 정보와 좌석 현황을 각각 캐시에서 조회하여 합칩니다.
      *
      * @param performanceId - 공연 ID
      * @return 공연 상세 정보 응답 DTO
      */
+    @Transactional(propagation = SUPPORTS, readOnly = true) // 캐시 적중 시 DB 커넥션을 점유하지 않도록 트랜잭션을 시작하지 않음
     @Override
     public PerformanceDetailResponse getPerformance(final Long performanceId) {
-        return performanceRepository.getPerformance(performanceId)
-                                    .orElseThrow(() -> new BusinessException(PERFORMANCE_NOT_FOUND));
+        PerformanceDetailResponse response = performanceCatalogCache.getPerformance(
+                performanceId,
+                () -> performanceRepository.getPerformance(performanceId)
+                                           .orElseThrow(() -> new BusinessException(PERFORMANCE_NOT_FOUND))
+        );
+        return response.withSeatCount(getSeatCounts(List.of(performanceId)).get(performanceId));
     }
 
     /**
@@ -102,6 +208,9 @@ public class PerformanceServiceImpl implements PerformanceService {
         performance.setVenue(request.getVenue());
         performance.setInfo(request.getInfo());
         performance.setPerformanceTime(request.getStartTime(), request.getEndTime());
+        performance.setOnSaleAt(request.getOnSaleAt());
+        applicationEventPublisher.publishEvent(new PerformanceChangedEvent(this, performanceId));
+        performanceCatalogCache.evictPerformance();
     }
 
     /**
@@ -116,7 +225,132 @@ public class PerformanceServiceImpl implements PerformanceService {
                                                              AVAILABLE)) // 이미 예매되거나 판매된 좌석이 하나라도 있다면 삭제 불가능
             throw new BusinessException(DELETE_NOT_ALLOWED_HAS_RESERVATION);
 
+        performanceStatsRepository.deleteByPerformanceId(performanceId);
         performanceRepository.deleteById(performanceId);
+        seatInventoryManager.evict(performanceId);
+        seatMapCache.invalidate(performanceId);
+        applicationEventPublisher.publishEvent(new PerformanceChangedEvent(this, performanceId));
+        performanceCatalogCache.evictPerformance();
+    }
+
+    /**
+     * 공연 좌석 재고를 Redis에 적재합니다. 재고는 공연 종료 후 일정 기간이 지나면 만료됩니다.
+     * 같은 공연의 재고를 여러 요청이 동시에 적재하려 해도 DB 조회는 한 번만 실행됩니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    @Transactional(propagation = SUPPORTS)  // 복제 지연으로 이미 팔린 좌석이 빈 좌석으로 적재되지 않도록 primary에서 조회
+    @Override
+    public void loadSeatInventory(final Long performanceId) {
+        seatInventoryManager.loadOnce(performanceId, () -> loadSeatInventoryFromDatabase(performanceId));
+    }
+
+    /**
+     * 공연 좌석 배치도를 조회합니다. 기준 버전이 주어지고 그 이후의 변경 이력이 남아 있다면 변경된 좌석만 응답하며,
+     * 그렇지 않으면 전체 좌석 스냅샷을 응답합니다. 전체 스냅샷은 버전이 바뀌기 전까지 재사용합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param sinceVersion  - 기준 버전
+     * @return 좌석 배치도 응답 DTO
+     */
+    @Transactional(propagation = SUPPORTS)  // 재고 적중 시 DB 커넥션을 점유하지 않고, 재고 적재 시에는 primary에서 조회
+    @Override
+    public SeatMapResponse getSeatMap(final Long performanceId, final Long sinceVersion) {
+        SeatMapResponse cached = seatMapCache.getIfPresent(performanceId);
+
+        SeatInventorySnapshot inventory;
+        try {
+            inventory = readSeatInventory(performanceId, sinceVersion, cached);
+            if (inventory == null) {
+                loadSeatInventory(performanceId);
+                inventory = readSeatInventory(performanceId, sinceVersion, cached);
+            }
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("좌석 재고 조회 실패, DB에서 좌석 배치도를 조회합니다. - performanceId: {}", performanceId, e);
+            return getSeatMapFromDatabase(performanceId);
+        }
+        if (inventory == null) return getSeatMapFromDatabase(performanceId);   // 좌석이 없는 공연
+
+        return switch (inventory.getType()) {
+            case UNCHANGED -> cached;
+            case DELTA -> SeatMapResponse.of(performanceId, inventory.getVersion(), false, inventory.getStatuses());
+            case FULL -> {
+                SeatMapResponse response = SeatMapResponse.of(performanceId,
+                                                              inventory.getVersion(),
+                                                              true,
+                                                              inventory.getStatuses());
+                seatMapCache.put(performanceId, response);
+                yield response;
+            }
+        };
+    }
+
+    /**
+     * 좌석 테이블에서 공연의 좌석 수를 다시 세어 좌석 현황 카운터를 맞춥니다. 카운터가 없는 공연은 카운터를 생성합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @return 카운터가 실제 좌석 수와 달라 보정되었는지 여부
+     */
+    @Transactional
+    @Override
+    public boolean reconcileSeatCounts(final Long performanceId) {
+        return performanceStatsRepository.reconcile(performanceId);
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * DB에서 공연 좌석 상태를 읽어 Redis 재고에 적재합니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    private void loadSeatInventoryFromDatabase(final Long performanceId) {
+        Performance performance = performanceRepository.findById(performanceId)
+                                                       .orElseThrow(() -> new BusinessException(PERFORMANCE_NOT_FOUND));
+
+        Map<Long, SeatStatus> statuses = seatRepository.findSeatStatusesByPerformanceId(performanceId)
+                                                       .stream()
+                                                       .collect(Collectors.toMap(SeatStatusValue::getSeatId,
+                                                                                 SeatStatusValue::getStatus));
+        Instant expireAt = performance.getEndTime()
+                                      .plusDays(REDIS_SEAT_INVENTORY_TTL_AFTER_DAYS)
+                                      .atZone(ZoneId.systemDefault())
+                                      .toInstant();
+
+        seatInventoryManager.load(performanceId, statuses, expireAt);
+    }
+
+    private Map<Long, SeatCountValue> getSeatCounts(final Collection<Long> performanceIds) {
+        return performanceCatalogCache.getSeatCounts(performanceIds,
+                                                     performanceStatsRepository::findSeatCountsByPerformanceIdIn);
+    }
+
+    private SeatInventorySnapshot readSeatInventory(final Long performanceId,
+                                                    final Long sinceVersion,
+                                                    final SeatMapResponse cached) {
+        return seatInventoryManager.getSnapshot(performanceId,
+                                                sinceVersion,
+                                                cached == null ? null : cached.getVersion());
+    }
+
+    /**
+     * DB에서 전체 좌석 스냅샷을 조회합니다. 재고 버전을 알 수 없으므로 버전 0으로 응답하여, 다음 요청에서 전체 스냅샷을 받도록 합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @return 좌석 배치도 응답 DTO
+     */
+    private SeatMapResponse getSeatMapFromDatabase(final Long performanceId) {
+        if (!performanceRepository.existsById(performanceId)) throw new BusinessException(PERFORMANCE_NOT_FOUND);
+
+        SortedMap<Long, SeatStatus> statuses = seatRepository.findSeatStatusesByPerformanceId(performanceId)
+                                                             .stream()
+                                                             .collect(Collectors.toMap(SeatStatusValue::getSeatId,
+                                                                                       SeatStatusValue::getStatus,
+                                                                                       (a, b) -> b,
+                                                                                       TreeMap::new));
+        return SeatMapResponse.of(performanceId, 0L, true, statuses);
     }
 
 }
@@ -0,0 +1,23 @@
+package com.example.demo.domain.performance.service;
+
+import com.example.demo.domain.performance.dto.VenueLayoutRequest.VenueLayoutCreateRequest;
+import com.example.demo.domain.performance.dto.VenueLayoutResponse.VenueLayoutDetailResponse;
+
+/**
+ * PackageName : com.example.demo.domain.performance.service
+ * FileName    : VenueLayoutService
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 배치 템플릿(VenueLayout) 서비스 인터페이스
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public interface VenueLayoutService {
+
+    Long createVenueLayout(VenueLayoutCreateRequest request);
+
+    VenueLayoutDetailResponse getVenueLayout(Long layoutId);
+
+}
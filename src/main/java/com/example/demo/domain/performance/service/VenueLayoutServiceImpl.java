@@ -0,0 +1,101 @@
+package com.example.demo.domain.performance.service;
+
+import static com.example.demo.common.response.ErrorCode.INVALID_VENUE_LAYOUT;
+import static com.example.demo.common.response.ErrorCode.VENUE_LAYOUT_NOT_FOUND;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dao.VenueLayoutRepository;
+import com.example.demo.domain.performance.dao.VenueLayoutSeatRepository;
+import com.example.demo.domain.performance.dto.VenueLayoutRequest.VenueLayoutBlockRequest;
+import com.example.demo.domain.performance.dto.VenueLayoutRequest.VenueLayoutCreateRequest;
+import com.example.demo.domain.performance.dto.VenueLayoutResponse.VenueLayoutDetailResponse;
+import com.example.demo.domain.performance.model.VenueLayout;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PackageName : com.example.demo.domain.performance.service
+ * FileName    : VenueLayoutServiceImpl
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 배치 템플릿(VenueLayout) 서비스 구현체
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class VenueLayoutServiceImpl implements VenueLayoutService {
+
+    private static final int MAX_LAYOUT_SEATS = 100_000;    // 템플릿 하나에 담을 수 있는 최대 좌석 수
+
+    private final VenueLayoutRepository     venueLayoutRepository;
+    private final VenueLayoutSeatRepository venueLayoutSeatRepository;
+
+    /**
+     * 좌석 배치 템플릿과 템플릿 좌석을 생성합니다. 구역 이름은 DB 콜레이션을 따라 대소문자와 끝 공백을 구분하지 않으므로,
+     * 검증에서 걸러지지 않은 좌석 위치 중복(악센트 차이 등)도 잘못된 템플릿으로 응답합니다.
+     *
+     * @param request - 좌석 배치 템플릿 생성 요청 DTO
+     * @return 생성된 좌석 배치 템플릿 ID
+     */
+    @Transactional
+    @Override
+    public Long createVenueLayout(final VenueLayoutCreateRequest request) {
+        int totalSeats = validateBlocks(request.getBlocks());
+
+        Long layoutId = venueLayoutRepository.save(VenueLayout.of(request.getName(), request.getVenue(), totalSeats))
+                                             .getId();
+        try {
+            venueLayoutSeatRepository.bulkInsertLayoutSeats(layoutId, request.getBlocks());
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(INVALID_VENUE_LAYOUT);
+        }
+        return layoutId;
+    }
+
+    /**
+     * 좌석 배치 템플릿을 조회합니다. 좌석은 열 단위로 요약하여 응답합니다.
+     *
+     * @param layoutId - 좌석 배치 템플릿 ID
+     * @return 좌석 배치 템플릿 상세 정보 응답 DTO
+     */
+    @Override
+    public VenueLayoutDetailResponse getVenueLayout(final Long layoutId) {
+        VenueLayout layout = venueLayoutRepository.findById(layoutId)
+                                                  .orElseThrow(() -> new BusinessException(VENUE_LAYOUT_NOT_FOUND));
+        return VenueLayoutDetailResponse.of(layout, venueLayoutSeatRepository.findRowsByLayoutId(layoutId));
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 같은 구역에서 열이 겹치는 블록이 없는지 검사하고, 전체 좌석 수를 계산합니다. 구역 이름은 대소문자와 앞뒤 공백을 무시하고
+     * 비교합니다.
+     *
+     * @param blocks - 좌석 블록 목록
+     * @return 전체 좌석 수
+     */
+    private int validateBlocks(final List<VenueLayoutBlockRequest> blocks) {
+        long totalSeats = 0;
+        for (int i = 0; i < blocks.size(); i++) {
+            VenueLayoutBlockRequest block = blocks.get(i);
+            for (int j = 0; j < i; j++) {
+                VenueLayoutBlockRequest other = blocks.get(j);
+                if (block.getSection().strip().equalsIgnoreCase(other.getSection().strip())
+                    && block.getStartRow() <= other.getEndRow()
+                    && other.getStartRow() <= block.getEndRow())
+                    throw new BusinessException(INVALID_VENUE_LAYOUT);
+            }
+            totalSeats += (long) (block.getEndRow() - block.getStartRow() + 1) * block.getSeatsPerRow();
+            if (totalSeats > MAX_LAYOUT_SEATS) throw new BusinessException(INVALID_VENUE_LAYOUT);
+        }
+        return (int) totalSeats;
+    }
+
+}
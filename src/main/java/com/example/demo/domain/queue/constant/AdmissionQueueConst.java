@@ -0,0 +1,23 @@
+package com.example.demo.domain.queue.constant;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.queue.constant
+ * FileName    : AdmissionQueueConst
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 입장 대기열 관련 상수
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@NoArgsConstructor(access = PRIVATE)
+public abstract class AdmissionQueueConst {
+
+    public static final String ADMISSION_TOKEN_HEADER_NAME = "X-Admission-Token";
+
+}
@@ -0,0 +1,81 @@
+package com.example.demo.domain.queue.controller;
+
+import static com.example.demo.common.response.SuccessCode.ADMISSION_QUEUE_ACTIVATE_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.ADMISSION_QUEUE_DEACTIVATE_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.ADMISSION_QUEUE_ENTER_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.ADMISSION_QUEUE_STATUS_READ_SUCCESS;
+
+import com.example.demo.common.response.ApiResponse;
+import com.example.demo.common.response.SuccessCode;
+import com.example.demo.common.security.model.CustomUserDetails;
+import com.example.demo.domain.queue.dto.AdmissionQueueResponse.AdmissionTokenResponse;
+import com.example.demo.domain.queue.service.AdmissionQueueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * PackageName : com.example.demo.domain.queue.controller
+ * FileName    : AdmissionQueueController
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 입장 대기열 컨트롤러
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@RestController
+@RequestMapping("/api/v1/admission-queues")
+@RequiredArgsConstructor
+@Tag(name = "입장 대기열 API", description = "공연 예약 입장 대기열 진입, 대기 상태 조회, 대기열 활성화 API를 제공합니다.")
+public class AdmissionQueueController {
+
+    private final AdmissionQueueService admissionQueueService;
+
+    @PostMapping("/{performanceId}")
+    @Operation(summary = "입장 대기열 진입", description = "공연의 입장 대기열에 진입하고 입장 토큰을 발급받습니다.")
+    public ResponseEntity<ApiResponse<AdmissionTokenResponse>> enterQueue(
+            @AuthenticationPrincipal final CustomUserDetails userDetails,
+            @PathVariable("performanceId") @Min(1) final Long id
+    ) {
+        AdmissionTokenResponse responseData = admissionQueueService.enterQueue(userDetails.getId(), id);
+        final SuccessCode successCode = ADMISSION_QUEUE_ENTER_SUCCESS;
+        return ResponseEntity.status(successCode.getStatus()).body(ApiResponse.success(successCode, responseData));
+    }
+
+    @GetMapping("/{performanceId}")
+    @Operation(summary = "입장 대기 상태 조회",
+               description = "입장 대기 순번과 입장 여부를 조회합니다. poll_after_millis 이후에 다시 조회합니다.")
+    public ResponseEntity<ApiResponse<AdmissionTokenResponse>> getQueueStatus(
+            @AuthenticationPrincipal final CustomUserDetails userDetails,
+            @PathVariable("performanceId") @Min(1) final Long id
+    ) {
+        AdmissionTokenResponse responseData = admissionQueueService.getQueueStatus(userDetails.getId(), id);
+        return ResponseEntity.ok(ApiResponse.success(ADMISSION_QUEUE_STATUS_READ_SUCCESS, responseData));
+    }
+
+    @PostMapping("/{performanceId}/activation")
+    @Operation(summary = "입장 대기열 활성화", description = "공연의 입장 대기열을 활성화합니다.")
+    public ResponseEntity<ApiResponse<Void>> activateQueue(@PathVariable("performanceId") @Min(1) final Long id) {
+        admissionQueueService.activateQueue(id);
+        return ResponseEntity.ok(ApiResponse.success(ADMISSION_QUEUE_ACTIVATE_SUCCESS));
+    }
+
+    @DeleteMapping("/{performanceId}/activation")
+    @Operation(summary = "입장 대기열 비활성화", description = "공연의 입장 대기열을 비활성화하고 대기 정보를 삭제합니다.")
+    public ResponseEntity<ApiResponse<Void>> deactivateQueue(@PathVariable("performanceId") @Min(1) final Long id) {
+        admissionQueueService.deactivateQueue(id);
+        return ResponseEntity.ok(ApiResponse.success(ADMISSION_QUEUE_DEACTIVATE_SUCCESS));
+    }
+
+}
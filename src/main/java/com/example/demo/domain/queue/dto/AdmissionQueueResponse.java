@@ -0,0 +1,47 @@
+package com.example.demo.domain.queue.dto;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.example.demo.domain.queue.model.AdmissionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.queue.dto
+ * FileName    : AdmissionQueueResponse
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 입장 대기열 도메인 응답 DTO
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@NoArgsConstructor(access = PRIVATE)
+@Schema(name = "입장 대기열 도메인 응답 DTO")
+public abstract class AdmissionQueueResponse {
+
+    @Getter
+    @RequiredArgsConstructor
+    @Schema(name = "입장 대기 상태 응답 DTO")
+    public static class AdmissionTokenResponse {
+
+        @Schema(description = "공연 ID")
+        private final Long            performanceId;
+        @Schema(description = "입장 토큰, 예약 및 결제 요청 시 X-Admission-Token 헤더로 전달")
+        private final String          token;
+        @Schema(description = "입장 대기 상태")
+        private final AdmissionStatus status;
+        @Schema(description = "대기 순번 (1부터 시작, 입장한 경우 0)")
+        private final long            position;
+        @Schema(description = "다음 상태 조회까지 권장 대기 시간(ms)")
+        private final long            pollAfterMillis;
+        @Schema(description = "입장 만료 일시 (입장한 경우에만 존재)")
+        private final LocalDateTime   expiredAt;
+
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.example.demo.domain.queue.model;
+
+/**
+ * PackageName : com.example.demo.domain.queue.model
+ * FileName    : AdmissionStatus
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 입장 대기 상태
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public enum AdmissionStatus {
+    WAITING,    // 입장 대기
+    ADMITTED    // 입장 완료, 예약 가능
+}
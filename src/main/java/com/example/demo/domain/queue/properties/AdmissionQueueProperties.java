@@ -0,0 +1,39 @@
+package com.example.demo.domain.queue.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * PackageName : com.example.demo.domain.queue.properties
+ * FileName    : AdmissionQueueProperties
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 입장 대기열 설정
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "admission-queue")
+@Getter
+public class AdmissionQueueProperties {
+
+    private final long admitIntervalMillis;     // 입장 처리 주기
+    private final int  admitBatchSize;          // 입장 처리 주기마다 입장시킬 인원
+    private final int  maxAdmittedCount;        // 동시에 입장해 있을 수 있는 최대 인원
+    private final long admittedTtlSeconds;      // 입장 후 예약, 결제 요청을 할 수 있는 시간
+
+    @ConstructorBinding
+    public AdmissionQueueProperties(@DefaultValue("1000") final long admitIntervalMillis,
+                                    @DefaultValue("100") final int admitBatchSize,
+                                    @DefaultValue("1000") final int maxAdmittedCount,
+                                    @DefaultValue("600") final long admittedTtlSeconds) {
+        this.admitIntervalMillis = admitIntervalMillis;
+        this.admitBatchSize = admitBatchSize;
+        this.maxAdmittedCount = maxAdmittedCount;
+        this.admittedTtlSeconds = admittedTtlSeconds;
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.example.demo.domain.queue.scheduler;
+
+import com.example.demo.domain.queue.service.AdmissionQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.queue.scheduler
+ * FileName    : AdmissionQueueScheduler
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 입장 대기열 입장 처리 스케줄러
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionQueueScheduler {
+
+    private final AdmissionQueueService admissionQueueService;
+
+    @Scheduled(fixedDelayString = "${admission-queue.admit-interval-millis:1000}")
+    public void admitWaitingAccounts() {
+        admissionQueueService.admitWaitingAccounts();
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.example.demo.domain.queue.service;
+
+import com.example.demo.domain.queue.dto.AdmissionQueueResponse.AdmissionTokenResponse;
+import java.util.UUID;
+
+/**
+ * PackageName : com.example.demo.domain.queue.service
+ * FileName    : AdmissionQueueService
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 입장 대기열 서비스 인터페이스
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public interface AdmissionQueueService {
+
+    void activateQueue(Long performanceId);
+
+    void deactivateQueue(Long performanceId);
+
+    AdmissionTokenResponse enterQueue(UUID accountId, Long performanceId);
+
+    AdmissionTokenResponse getQueueStatus(UUID accountId, Long performanceId);
+
+    void validateAdmission(UUID accountId, Long performanceId, String admissionToken);
+
+    void admitWaitingAccounts();
+
+}
@@ -0,0 +1,190 @@
+package com.example.demo.domain.queue.service;
+
+import static com.example.demo.common.response.ErrorCode.ADMISSION_QUEUE_NOT_ACTIVE;
+import static com.example.demo.common.response.ErrorCode.ADMISSION_REQUIRED;
+import static com.example.demo.common.response.ErrorCode.ADMISSION_TOKEN_NOT_FOUND;
+import static com.example.demo.common.response.ErrorCode.PERFORMANCE_NOT_FOUND;
+import static com.example.demo.domain.queue.model.AdmissionStatus.ADMITTED;
+import static com.example.demo.domain.queue.model.AdmissionStatus.WAITING;
+import static com.example.demo.infra.redis.queue.AdmissionQueueManager.ADMIT_QUEUE_EXPIRED;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.model.Performance;
+import com.example.demo.domain.queue.dto.AdmissionQueueResponse.AdmissionTokenResponse;
+import com.example.demo.domain.queue.properties.AdmissionQueueProperties;
+import com.example.demo.infra.redis.queue.AdmissionQueueManager;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * PackageName : com.example.demo.domain.queue.service
+ * FileName    : AdmissionQueueServiceImpl
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 입장 대기열 서비스 구현체
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionQueueServiceImpl implements AdmissionQueueService {
+
+    private static final long MAX_POLL_AFTER_MILLIS = 10_000L;  // 대기 순번이 많이 남아도 상태 조회 간격은 최대 10초
+
+    private final PerformanceRepository    performanceRepository;
+    private final AdmissionQueueManager    admissionQueueManager;
+    private final AdmissionQueueProperties admissionQueueProperties;
+
+    /**
+     * 공연의 입장 대기열을 활성화합니다. 대기열 정보는 공연 종료 시각에 만료됩니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    @Override
+    public void activateQueue(final Long performanceId) {
+        Performance performance = performanceRepository.findById(performanceId)
+                                                       .orElseThrow(() -> new BusinessException(PERFORMANCE_NOT_FOUND));
+        long expireAt = performance.getEndTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        admissionQueueManager.activate(performanceId, expireAt);
+    }
+
+    /**
+     * 공연의 입장 대기열을 비활성화합니다. 대기 중이거나 입장한 계정 정보도 함께 삭제됩니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    @Override
+    public void deactivateQueue(final Long performanceId) {
+        admissionQueueManager.deactivate(performanceId);
+    }
+
+    /**
+     * 공연의 입장 대기열에 진입합니다. 이미 진입한 계정은 기존 대기 상태를 반환합니다.
+     *
+     * @param accountId     - 계정 ID
+     * @param performanceId - 공연 ID
+     * @return 입장 대기 상태 응답 DTO
+     */
+    @Override
+    public AdmissionTokenResponse enterQueue(final UUID accountId, final Long performanceId) {
+        if (!admissionQueueManager.isActive(performanceId)) throw new BusinessException(ADMISSION_QUEUE_NOT_ACTIVE);
+
+        String token = admissionQueueManager.enter(performanceId, accountId, System.currentTimeMillis());
+        return getTokenStatus(performanceId, token);
+    }
+
+    /**
+     * 계정의 입장 대기 상태를 조회합니다.
+     *
+     * @param accountId     - 계정 ID
+     * @param performanceId - 공연 ID
+     * @return 입장 대기 상태 응답 DTO
+     */
+    @Override
+    public AdmissionTokenResponse getQueueStatus(final UUID accountId, final Long performanceId) {
+        String token = admissionQueueManager.getToken(performanceId, accountId)
+                                            .orElseThrow(() -> new BusinessException(ADMISSION_TOKEN_NOT_FOUND));
+        return getTokenStatus(performanceId, token);
+    }
+
+    /**
+     * 계정이 공연 예약에 접근할 수 있는지 검증합니다. 입장 대기열이 비활성화된 공연은 검증하지 않습니다.
+     * Redis 장애 시에는 예약 자체를 막지 않도록 검증을 생략합니다.
+     *
+     * @param accountId      - 계정 ID
+     * @param performanceId  - 공연 ID
+     * @param admissionToken - 입장 토큰
+     */
+    @Override
+    public void validateAdmission(final UUID accountId, final Long performanceId, final String admissionToken) {
+        boolean admitted;
+        try {
+            admitted = admissionQueueManager.isAdmitted(performanceId,
+                                                        accountId,
+                                                        admissionToken,
+                                                        System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("입장 토큰 검증 실패, 검증 생략 - performanceId: {}, accountId: {}", performanceId, accountId, e);
+            return;
+        }
+
+        if (!admitted) throw new BusinessException(ADMISSION_REQUIRED);
+    }
+
+    /**
+     * 입장 대기열이 활성화된 공연마다 대기 중인 계정을 설정된 인원만큼 입장시킵니다. 공연 종료 시각이 지난 대기열은 비활성화합니다.
+     */
+    @Override
+    public void admitWaitingAccounts() {
+        for (Long performanceId : admissionQueueManager.getActivePerformanceIds())
+            try {
+                long admitted = admissionQueueManager.admit(performanceId,
+                                                            System.currentTimeMillis(),
+                                                            admissionQueueProperties.getAdmitBatchSize(),
+                                                            admissionQueueProperties.getMaxAdmittedCount(),
+                                                            admissionQueueProperties.getAdmittedTtlSeconds() * 1000L,
+                                                            admissionQueueProperties.getAdmitIntervalMillis());
+                if (admitted == ADMIT_QUEUE_EXPIRED) {
+                    admissionQueueManager.deactivate(performanceId);
+                    log.info("공연 종료로 입장 대기열 비활성화 - performanceId: {}", performanceId);
+                    continue;
+                }
+                if (admitted > 0) log.debug("입장 처리 - performanceId: {}, 입장 인원: {}", performanceId, admitted);
+            } catch (Exception e) {
+                log.error("입장 처리 중 오류 발생 - performanceId: {}", performanceId, e);
+            }
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 입장 토큰의 대기 상태를 조회합니다. 대기열에서 입장 목록으로의 이동은 원자적으로 처리되므로
+     * 대기열을 먼저 확인한 뒤 입장 목록을 확인합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param token         - 입장 토큰
+     * @return 입장 대기 상태 응답 DTO
+     */
+    private AdmissionTokenResponse getTokenStatus(final Long performanceId, final String token) {
+        Optional<Long> rank = admissionQueueManager.getWaitingRank(performanceId, token);
+        if (rank.isPresent()) {
+            long position = rank.get() + 1;
+            return new AdmissionTokenResponse(performanceId,
+                                              token,
+                                              WAITING,
+                                              position,
+                                              getPollAfterMillis(position),
+                                              null);
+        }
+
+        long expireAt = admissionQueueManager.getAdmittedExpireAt(performanceId, token)
+                                             .filter(expire -> expire > System.currentTimeMillis())
+                                             .orElseThrow(() -> new BusinessException(ADMISSION_TOKEN_NOT_FOUND));
+        LocalDateTime expiredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(expireAt), ZoneId.systemDefault());
+        return new AdmissionTokenResponse(performanceId, token, ADMITTED, 0L, 0L, expiredAt);
+    }
+
+    /**
+     * 대기 순번에 따라 다음 상태 조회까지의 권장 대기 시간을 계산합니다.
+     * 입장 예상 시점의 절반 정도 뒤에 다시 조회하도록 하여 대기 인원이 많을 때 상태 조회 요청이 몰리지 않도록 합니다.
+     *
+     * @param position - 대기 순번
+     * @return 권장 대기 시간(ms)
+     */
+    private long getPollAfterMillis(final long position) {
+        long interval       = admissionQueueProperties.getAdmitIntervalMillis();
+        long expectedMillis = (position / Math.max(1, admissionQueueProperties.getAdmitBatchSize())) * interval;
+        return Math.min(MAX_POLL_AFTER_MILLIS, Math.max(interval, expectedMillis / 2));
+    }
+
+}
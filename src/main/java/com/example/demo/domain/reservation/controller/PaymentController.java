@@ -2,8 +2,11 @@ package com.example.demo.domain.reservation.controller;
 
 import static com.example.demo.common.response.SuccessCode.PAYMENT_REFUND_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PAYMENT_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.PAYMENT_VERIFICATION_ACCEPTED;
+import static com.example.demo.common.response.SuccessCode.PAYMENT_VERIFICATION_STATUS_READ_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PRE_PAYMENT_SAVE_SUCCESS;
 import static com.example.demo.common.util.CommonUtils.getClientIpAddress;
+import static com.example.demo.domain.queue.constant.AdmissionQueueConst.ADMISSION_TOKEN_HEADER_NAME;
 
 import com.example.demo.common.response.ApiResponse;
 import com.example.demo.common.response.SuccessCode;
@@ -11,17 +14,23 @@ import com.example.demo.common.security.model.CustomUserDetails;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PaymentCancelRequest;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PaymentCompleteRequest;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PrePaymentRequest;
+import com.example.demo.domain.reservation.dto.PaymentResponse.PaymentVerificationResponse;
 import com.example.demo.domain.reservation.dto.PaymentResponse.PrePaymentInfoResponse;
 import com.example.demo.domain.reservation.facade.ReservationFacade;
+import com.example.demo.domain.reservation.verification.AsyncPaymentVerifier;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -42,17 +51,20 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "결제 API", description = "PG사 결제 전 서버에 결제 정보 사전 저장, 결제 정보 검증 후 최종 승인 API를 제공합니다.")
 public class PaymentController {
 
-    private final ReservationFacade reservationFacade;
+    private final ReservationFacade    reservationFacade;
+    private final AsyncPaymentVerifier asyncPaymentVerifier;
 
     @PostMapping("/prepare")
     @Operation(summary = "검증용 결제 정보 사전 저장", description = "PG사 결제 전 서버에 검증용 결제 정보를 저장하고, PG사 결제 ID를 발급받습니다.")
     public ResponseEntity<ApiResponse<PrePaymentInfoResponse>> savePrePayment(
             @AuthenticationPrincipal final CustomUserDetails userDetails,
             @Valid @RequestBody final PrePaymentRequest request,
+            @RequestHeader(value = ADMISSION_TOKEN_HEADER_NAME, required = false) final String admissionToken,
             final HttpServletRequest req
     ) {
         PrePaymentInfoResponse responseData = reservationFacade.savePrePayment(userDetails.getId(),
                                                                                request,
+                                                                               admissionToken,
                                                                                getClientIpAddress(req));
         final SuccessCode successCode = PRE_PAYMENT_SAVE_SUCCESS;
         return ResponseEntity.status(successCode.getStatus()).body(ApiResponse.success(successCode, responseData));
@@ -70,6 +82,34 @@ public class PaymentController {
         return ResponseEntity.status(successCode.getStatus()).body(ApiResponse.success(successCode));
     }
 
+    @PostMapping("/complete/async")
+    @Operation(summary = "결제 검증 비동기 요청",
+               description = "PG사 결제 성공 후 서버에 검증을 접수하고 즉시 202를 반환합니다. "
+                             + "검증 결과는 결제 검증 상태 조회 API로 poll_after_millis 간격으로 확인합니다.")
+    public ResponseEntity<ApiResponse<PaymentVerificationResponse>> completePaymentAsync(
+            @AuthenticationPrincipal final CustomUserDetails userDetails,
+            @Valid @RequestBody final PaymentCompleteRequest request,
+            final HttpServletRequest req
+    ) {
+        PaymentVerificationResponse responseData = asyncPaymentVerifier.submit(userDetails.getId(),
+                                                                                request.getPaymentId(),
+                                                                                getClientIpAddress(req));
+        final SuccessCode successCode = PAYMENT_VERIFICATION_ACCEPTED;
+        return ResponseEntity.status(successCode.getStatus()).body(ApiResponse.success(successCode, responseData));
+    }
+
+    @GetMapping("/verifications/{paymentId}")
+    @Operation(summary = "결제 검증 상태 조회",
+               description = "비동기로 요청한 결제 검증의 진행 상태와 결과를 조회합니다. "
+                             + "검증을 시작하지 못했거나 일시적인 오류로 실패한 요청은 삭제되므로, 찾을 수 없으면 검증을 다시 요청합니다.")
+    public ResponseEntity<ApiResponse<PaymentVerificationResponse>> getPaymentVerification(
+            @AuthenticationPrincipal final CustomUserDetails userDetails,
+            @PathVariable("paymentId") @NotBlank final String paymentId
+    ) {
+        PaymentVerificationResponse responseData = asyncPaymentVerifier.getStatus(userDetails.getId(), paymentId);
+        return ResponseEntity.ok(ApiResponse.success(PAYMENT_VERIFICATION_STATUS_READ_SUCCESS, responseData));
+    }
+
     @PostMapping("/refund")
     @Operation(summary = "결제 취소", description = "클라이언트가 결제 내역을 취소하고 환불 받는 기능을 제공합니다.")
     public ResponseEntity<ApiResponse<Void>> refundPayment(
@@ -2,16 +2,22 @@ package com.example.demo.domain.reservation.controller;
 
 import static com.example.demo.common.response.SuccessCode.RESERVATION_CANCEL_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.RESERVATION_CREATE_SUCCESS;
+import static com.example.demo.domain.queue.constant.AdmissionQueueConst.ADMISSION_TOKEN_HEADER_NAME;
 
 import com.example.demo.common.response.ApiResponse;
 import com.example.demo.common.response.SuccessCode;
 import com.example.demo.common.security.model.CustomUserDetails;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationBulkCreateRequest;
 import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationCreateRequest;
+import com.example.demo.domain.reservation.facade.ReservationFacade;
+import com.example.demo.domain.reservation.mailbox.SeatHoldForwarder;
 import com.example.demo.domain.reservation.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,6 +25,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -40,14 +47,37 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationFacade  reservationFacade;
+    private final SeatHoldForwarder  seatHoldForwarder;
 
     @PostMapping
     @Operation(summary = "좌석 예약", description = "공연 좌석을 예약합니다.")
     public ResponseEntity<ApiResponse<Void>> reserveSeat(
             @AuthenticationPrincipal final CustomUserDetails userDetails,
-            @Valid @RequestBody final ReservationCreateRequest request
+            @Valid @RequestBody final ReservationCreateRequest request,
+            @RequestHeader(value = ADMISSION_TOKEN_HEADER_NAME, required = false) final String admissionToken,
+            final HttpServletRequest httpRequest
     ) {
-        reservationService.reserveSeat(userDetails.getId(), request);
+        Optional<String> ownerNode = findSeatHoldOwnerNode(httpRequest, request.getPerformanceId());
+        if (ownerNode.isPresent()) return seatHoldForwarder.forward(ownerNode.get(), httpRequest, request);
+
+        reservationFacade.reserveSeat(userDetails.getId(), request, admissionToken);
+        final SuccessCode successCode = RESERVATION_CREATE_SUCCESS;
+        return ResponseEntity.status(successCode.getStatus()).body(ApiResponse.success(successCode));
+    }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "다중 좌석 예약", description = "공연 좌석 여러 개를 한 번에 예약합니다. 모든 좌석이 예약되거나, 아무것도 예약되지 않습니다.")
+    public ResponseEntity<ApiResponse<Void>> reserveSeats(
+            @AuthenticationPrincipal final CustomUserDetails userDetails,
+            @Valid @RequestBody final ReservationBulkCreateRequest request,
+            @RequestHeader(value = ADMISSION_TOKEN_HEADER_NAME, required = false) final String admissionToken,
+            final HttpServletRequest httpRequest
+    ) {
+        Optional<String> ownerNode = findSeatHoldOwnerNode(httpRequest, request.getPerformanceId());
+        if (ownerNode.isPresent()) return seatHoldForwarder.forward(ownerNode.get(), httpRequest, request);
+
+        reservationFacade.reserveSeats(userDetails.getId(), request, admissionToken);
         final SuccessCode successCode = RESERVATION_CREATE_SUCCESS;
         return ResponseEntity.status(successCode.getStatus()).body(ApiResponse.success(successCode));
     }
@@ -62,4 +92,19 @@ public class ReservationController {
         return ResponseEntity.ok(ApiResponse.success(RESERVATION_CANCEL_SUCCESS));
     }
 
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 단일 작성자 전략을 사용하는 공연의 담당 노드를 조회합니다. 다른 노드에서 전달받은 요청은 노드 목록이 바뀌는 도중에도
+     * 노드 사이를 오가지 않도록 현재 노드에서 처리하며, 전달 헤더의 서명이 유효한 요청만 전달받은 요청으로 봅니다.
+     *
+     * @param httpRequest   - HTTP 요청
+     * @param performanceId - 공연 ID
+     * @return 담당 노드의 기본 URL (현재 노드에서 처리할 수 있으면 빈 값)
+     */
+    private Optional<String> findSeatHoldOwnerNode(final HttpServletRequest httpRequest, final Long performanceId) {
+        if (seatHoldForwarder.isForwarded(httpRequest)) return Optional.empty();
+        return reservationFacade.findSeatHoldOwnerNode(performanceId);
+    }
+
 }
@@ -1,11 +1,18 @@
 package com.example.demo.domain.reservation.dao;
 
+import com.example.demo.domain.performance.model.SeatStatus;
+import com.example.demo.domain.reservation.dto.ExpiredReservationValue;
 import com.example.demo.domain.reservation.model.Reservation;
 import com.example.demo.domain.reservation.model.ReservationId;
 import com.example.demo.domain.reservation.model.ReservationStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * PackageName : com.example.demo.domain.reservation.dao
@@ -20,6 +27,26 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface ReservationRepository extends JpaRepository<Reservation, ReservationId>, ReservationRepositoryCustom {
 
-    List<Reservation> findByStatusAndExpiredAtBefore(ReservationStatus status, LocalDateTime now);
+    @Query("SELECT new com.example.demo.domain.reservation.dto.ExpiredReservationValue("
+           + "r.seatId, s.performance.id, r.expiredAt) "
+           + "FROM Reservation r JOIN r.seat s "
+           + "WHERE r.status = :status AND r.expiredAt < :now AND r.expiredAt >= :lastExpiredAt "
+           + "AND (r.expiredAt > :lastExpiredAt OR r.seatId > :lastSeatId) "
+           + "ORDER BY r.expiredAt, r.seatId")
+    List<ExpiredReservationValue> findExpiredReservations(@Param("status") ReservationStatus status,
+                                                          @Param("now") LocalDateTime now,
+                                                          @Param("lastExpiredAt") LocalDateTime lastExpiredAt,
+                                                          @Param("lastSeatId") Long lastSeatId,
+                                                          Limit limit);   // (만료 시간, 좌석 ID) 기준 키셋 페이징
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :cancelled "
+           + "WHERE r.seatId IN :seatIds AND r.status = :pending AND r.expiredAt < :now "
+           + "AND r.seatId IN (SELECT s.id FROM Seat s WHERE s.id IN :seatIds AND s.status = :available)")
+    int cancelExpiredReservations(@Param("seatIds") Collection<Long> seatIds,
+                                  @Param("now") LocalDateTime now,
+                                  @Param("pending") ReservationStatus pending,
+                                  @Param("cancelled") ReservationStatus cancelled,
+                                  @Param("available") SeatStatus available);   // 좌석이 반환된 예약만 취소
 
 }
@@ -0,0 +1,32 @@
+package com.example.demo.domain.reservation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.dto
+ * FileName    : ExpiredReservationValue
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 임시 점유 시간이 지난 예약 (만료 예약 일괄 정리용)
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExpiredReservationValue {
+
+    @Schema(description = "좌석 ID")
+    private final Long          seatId;
+
+    @Schema(description = "공연 ID")
+    private final Long          performanceId;
+
+    @Schema(description = "임시 점유 만료 시간")
+    private final LocalDateTime expiredAt;
+
+}
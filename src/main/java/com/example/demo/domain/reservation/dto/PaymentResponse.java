@@ -2,6 +2,7 @@ package com.example.demo.domain.reservation.dto;
 
 import static lombok.AccessLevel.PRIVATE;
 
+import com.example.demo.domain.reservation.model.PaymentVerificationStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import lombok.Getter;
@@ -43,4 +44,22 @@ public abstract class PaymentResponse {
 
     }
 
+    @Getter
+    @RequiredArgsConstructor
+    @Schema(name = "결제 검증 상태 응답 DTO")
+    public static class PaymentVerificationResponse {
+
+        @Schema(description = "PG사 결제 ID, 검증 상태 조회 시 사용")
+        private final String                    paymentKey;
+        @Schema(description = "결제 검증 상태")
+        private final PaymentVerificationStatus status;
+        @Schema(description = "검증 실패 에러 코드 (실패한 경우에만 존재)")
+        private final String                    errorCode;
+        @Schema(description = "검증 실패 메시지 (실패한 경우에만 존재)")
+        private final String                    errorMessage;
+        @Schema(description = "다음 상태 조회까지 권장 대기 시간(ms), 검증이 끝난 경우 0")
+        private final long                      pollAfterMillis;
+
+    }
+
 }
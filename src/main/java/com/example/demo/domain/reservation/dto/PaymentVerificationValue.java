@@ -0,0 +1,40 @@
+package com.example.demo.domain.reservation.dto;
+
+import com.example.demo.domain.reservation.model.PaymentVerificationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.dto
+ * FileName    : PaymentVerificationValue
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 비동기 결제 검증 상태 기록
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "비동기 결제 검증 상태")
+public class PaymentVerificationValue implements Serializable {
+
+    @Schema(description = "검증을 요청한 계정 ID")
+    private UUID accountId;
+
+    @Schema(description = "결제 검증 상태")
+    private PaymentVerificationStatus status;
+
+    @Schema(description = "검증 실패 에러 코드 (실패한 경우에만 존재)")
+    private String errorCode;
+
+    @Schema(description = "검증 실패 메시지 (실패한 경우에만 존재)")
+    private String errorMessage;
+
+}
@@ -4,6 +4,10 @@ import static lombok.AccessLevel.PRIVATE;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -29,10 +33,33 @@ public abstract class ReservationRequest {
     @Schema(name = "예약 생성 요청 DTO")
     public static class ReservationCreateRequest {
 
+        @NotNull
+        @Min(value = 1, message = "공연 ID는 1 이상이어야 합니다.")
+        @Schema(description = "공연 ID")
+        private Long performanceId;
+
         @Min(value = 1, message = "좌석 ID는 1 이상이어야 합니다.")
         @Schema(description = "좌석 ID")
         private long seatId;
 
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "다중 좌석 예약 생성 요청 DTO")
+    public static class ReservationBulkCreateRequest {
+
+        @NotNull
+        @Min(value = 1, message = "공연 ID는 1 이상이어야 합니다.")
+        @Schema(description = "공연 ID")
+        private Long performanceId;
+
+        @NotEmpty(message = "좌석 ID 목록은 필수입니다.")
+        @Size(max = 10, message = "한 번에 예약할 수 있는 좌석은 최대 10개입니다.")
+        @Schema(description = "좌석 ID 목록")
+        private List<@NotNull @Min(value = 1, message = "좌석 ID는 1 이상이어야 합니다.") Long> seatIds;
+
+    }
+
 }
@@ -0,0 +1,27 @@
+package com.example.demo.domain.reservation.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.dto
+ * FileName    : SeatHoldCommand
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 선점 요청 (단일 작성자 메일박스 일괄 처리용)
+ *               같은 계정이 같은 좌석을 다시 요청하더라도 서로 다른 요청으로 처리되도록 equals를 재정의하지 않습니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatHoldCommand {
+
+    private final UUID       accountId;     // 예약할 계정 ID
+    private final List<Long> seatIds;       // 중복 없이 오름차순 정렬된 좌석 ID 목록
+
+}
@@ -1,28 +1,48 @@
 package com.example.demo.domain.reservation.facade;
 
+import static com.example.demo.common.response.ErrorCode.SEAT_ALREADY_RESERVED;
+import static com.example.demo.common.response.ErrorCode.SEAT_ALREADY_SOLD;
+import static com.example.demo.common.response.ErrorCode.SEAT_NOT_FOUND;
 import static com.example.demo.common.util.DateUtils.convertUnixToLocalDateTime;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.SINGLE_WRITER;
 
 import com.example.demo.common.error.BusinessException;
 import com.example.demo.domain.account.model.Account;
 import com.example.demo.domain.account.service.AccountService;
 import com.example.demo.domain.performance.model.Performance;
 import com.example.demo.domain.performance.model.Seat;
+import com.example.demo.domain.performance.sale.OnSaleGate;
+import com.example.demo.domain.performance.service.PerformanceService;
+import com.example.demo.domain.queue.service.AdmissionQueueService;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PaymentCancelRequest;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PrePaymentRequest;
 import com.example.demo.domain.reservation.dto.PaymentResponse.PrePaymentInfoResponse;
 import com.example.demo.domain.reservation.dto.PaymentVerifyCommand;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationBulkCreateRequest;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationCreateRequest;
+import com.example.demo.domain.reservation.mailbox.SeatHoldMailboxRouter;
 import com.example.demo.domain.reservation.model.Payment;
 import com.example.demo.domain.reservation.model.Reservation;
 import com.example.demo.domain.reservation.service.PaymentService;
 import com.example.demo.domain.reservation.service.ReservationService;
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyResolver;
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyType;
 import com.example.demo.infra.payment.portone.client.PortOnePGPaymentApiClient;
 import com.example.demo.infra.payment.portone.dto.PortOneCancelPaymentApiRequest;
 import com.example.demo.infra.payment.portone.dto.PortOnePaymentApiRequest;
+import com.example.demo.infra.redis.inventory.SeatHoldResult;
+import com.example.demo.infra.redis.inventory.SeatInventoryManager;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * PackageName : com.example.demo.domain.reservation.facade
@@ -40,11 +60,21 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ReservationFacade {
 
+    private static final int MAX_RESERVE_ATTEMPTS = 3;    // 일시적인 동시성 오류 시 DB 예약 저장 최대 시도 횟수
+
     private final ReservationService reservationService;
     private final PaymentService     paymentService;
     private final AccountService     accountService;
+    private final PerformanceService performanceService;
+
+    private final AdmissionQueueService admissionQueueService;
+    private final OnSaleGate            onSaleGate;
 
+    private final SeatInventoryManager      seatInventoryManager;
+    private final SeatHoldStrategyResolver  seatHoldStrategyResolver;
+    private final SeatHoldMailboxRouter     seatHoldMailboxRouter;
     private final PortOnePGPaymentApiClient portOneApiClient;
+    private final TransactionTemplate       transactionTemplate;
 
     /**
      * 결제 검증 실패 사유를 반환합니다.
@@ -65,17 +95,69 @@ public class ReservationFacade {
         return reason;
     }
 
+    /**
+     * 좌석을 예약합니다. Redis 좌석 재고에서 먼저 좌석을 선점하고, 선점에 성공한 요청만 DB에 예약을 저장합니다.
+     * 선점에 실패한 요청은 DB 커넥션을 사용하지 않고 즉시 거절됩니다.
+     *
+     * @param accountId      - 계정 ID
+     * @param request        - 좌석 예약 요청 DTO
+     * @param admissionToken - 입장 토큰 (입장 대기열이 활성화된 공연만 필요)
+     */
+    public void reserveSeat(final UUID accountId,
+                            final ReservationCreateRequest request,
+                            final String admissionToken) {
+        reserve(accountId,
+                request.getPerformanceId(),
+                List.of(request.getSeatId()),
+                admissionToken,
+                strategyType -> reservationService.reserveSeat(accountId, request, strategyType));
+    }
+
+    /**
+     * 여러 좌석을 한 번에 예약합니다. Redis 좌석 재고에서 모든 좌석을 원자적으로 선점한 뒤,
+     * 한 트랜잭션에서 예약을 일괄 저장합니다. 하나라도 선점할 수 없으면 아무것도 예약하지 않습니다.
+     *
+     * @param accountId      - 계정 ID
+     * @param request        - 다중 좌석 예약 요청 DTO
+     * @param admissionToken - 입장 토큰 (입장 대기열이 활성화된 공연만 필요)
+     */
+    public void reserveSeats(final UUID accountId,
+                             final ReservationBulkCreateRequest request,
+                             final String admissionToken) {
+        reserve(accountId,
+                request.getPerformanceId(),
+                request.getSeatIds().stream().distinct().sorted().toList(),
+                admissionToken,
+                strategyType -> reservationService.reserveSeats(accountId, request, strategyType));
+    }
+
+    /**
+     * 단일 작성자(SINGLE_WRITER) 전략을 사용하는 공연이고 다른 노드가 담당한다면, 담당 노드의 기본 URL을 반환합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @return 담당 노드의 기본 URL (현재 노드에서 처리할 수 있으면 빈 값)
+     */
+    public Optional<String> findSeatHoldOwnerNode(final Long performanceId) {
+        if (seatHoldStrategyResolver.getConfiguredType(performanceId) != SINGLE_WRITER) return Optional.empty();
+        return seatHoldMailboxRouter.findOwnerNode(performanceId);
+    }
+
     /**
      * 결제 전 서버에 결제 정보를 저장해놓고, PG사 결제 ID를 발급합니다.
      *
-     * @param accountId - 계정 ID
-     * @param request   - 결제 전 사전 정보 요청 DTO
+     * @param accountId      - 계정 ID
+     * @param request        - 결제 전 사전 정보 요청 DTO
+     * @param admissionToken - 입장 토큰 (입장 대기열이 활성화된 공연만 필요)
+     * @param clientIp       - 클라이언트 IP
      * @return 사전 결제 정보 응답 DTO
      */
     @Transactional
     public PrePaymentInfoResponse savePrePayment(final UUID accountId,
                                                  final PrePaymentRequest request,
+                                                 final String admissionToken,
                                                  final String clientIp) {
+        admissionQueueService.validateAdmission(accountId, request.getPerformanceId(), admissionToken);
+
         Account     account     = accountService.findByAccountId(accountId);
         Reservation reservation = reservationService.findReservationById(accountId, request.getSeatId());
         Seat        seat        = reservation.getSeat();
@@ -133,24 +215,130 @@ public class ReservationFacade {
     }
 
     /**
-     * 결제 취소 요청을 처리합니다.
+     * 결제 취소 요청을 처리합니다. PG사 응답이 늦어져도 DB 커넥션을 점유하지 않도록 단계를 나누어 처리합니다.
+     * 1. 계정과 결제 정보를 확인합니다. (조회마다 primary에서 짧은 트랜잭션)
+     * 2. 트랜잭션 없이 PG사 결제 정보를 조회합니다. (재시도 포함)
+     * 3. 새 트랜잭션에서 결제 정보를 다시 조회해 결제를 환불하고 예약을 취소합니다.
+     *    PG사 조회 중 다른 요청이 결제를 취소했다면 다시 조회한 결제 상태로 거절됩니다.
      *
      * @param accountId - 계정 ID
      * @param request   - 결제 취소 요청 DTO
      */
-    @Transactional
     public void refundPayment(final UUID accountId, final PaymentCancelRequest request) {
         accountService.findByAccountId(accountId);
-        Payment payment = paymentService.findByAccountIdAndPaymentKey(accountId, request.getPaymentId());
+        paymentService.findByAccountIdAndPaymentKey(accountId, request.getPaymentId());
 
         portOneApiClient.getPayment(new PortOnePaymentApiRequest(request.getPaymentId()));
 
-        paymentService.refundPayment(payment, request.getRefundReason());
-        reservationService.cancelReservation(payment.getReservation());
+        transactionTemplate.executeWithoutResult(status -> {
+            Payment payment = paymentService.findByAccountIdAndPaymentKey(accountId, request.getPaymentId());
+            paymentService.refundPayment(payment, request.getRefundReason());
+            reservationService.cancelReservation(payment.getReservation());
+        });
     }
 
     // ========================= 내부 메서드 =========================
 
+    /**
+     * 예매가 열린 공연인지와 입장 토큰을 검증하고 Redis 좌석 재고에서 좌석을 선점한 뒤, 공연에 지정된 좌석 선점 전략으로 DB에 예약을 저장합니다.
+     * 단일 작성자 전략은 공연별 메일박스에 요청을 넣어 다른 요청과 함께 일괄 저장합니다.
+     * DB 저장에 실패하면 선점을 되돌립니다. 단, DB에서 이미 선점된 좌석이라면 재고가 DB와 어긋난 것이므로
+     * 다음 요청에서 다시 적재되도록 재고를 삭제합니다.
+     *
+     * @param accountId      - 계정 ID
+     * @param performanceId  - 공연 ID
+     * @param seatIds        - 좌석 ID 목록
+     * @param admissionToken - 입장 토큰
+     * @param reservation    - 좌석 선점 전략 유형을 받아 DB에 예약을 저장하는 작업
+     */
+    private void reserve(final UUID accountId,
+                         final Long performanceId,
+                         final List<Long> seatIds,
+                         final String admissionToken,
+                         final Consumer<SeatHoldStrategyType> reservation) {
+        onSaleGate.validateOnSale(performanceId);
+        admissionQueueService.validateAdmission(accountId, performanceId, admissionToken);
+
+        boolean held = holdSeats(performanceId, seatIds);
+
+        try {
+            SeatHoldStrategyType strategyType = seatHoldStrategyResolver.resolve(performanceId, held);
+            if (strategyType == SINGLE_WRITER)
+                reserveWithRetry(strategyType, type -> seatHoldMailboxRouter.hold(accountId, performanceId, seatIds));
+            else reserveWithRetry(strategyType, reservation);
+        } catch (RuntimeException e) {
+            if (held) {
+                if (isSeatTakenInDatabase(e)) seatInventoryManager.evict(performanceId);
+                else seatInventoryManager.release(performanceId, seatIds);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * DB에 예약을 저장합니다. 락을 기다리지 않는 전략은 교착 상태나 좌석 버전 충돌 같은 일시적인 동시성 오류가 발생하면
+     * 새 트랜잭션으로 정해진 횟수까지 다시 시도합니다. 다른 요청이 먼저 선점한 좌석은 재시도하지 않고 즉시 실패합니다.
+     *
+     * @param strategyType - 좌석 선점 전략 유형
+     * @param reservation  - 좌석 선점 전략 유형을 받아 DB에 예약을 저장하는 작업
+     */
+    private void reserveWithRetry(final SeatHoldStrategyType strategyType,
+                                  final Consumer<SeatHoldStrategyType> reservation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                reservation.accept(strategyType);
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (!strategyType.isRetryable() || attempt >= MAX_RESERVE_ATTEMPTS) throw e;
+                log.warn("좌석 선점 동시성 오류, 재시도 - strategy: {}, attempt: {}", strategyType, attempt, e);
+            }
+        }
+    }
+
+    /**
+     * Redis 좌석 재고에서 좌석을 선점합니다. 재고가 적재되지 않았다면 적재 후 한 번 더 시도합니다.
+     * Redis 장애 시에는 선점 없이 DB 락으로 처리하도록 넘깁니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 좌석 ID 목록
+     * @return Redis 재고에서 선점했는지 여부
+     */
+    private boolean holdSeats(final Long performanceId, final List<Long> seatIds) {
+        SeatHoldResult result;
+        try {
+            result = seatInventoryManager.hold(performanceId, seatIds);
+            if (result == SeatHoldResult.NOT_LOADED) {
+                performanceService.loadSeatInventory(performanceId);
+                result = seatInventoryManager.hold(performanceId, seatIds);
+            }
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("좌석 재고 선점 실패, DB 락으로 대체 - performanceId: {}, seatIds: {}", performanceId, seatIds, e);
+            return false;
+        }
+
+        return switch (result) {
+            case HELD -> true;
+            case UNAVAILABLE -> throw new BusinessException(SEAT_ALREADY_RESERVED);
+            case NOT_FOUND -> throw new BusinessException(SEAT_NOT_FOUND);
+            case NOT_LOADED -> false;   // 좌석이 없는 공연 등 재고를 적재할 수 없는 경우
+        };
+    }
+
+    /**
+     * Redis 재고에서는 선점 가능했으나 DB에서는 이미 선점되었거나 판매된 좌석인지 확인합니다.
+     * DB 락 없이 좌석을 변경하는 전략에서 좌석 버전 충돌이 발생한 경우도 재고가 DB와 어긋난 것으로 봅니다.
+     *
+     * @param e - 예약 실패 예외
+     * @return DB에서 이미 선점 또는 판매된 좌석인지 여부
+     */
+    private boolean isSeatTakenInDatabase(final RuntimeException e) {
+        return e instanceof OptimisticLockingFailureException
+               || e instanceof BusinessException be
+                  && (be.getErrorCode() == SEAT_ALREADY_RESERVED || be.getErrorCode() == SEAT_ALREADY_SOLD);
+    }
+
     /**
      * 포트원 결제 취소 실패 시 관리자에게 알림을 보냅니다.
      *
@@ -1,9 +1,12 @@
 package com.example.demo.domain.reservation.listener;
 
+import com.example.demo.domain.performance.model.Seat;
 import com.example.demo.domain.reservation.event.PaymentCanceledEvent;
 import com.example.demo.domain.reservation.event.PaymentCompletedEvent;
 import com.example.demo.domain.reservation.model.Payment;
 import com.example.demo.domain.reservation.service.ReservationService;
+import com.example.demo.infra.redis.inventory.SeatInventoryManager;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -26,12 +29,14 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Slf4j
 public class PaymentEventListener {
 
-    private final ReservationService reservationService;
+    private final ReservationService   reservationService;
+    private final SeatInventoryManager seatInventoryManager;
 
     /**
      * 결제 완료 이벤트를 처리합니다.
      * - 예약 확정
      * - 좌석 상태 변경
+     * - 좌석 재고 판매 완료 처리
      *
      * @param event - 결제 완료 이벤트
      */
@@ -41,7 +46,9 @@ public class PaymentEventListener {
         Payment payment = event.getPayment();
         try {
             payment.getReservation().confirm(event.getOccurredAt());
-            payment.getReservation().getSeat().confirmSale();
+            Seat seat = payment.getReservation().getSeat();
+            seat.confirmSale();
+            seatInventoryManager.markSold(seat.getPerformance().getId(), List.of(seat.getId()));
 
             log.info("결제 완료 이벤트 처리 완료 - paymentId: {}, reservationId: {}",
                      payment.getId(),
@@ -0,0 +1,160 @@
+package com.example.demo.domain.reservation.mailbox;
+
+import static com.example.demo.common.response.ErrorCode.SEAT_HOLD_OWNER_UNAVAILABLE;
+import static com.example.demo.domain.queue.constant.AdmissionQueueConst.ADMISSION_TOKEN_HEADER_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.common.response.ApiResponse;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties.SingleWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletRequest;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.mailbox
+ * FileName    : SeatHoldForwarder
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 단일 작성자(SINGLE_WRITER) 좌석 예약 요청 전달기
+ *               다른 노드가 담당하는 공연의 예약 요청을 서버 간 호출로 담당 노드에 전달하고, 담당 노드의 응답을 그대로 돌려줍니다.
+ *               클라이언트에는 내부 노드 주소가 노출되지 않으며, 인증 헤더와 입장 토큰 헤더도 함께 전달됩니다.
+ *               전달한 요청에는 노드 간 공유 키로 만든 서명(HMAC-SHA256)을 붙이며, 서명이 유효한 요청만 전달받은 요청으로 보고 다시
+ *               전달하지 않습니다. 클라이언트가 보낸 전달 헤더는 서명이 맞지 않으므로 담당 노드 라우팅을 건너뛸 수 없습니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@Slf4j
+public class SeatHoldForwarder {
+
+    public static final String FORWARDED_HEADER_NAME = "X-Seat-Hold-Forwarded";   // 전달 요청 서명 ("발급 시각.서명")
+
+    private static final String SIGNATURE_ALGORITHM    = "HmacSHA256";
+    private static final long   SIGNATURE_VALID_MILLIS = 30000L;    // 서명 유효 시간 (노드 간 시계 차이 허용)
+
+    private final RestClient    restClient;
+    private final SecretKeySpec forwardKey;     // 노드 간 요청 전달 서명 키, 노드가 하나면 null
+
+    public SeatHoldForwarder(@Qualifier("seatHoldRestClient") final RestClient restClient,
+                             final SeatHoldProperties seatHoldProperties) {
+        SingleWriter singleWriter = seatHoldProperties.getSingleWriter();
+        if (!StringUtils.hasText(singleWriter.getForwardSecret())) {
+            if (singleWriter.getNodes().size() > 1)
+                throw new IllegalStateException("노드가 여러 개면 seat-hold.single-writer.forward-secret이 필요합니다.");
+            this.forwardKey = null;
+        } else {
+            this.forwardKey = new SecretKeySpec(singleWriter.getForwardSecret().getBytes(UTF_8), SIGNATURE_ALGORITHM);
+        }
+        this.restClient = restClient;
+    }
+
+    /**
+     * 예약 요청을 담당 노드의 같은 경로로 전달하고, 담당 노드의 응답 상태와 메시지로 응답을 만듭니다.
+     *
+     * @param ownerNode   - 담당 노드의 기본 URL
+     * @param httpRequest - 원본 HTTP 요청
+     * @param body        - 요청 본문
+     * @return 담당 노드의 응답
+     */
+    public ResponseEntity<ApiResponse<Void>> forward(final String ownerNode,
+                                                     final HttpServletRequest httpRequest,
+                                                     final Object body) {
+        try {
+            return restClient.post()
+                             .uri(ownerNode + httpRequest.getRequestURI())
+                             .headers(headers -> {
+                                 copyHeader(httpRequest, headers, AUTHORIZATION);
+                                 copyHeader(httpRequest, headers, ADMISSION_TOKEN_HEADER_NAME);
+                                 headers.set(FORWARDED_HEADER_NAME, sign(System.currentTimeMillis(),
+                                                                         POST.name(),
+                                                                         httpRequest.getRequestURI()));
+                             })
+                             .contentType(APPLICATION_JSON)
+                             .body(body)
+                             .exchange((request, response) -> {
+                                 HttpStatus status  = HttpStatus.valueOf(response.getStatusCode().value());
+                                 JsonNode   node    = response.bodyTo(JsonNode.class);
+                                 String     message = node == null
+                                                      ? status.getReasonPhrase()
+                                                      : node.path("message").asText(status.getReasonPhrase());
+                                 return ResponseEntity.status(status).body(ApiResponse.<Void>of(status, message));
+                             });
+        } catch (RestClientException e) {
+            log.warn("좌석 예약 요청 전달 실패 - ownerNode: {}, uri: {}", ownerNode, httpRequest.getRequestURI(), e);
+            throw new BusinessException(SEAT_HOLD_OWNER_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * 다른 노드가 전달한 요청인지 확인합니다. 전달 헤더의 서명이 노드 간 공유 키로 만든 서명과 같고 유효 시간 이내여야 합니다.
+     *
+     * @param httpRequest - HTTP 요청
+     * @return 서명이 유효한 전달 요청이면 true
+     */
+    public boolean isForwarded(final HttpServletRequest httpRequest) {
+        String signature = httpRequest.getHeader(FORWARDED_HEADER_NAME);
+        if (signature == null || forwardKey == null) return false;
+
+        int separator = signature.indexOf('.');
+        if (separator <= 0) return false;
+
+        long issuedAt;
+        try {
+            issuedAt = Long.parseLong(signature.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(System.currentTimeMillis() - issuedAt) > SIGNATURE_VALID_MILLIS) return false;
+
+        String expected = sign(issuedAt, httpRequest.getMethod(), httpRequest.getRequestURI());
+        return MessageDigest.isEqual(expected.getBytes(UTF_8), signature.getBytes(UTF_8));
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 발급 시각과 요청 메서드, 경로로 전달 요청 서명을 만듭니다.
+     *
+     * @param issuedAt - 서명 발급 시각(epoch ms)
+     * @param method   - 요청 메서드
+     * @param uri      - 요청 경로
+     * @return "발급 시각.서명" 형식의 전달 헤더 값
+     */
+    private String sign(final long issuedAt, final String method, final String uri) {
+        if (forwardKey == null) throw new BusinessException(SEAT_HOLD_OWNER_UNAVAILABLE);
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(forwardKey);
+            byte[] digest = mac.doFinal((issuedAt + "\n" + method + " " + uri).getBytes(UTF_8));
+            return issuedAt + "." + HexFormat.of().formatHex(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void copyHeader(final HttpServletRequest httpRequest, final HttpHeaders headers, final String headerName) {
+        String value = httpRequest.getHeader(headerName);
+        if (value != null) headers.set(headerName, value);
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.example.demo.domain.reservation.mailbox;
+
+import static com.example.demo.common.response.ErrorCode.SEAT_HOLD_MAILBOX_CLOSED;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.common.response.ErrorCode;
+import com.example.demo.domain.reservation.dto.SeatHoldCommand;
+import com.example.demo.domain.reservation.service.ReservationService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.mailbox
+ * FileName    : SeatHoldMailbox
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연별 좌석 선점 메일박스
+ *               공연마다 하나의 가상 스레드만 메일박스를 비우며 DB에 쓰므로, 같은 공연의 선점 요청끼리는 락을 기다리지 않습니다.
+ *               첫 요청이 도착하면 일괄 처리 시간 동안 요청을 더 모은 뒤, 모은 요청을 한 트랜잭션에서 처리합니다.
+ *               유휴 시간 동안 요청이 없으면 메일박스를 정리하고, 이후 요청은 새 메일박스에서 처리됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Slf4j
+class SeatHoldMailbox {
+
+    private final Long                       performanceId;
+    private final ReservationService         reservationService;
+    private final long                       batchWindowNanos;  // 첫 요청 이후 요청을 모으는 시간(ns)
+    private final int                        maxBatchSize;      // 한 트랜잭션에서 처리할 최대 요청 수
+    private final long                       idleTimeoutNanos;  // 요청이 없으면 메일박스를 정리하기까지의 시간(ns)
+    private final Consumer<SeatHoldMailbox>  onRetire;          // 메일박스를 정리한 뒤 호출 (라우터에서 제거)
+    private final BlockingQueue<PendingHold> mailbox = new LinkedBlockingQueue<>();
+    private final Thread                     writer;
+
+    private volatile boolean closed;
+    private          boolean retired;   // 유휴 정리 여부 (this로 동기화)
+
+    SeatHoldMailbox(final Long performanceId,
+                    final ReservationService reservationService,
+                    final long batchWindowMillis,
+                    final int maxBatchSize,
+                    final long idleTimeoutMillis,
+                    final Consumer<SeatHoldMailbox> onRetire) {
+        this.performanceId = performanceId;
+        this.reservationService = reservationService;
+        this.batchWindowNanos = batchWindowMillis * 1_000_000L;
+        this.maxBatchSize = maxBatchSize;
+        this.idleTimeoutNanos = idleTimeoutMillis * 1_000_000L;
+        this.onRetire = onRetire;
+        this.writer = Thread.ofVirtual().name("seat-hold-writer-" + performanceId).start(this::run);
+    }
+
+    /**
+     * 좌석 선점 요청을 메일박스에 넣습니다.
+     *
+     * @param command - 좌석 선점 요청
+     * @return 처리 대기 중인 요청 (유휴 정리된 메일박스면 null)
+     */
+    synchronized PendingHold submit(final SeatHoldCommand command) {
+        if (retired) return null;
+        PendingHold pending = new PendingHold(command, new CompletableFuture<>());
+        mailbox.add(pending);
+        if (closed) failAll();  // 닫히는 도중 들어온 요청도 기다리지 않도록 즉시 실패 처리
+        return pending;
+    }
+
+    /**
+     * 메일박스를 닫고, 아직 처리되지 않은 요청을 모두 실패 처리합니다.
+     */
+    void close() {
+        closed = true;
+        writer.interrupt();
+        failAll();
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void run() {
+        List<PendingHold> batch = new ArrayList<>(maxBatchSize);
+        while (!closed) {
+            try {
+                PendingHold first = mailbox.poll(idleTimeoutNanos, NANOSECONDS);
+                if (first == null) {
+                    if (retireIfIdle()) break;
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + batchWindowNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingHold next = mailbox.poll(deadline - System.nanoTime(), NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.result.completeExceptionally(
+                        new BusinessException(SEAT_HOLD_MAILBOX_CLOSED)));
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        failAll();
+    }
+
+    /**
+     * 유휴 시간 동안 요청이 없었던 메일박스를 정리합니다. 정리와 라우터에서의 제거를 submit()과 같은 락 안에서 하므로,
+     * 정리한 메일박스에 들어온 요청은 없고 submit()이 null을 반환했다면 다음 조회에서는 새 메일박스가 만들어집니다.
+     *
+     * @return 정리 여부 (그 사이 요청이 들어왔으면 false)
+     */
+    private synchronized boolean retireIfIdle() {
+        if (!mailbox.isEmpty()) return false;
+        retired = true;
+        onRetire.accept(this);
+        return true;
+    }
+
+    /**
+     * 모은 요청을 한 트랜잭션에서 처리하고 요청별 결과를 완료합니다. 처리를 시작하기 전에 취소된 요청은 처리하지 않으며, 처리를
+     * 시작한 요청은 더 이상 취소할 수 없습니다.
+     *
+     * @param batch - 모은 요청 목록 (도착 순)
+     */
+    private void process(final List<PendingHold> batch) {
+        batch.removeIf(pending -> !pending.start());
+        if (batch.isEmpty()) return;
+
+        try {
+            Map<SeatHoldCommand, ErrorCode> failures = reservationService.reserveInBatch(
+                    performanceId,
+                    batch.stream().map(pending -> pending.command).toList()
+            );
+            for (PendingHold pending : batch) {
+                ErrorCode errorCode = failures.get(pending.command);
+                if (errorCode == null) pending.result.complete(null);
+                else pending.result.completeExceptionally(new BusinessException(errorCode));
+            }
+        } catch (RuntimeException e) {
+            log.warn("좌석 일괄 선점 실패 - performanceId: {}, batchSize: {}", performanceId, batch.size(), e);
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+        }
+    }
+
+    private void failAll() {
+        PendingHold pending;
+        while ((pending = mailbox.poll()) != null)
+            pending.result.completeExceptionally(new BusinessException(SEAT_HOLD_MAILBOX_CLOSED));
+    }
+
+    static class PendingHold {
+        private final SeatHoldCommand         command;                          // 좌석 선점 요청
+        private final CompletableFuture<Void> result;                           // 요청 처리 결과
+        private final AtomicBoolean           claimed = new AtomicBoolean();    // 처리 시작 또는 취소 여부
+
+        private PendingHold(final SeatHoldCommand command, final CompletableFuture<Void> result) {
+            this.command = command;
+            this.result = result;
+        }
+
+        /**
+         * 요청 처리 결과를 반환합니다.
+         *
+         * @return 요청 처리 결과 (실패 시 예외로 완료)
+         */
+        CompletableFuture<Void> result() {
+            return result;
+        }
+
+        /**
+         * 아직 처리를 시작하지 않은 요청만 취소합니다.
+         *
+         * @return 취소 여부 (이미 처리 중이거나 처리된 요청이면 false)
+         */
+        boolean cancelIfQueued() {
+            return claimed.compareAndSet(false, true) && result.cancel(false);
+        }
+
+        private boolean start() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+}
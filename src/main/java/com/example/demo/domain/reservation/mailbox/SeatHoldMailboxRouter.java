@@ -0,0 +1,160 @@
+package com.example.demo.domain.reservation.mailbox;
+
+import static com.example.demo.common.response.ErrorCode.SEAT_HOLD_MAILBOX_CLOSED;
+import static com.example.demo.common.response.ErrorCode.SEAT_HOLD_MAILBOX_TIMEOUT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.reservation.dto.SeatHoldCommand;
+import com.example.demo.domain.reservation.mailbox.SeatHoldMailbox.PendingHold;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties.SingleWriter;
+import com.example.demo.domain.reservation.service.ReservationService;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.mailbox
+ * FileName    : SeatHoldMailboxRouter
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 단일 작성자(SINGLE_WRITER) 좌석 선점 요청 라우터
+ *               공연 ID 해시로 공연을 담당하는 노드를 정하고, 담당 노드에서는 공연별 메일박스에 요청을 넣은 뒤 처리 결과를 기다립니다.
+ *               다른 노드가 담당하는 공연의 요청은 컨트롤러에서 담당 노드로 전달해야 하며, 노드 목록이 바뀌면 담당 노드도 바뀝니다.
+ *               요청이 없는 공연의 메일박스는 유휴 시간이 지나면 정리되므로, 끝난 공연의 메일박스와 스레드가 남지 않습니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@Slf4j
+public class SeatHoldMailboxRouter {
+
+    private final ReservationService         reservationService;
+    private final SingleWriter               singleWriter;
+    private final Map<Long, SeatHoldMailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public SeatHoldMailboxRouter(final ReservationService reservationService,
+                                 final SeatHoldProperties seatHoldProperties) {
+        this.reservationService = reservationService;
+        this.singleWriter = seatHoldProperties.getSingleWriter();
+    }
+
+    /**
+     * 공연을 담당하는 노드를 반환합니다. 현재 노드가 담당하거나 노드 목록이 설정되지 않았다면 빈 값을 반환합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @return 담당 노드의 기본 URL
+     */
+    public Optional<String> findOwnerNode(final Long performanceId) {
+        List<String> nodes = singleWriter.getNodes();
+        if (nodes.size() <= 1) return Optional.empty();
+
+        int owner = Math.floorMod(Long.hashCode(performanceId), nodes.size());
+        return owner == singleWriter.getNodeIndex() ? Optional.empty() : Optional.of(nodes.get(owner));
+    }
+
+    /**
+     * 공연의 메일박스에 좌석 선점 요청을 넣고, 요청이 처리될 때까지 기다립니다.
+     * 기다리는 시간이 초과되면 아직 처리를 시작하지 않은 요청만 취소하고, 이미 처리 중인 요청은 DB와 재고가 어긋나지 않도록
+     * 처리 결과를 끝까지 기다립니다. 기다리는 스레드가 중단되어 결과를 받을 수 없다면 처리 후 예약을 취소해 좌석을 반환합니다.
+     *
+     * @param accountId     - 계정 ID
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 중복 없이 오름차순 정렬된 좌석 ID 목록
+     */
+    public void hold(final UUID accountId, final Long performanceId, final List<Long> seatIds) {
+        SeatHoldCommand command = new SeatHoldCommand(accountId, seatIds);
+        PendingHold     pending = submit(performanceId, command);
+        try {
+            try {
+                pending.result().get(singleWriter.getRequestTimeoutMillis(), MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.cancelIfQueued()) {
+                    log.warn("좌석 선점 요청 처리 시간 초과 - performanceId: {}, seatIds: {}", performanceId, seatIds);
+                    throw new BusinessException(SEAT_HOLD_MAILBOX_TIMEOUT);
+                }
+                pending.result().get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!pending.cancelIfQueued())
+                pending.result().thenRunAsync(() -> releaseHeld(performanceId, command));
+            throw new BusinessException(SEAT_HOLD_MAILBOX_CLOSED);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 메일박스를 닫습니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        mailboxes.values().forEach(SeatHoldMailbox::close);
+        mailboxes.clear();
+    }
+
+    /**
+     * 현재 열려 있는 메일박스 수를 반환합니다.
+     *
+     * @return 메일박스 수
+     */
+    int getMailboxCount() {
+        return mailboxes.size();
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 공연의 메일박스에 요청을 넣습니다. 조회한 메일박스가 그 사이 유휴 정리되었다면 새 메일박스로 다시 시도합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param command       - 좌석 선점 요청
+     * @return 처리 대기 중인 요청
+     */
+    private PendingHold submit(final Long performanceId, final SeatHoldCommand command) {
+        PendingHold pending;
+        do {
+            pending = mailboxes.computeIfAbsent(performanceId, this::createMailbox).submit(command);
+        } while (pending == null);
+        return pending;
+    }
+
+    /**
+     * 결과를 받지 못한 요청이 예약한 좌석을 반환합니다. 예약은 요청한 계정의 것만 취소하므로, 그 사이 다른 계정이 예약한 좌석은
+     * 변경되지 않습니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param command       - 좌석 선점 요청
+     */
+    private void releaseHeld(final Long performanceId, final SeatHoldCommand command) {
+        for (Long seatId : command.getSeatIds()) {
+            try {
+                reservationService.cancelReservation(command.getAccountId(), seatId);
+            } catch (BusinessException e) {
+                log.warn("결과를 받지 못한 좌석 선점 취소 실패 - performanceId: {}, seatId: {}", performanceId, seatId, e);
+            }
+        }
+    }
+
+    private SeatHoldMailbox createMailbox(final Long performanceId) {
+        return new SeatHoldMailbox(performanceId,
+                                   reservationService,
+                                   singleWriter.getBatchWindowMillis(),
+                                   singleWriter.getMaxBatchSize(),
+                                   singleWriter.getIdleTimeoutMillis(),
+                                   retired -> mailboxes.remove(performanceId, retired));
+    }
+
+}
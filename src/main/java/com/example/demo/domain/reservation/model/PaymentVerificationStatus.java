@@ -0,0 +1,18 @@
+package com.example.demo.domain.reservation.model;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.model
+ * FileName    : PaymentVerificationStatus
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 비동기 결제 검증 상태
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public enum PaymentVerificationStatus {
+    PENDING,    // 검증 진행 중
+    SUCCEEDED,  // 검증 및 결제 승인 완료
+    FAILED      // 검증 실패
+}
@@ -0,0 +1,69 @@
+package com.example.demo.domain.reservation.properties;
+
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyType;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.properties
+ * FileName    : SeatHoldProperties
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 선점 동시성 제어 전략 설정
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "seat-hold")
+@Getter
+public class SeatHoldProperties {
+
+    private final SeatHoldStrategyType            defaultStrategy;          // 기본 전략
+    private final Map<Long, SeatHoldStrategyType> performanceStrategies;    // 공연 ID별 전략
+    private final SingleWriter                    singleWriter;             // 단일 작성자(SINGLE_WRITER) 전략 설정
+
+    @ConstructorBinding
+    public SeatHoldProperties(@DefaultValue("PESSIMISTIC") final SeatHoldStrategyType defaultStrategy,
+                              final Map<Long, SeatHoldStrategyType> performanceStrategies,
+                              @DefaultValue final SingleWriter singleWriter) {
+        this.defaultStrategy = defaultStrategy;
+        this.performanceStrategies = performanceStrategies == null ? Map.of() : Map.copyOf(performanceStrategies);
+        this.singleWriter = singleWriter;
+    }
+
+    @Getter
+    public static class SingleWriter {
+
+        private final long         batchWindowMillis;       // 첫 요청 이후 일괄 처리할 요청을 모으는 시간
+        private final int          maxBatchSize;            // 한 트랜잭션에서 처리할 최대 요청 수
+        private final long         requestTimeoutMillis;    // 요청이 처리될 때까지 기다리는 최대 시간
+        private final long         idleTimeoutMillis;       // 요청이 없으면 공연별 메일박스를 정리하기까지의 시간
+        private final List<String> nodes;                   // 모든 노드의 기본 URL (비어 있으면 모든 공연을 현재 노드에서 처리)
+        private final int          nodeIndex;               // nodes에서 현재 노드의 위치
+        private final String       forwardSecret;           // 노드 간 요청 전달 서명 키 (nodes가 2개 이상이면 필수)
+
+        @ConstructorBinding
+        public SingleWriter(@DefaultValue("5") final long batchWindowMillis,
+                            @DefaultValue("100") final int maxBatchSize,
+                            @DefaultValue("3000") final long requestTimeoutMillis,
+                            @DefaultValue("60000") final long idleTimeoutMillis,
+                            final List<String> nodes,
+                            @DefaultValue("0") final int nodeIndex,
+                            final String forwardSecret) {
+            this.batchWindowMillis = batchWindowMillis;
+            this.maxBatchSize = maxBatchSize;
+            this.requestTimeoutMillis = requestTimeoutMillis;
+            this.idleTimeoutMillis = idleTimeoutMillis;
+            this.nodes = nodes == null ? List.of() : List.copyOf(nodes);
+            this.nodeIndex = nodeIndex;
+            this.forwardSecret = forwardSecret;
+        }
+
+    }
+
+}
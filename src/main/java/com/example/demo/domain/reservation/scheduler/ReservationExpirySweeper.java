@@ -0,0 +1,133 @@
+package com.example.demo.domain.reservation.scheduler;
+
+import static com.example.demo.domain.reservation.model.ReservationStatus.PENDING_PAYMENT;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_RESERVATION_EXPIRY_SWEEP_LOCK_KEY;
+
+import com.example.demo.domain.reservation.dao.ReservationRepository;
+import com.example.demo.domain.reservation.dto.ExpiredReservationValue;
+import com.example.demo.domain.reservation.service.ReservationService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.scheduler
+ * FileName    : ReservationExpirySweeper
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 만료 예약 일괄 정리 스케줄러
+ *               만료 지연 큐에 등록되지 못한 예약(Redis 장애 등)을 (만료 시간, 좌석 ID) 키셋 페이징으로 나누어 일괄 UPDATE로 취소합니다.
+ *               페이징 순서가 조회 조건의 인덱스(status, expired_at, seat_id) 순서와 같아 청크마다 인덱스를 이어서 읽습니다.
+ *               클러스터 전체에서 리더 락을 획득한 한 노드만 실행하며, 락은 Redisson 워치독이 실행 중에 갱신합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@Slf4j
+public class ReservationExpirySweeper {
+
+    private static final int CHUNK_SIZE           = 500;    // 청크당 최대 예약 수
+    private static final int MAX_CHUNKS_PER_SWEEP = 100;    // 1회 실행 시 처리할 최대 청크 수
+    private static final int GRACE_SECONDS        = 30;     // 지연 큐에서 처리 중인 예약과 겹치지 않도록 두는 유예 시간
+
+    private static final LocalDateTime MIN_EXPIRED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);   // 첫 청크의 키셋 시작값
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationService    reservationService;
+    private final RedissonClient        redissonClient;
+    private final DistributionSummary   chunkRowsSummary;
+    private final AtomicLong            sweepLagMillis = new AtomicLong();
+
+    public ReservationExpirySweeper(final ReservationRepository reservationRepository,
+                                    final ReservationService reservationService,
+                                    final RedissonClient redissonClient,
+                                    final MeterRegistry meterRegistry) {
+        this.reservationRepository = reservationRepository;
+        this.reservationService = reservationService;
+        this.redissonClient = redissonClient;
+        this.chunkRowsSummary = DistributionSummary.builder("reservation.expiry.sweep.chunk.rows")
+                                                   .description("청크당 취소된 만료 예약 수")
+                                                   .register(meterRegistry);
+        TimeGauge.builder("reservation.expiry.sweep.lag", sweepLagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                 .description("마지막 정리 시 가장 오래 방치된 만료 예약의 만료 후 경과 시간")
+                 .register(meterRegistry);
+    }
+
+    /**
+     * 리더 락을 획득한 경우에만 만료 예약을 정리합니다. 다른 노드가 실행 중이면 대기하지 않고 건너뜁니다.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void sweepExpiredReservations() {
+        RLock lock = redissonClient.getLock(REDIS_RESERVATION_EXPIRY_SWEEP_LOCK_KEY);
+
+        try {
+            if (!lock.tryLock(0, TimeUnit.MILLISECONDS)) return;   // 임대 시간을 지정하지 않아 워치독이 락을 갱신
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.warn("만료 예약 정리 리더 락 획득 실패", e);
+            return;
+        }
+
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("만료 예약 정리 중 오류 발생", e);
+        } finally {
+            try {
+                if (lock.isHeldByCurrentThread()) lock.unlock();
+            } catch (Exception e) {
+                log.error("락 해제 중 오류 발생: {}", lock.getName(), e);
+            }
+        }
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void sweep() {
+        LocalDateTime now           = LocalDateTime.now().minusSeconds(GRACE_SECONDS);
+        LocalDateTime lastExpiredAt = MIN_EXPIRED_AT;
+        long          lastSeatId    = 0L;
+        long          maxLag        = 0L;
+        int           total         = 0;
+
+        for (int i = 0; i < MAX_CHUNKS_PER_SWEEP; i++) {
+            List<ExpiredReservationValue> chunk = reservationRepository.findExpiredReservations(PENDING_PAYMENT,
+                                                                                                now,
+                                                                                                lastExpiredAt,
+                                                                                                lastSeatId,
+                                                                                                Limit.of(CHUNK_SIZE));
+            if (chunk.isEmpty()) break;
+
+            LocalDateTime measuredAt = LocalDateTime.now();
+            for (ExpiredReservationValue reservation : chunk)
+                maxLag = Math.max(maxLag, Duration.between(reservation.getExpiredAt(), measuredAt).toMillis());
+
+            int cancelled = reservationService.cancelExpiredReservations(chunk, now);
+            chunkRowsSummary.record(cancelled);
+            total += cancelled;
+
+            lastExpiredAt = chunk.getLast().getExpiredAt();
+            lastSeatId = chunk.getLast().getSeatId();
+            if (chunk.size() < CHUNK_SIZE) break;
+        }
+
+        sweepLagMillis.set(maxLag);
+        if (total > 0) log.info("만료된 예약 정리 완료: {}건", total);
+    }
+
+}
@@ -1,16 +1,20 @@
 package com.example.demo.domain.reservation.scheduler;
 
-import static com.example.demo.domain.reservation.model.ReservationStatus.PENDING_PAYMENT;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_RESERVATION_EXPIRY_BATCH_SIZE;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_RESERVATION_EXPIRY_LEASE_MILLIS;
 
-import com.example.demo.domain.reservation.dao.ReservationRepository;
-import com.example.demo.domain.reservation.model.Reservation;
+import com.example.demo.domain.reservation.model.ReservationId;
+import com.example.demo.domain.reservation.service.ReservationService;
+import com.example.demo.infra.redis.expiry.ReservationExpiryQueue;
+import com.example.demo.infra.redis.expiry.ReservationExpiryQueue.ExpiryBatch;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * PackageName : com.example.demo.domain.reservation.scheduler
@@ -28,29 +32,44 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ReservationScheduler {
 
-    private final ReservationRepository reservationRepository;
+    private static final int MAX_EXPIRY_BATCHES_PER_RUN = 10;   // 1회 실행 시 처리할 최대 만료 배치 수
 
-    @Scheduled(fixedDelay = 60000)
-    @Transactional
-    public void cancelExpiredReservations(){
-        LocalDateTime now = LocalDateTime.now();
+    private final ReservationService     reservationService;
+    private final ReservationExpiryQueue reservationExpiryQueue;
 
-        List<Reservation> expiredReservations = reservationRepository.findByStatusAndExpiredAtBefore(
-                PENDING_PAYMENT, now
-        );
+    /**
+     * 만료 지연 큐에서 만료 시각이 지난 예약을 가져와 취소합니다. 1초마다 실행되며, 배치마다 별도의 트랜잭션으로 처리합니다.
+     * 스케줄링 스레드 풀은 @Scheduled 작업 수보다 크게 두므로, 만료 일괄 정리 등 다른 작업이 오래 실행되어도 주기가 밀리지 않습니다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void releaseExpiredReservations() {
+        for (int i = 0; i < MAX_EXPIRY_BATCHES_PER_RUN; i++) {
+            Instant now = Instant.now();
 
-        if (expiredReservations.isEmpty()) return;
-
-        log.info("만료된 예약 정리 시작: {}건", expiredReservations.size());
+            ExpiryBatch batch;
+            try {
+                batch = reservationExpiryQueue.claim(now,
+                                                     REDIS_RESERVATION_EXPIRY_BATCH_SIZE,
+                                                     REDIS_RESERVATION_EXPIRY_LEASE_MILLIS);
+            } catch (Exception e) {
+                log.warn("만료 예약 조회 실패", e);
+                return;
+            }
+            if (batch.getReservationIds().isEmpty()) return;
 
-        for (Reservation reservation : expiredReservations)
             try {
-                reservation.cancel();
+                List<ReservationId> handled = reservationService.expireReservations(
+                        batch.getReservationIds(), LocalDateTime.ofInstant(now, ZoneId.systemDefault())
+                );
+                reservationExpiryQueue.acknowledge(batch, handled);
             } catch (Exception e) {
-                log.error("예약 취소 처리 중 오류 발생 - reservationId: {}", reservation.getReservationId(), e);
+                // 처리 완료를 기록하지 못한 예약은 임대 시간이 지나면 다시 처리됩니다.
+                log.error("만료 예약 취소 처리 중 오류 발생 - {}건", batch.getReservationIds().size(), e);
+                return;
             }
 
-        log.info("만료된 예약 정리 완료");
+            if (batch.getReservationIds().size() < REDIS_RESERVATION_EXPIRY_BATCH_SIZE) return;
+        }
     }
 
 }
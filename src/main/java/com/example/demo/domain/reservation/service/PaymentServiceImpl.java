@@ -78,6 +78,7 @@ public class PaymentServiceImpl implements PaymentService {
      * @param clientIp    - 클라이언트 IP 주소
      * @return 사전 결제 정보 응답 DTO
      */
+    @Transactional
     @Override
     public PrePaymentInfoResponse savePrePayment(final Account account,
                                                  final Reservation reservation,
@@ -116,12 +117,13 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     /**
-     * 결제 키로 결제 엔티티를 조회합니다.
+     * 결제 키로 결제 엔티티를 조회합니다. 결제 승인 직후의 환불 요청에서도 조회되므로 primary에서 조회합니다.
      *
      * @param accountId  - 계정 ID
      * @param paymentKey - PG사 결제 ID
      * @return 결제 엔티티
      */
+    @Transactional  // 복제본에 아직 반영되지 않은 결제 승인 결과를 읽지 않도록 primary에서 조회
     @Override
     public Payment findByAccountIdAndPaymentKey(final UUID accountId, final String paymentKey) {
         return paymentRepository.findByReservation_AccountIdAndPaymentKey(accountId, paymentKey)
@@ -1,8 +1,18 @@
 package com.example.demo.domain.reservation.service;
 
+import com.example.demo.common.response.ErrorCode;
+import com.example.demo.domain.reservation.dto.ExpiredReservationValue;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationBulkCreateRequest;
 import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationCreateRequest;
 import com.example.demo.domain.reservation.dto.ReservationResponse.ReservationInfoResponse;
+import com.example.demo.domain.reservation.dto.SeatHoldCommand;
 import com.example.demo.domain.reservation.model.Reservation;
+import com.example.demo.domain.reservation.model.ReservationId;
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,12 +30,20 @@ import org.springframework.data.domain.Pageable;
  */
 public interface ReservationService {
 
-    void reserveSeat(UUID accountId, ReservationCreateRequest request);
+    void reserveSeat(UUID accountId, ReservationCreateRequest request, SeatHoldStrategyType strategyType);
+
+    void reserveSeats(UUID accountId, ReservationBulkCreateRequest request, SeatHoldStrategyType strategyType);
+
+    Map<SeatHoldCommand, ErrorCode> reserveInBatch(Long performanceId, List<SeatHoldCommand> commands);
 
     void cancelReservation(UUID accountId, Long seatId);
 
     void cancelReservation(Reservation reservation);
 
+    List<ReservationId> expireReservations(Collection<ReservationId> reservationIds, LocalDateTime now);
+
+    int cancelExpiredReservations(List<ExpiredReservationValue> expiredReservations, LocalDateTime now);
+
     Page<ReservationInfoResponse> getMyReservations(UUID accountId, Pageable pageable);
 
     Reservation findReservationById(UUID accountId, Long seatId);
@@ -2,23 +2,49 @@ package com.example.demo.domain.reservation.service;
 
 import static com.example.demo.common.response.ErrorCode.ACCOUNT_NOT_FOUND;
 import static com.example.demo.common.response.ErrorCode.RESERVATION_NOT_FOUND;
+import static com.example.demo.common.response.ErrorCode.SEAT_ALREADY_RESERVED;
 import static com.example.demo.common.response.ErrorCode.SEAT_NOT_FOUND;
 import static com.example.demo.domain.account.model.AccountStatus.ACTIVE;
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.domain.performance.model.SeatStatus.SOLD;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
+import static com.example.demo.domain.reservation.model.ReservationStatus.CANCELLED;
+import static com.example.demo.domain.reservation.model.ReservationStatus.PENDING_PAYMENT;
 
 import com.example.demo.common.error.BusinessException;
+import com.example.demo.common.response.ErrorCode;
 import com.example.demo.domain.account.dao.AccountRepository;
 import com.example.demo.domain.account.model.Account;
+import com.example.demo.domain.performance.dao.PerformanceStatsRepository;
 import com.example.demo.domain.performance.dao.SeatRepository;
 import com.example.demo.domain.performance.model.Seat;
 import com.example.demo.domain.reservation.dao.ReservationRepository;
+import com.example.demo.domain.reservation.dto.ExpiredReservationValue;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationBulkCreateRequest;
 import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationCreateRequest;
 import com.example.demo.domain.reservation.dto.ReservationResponse.ReservationInfoResponse;
+import com.example.demo.domain.reservation.dto.SeatHoldCommand;
 import com.example.demo.domain.reservation.model.Reservation;
 import com.example.demo.domain.reservation.model.ReservationId;
-import com.example.demo.infra.annotation.CustomLock;
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyResolver;
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyType;
+import com.example.demo.infra.redis.expiry.ReservationExpiryQueue;
+import com.example.demo.infra.redis.inventory.SeatInventoryManager;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -38,34 +64,115 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
+@Slf4j
 public class ReservationServiceImpl implements ReservationService {
 
     private static final int RESERVATION_EXPIRE_MINUTES = 5;    // 예약 임시 점유 만료 시간
 
-    private final ReservationRepository reservationRepository;
-    private final AccountRepository     accountRepository;
-    private final SeatRepository        seatRepository;
+    private final ReservationRepository      reservationRepository;
+    private final AccountRepository          accountRepository;
+    private final SeatRepository             seatRepository;
+    private final PerformanceStatsRepository performanceStatsRepository;
+    private final SeatInventoryManager       seatInventoryManager;
+    private final ReservationExpiryQueue     reservationExpiryQueue;
+    private final SeatHoldStrategyResolver   seatHoldStrategyResolver;
 
     /**
      * 계정과 좌석 정보를 사용해 예약을 합니다.
      *
-     * @param accountId - 예약할 계정 ID
-     * @param request   - 좌석 예약 요청 DTO
+     * @param accountId    - 예약할 계정 ID
+     * @param request      - 좌석 예약 요청 DTO
+     * @param strategyType - 좌석 선점 전략 유형
      */
     @Transactional
-    @CustomLock(key = "'lock:seat:' + #request.seatId", leaseTime = 3000L)
     @Override
-    public void reserveSeat(final UUID accountId, final ReservationCreateRequest request) {
-        Account account = accountRepository.findByIdAndStatus(accountId, ACTIVE)
-                                           .orElseThrow(() -> new BusinessException(ACCOUNT_NOT_FOUND));
+    public void reserveSeat(final UUID accountId,
+                            final ReservationCreateRequest request,
+                            final SeatHoldStrategyType strategyType) {
+        reserve(accountId, request.getPerformanceId(), List.of(request.getSeatId()), strategyType);
+    }
 
-        Seat seat = seatRepository.findByIdWithLock(request.getSeatId())
-                                  .orElseThrow(() -> new BusinessException(SEAT_NOT_FOUND));
+    /**
+     * 여러 좌석을 한 번에 예약합니다. 모든 좌석을 예약하거나, 하나라도 실패하면 아무것도 예약하지 않습니다.
+     * 좌석은 좌석 ID 순으로 선점하여 요청 간 교착 상태를 방지하고, 예약은 한 트랜잭션에서 일괄 저장합니다.
+     *
+     * @param accountId    - 예약할 계정 ID
+     * @param request      - 다중 좌석 예약 요청 DTO
+     * @param strategyType - 좌석 선점 전략 유형
+     */
+    @Transactional
+    @Override
+    public void reserveSeats(final UUID accountId,
+                             final ReservationBulkCreateRequest request,
+                             final SeatHoldStrategyType strategyType) {
+        reserve(accountId,
+                request.getPerformanceId(),
+                request.getSeatIds().stream().distinct().sorted().toList(),
+                strategyType);
+    }
+
+    /**
+     * 한 공연에 대한 여러 좌석 선점 요청을 한 트랜잭션에서 일괄 처리합니다. 요청한 좌석 행을 ID 순으로 먼저 잠근 뒤 상태를 검증하므로,
+     * 다른 노드나 다른 선점 전략이 먼저 선점한 좌석은 그 좌석을 포함한 요청만 실패로 기록되고 나머지 요청은 그대로 예약됩니다.
+     * 요청은 도착 순서대로 좌석을 차지하며, 앞선 요청이 차지한 좌석을 포함한 요청도 실패로 기록합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param commands      - 좌석 선점 요청 목록 (도착 순)
+     * @return 실패한 요청별 오류 코드
+     */
+    @Transactional
+    @Override
+    public Map<SeatHoldCommand, ErrorCode> reserveInBatch(final Long performanceId,
+                                                          final List<SeatHoldCommand> commands) {
+        Map<UUID, Account> accounts = accountRepository.findAllById(commands.stream()
+                                                                            .map(SeatHoldCommand::getAccountId)
+                                                                            .collect(Collectors.toSet()))
+                                                       .stream()
+                                                       .filter(account -> account.getStatus() == ACTIVE)
+                                                       .collect(Collectors.toMap(Account::getId, Function.identity()));
+        Map<Long, Seat> seats = seatRepository.findAllByIdInWithLock(commands.stream()
+                                                                             .flatMap(command -> command.getSeatIds()
+                                                                                                        .stream())
+                                                                             .collect(Collectors.toSet()))
+                                              .stream()
+                                              .filter(seat -> seat.getPerformance().getId().equals(performanceId))
+                                              .collect(Collectors.toMap(Seat::getId, Function.identity()));
 
-        reservationRepository.save(
-                Reservation.of(account, seat, LocalDateTime.now().plusMinutes(RESERVATION_EXPIRE_MINUTES))
-        );
-        seat.reserveTemporary();
+        Map<SeatHoldCommand, ErrorCode> failures = new HashMap<>();
+        List<SeatHoldCommand>           accepted = new ArrayList<>(commands.size());
+        Set<Long>                       claimed  = new HashSet<>();
+        for (SeatHoldCommand command : commands) {
+            ErrorCode error = validateHoldCommand(command, accounts, seats, claimed);
+            if (error != null) {
+                failures.put(command, error);
+                continue;
+            }
+            accepted.add(command);
+            claimed.addAll(command.getSeatIds());
+        }
+        if (accepted.isEmpty()) return failures;
+
+        // 좌석 행을 잠근 상태에서 검증했으므로 변경된 행 수가 다르면 잠금 없이 상태를 바꾼 경로가 있는 것
+        if (seatRepository.holdAvailableSeats(claimed, performanceId, AVAILABLE, TEMPORARY_RESERVED) != claimed.size())
+            throw new IllegalStateException("일괄 선점 중 잠긴 좌석의 상태 변경 - performanceId: " + performanceId);
+        performanceStatsRepository.addAvailableSeats(performanceId, -claimed.size());
+
+        LocalDateTime expiredAt = LocalDateTime.now().plusMinutes(RESERVATION_EXPIRE_MINUTES);
+        reservationRepository.saveAll(accepted.stream()
+                                              .flatMap(command -> command.getSeatIds()
+                                                                         .stream()
+                                                                         .map(seatId -> Reservation.of(
+                                                                                 accounts.get(command.getAccountId()),
+                                                                                 seats.get(seatId),
+                                                                                 expiredAt
+                                                                         )))
+                                              .toList());
+
+        seatInventoryManager.markHeld(performanceId, claimed);
+        accepted.forEach(command -> reservationExpiryQueue.schedule(command.getAccountId(),
+                                                                    command.getSeatIds(),
+                                                                    toInstant(expiredAt)));
+        return failures;
     }
 
     /**
@@ -79,8 +186,7 @@ public class ReservationServiceImpl implements ReservationService {
     public void cancelReservation(final UUID accountId, final Long seatId) {
         Reservation reservation = reservationRepository.findById(new ReservationId(accountId, seatId))
                                                        .orElseThrow(() -> new BusinessException(RESERVATION_NOT_FOUND));
-        reservation.cancel();
-        reservationRepository.delete(reservation);
+        cancelReservation(reservation);
     }
 
     /**
@@ -91,8 +197,110 @@ public class ReservationServiceImpl implements ReservationService {
     @Transactional
     @Override
     public void cancelReservation(final Reservation reservation) {
+        Seat    seat = reservation.getSeat();
+        boolean held = seat.getStatus() == TEMPORARY_RESERVED;
+
         reservation.cancel();
         reservationRepository.delete(reservation);
+
+        if (held) performanceStatsRepository.addAvailableSeats(seat.getPerformance().getId(), 1);
+        seatInventoryManager.release(seat.getPerformance().getId(), List.of(seat.getId()));
+    }
+
+    /**
+     * 임시 점유 시간이 지난 예약들을 취소합니다. 결제 대기 중이 아니거나 존재하지 않는 예약은 처리할 필요가 없으므로 처리 완료로 간주하고,
+     * 아직 만료되지 않은 예약(노드 간 시각 차이 등)은 처리 완료 목록에서 제외하여 다시 처리되도록 합니다.
+     *
+     * @param reservationIds - 예약 ID 목록
+     * @param now            - 만료 기준 시각
+     * @return 처리 완료된 예약 ID 목록
+     */
+    @Transactional
+    @Override
+    public List<ReservationId> expireReservations(final Collection<ReservationId> reservationIds,
+                                                  final LocalDateTime now) {
+        Map<ReservationId, Reservation> reservations = reservationRepository.findAllById(reservationIds)
+                                                                            .stream()
+                                                                            .collect(Collectors.toMap(
+                                                                                    Reservation::getReservationId,
+                                                                                    Function.identity()
+                                                                            ));
+
+        List<ReservationId>   handled        = new ArrayList<>(reservationIds.size());
+        Map<Long, List<Long>> releasedSeats  = new HashMap<>();
+        Map<Long, Integer>    availableDelta = new HashMap<>();   // 공연 ID별 예약 가능 좌석 증가분
+        for (ReservationId reservationId : reservationIds) {
+            Reservation reservation = reservations.get(reservationId);
+            if (reservation != null && reservation.getStatus() == PENDING_PAYMENT) {
+                if (reservation.getExpiredAt().isAfter(now)) continue;
+
+                Seat seat = reservation.getSeat();
+                if (seat.getStatus() == SOLD) {
+                    log.warn("판매 완료된 좌석의 결제 대기 예약 - accountId: {}, seatId: {}",
+                             reservationId.getAccountId(),
+                             reservationId.getSeatId());
+                } else {
+                    if (seat.getStatus() == TEMPORARY_RESERVED)
+                        availableDelta.merge(seat.getPerformance().getId(), 1, Integer::sum);
+                    reservation.cancel();
+                    releasedSeats.computeIfAbsent(seat.getPerformance().getId(), k -> new ArrayList<>())
+                                 .add(seat.getId());
+                }
+            }
+            handled.add(reservationId);
+        }
+
+        availableDelta.forEach(performanceStatsRepository::addAvailableSeats);
+        releasedSeats.forEach(seatInventoryManager::release);
+        return handled;
+    }
+
+    /**
+     * 임시 점유 시간이 지난 예약들을 엔티티를 읽지 않고 일괄 UPDATE로 취소합니다.
+     * 좌석을 먼저 반환한 뒤 좌석이 반환된 예약만 취소하므로, 그 사이 결제가 완료되었거나 다시 예약된 좌석은 변경되지 않습니다.
+     * 예약 가능 좌석 수는 공연별 좌석 반환 UPDATE의 변경 행 수만큼 늘리므로, 이미 예약 가능 상태였던 좌석은 다시 세지 않습니다.
+     *
+     * @param expiredReservations - 만료 예약 목록
+     * @param now                 - 만료 기준 시각
+     * @return 취소된 예약 수
+     */
+    @Transactional
+    @Override
+    public int cancelExpiredReservations(final List<ExpiredReservationValue> expiredReservations,
+                                         final LocalDateTime now) {
+        List<Long> seatIds = expiredReservations.stream().map(ExpiredReservationValue::getSeatId).toList();
+
+        expiredReservations.stream()
+                           .collect(Collectors.groupingBy(
+                                   ExpiredReservationValue::getPerformanceId,
+                                   Collectors.mapping(ExpiredReservationValue::getSeatId, Collectors.toList())
+                           ))
+                           .forEach((performanceId, performanceSeatIds) -> {
+                               int released = seatRepository.releaseExpiredSeats(performanceSeatIds,
+                                                                                  now,
+                                                                                  TEMPORARY_RESERVED,
+                                                                                  AVAILABLE,
+                                                                                  PENDING_PAYMENT);
+                               performanceStatsRepository.addAvailableSeats(performanceId, released);
+                           });
+        int cancelled = reservationRepository.cancelExpiredReservations(seatIds,
+                                                                        now,
+                                                                        PENDING_PAYMENT,
+                                                                        CANCELLED,
+                                                                        AVAILABLE);
+
+        Map<Long, Long> performanceIds = expiredReservations.stream()
+                                                            .collect(Collectors.toMap(
+                                                                    ExpiredReservationValue::getSeatId,
+                                                                    ExpiredReservationValue::getPerformanceId,
+                                                                    (a, b) -> a
+                                                            ));
+        // Redis 재고는 DB 좌석 상태를 따르므로 예약 가능한 좌석을 반환 (이미 반환된 좌석을 다시 반환해도 결과가 같음)
+        seatRepository.findIdsByIdInAndStatus(seatIds, AVAILABLE)
+                      .stream()
+                      .collect(Collectors.groupingBy(performanceIds::get))
+                      .forEach(seatInventoryManager::release);
+        return cancelled;
     }
 
     /**
@@ -108,16 +316,70 @@ public class ReservationServiceImpl implements ReservationService {
     }
 
     /**
-     * 예약 정보 엔티티를 조회합니다.
+     * 예약 정보 엔티티를 조회합니다. 좌석 선점 직후 결제 준비 단계에서 조회하므로 복제본이 아닌 primary에서 조회합니다.
      *
      * @param accountId - 계정 ID
      * @param seatId    - 좌석 ID
      * @return 예약 정보 엔티티
      */
+    @Transactional  // 복제 지연으로 방금 저장한 예약을 찾지 못하지 않도록 primary에서 조회
     @Override
     public Reservation findReservationById(final UUID accountId, final Long seatId) {
         return reservationRepository.findById(new ReservationId(accountId, seatId))
                                     .orElseThrow(() -> new BusinessException(RESERVATION_NOT_FOUND));
     }
 
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 좌석 선점 전략으로 좌석을 선점한 뒤 예약을 일괄 저장합니다.
+     *
+     * @param accountId     - 예약할 계정 ID
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 중복 없이 오름차순 정렬된 좌석 ID 목록
+     * @param strategyType  - 좌석 선점 전략 유형
+     */
+    private void reserve(final UUID accountId,
+                         final Long performanceId,
+                         final List<Long> seatIds,
+                         final SeatHoldStrategyType strategyType) {
+        Account account = accountRepository.findByIdAndStatus(accountId, ACTIVE)
+                                           .orElseThrow(() -> new BusinessException(ACCOUNT_NOT_FOUND));
+
+        List<Seat>    seats     = seatHoldStrategyResolver.getStrategy(strategyType).hold(performanceId, seatIds);
+        LocalDateTime expiredAt = LocalDateTime.now().plusMinutes(RESERVATION_EXPIRE_MINUTES);
+        reservationRepository.saveAll(seats.stream().map(seat -> Reservation.of(account, seat, expiredAt)).toList());
+        performanceStatsRepository.addAvailableSeats(performanceId, -seats.size());
+
+        // Redis 재고를 거치지 않고 예약된 경우(재고 장애 등)에도 재고가 DB와 일치하도록 커밋 후 반영
+        seatInventoryManager.markHeld(performanceId, seatIds);
+        reservationExpiryQueue.schedule(accountId, seatIds, toInstant(expiredAt));
+    }
+
+    /**
+     * 일괄 처리할 좌석 선점 요청을 검증합니다.
+     *
+     * @param command  - 좌석 선점 요청
+     * @param accounts - 활성 계정 (계정 ID별)
+     * @param seats    - 공연의 좌석 (좌석 ID별)
+     * @param claimed  - 앞선 요청이 차지한 좌석 ID 목록
+     * @return 오류 코드 (유효한 요청이면 null)
+     */
+    private ErrorCode validateHoldCommand(final SeatHoldCommand command,
+                                          final Map<UUID, Account> accounts,
+                                          final Map<Long, Seat> seats,
+                                          final Set<Long> claimed) {
+        if (!accounts.containsKey(command.getAccountId())) return ACCOUNT_NOT_FOUND;
+        if (!seats.keySet().containsAll(command.getSeatIds())) return SEAT_NOT_FOUND;
+        if (command.getSeatIds()
+                   .stream()
+                   .anyMatch(seatId -> claimed.contains(seatId) || seats.get(seatId).getStatus() != AVAILABLE))
+            return SEAT_ALREADY_RESERVED;
+        return null;
+    }
+
+    private Instant toInstant(final LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
 }
@@ -0,0 +1,41 @@
+package com.example.demo.domain.reservation.strategy;
+
+import static com.example.demo.common.response.ErrorCode.SEAT_NOT_FOUND;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.model.Seat;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : AbstractSeatHoldStrategy
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 조회한 좌석 엔티티의 상태를 변경해 선점하는 전략의 공통 로직
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public abstract class AbstractSeatHoldStrategy implements SeatHoldStrategy {
+
+    /**
+     * 조회한 좌석이 모두 공연에 속하는지 확인한 뒤 임시 예약 상태로 변경합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 좌석 ID 목록
+     * @param seats         - 조회한 좌석 목록
+     * @return 선점한 좌석 목록 (좌석 ID 오름차순)
+     */
+    protected List<Seat> reserveAll(final Long performanceId, final List<Long> seatIds, final List<Seat> seats) {
+        if (seats.size() != seatIds.size()
+            || seats.stream().anyMatch(seat -> !seat.getPerformance().getId().equals(performanceId)))
+            throw new BusinessException(SEAT_NOT_FOUND);
+
+        List<Seat> sorted = seats.stream().sorted(Comparator.comparing(Seat::getId)).toList();
+        sorted.forEach(Seat::reserveTemporary);
+        return sorted;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.example.demo.domain.reservation.strategy;
+
+import static com.example.demo.common.response.ErrorCode.SEAT_ALREADY_RESERVED;
+import static com.example.demo.common.response.ErrorCode.SEAT_NOT_FOUND;
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.DISTRIBUTED_LOCK;
+import static com.example.demo.infra.redis.constant.RedisConst.REDISSON_SEAT_LOCK_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDISSON_SEAT_LOCK_LEASE_MILLIS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dao.SeatRepository;
+import com.example.demo.domain.performance.model.Seat;
+import com.example.demo.infra.redis.lock.DistributedLockExecutor;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : DistributedLockSeatHoldStrategy
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 분산 락 좌석 선점 전략
+ *               좌석별 Redisson 펜싱 락을 모두 획득한 요청만 DB 락 없이 좌석을 변경합니다. 락은 트랜잭션이 끝난 뒤 해제되며,
+ *               GC 정지 등으로 락 임대 시간이 먼저 끝나 다른 요청이 락을 다시 획득한 경우에는, 좌석에 기록된 펜싱 토큰보다 큰
+ *               토큰을 가진 쓰기만 반영되므로 늦게 도착한 이전 보유자의 쓰기는 거부됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+public class DistributedLockSeatHoldStrategy implements SeatHoldStrategy {
+
+    private final SeatRepository          seatRepository;
+    private final DistributedLockExecutor lockExecutor;
+
+    @Override
+    public SeatHoldStrategyType getType() {
+        return DISTRIBUTED_LOCK;
+    }
+
+    @Override
+    public List<Seat> hold(final Long performanceId, final List<Long> seatIds) {
+        List<Long>   sortedSeatIds = seatIds.stream().sorted().toList();
+        List<String> lockKeys      = sortedSeatIds.stream().map(REDISSON_SEAT_LOCK_KEY_PREFIX::formatted).toList();
+        return lockExecutor.executeWithFencingTokens(lockKeys,
+                                                     0L,
+                                                     REDISSON_SEAT_LOCK_LEASE_MILLIS,
+                                                     MILLISECONDS,
+                                                     tokens -> holdAll(performanceId, sortedSeatIds, lockKeys, tokens));
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 좌석마다 발급받은 펜싱 토큰을 조건으로 좌석을 임시 예약 상태로 변경합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 좌석 ID 목록 (오름차순)
+     * @param lockKeys      - 좌석 ID 순서와 같은 락 키 목록
+     * @param tokens        - 락 키별 펜싱 토큰
+     * @return 선점한 좌석 목록 (좌석 ID 오름차순)
+     */
+    private List<Seat> holdAll(final Long performanceId,
+                               final List<Long> seatIds,
+                               final List<String> lockKeys,
+                               final Map<String, Long> tokens) {
+        for (int i = 0; i < seatIds.size(); i++) {
+            int updated = seatRepository.holdAvailableSeatWithFencingToken(seatIds.get(i),
+                                                                           performanceId,
+                                                                           AVAILABLE,
+                                                                           TEMPORARY_RESERVED,
+                                                                           tokens.get(lockKeys.get(i)));
+            if (updated == 0) {
+                if (seatRepository.countByIdInAndPerformanceId(seatIds, performanceId) != seatIds.size())
+                    throw new BusinessException(SEAT_NOT_FOUND);
+                throw new BusinessException(SEAT_ALREADY_RESERVED);
+            }
+        }
+
+        // 변경된 좌석은 아직 영속성 컨텍스트에 없으므로 DB에서 변경된 상태로 조회됩니다.
+        return seatRepository.findAllById(seatIds).stream().sorted(Comparator.comparing(Seat::getId)).toList();
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.example.demo.domain.reservation.strategy;
+
+import static com.example.demo.common.response.ErrorCode.SEAT_ALREADY_RESERVED;
+import static com.example.demo.common.response.ErrorCode.SEAT_NOT_FOUND;
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.OPTIMISTIC;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dao.SeatRepository;
+import com.example.demo.domain.performance.model.Seat;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : OptimisticSeatHoldStrategy
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 조건부 UPDATE 좌석 선점 전략
+ *               좌석을 미리 읽지 않고 "예약 가능한 좌석만 변경"하는 UPDATE 한 번으로 선점하여, 행 락을 UPDATE 실행 동안만 보유합니다.
+ *               변경된 행 수가 요청한 좌석 수와 다르면 다른 요청이 먼저 선점한 것이므로 예외를 던지고 트랜잭션을 롤백합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+public class OptimisticSeatHoldStrategy implements SeatHoldStrategy {
+
+    private final SeatRepository seatRepository;
+
+    @Override
+    public SeatHoldStrategyType getType() {
+        return OPTIMISTIC;
+    }
+
+    @Override
+    public List<Seat> hold(final Long performanceId, final List<Long> seatIds) {
+        int updated = seatRepository.holdAvailableSeats(seatIds, performanceId, AVAILABLE, TEMPORARY_RESERVED);
+        if (updated != seatIds.size()) {
+            if (seatRepository.countByIdInAndPerformanceId(seatIds, performanceId) != seatIds.size())
+                throw new BusinessException(SEAT_NOT_FOUND);
+            throw new BusinessException(SEAT_ALREADY_RESERVED);
+        }
+
+        // 변경된 좌석은 아직 영속성 컨텍스트에 없으므로 DB에서 변경된 상태로 조회됩니다.
+        return seatRepository.findAllById(seatIds).stream().sorted(Comparator.comparing(Seat::getId)).toList();
+    }
+
+}
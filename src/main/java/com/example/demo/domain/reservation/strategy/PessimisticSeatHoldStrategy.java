@@ -0,0 +1,40 @@
+package com.example.demo.domain.reservation.strategy;
+
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.PESSIMISTIC;
+
+import com.example.demo.domain.performance.dao.SeatRepository;
+import com.example.demo.domain.performance.model.Seat;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : PessimisticSeatHoldStrategy
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : DB 비관적 락 좌석 선점 전략
+ *               좌석 행을 ID 순으로 SELECT ... FOR UPDATE 하여 트랜잭션이 끝날 때까지 다른 요청을 대기시킵니다.
+ *               Redis 없이도 정합성이 보장되므로 기본 전략이자, Redis 재고 선점이 불가능할 때의 대체 전략입니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticSeatHoldStrategy extends AbstractSeatHoldStrategy {
+
+    private final SeatRepository seatRepository;
+
+    @Override
+    public SeatHoldStrategyType getType() {
+        return PESSIMISTIC;
+    }
+
+    @Override
+    public List<Seat> hold(final Long performanceId, final List<Long> seatIds) {
+        return reserveAll(performanceId, seatIds, seatRepository.findAllByIdInWithLock(seatIds));
+    }
+
+}
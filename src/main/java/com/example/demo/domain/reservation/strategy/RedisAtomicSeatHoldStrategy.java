@@ -0,0 +1,41 @@
+package com.example.demo.domain.reservation.strategy;
+
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.REDIS_ATOMIC;
+
+import com.example.demo.domain.performance.dao.SeatRepository;
+import com.example.demo.domain.performance.model.Seat;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : RedisAtomicSeatHoldStrategy
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : Redis 원자적 선점 좌석 선점 전략
+ *               Redis 좌석 재고에서 Lua 스크립트로 선점에 성공한 요청만 호출되므로, 같은 좌석을 동시에 변경하는 요청이 없다고 보고
+ *               DB 락 없이 좌석을 변경합니다. 재고가 DB와 어긋난 경우는 좌석의 @Version 검사로 막습니다.
+ *               Redis 재고에서 선점하지 못한 요청(Redis 장애 등)에는 사용할 수 없으며, 이 경우 비관적 락 전략으로 대체됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisAtomicSeatHoldStrategy extends AbstractSeatHoldStrategy {
+
+    private final SeatRepository seatRepository;
+
+    @Override
+    public SeatHoldStrategyType getType() {
+        return REDIS_ATOMIC;
+    }
+
+    @Override
+    public List<Seat> hold(final Long performanceId, final List<Long> seatIds) {
+        return reserveAll(performanceId, seatIds, seatRepository.findAllById(seatIds));
+    }
+
+}
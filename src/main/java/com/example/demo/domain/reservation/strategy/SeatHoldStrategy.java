@@ -0,0 +1,32 @@
+package com.example.demo.domain.reservation.strategy;
+
+import com.example.demo.domain.performance.model.Seat;
+import java.util.List;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : SeatHoldStrategy
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 선점 동시성 제어 전략
+ *               예약 트랜잭션 안에서 호출되며, 좌석을 임시 예약 상태로 변경한 뒤 반환합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public interface SeatHoldStrategy {
+
+    SeatHoldStrategyType getType();
+
+    /**
+     * 좌석을 임시 예약 상태로 선점합니다. 공연에 속하지 않거나 존재하지 않는 좌석이 있으면 SEAT_NOT_FOUND,
+     * 이미 선점되었거나 판매된 좌석이 있으면 SEAT_ALREADY_RESERVED 예외를 던지며, 이 경우 아무 좌석도 선점하지 않습니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 중복 없이 오름차순 정렬된 좌석 ID 목록
+     * @return 선점한 좌석 목록 (좌석 ID 오름차순)
+     */
+    List<Seat> hold(Long performanceId, List<Long> seatIds);
+
+}
@@ -0,0 +1,74 @@
+package com.example.demo.domain.reservation.strategy;
+
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.PESSIMISTIC;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.REDIS_ATOMIC;
+
+import com.example.demo.domain.reservation.properties.SeatHoldProperties;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : SeatHoldStrategyResolver
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연별 좌석 선점 전략 선택
+ *               공연별로 지정된 전략이 있으면 그 전략을, 없으면 기본 전략을 사용합니다.
+ *               단일 작성자(SINGLE_WRITER) 전략은 트랜잭션 안에서 좌석을 선점하는 전략이 아니므로 등록된 전략이 없으며,
+ *               SeatHoldMailboxRouter가 처리합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+public class SeatHoldStrategyResolver {
+
+    private final SeatHoldProperties                          seatHoldProperties;
+    private final Map<SeatHoldStrategyType, SeatHoldStrategy> strategies = new EnumMap<>(SeatHoldStrategyType.class);
+
+    public SeatHoldStrategyResolver(final SeatHoldProperties seatHoldProperties,
+                                    final List<SeatHoldStrategy> strategies) {
+        this.seatHoldProperties = seatHoldProperties;
+        strategies.forEach(strategy -> this.strategies.put(strategy.getType(), strategy));
+    }
+
+    /**
+     * 공연에 사용할 좌석 선점 전략 유형을 반환합니다.
+     * Redis 원자적 선점 전략은 Redis 재고에서 선점한 경우에만 안전하므로, 선점하지 못했다면 비관적 락 전략으로 대체합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param inventoryHeld - Redis 좌석 재고에서 선점했는지 여부
+     * @return 좌석 선점 전략 유형
+     */
+    public SeatHoldStrategyType resolve(final Long performanceId, final boolean inventoryHeld) {
+        SeatHoldStrategyType type = getConfiguredType(performanceId);
+        return type == REDIS_ATOMIC && !inventoryHeld ? PESSIMISTIC : type;
+    }
+
+    /**
+     * 공연에 지정된 좌석 선점 전략 유형을 반환합니다. 지정된 전략이 없으면 기본 전략 유형을 반환합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @return 좌석 선점 전략 유형
+     */
+    public SeatHoldStrategyType getConfiguredType(final Long performanceId) {
+        return seatHoldProperties.getPerformanceStrategies()
+                                 .getOrDefault(performanceId, seatHoldProperties.getDefaultStrategy());
+    }
+
+    /**
+     * 유형에 해당하는 좌석 선점 전략을 반환합니다.
+     *
+     * @param type - 좌석 선점 전략 유형
+     * @return 좌석 선점 전략
+     */
+    public SeatHoldStrategy getStrategy(final SeatHoldStrategyType type) {
+        SeatHoldStrategy strategy = strategies.get(type);
+        if (strategy == null) throw new IllegalStateException("등록되지 않은 좌석 선점 전략: " + type);
+        return strategy;
+    }
+
+}
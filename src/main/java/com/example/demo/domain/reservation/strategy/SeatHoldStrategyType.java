@@ -0,0 +1,30 @@
+package com.example.demo.domain.reservation.strategy;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : SeatHoldStrategyType
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 선점 동시성 제어 전략 유형
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public enum SeatHoldStrategyType {
+    PESSIMISTIC(false),         // DB 비관적 락(SELECT ... FOR UPDATE)
+    DISTRIBUTED_LOCK(true),     // 좌석별 Redisson 분산 락
+    OPTIMISTIC(true),           // 조건부 UPDATE(AVAILABLE인 좌석만 변경)
+    REDIS_ATOMIC(true),         // Redis 좌석 재고의 원자적 선점 결과를 신뢰
+    SINGLE_WRITER(true);        // 공연별 단일 작성자 메일박스에서 여러 요청을 한 트랜잭션으로 일괄 선점
+
+    private final boolean retryable;   // 교착 상태, 좌석 버전 충돌 등 일시적인 동시성 오류 시 재시도 가능 여부
+
+}
@@ -0,0 +1,201 @@
+package com.example.demo.domain.reservation.verification;
+
+import static com.example.demo.common.response.ErrorCode.PAYMENT_VERIFICATION_NOT_FOUND;
+import static com.example.demo.common.response.ErrorCode.PAYMENT_VERIFICATION_UNAVAILABLE;
+import static com.example.demo.domain.reservation.model.PaymentVerificationStatus.FAILED;
+import static com.example.demo.domain.reservation.model.PaymentVerificationStatus.PENDING;
+import static com.example.demo.domain.reservation.model.PaymentVerificationStatus.SUCCEEDED;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_PAYMENT_VERIFICATION_EXPIRE_MINUTES;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_PAYMENT_VERIFICATION_KEY_PREFIX;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.common.response.ErrorCode;
+import com.example.demo.domain.reservation.dto.PaymentResponse.PaymentVerificationResponse;
+import com.example.demo.domain.reservation.dto.PaymentVerificationValue;
+import com.example.demo.domain.reservation.facade.ReservationFacade;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.verification
+ * FileName    : AsyncPaymentVerifier
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 비동기 결제 검증 컴포넌트
+ *               결제 검증 요청을 PG사 결제 ID 단위로 Redis에 접수한 뒤 가상 스레드에서 검증하므로, 요청 스레드는 PG사 API 응답을 기다리지
+ *               않고 바로 반환됩니다. 검증 상태는 Redis에 기록되어 어느 노드에서든 조회할 수 있습니다.
+ *               가상 스레드는 제한 없이 생성되므로, 동시에 진행하는 검증 수를 primary 커넥션 풀 크기로 제한해 DB 커넥션 대기가 다른
+ *               요청으로 번지지 않게 합니다. 검증을 시작하지 못했거나 비즈니스 예외가 아닌 오류로 실패한 검증은 요청을 삭제해 다시
+ *               접수할 수 있게 합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@Slf4j
+public class AsyncPaymentVerifier {
+
+    private static final long POLL_AFTER_MILLIS        = 500L;  // 검증 진행 중 권장 상태 조회 간격(ms)
+    private static final long PERMIT_TIMEOUT_SECONDS   = 10L;   // 동시 검증 수 제한으로 검증 시작을 기다리는 최대 시간(s)
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;   // 종료 시 진행 중인 검증을 기다리는 시간(s)
+
+    private final ReservationFacade reservationFacade;
+    private final RedisRepository   redisRepository;
+    private final Semaphore         permits;    // 동시에 진행하는 검증 수 제한
+    private final ExecutorService   executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("payment-verification-", 0).factory()
+    );
+
+    public AsyncPaymentVerifier(
+            final ReservationFacade reservationFacade,
+            final RedisRepository redisRepository,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") final int maxConcurrentVerifications
+    ) {
+        this.reservationFacade = reservationFacade;
+        this.redisRepository = redisRepository;
+        this.permits = new Semaphore(maxConcurrentVerifications);
+    }
+
+    /**
+     * 결제 검증을 접수하고 가상 스레드에서 검증합니다. 같은 결제의 검증이 이미 접수되어 있다면 다시 검증하지 않고 현재 상태를 반환합니다.
+     *
+     * @param accountId  - 계정 ID
+     * @param paymentKey - PG사 결제 ID
+     * @param clientIp   - 결제 요청 클라이언트 IP
+     * @return 결제 검증 상태 응답 DTO
+     */
+    public PaymentVerificationResponse submit(final UUID accountId, final String paymentKey, final String clientIp) {
+        String                   redisKey = getVerificationRedisKey(paymentKey);
+        PaymentVerificationValue value    = new PaymentVerificationValue(accountId, PENDING, null, null);
+        if (!redisRepository.setValueIfAbsent(redisKey, value, getExpireDuration()))
+            return getStatus(accountId, paymentKey);
+
+        try {
+            executor.execute(() -> verify(accountId, paymentKey, clientIp));
+        } catch (RejectedExecutionException e) {
+            redisRepository.deleteData(redisKey);
+            throw new BusinessException(PAYMENT_VERIFICATION_UNAVAILABLE);
+        }
+        return toResponse(paymentKey, value);
+    }
+
+    /**
+     * 결제 검증 상태를 조회합니다. 다른 계정이 접수한 검증은 조회할 수 없습니다.
+     *
+     * @param accountId  - 계정 ID
+     * @param paymentKey - PG사 결제 ID
+     * @return 결제 검증 상태 응답 DTO
+     */
+    public PaymentVerificationResponse getStatus(final UUID accountId, final String paymentKey) {
+        PaymentVerificationValue value = redisRepository.getValue(getVerificationRedisKey(paymentKey),
+                                                                  PaymentVerificationValue.class)
+                                                        .filter(v -> accountId.equals(v.getAccountId()))
+                                                        .orElseThrow(() -> new BusinessException(
+                                                                PAYMENT_VERIFICATION_NOT_FOUND
+                                                        ));
+        return toResponse(paymentKey, value);
+    }
+
+    /**
+     * 애플리케이션 종료 시 새 검증 접수를 막고, 진행 중인 검증이 끝나기를 기다립니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, SECONDS))
+                log.warn("종료 전까지 끝나지 않은 결제 검증이 있습니다. 결제 상태 확인이 필요합니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 동시 검증 수 제한 안에서 결제를 검증하고 결과를 기록합니다. 결과 기록에 실패하면 상태가 만료될 때까지 PENDING으로 조회됩니다.
+     * 제한 시간 안에 검증을 시작하지 못했거나 비즈니스 예외가 아닌 오류로 실패하면, 결과 대신 요청을 삭제해 다시 접수할 수 있게 합니다.
+     *
+     * @param accountId  - 계정 ID
+     * @param paymentKey - PG사 결제 ID
+     * @param clientIp   - 결제 요청 클라이언트 IP
+     */
+    private void verify(final UUID accountId, final String paymentKey, final String clientIp) {
+        try {
+            if (!permits.tryAcquire(PERMIT_TIMEOUT_SECONDS, SECONDS)) {
+                log.warn("동시 결제 검증 수 제한으로 검증을 시작하지 못함 - paymentKey: {}", paymentKey);
+                deleteVerification(paymentKey);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteVerification(paymentKey);
+            return;
+        }
+
+        PaymentVerificationValue result;
+        try {
+            reservationFacade.verifyPayment(accountId, paymentKey, clientIp);
+            result = new PaymentVerificationValue(accountId, SUCCEEDED, null, null);
+        } catch (BusinessException e) {
+            result = failed(accountId, e.getErrorCode());
+        } catch (Exception e) {
+            log.error("비동기 결제 검증 중 오류 발생 - paymentKey: {}", paymentKey, e);
+            deleteVerification(paymentKey);
+            return;
+        } finally {
+            permits.release();
+        }
+
+        try {
+            redisRepository.setValue(getVerificationRedisKey(paymentKey), result, getExpireDuration());
+        } catch (Exception e) {
+            log.error("비동기 결제 검증 결과 기록 실패 - paymentKey: {}, status: {}", paymentKey, result.getStatus(), e);
+        }
+    }
+
+    /**
+     * 결제 검증 요청을 삭제해 같은 결제를 다시 접수할 수 있게 합니다. 삭제에 실패하면 상태가 만료될 때까지 PENDING으로 조회됩니다.
+     *
+     * @param paymentKey - PG사 결제 ID
+     */
+    private void deleteVerification(final String paymentKey) {
+        try {
+            redisRepository.deleteData(getVerificationRedisKey(paymentKey));
+        } catch (Exception e) {
+            log.error("비동기 결제 검증 요청 삭제 실패 - paymentKey: {}", paymentKey, e);
+        }
+    }
+
+    private PaymentVerificationValue failed(final UUID accountId, final ErrorCode errorCode) {
+        return new PaymentVerificationValue(accountId, FAILED, errorCode.getCode(), errorCode.getMessage());
+    }
+
+    private PaymentVerificationResponse toResponse(final String paymentKey, final PaymentVerificationValue value) {
+        return new PaymentVerificationResponse(paymentKey,
+                                               value.getStatus(),
+                                               value.getErrorCode(),
+                                               value.getErrorMessage(),
+                                               value.getStatus() == PENDING ? POLL_AFTER_MILLIS : 0L);
+    }
+
+    private String getVerificationRedisKey(final String paymentKey) {
+        return REDIS_PAYMENT_VERIFICATION_KEY_PREFIX.formatted(paymentKey);
+    }
+
+    private Duration getExpireDuration() {
+        return Duration.ofMinutes(REDIS_PAYMENT_VERIFICATION_EXPIRE_MINUTES);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.example.demo.infra.config;
 
+import com.example.demo.domain.reservation.properties.SeatHoldProperties;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
@@ -69,4 +70,32 @@ public class RestClientConfig {
                       .build();
     }
 
+    @Bean("seatHoldRestClient")
+    public RestClient seatHoldRestClient(final RestClient.Builder builder,
+                                         final SeatHoldProperties seatHoldProperties) {
+        long timeoutMillis = seatHoldProperties.getSingleWriter().getRequestTimeoutMillis();
+
+        // 담당 노드는 요청 처리 시간이 초과되어도 이미 처리 중인 요청의 결과를 기다리므로 응답 타임아웃을 여유 있게 설정
+        RequestConfig requestConfig = RequestConfig.custom()
+                                                   .setConnectionRequestTimeout(Timeout.ofMilliseconds(timeoutMillis))
+                                                   .setResponseTimeout(Timeout.ofMilliseconds(timeoutMillis * 2))
+                                                   .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(200);
+        connectionManager.setDefaultMaxPerRoute(100);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                                                                     .setConnectTimeout(
+                                                                             Timeout.ofMilliseconds(timeoutMillis)
+                                                                     )
+                                                                     .build());
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                                                    .setConnectionManager(connectionManager)
+                                                    .setDefaultRequestConfig(requestConfig)
+                                                    .build();
+
+        return builder.requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient)).build();
+    }
+
 }
@@ -0,0 +1,223 @@
+package com.example.demo.infra.datasource;
+
+import com.example.demo.infra.datasource.properties.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.util.StringUtils;
+
+/**
+ * PackageName : com.example.demo.infra.datasource
+ * FileName    : ReplicaLagMonitor
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 읽기 전용 복제본 커넥션 풀 및 복제 지연 감시
+ *               복제본마다 별도의 커넥션 풀을 두고, 주기적으로 복제 지연 시간을 확인해 허용 지연 이내인 복제본만 라우팅 대상으로 유지합니다.
+ *               라우팅 대상 복제본이 없으면 읽기 전용 트랜잭션도 primary를 사용합니다.
+ *               지연 확인은 공용 스케줄러와 분리된 전용 스레드에서 실행하며, 확인이 밀려 결과가 오래되면(확인 주기의 3배) 마지막
+ *               결과와 관계없이 라우팅에서 제외합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Slf4j
+public class ReplicaLagMonitor implements InitializingBean, DisposableBean {
+
+    private static final String REPLICA_STATUS_QUERY      = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN                = "Seconds_Behind_Source";
+    private static final long   UNKNOWN_LAG               = -1L;
+    private static final int    LAG_QUERY_TIMEOUT_SECONDS = 1;
+
+    private final List<Replica>            replicas = new ArrayList<>();
+    private final long                     maxLagSeconds;
+    private final long                     healthCheckIntervalMillis;
+    private final long                     healthCheckExpiryNanos;          // 이보다 오래된 확인 결과는 라우팅에 사용하지 않음
+    private final AtomicInteger            counter  = new AtomicInteger();  // 라운드 로빈 순번
+    private       ScheduledExecutorService scheduler;                       // 복제 지연 확인 전용 스레드
+
+    public ReplicaLagMonitor(final ReplicaDataSourceProperties properties,
+                             final DataSourceProperties primaryProperties,
+                             final MeterRegistry meterRegistry) {
+        this(createDataSources(properties, primaryProperties, meterRegistry),
+             properties.getMaxLagSeconds(),
+             properties.getHealthCheckIntervalMillis(),
+             properties.getHealthCheckExpiryMillis(),
+             meterRegistry);
+    }
+
+    ReplicaLagMonitor(final Map<String, HikariDataSource> dataSources,
+                      final long maxLagSeconds,
+                      final long healthCheckIntervalMillis,
+                      final long healthCheckExpiryMillis,
+                      final MeterRegistry meterRegistry) {
+        this.maxLagSeconds = maxLagSeconds;
+        this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+        this.healthCheckExpiryNanos = TimeUnit.MILLISECONDS.toNanos(healthCheckExpiryMillis);
+
+        dataSources.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            replicas.add(replica);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                 .description("복제본의 복제 지연 시간(초), 확인 실패 시 -1")
+                 .tag("replica", replica.name)
+                 .baseUnit("seconds")
+                 .register(meterRegistry);
+        });
+    }
+
+    /**
+     * 복제본 이름별 커넥션 풀을 반환합니다.
+     *
+     * @return 복제본 이름 -> 커넥션 풀
+     */
+    public Map<String, HikariDataSource> getDataSources() {
+        Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.dataSource));
+        return dataSources;
+    }
+
+    /**
+     * 라우팅 대상 복제본 중 하나를 라운드 로빈으로 선택합니다. 확인 결과가 오래된 복제본은 라우팅 대상에서 제외합니다.
+     *
+     * @return 복제본 이름, 라우팅 대상 복제본이 없으면 null
+     */
+    public String selectReplica() {
+        int size = replicas.size();
+        if (size == 0) return null;
+
+        long now   = System.nanoTime();
+        int  start = Math.floorMod(counter.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy && now - replica.checkedAt <= healthCheckExpiryNanos) return replica.name;
+        }
+        return null;
+    }
+
+    /**
+     * 복제본별 복제 지연 시간을 확인해 라우팅 대상 여부를 갱신합니다.
+     * 복제가 멈췄거나(지연 시간 NULL) 확인에 실패한 복제본은 다음 확인에서 허용 지연 이내로 돌아올 때까지 제외합니다.
+     */
+    public void checkReplicationLag() {
+        for (Replica replica : replicas) {
+            long    lagSeconds = readLagSeconds(replica);
+            boolean healthy    = lagSeconds != UNKNOWN_LAG && lagSeconds <= maxLagSeconds;
+
+            if (replica.healthy && !healthy)
+                log.warn("복제본 라우팅 제외 - replica: {}, lag: {}s", replica.name, lagSeconds);
+            else if (!replica.healthy && healthy)
+                log.info("복제본 라우팅 재개 - replica: {}, lag: {}s", replica.name, lagSeconds);
+
+            replica.lagSeconds = lagSeconds;
+            replica.checkedAt = System.nanoTime();
+            replica.healthy = healthy;
+        }
+    }
+
+    /**
+     * 전용 스레드에서 복제 지연 확인을 시작합니다. 공용 스케줄러의 다른 작업이 밀려도 확인 주기가 지켜집니다.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon().factory()
+        );
+        scheduler.scheduleWithFixedDelay(this::checkReplicationLag,
+                                         0L,
+                                         healthCheckIntervalMillis,
+                                         TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) scheduler.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 복제본마다 읽기 전용 커넥션 풀을 생성합니다. 계정/비밀번호가 비어 있으면 primary의 계정/비밀번호를 사용합니다.
+     *
+     * @param properties        - 복제본 설정
+     * @param primaryProperties - primary DataSource 설정
+     * @param meterRegistry     - 커넥션 풀 지표를 등록할 레지스트리
+     * @return 복제본 이름(커넥션 풀 이름) -> 커넥션 풀
+     */
+    private static Map<String, HikariDataSource> createDataSources(final ReplicaDataSourceProperties properties,
+                                                                   final DataSourceProperties primaryProperties,
+                                                                   final MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+
+        List<String> urls = properties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setDriverClassName(primaryProperties.determineDriverClassName());
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(StringUtils.hasText(properties.getUsername()) ? properties.getUsername()
+                                                                             : primaryProperties.determineUsername());
+            config.setPassword(StringUtils.hasText(properties.getPassword()) ? properties.getPassword()
+                                                                             : primaryProperties.determinePassword());
+            config.setMaximumPoolSize(properties.getMaximumPoolSize());
+            config.setMinimumIdle(properties.getMaximumPoolSize());
+            config.setReadOnly(true);
+            config.setConnectionTimeout(properties.getConnectionTimeoutMillis());    // 응답 없는 복제본에서 오래 대기하지 않음
+            config.setInitializationFailTimeout(-1);    // 복제본이 내려가 있어도 애플리케이션은 primary로 기동
+            config.setMetricRegistry(meterRegistry);
+
+            dataSources.put(config.getPoolName(), new HikariDataSource(config));
+        }
+        return dataSources;
+    }
+
+    /**
+     * 복제본의 복제 지연 시간을 조회합니다. 복제 중이 아닌 서버(복제 상태가 없음)는 지연이 없는 것으로 봅니다.
+     *
+     * @param replica - 복제본
+     * @return 복제 지연 시간(초), 복제가 멈췄거나 확인에 실패하면 UNKNOWN_LAG
+     */
+    private long readLagSeconds(final Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(LAG_QUERY_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+                if (!resultSet.next()) return 0L;
+
+                long lagSeconds = resultSet.getLong(LAG_COLUMN);
+                return resultSet.wasNull() ? UNKNOWN_LAG : lagSeconds;
+            }
+        } catch (Exception e) {
+            log.debug("복제 지연 확인 실패 - replica: {}", replica.name, e);
+            return UNKNOWN_LAG;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Replica {
+        private final    String           name;                     // 복제본 이름 (커넥션 풀 이름)
+        private final    HikariDataSource dataSource;               // 복제본 커넥션 풀
+        private volatile long             lagSeconds = UNKNOWN_LAG; // 마지막으로 확인한 복제 지연 시간
+        private volatile long             checkedAt;                // 마지막으로 확인한 시각 (System.nanoTime)
+        private volatile boolean          healthy;                  // 라우팅 대상 여부
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.example.demo.infra.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PackageName : com.example.demo.infra.datasource
+ * FileName    : ReplicaRoutingDataSource
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 읽기 전용 트랜잭션 복제본 라우팅 DataSource
+ *               읽기 전용 트랜잭션은 복제 지연이 허용 범위 이내인 복제본으로, 그 외에는 primary로 라우팅합니다.
+ *               트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy로 감싸서
+ *               첫 SQL 실행 시점에 커넥션을 선택해야 합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(final DataSource primaryDataSource, final ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+
+        Map<Object, Object> targetDataSources = new HashMap<>(replicaLagMonitor.getDataSources());
+        targetDataSources.put(PRIMARY, primaryDataSource);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return PRIMARY;
+
+        String replica = replicaLagMonitor.selectReplica();
+        return replica != null ? replica : PRIMARY;
+    }
+
+}
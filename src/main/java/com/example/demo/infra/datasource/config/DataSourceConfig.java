@@ -0,0 +1,57 @@
+package com.example.demo.infra.datasource.config;
+
+import com.example.demo.infra.datasource.ReplicaLagMonitor;
+import com.example.demo.infra.datasource.ReplicaRoutingDataSource;
+import com.example.demo.infra.datasource.properties.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * PackageName : com.example.demo.infra.datasource.config
+ * FileName    : DataSourceConfig
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : primary/복제본 DataSource 설정
+ *               replica-datasource.enabled가 true일 때만 적용되며, 그 외에는 Spring Boot 기본 DataSource를 사용합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "replica-datasource", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                                                          .type(HikariDataSource.class)
+                                                          .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(final ReplicaDataSourceProperties replicaDataSourceProperties,
+                                               final DataSourceProperties dataSourceProperties,
+                                               final MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSourceProperties, dataSourceProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final HikariDataSource primaryDataSource,
+                                 final ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaLagMonitor));
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.example.demo.infra.datasource.properties;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * PackageName : com.example.demo.infra.datasource.properties
+ * FileName    : ReplicaDataSourceProperties
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 읽기 전용 복제본 DB 설정
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "replica-datasource")
+@Getter
+public class ReplicaDataSourceProperties {
+
+    private static final long LAG_PRECISION_MILLIS         = 1000L; // 복제 지연 시간은 초 단위로 내림되어 측정됨
+    private static final int  HEALTH_CHECK_EXPIRY_INTERVALS = 3;     // 확인 결과를 라우팅에 사용하는 기간 (확인 주기 배수)
+
+    private final boolean      enabled;                     // 읽기 전용 트랜잭션의 복제본 라우팅 여부
+    private final List<String> urls;                        // 복제본 JDBC URL 목록
+    private final String       username;                    // 복제본 계정 (비어 있으면 primary 계정 사용)
+    private final String       password;                    // 복제본 비밀번호 (비어 있으면 primary 비밀번호 사용)
+    private final int          maximumPoolSize;             // 복제본별 커넥션 풀 크기
+    private final long         maxLagSeconds;               // 라우팅 대상으로 유지할 최대 복제 지연 시간
+    private final long         healthCheckIntervalMillis;   // 복제 지연 확인 주기
+    private final long         connectionTimeoutMillis;     // 복제본 커넥션 획득 대기 시간
+
+    @ConstructorBinding
+    public ReplicaDataSourceProperties(@DefaultValue("false") final boolean enabled,
+                                       @DefaultValue final List<String> urls,
+                                       final String username,
+                                       final String password,
+                                       @DefaultValue("10") final int maximumPoolSize,
+                                       @DefaultValue("1") final long maxLagSeconds,
+                                       @DefaultValue("1000") final long healthCheckIntervalMillis,
+                                       @DefaultValue("1000") final long connectionTimeoutMillis) {
+        this.enabled = enabled;
+        this.urls = urls;
+        this.username = username;
+        this.password = password;
+        this.maximumPoolSize = maximumPoolSize;
+        this.maxLagSeconds = maxLagSeconds;
+        this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+    }
+
+    /**
+     * 복제 지연 확인 결과를 라우팅에 사용하는 기간을 반환합니다. 확인이 밀려 이보다 오래된 결과는 라우팅에 사용하지 않습니다.
+     *
+     * @return 확인 결과 유효 기간(ms)
+     */
+    public long getHealthCheckExpiryMillis() {
+        return healthCheckIntervalMillis * HEALTH_CHECK_EXPIRY_INTERVALS;
+    }
+
+    /**
+     * 복제본에서 커밋 이전의 데이터를 읽을 수 있는 최대 시간을 반환합니다. 복제 지연 확인 결과는 유효 기간 동안 사용하므로 유효 기간만큼
+     * 더하고, 측정값(Seconds_Behind_Source)은 초 단위로 내림되므로 1초를 더합니다.
+     *
+     * @return 최대 지연 시간(ms), 복제본을 사용하지 않으면 0
+     */
+    public long getStaleReadWindowMillis() {
+        return enabled ? maxLagSeconds * 1000 + LAG_PRECISION_MILLIS + getHealthCheckExpiryMillis() : 0L;
+    }
+
+}
@@ -0,0 +1,419 @@
+package com.example.demo.infra.redis.cache;
+
+import static com.example.demo.common.response.ErrorCode.INTERNAL_SERVER_ERROR;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_CACHE_GENERATION_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_CACHE_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_CACHE_LOAD_FAILURE_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_CACHE_LOAD_FAILURE_MILLIS;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_CACHE_LOAD_LEASE_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_CACHE_LOAD_LEASE_MILLIS;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_CACHE_LOAD_POLL_MILLIS;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.common.response.ErrorCode;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PackageName : com.example.demo.infra.redis.cache
+ * FileName    : TwoLevelCache
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 로컬 캐시(L1, Caffeine)와 Redis 캐시(L2)를 차례로 조회하는 2단계 캐시
+ *               Redis 키에 캐시 세대 번호를 붙이고, 무효화 시 세대 번호를 올려 이전 세대의 키를 한 번에 버립니다.
+ *               무효화 이전에 조회를 시작한 요청은 이전 세대의 키에만 저장하므로, 무효화 이후 다시 오래된 값이 조회되지 않습니다.
+ *               Redis 장애 시에는 L2를 건너뛰고 원본에서 조회합니다.
+ *               단건 조회는 같은 키의 원본 조회를 노드 안에서는 하나로 합치고, 노드 간에는 짧은 Redis 임대를 얻은 노드만 원본을 조회하게 하여
+ *               인기 공연 오픈 시점처럼 같은 키에 요청이 몰려도 원본 조회는 한 번만 실행됩니다.
+ *               원본 조회 결과가 null이거나 예외가 발생하면 짧은 실패 기록을 Redis에 남겨, 기다리던 노드들이 차례로 원본을 다시 조회하지 않고
+ *               같은 결과(null 또는 같은 오류 코드의 BusinessException)를 받습니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private static final Duration LOAD_LEASE_TTL   = Duration.ofMillis(REDIS_CACHE_LOAD_LEASE_MILLIS);
+    private static final Duration LOAD_FAILURE_TTL = Duration.ofMillis(REDIS_CACHE_LOAD_FAILURE_MILLIS);
+    private static final String   NULL_RESULT      = "NULL";   // 원본 조회 결과가 null임을 나타내는 실패 기록 값
+
+    private final String                            name;
+    private final Class<V>                          type;
+    private final Cache<String, V>                  local;
+    private final Duration                          remoteTtl;
+    private final RedisRepository                   redisRepository;
+    private final Consumer<String>                  invalidationPublisher;                 // 다른 노드에 로컬 캐시 무효화 전파
+    private final AtomicLong                        localEpoch = new AtomicLong();         // 로컬 캐시 무효화 횟수
+    private final Map<String, CompletableFuture<V>> inFlight   = new ConcurrentHashMap<>();  // 진행 중인 원본 조회
+    private final Counter                           executedLoads;                         // 원본 조회 실행 횟수
+    private final Counter                           coalescedLoads;                        // 노드 안에서 합류한 조회 횟수
+    private final Counter                           remoteCoalescedLoads;                  // 다른 노드의 조회 결과를 받은 횟수
+
+    TwoLevelCache(final String name,
+                  final Class<V> type,
+                  final Duration localTtl,
+                  final Duration remoteTtl,
+                  final long localMaxSize,
+                  final RedisRepository redisRepository,
+                  final Consumer<String> invalidationPublisher,
+                  final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.type = type;
+        this.local = Caffeine.newBuilder().expireAfterWrite(localTtl).maximumSize(localMaxSize).build();
+        this.remoteTtl = remoteTtl;
+        this.redisRepository = redisRepository;
+        this.invalidationPublisher = invalidationPublisher;
+        this.executedLoads = registerLoadCounter(meterRegistry, "executed");
+        this.coalescedLoads = registerLoadCounter(meterRegistry, "coalesced");
+        this.remoteCoalescedLoads = registerLoadCounter(meterRegistry, "remote_coalesced");
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 원본에서 조회하여 캐시에 저장합니다. 원본 조회 결과가 null이면 값 대신 짧은 실패 기록만 남깁니다.
+     * 같은 키를 조회 중인 요청이 이 노드에 있으면 그 결과를 함께 받으며, 원본 조회에서 발생한 예외도 그대로 전달됩니다.
+     *
+     * @param key    - 캐시 키
+     * @param loader - 원본 조회 함수
+     * @return 조회된 값
+     */
+    public V get(final String key, final Supplier<V> loader) {
+        V value = local.getIfPresent(key);
+        if (value != null) return value;
+
+        String               flightKey = localEpoch.get() + ":" + key;   // 무효화 이전에 시작된 조회에는 합류하지 않음
+        CompletableFuture<V> flight    = new CompletableFuture<>();
+        CompletableFuture<V> leader    = inFlight.putIfAbsent(flightKey, flight);
+        if (leader != null) {
+            coalescedLoads.increment();
+            return join(leader);
+        }
+
+        try {
+            value = load(key, loader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * 캐시에서 여러 값을 조회하고, 캐시에 없는 키만 모아 원본에서 한 번에 조회하여 캐시에 저장합니다.
+     *
+     * @param keys   - 캐시 키 목록
+     * @param loader - 캐시에 없는 키 목록으로 원본을 조회하는 함수
+     * @return 캐시 키별 값 (원본에도 없는 키는 포함되지 않음)
+     */
+    public Map<String, V> getAll(final Collection<String> keys, final Function<List<String>, Map<String, V>> loader) {
+        Map<String, V> values = new HashMap<>(local.getAllPresent(keys));
+        List<String> missingKeys = keys.stream().filter(key -> !values.containsKey(key)).distinct().toList();
+        if (missingKeys.isEmpty()) return values;
+
+        long           epoch      = localEpoch.get();
+        Long           generation = readGeneration();
+        Map<String, V> found      = readRemote(generation, missingKeys);
+
+        List<String> unloadedKeys = missingKeys.stream().filter(key -> !found.containsKey(key)).toList();
+        if (!unloadedKeys.isEmpty()) {
+            Map<String, V> loaded = loader.apply(unloadedKeys);
+            writeRemote(generation, loaded);
+            found.putAll(loaded);
+        }
+
+        if (epoch == localEpoch.get()) local.putAll(found);   // 조회 도중 무효화되었다면 로컬 캐시에 저장하지 않음
+        values.putAll(found);
+        return values;
+    }
+
+    /**
+     * 모든 노드의 캐시를 무효화합니다. Redis의 세대 번호를 올린 뒤 현재 노드와 다른 노드의 로컬 캐시를 비웁니다.
+     */
+    public void invalidate() {
+        try {
+            redisRepository.increment(getGenerationKey());
+        } catch (Exception e) {
+            log.warn("캐시 세대 번호 변경 실패 - cache: {}", name, e);
+        }
+        invalidateLocal();
+        invalidationPublisher.accept(name);
+    }
+
+    /**
+     * 현재 노드의 로컬 캐시를 비웁니다. Redis 캐시와 다른 노드의 로컬 캐시는 그대로 둡니다.
+     */
+    public void invalidateLocal() {
+        localEpoch.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * Redis 캐시를 조회하고, 없으면 원본에서 조회합니다.
+     *
+     * @param key    - 캐시 키
+     * @param loader - 원본 조회 함수
+     * @return 조회된 값
+     */
+    private V load(final String key, final Supplier<V> loader) {
+        long epoch      = localEpoch.get();
+        Long generation = readGeneration();
+        V    value      = readRemote(generation, List.of(key)).get(key);
+        if (value == null) value = loadWithLease(generation, key, loader);
+
+        if (value != null && epoch == localEpoch.get()) local.put(key, value);
+        return value;
+    }
+
+    /**
+     * Redis 임대를 얻은 노드만 원본에서 조회하여 Redis 캐시에 저장합니다.
+     * 임대를 얻지 못한 노드는 Redis 캐시에 값이나 실패 기록이 저장되기를 기다리며, 둘 다 없는 채로 임대가 풀리면 임대를 얻어 직접 조회합니다.
+     * 실패 기록이 있으면 원본을 조회하지 않고 기록된 결과를 돌려줍니다. 임대 만료 시간까지 아무것도 저장되지 않거나 Redis 장애 시에는
+     * 임대 없이 원본에서 조회합니다.
+     *
+     * @param generation - 캐시 세대 번호, Redis 장애 시 null
+     * @param key        - 캐시 키
+     * @param loader     - 원본 조회 함수
+     * @return 조회된 값
+     */
+    private V loadWithLease(final Long generation, final String key, final Supplier<V> loader) {
+        if (generation == null) return execute(loader);
+
+        String leaseKey   = getLeaseKey(generation, key);
+        String failureKey = getFailureKey(generation, key);
+        String failure    = readFailure(failureKey);
+        if (failure != null) return replayFailure(failure);
+
+        long    deadline = System.nanoTime() + LOAD_LEASE_TTL.toNanos();
+        boolean waited   = false;
+        while (!tryAcquireLease(leaseKey)) {
+            if (System.nanoTime() >= deadline || !sleep()) return execute(loader);
+            waited = true;
+
+            V value = readRemote(generation, List.of(key)).get(key);
+            if (value != null) {
+                remoteCoalescedLoads.increment();
+                return value;
+            }
+            failure = readFailure(failureKey);
+            if (failure != null) {
+                remoteCoalescedLoads.increment();
+                return replayFailure(failure);
+            }
+        }
+
+        try {
+            if (waited) {   // 임대가 풀리기 직전에 저장되었을 수 있음
+                V value = readRemote(generation, List.of(key)).get(key);
+                if (value != null) {
+                    remoteCoalescedLoads.increment();
+                    return value;
+                }
+                failure = readFailure(failureKey);
+                if (failure != null) {
+                    remoteCoalescedLoads.increment();
+                    return replayFailure(failure);
+                }
+            }
+
+            V value;
+            try {
+                value = execute(loader);
+            } catch (BusinessException e) {
+                writeFailure(failureKey, e.getErrorCode().name());
+                throw e;
+            } catch (RuntimeException e) {
+                writeFailure(failureKey, INTERNAL_SERVER_ERROR.name());
+                throw e;
+            }
+
+            if (value != null) writeRemote(generation, Map.of(key, value));
+            else writeFailure(failureKey, NULL_RESULT);
+            return value;
+        } finally {
+            releaseLease(leaseKey);
+        }
+    }
+
+    private V execute(final Supplier<V> loader) {
+        executedLoads.increment();
+        return loader.get();
+    }
+
+    private V join(final CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * 원본 조회 임대를 얻습니다. Redis 장애 시에는 임대를 얻은 것으로 봅니다.
+     *
+     * @param leaseKey - 임대 키
+     * @return 임대 획득 여부
+     */
+    private boolean tryAcquireLease(final String leaseKey) {
+        try {
+            return redisRepository.setValueIfAbsent(leaseKey, "1", LOAD_LEASE_TTL);
+        } catch (Exception e) {
+            log.warn("원본 조회 임대 획득 실패, 임대 없이 조회합니다. - cache: {}", name, e);
+            return true;
+        }
+    }
+
+    /**
+     * 원본 조회 임대를 반납합니다. 임대가 만료되어 다른 노드가 얻은 임대를 지우더라도 그 노드의 원본 조회가 한 번 더 일어날 뿐이므로
+     * 소유자를 확인하지 않습니다.
+     *
+     * @param leaseKey - 임대 키
+     */
+    private void releaseLease(final String leaseKey) {
+        try {
+            redisRepository.deleteData(leaseKey);
+        } catch (Exception e) {
+            log.warn("원본 조회 임대 반납 실패 - cache: {}", name, e);
+        }
+    }
+
+    /**
+     * 다른 노드가 남긴 원본 조회 실패 기록을 조회합니다.
+     *
+     * @param failureKey - 실패 기록 키
+     * @return 실패 기록 (null 결과면 NULL_RESULT, 예외면 오류 코드 이름), 없거나 Redis 장애 시 null
+     */
+    private String readFailure(final String failureKey) {
+        try {
+            return redisRepository.getValue(failureKey, String.class).orElse(null);
+        } catch (Exception e) {
+            log.warn("원본 조회 실패 기록 조회 실패 - cache: {}", name, e);
+            return null;
+        }
+    }
+
+    private void writeFailure(final String failureKey, final String failure) {
+        try {
+            redisRepository.setValue(failureKey, failure, LOAD_FAILURE_TTL);
+        } catch (Exception e) {
+            log.warn("원본 조회 실패 기록 저장 실패 - cache: {}", name, e);
+        }
+    }
+
+    /**
+     * 실패 기록을 원본 조회 결과로 되돌립니다. null 결과는 null을 반환하고, 예외는 같은 오류 코드의 BusinessException으로 던집니다.
+     *
+     * @param failure - 실패 기록
+     * @return null
+     */
+    private V replayFailure(final String failure) {
+        if (NULL_RESULT.equals(failure)) return null;
+
+        ErrorCode errorCode;
+        try {
+            errorCode = ErrorCode.valueOf(failure);
+        } catch (IllegalArgumentException e) {
+            errorCode = INTERNAL_SERVER_ERROR;
+        }
+        throw new BusinessException(errorCode);
+    }
+
+    private boolean sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(REDIS_CACHE_LOAD_POLL_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Counter registerLoadCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.loads")
+                      .description("캐시 미스 시 원본 조회 실행/합류 횟수")
+                      .tag("cache", name)
+                      .tag("result", result)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * Redis에서 현재 캐시 세대 번호를 조회합니다.
+     *
+     * @return 세대 번호, Redis 장애 시 null
+     */
+    private Long readGeneration() {
+        try {
+            return redisRepository.getValue(getGenerationKey(), Long.class).orElse(0L);
+        } catch (Exception e) {
+            log.warn("캐시 세대 번호 조회 실패, Redis 캐시를 사용하지 않습니다. - cache: {}", name, e);
+            return null;
+        }
+    }
+
+    private Map<String, V> readRemote(final Long generation, final List<String> keys) {
+        Map<String, V> found = new HashMap<>();
+        if (generation == null) return found;
+
+        try {
+            List<V> values = redisRepository.multiGetValues(keys.stream()
+                                                                .map(key -> getRemoteKey(generation, key))
+                                                                .toList(), type);
+            for (int i = 0; i < values.size(); i++)
+                if (values.get(i) != null) found.put(keys.get(i), values.get(i));
+        } catch (Exception e) {
+            log.warn("Redis 캐시 조회 실패 - cache: {}", name, e);
+        }
+        return found;
+    }
+
+    private void writeRemote(final Long generation, final Map<String, V> values) {
+        if (generation == null || values.isEmpty()) return;
+
+        try {
+            values.forEach((key, value) -> redisRepository.setValue(getRemoteKey(generation, key), value, remoteTtl));
+        } catch (Exception e) {
+            log.warn("Redis 캐시 저장 실패 - cache: {}", name, e);
+        }
+    }
+
+    private String getRemoteKey(final long generation, final String key) {
+        return REDIS_CACHE_KEY_PREFIX.formatted(name, generation, key);
+    }
+
+    private String getLeaseKey(final long generation, final String key) {
+        return REDIS_CACHE_LOAD_LEASE_KEY_PREFIX.formatted(name, generation, key);
+    }
+
+    private String getFailureKey(final long generation, final String key) {
+        return REDIS_CACHE_LOAD_FAILURE_KEY_PREFIX.formatted(name, generation, key);
+    }
+
+    private String getGenerationKey() {
+        return REDIS_CACHE_GENERATION_KEY_PREFIX.formatted(name);
+    }
+
+}
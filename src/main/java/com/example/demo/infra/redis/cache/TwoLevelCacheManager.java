@@ -0,0 +1,97 @@
+package com.example.demo.infra.redis.cache;
+
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_CACHE_INVALIDATION_TOPIC;
+
+import com.example.demo.infra.redis.dao.RedisRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.infra.redis.cache
+ * FileName    : TwoLevelCacheManager
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 2단계 캐시 생성 및 노드 간 무효화 전파 컴포넌트
+ *               캐시가 무효화되면 Redis Pub/Sub으로 캐시 이름을 발행하고, 메시지를 받은 모든 노드가 해당 캐시의 로컬 캐시를 비웁니다.
+ *               메시지가 유실된 노드의 로컬 캐시는 로컬 TTL이 지나면 만료됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TwoLevelCacheManager {
+
+    private final RedisRepository               redisRepository;
+    private final RedissonClient                redissonClient;
+    private final MeterRegistry                 meterRegistry;
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+
+    private RTopic topic;
+    private int    listenerId;
+
+    @PostConstruct
+    public void subscribe() {
+        topic = redissonClient.getTopic(REDIS_CACHE_INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, cacheName) -> {
+            TwoLevelCache<?> cache = caches.get(cacheName);
+            if (cache != null) cache.invalidateLocal();
+        });
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        topic.removeListener(listenerId);
+    }
+
+    /**
+     * 2단계 캐시를 생성합니다. 캐시 이름은 Redis 키와 무효화 메시지에 사용되므로 애플리케이션 안에서 고유해야 합니다.
+     *
+     * @param name         - 캐시 이름
+     * @param type         - 캐시 값 타입
+     * @param localTtl     - 로컬 캐시 만료 시간
+     * @param remoteTtl    - Redis 캐시 만료 시간
+     * @param localMaxSize - 로컬 캐시 최대 항목 수
+     * @return 2단계 캐시
+     */
+    public <V> TwoLevelCache<V> create(final String name,
+                                       final Class<V> type,
+                                       final Duration localTtl,
+                                       final Duration remoteTtl,
+                                       final long localMaxSize) {
+        TwoLevelCache<V> cache = new TwoLevelCache<>(name,
+                                                     type,
+                                                     localTtl,
+                                                     remoteTtl,
+                                                     localMaxSize,
+                                                     redisRepository,
+                                                     this::publish,
+                                                     meterRegistry);
+        if (caches.putIfAbsent(name, cache) != null)
+            throw new IllegalStateException("이미 존재하는 캐시 이름입니다: " + name);
+        return cache;
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void publish(final String cacheName) {
+        try {
+            topic.publish(cacheName);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - cache: {}", cacheName, e);
+        }
+    }
+
+}
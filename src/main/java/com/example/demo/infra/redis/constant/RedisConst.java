@@ -29,11 +29,57 @@ public abstract class RedisConst {
     public static final String REDIS_PASSWORD_RESET_RATE_LIMIT_KEY_PREFIX = "rate-limit:password-reset-email:";
 
     // 결제 관련
-    public static final String REDIS_PRE_PAYMENT_KEY_PREFIX     = "pre-payment:%s";
-    public static final int    REDIS_PRE_PAYMENT_EXPIRE_MINUTES = 10;
+    public static final String REDIS_PRE_PAYMENT_KEY_PREFIX              = "pre-payment:%s";
+    public static final int    REDIS_PRE_PAYMENT_EXPIRE_MINUTES          = 10;
+    public static final String REDIS_PAYMENT_VERIFICATION_KEY_PREFIX     = "payment-verification:%s";
+    public static final int    REDIS_PAYMENT_VERIFICATION_EXPIRE_MINUTES = 10;
+
+    // 좌석 재고 관련
+    public static final String REDIS_SEAT_INVENTORY_KEY_PREFIX         = "seat-inventory:%d";
+    public static final String REDIS_SEAT_INVENTORY_VERSION_KEY_PREFIX = "seat-inventory:%d:version";
+    public static final String REDIS_SEAT_INVENTORY_CHANGES_KEY_PREFIX = "seat-inventory:%d:changes";
+    public static final String REDIS_SEAT_INVENTORY_BASE_KEY_PREFIX    = "seat-inventory:%d:base";
+    public static final int    REDIS_SEAT_INVENTORY_LOAD_CHUNK         = 1000;
+    public static final int    REDIS_SEAT_INVENTORY_TTL_AFTER_DAYS     = 1;
+    public static final String REDIS_SEAT_INVENTORY_LOAD_LEASE_PREFIX  = "seat-inventory:%d:load-lease";
+    public static final long   REDIS_SEAT_INVENTORY_LOAD_LEASE_MILLIS  = 5000L;
+    public static final long   REDIS_SEAT_INVENTORY_LOAD_POLL_MILLIS   = 20L;
+
+    // 예약 만료 관련
+    public static final String REDIS_RESERVATION_EXPIRY_KEY            = "reservation-expiry";
+    public static final int    REDIS_RESERVATION_EXPIRY_BATCH_SIZE     = 100;
+    public static final long   REDIS_RESERVATION_EXPIRY_LEASE_MILLIS   = 5000L;
+    public static final String REDIS_RESERVATION_EXPIRY_SWEEP_LOCK_KEY = "lock:reservation-expiry-sweep";
+
+    // 입장 대기열 관련
+    public static final String REDIS_ADMISSION_QUEUE_ACTIVE_KEY            = "admission-queue:active";
+    public static final String REDIS_ADMISSION_QUEUE_WAITING_KEY_PREFIX    = "admission-queue:%d:waiting";
+    public static final String REDIS_ADMISSION_QUEUE_ADMITTED_KEY_PREFIX   = "admission-queue:%d:admitted";
+    public static final String REDIS_ADMISSION_QUEUE_TOKEN_KEY_PREFIX      = "admission-queue:%d:tokens";
+    public static final String REDIS_ADMISSION_QUEUE_ADMIT_LOCK_KEY_PREFIX = "admission-queue:%d:admit-lock";
+    public static final String REDIS_ADMISSION_QUEUE_EXPIRE_AT_KEY_PREFIX  = "admission-queue:%d:expire-at";
+
+    // 2단계 캐시 관련
+    public static final String REDIS_CACHE_KEY_PREFIX              = "cache:%s:%d:%s";
+    public static final String REDIS_CACHE_GENERATION_KEY_PREFIX   = "cache:%s:generation";
+    public static final String REDIS_CACHE_INVALIDATION_TOPIC      = "cache-invalidation";
+    public static final String REDIS_CACHE_LOAD_LEASE_KEY_PREFIX   = "cache:%s:%d:%s:lease";
+    public static final long   REDIS_CACHE_LOAD_LEASE_MILLIS       = 3000L;
+    public static final long   REDIS_CACHE_LOAD_POLL_MILLIS        = 20L;
+    public static final String REDIS_CACHE_LOAD_FAILURE_KEY_PREFIX = "cache:%s:%d:%s:failure";
+    public static final long   REDIS_CACHE_LOAD_FAILURE_MILLIS     = 1000L;
+
+    // 공연 좌석 현황 관련
+    public static final String REDIS_PERFORMANCE_STATS_RECONCILE_LOCK_KEY = "lock:performance-stats-reconcile";
+
+    // 공연 검색 색인 관련
+    public static final String REDIS_PERFORMANCE_SEARCH_INDEX_TOPIC = "performance-search-index";
 
     // 락 관련
-    public static final int  REDISSON_MAX_UNLOCK_RETRY_COUNT = 3;
-    public static final long REDISSON_RETRY_DELAY_MILLIS     = 100L;
+    public static final int    REDISSON_MAX_UNLOCK_RETRY_COUNT = 3;
+    public static final long   REDISSON_RETRY_DELAY_MILLIS     = 100L;
+    public static final String REDISSON_SEAT_LOCK_KEY_PREFIX   = "lock:seat:%d";
+    public static final long   REDISSON_SEAT_LOCK_LEASE_MILLIS = 1000L;
+    public static final String REDISSON_FENCING_EPOCH_KEY      = "lock:fencing-epoch";
 
 }
@@ -0,0 +1,164 @@
+package com.example.demo.infra.redis.expiry;
+
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_RESERVATION_EXPIRY_KEY;
+
+import com.example.demo.domain.reservation.model.ReservationId;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PackageName : com.example.demo.infra.redis.expiry
+ * FileName    : ReservationExpiryQueue
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 예약 임시 점유 만료 지연 큐(Redis Sorted Set: "계정 ID:좌석 ID" -> 만료 시각)
+ *               만료 시각이 지난 예약을 임대(lease) 방식으로 가져가므로, 여러 노드가 동시에 가져가도 같은 예약을 중복 처리하지 않고,
+ *               처리 완료를 기록하지 못한 예약은 임대 시간이 지나면 다시 처리됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExpiryQueue {
+
+    /**
+     * KEYS[1] = 지연 큐 키, ARGV[1] = 현재 시각(epoch ms), ARGV[2] = 최대 개수, ARGV[3] = 임대 만료 시각(epoch ms)
+     * 만료된 예약을 가져가면서 점수를 임대 만료 시각으로 바꾸어, 다른 노드가 임대 기간 동안 가져가지 못하도록 합니다.
+     * 반환값: 가져간 예약 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+            local members = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for i = 1, #members do
+                redis.call('ZADD', KEYS[1], ARGV[3], members[i])
+            end
+            return members
+            """, List.class);
+
+    /**
+     * KEYS[1] = 지연 큐 키, ARGV[1] = 임대 만료 시각(epoch ms), ARGV[2..] = 예약 목록
+     * 임대한 그대로인 예약만 삭제하여, 그 사이 같은 좌석이 다시 예약되어 새로 등록된 만료 시각은 유지합니다.
+     * 반환값: 삭제된 예약 수
+     */
+    private static final RedisScript<Long> ACK_SCRIPT = RedisScript.of("""
+            local removed = 0
+            for i = 2, #ARGV do
+                local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if score and tonumber(score) == tonumber(ARGV[1]) then
+                    removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+                end
+            end
+            return removed
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 예약 만료 시각을 등록합니다. 트랜잭션이 진행 중이면 커밋 이후에 등록합니다.
+     * 등록에 실패한 예약은 만료 예약 일괄 정리 스케줄러에서 정리됩니다.
+     *
+     * @param accountId - 계정 ID
+     * @param seatIds   - 좌석 ID 목록
+     * @param expireAt  - 만료 시각
+     */
+    public void schedule(final UUID accountId, final Collection<Long> seatIds, final Instant expireAt) {
+        Runnable task = () -> {
+            try {
+                Set<TypedTuple<String>> members = seatIds.stream()
+                                                         .map(seatId -> TypedTuple.of(
+                                                                 toMember(new ReservationId(accountId, seatId)),
+                                                                 (double) expireAt.toEpochMilli()
+                                                         ))
+                                                         .collect(Collectors.toSet());
+                stringRedisTemplate.opsForZSet().add(REDIS_RESERVATION_EXPIRY_KEY, members);
+            } catch (Exception e) {
+                log.warn("예약 만료 등록 실패 - accountId: {}, seatIds: {}", accountId, seatIds, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        else task.run();
+    }
+
+    /**
+     * 만료 시각이 지난 예약을 최대 개수만큼 가져갑니다.
+     *
+     * @param now         - 현재 시각
+     * @param limit       - 최대 개수
+     * @param leaseMillis - 임대 시간(ms), 이 시간 안에 처리 완료를 기록하지 않으면 다시 처리 대상이 됩니다.
+     * @return 가져간 예약 목록
+     */
+    public ExpiryBatch claim(final Instant now, final int limit, final long leaseMillis) {
+        long leaseUntil = now.toEpochMilli() + leaseMillis;
+        List<?> members = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                                                      List.of(REDIS_RESERVATION_EXPIRY_KEY),
+                                                      String.valueOf(now.toEpochMilli()),
+                                                      String.valueOf(limit),
+                                                      String.valueOf(leaseUntil));
+
+        List<ReservationId> reservationIds = new ArrayList<>();
+        if (members != null)
+            for (Object member : members)
+                reservationIds.add(toReservationId(String.valueOf(member)));
+        return new ExpiryBatch(leaseUntil, reservationIds);
+    }
+
+    /**
+     * 처리를 마친 예약을 지연 큐에서 삭제합니다.
+     *
+     * @param batch          - 가져간 예약 목록
+     * @param reservationIds - 처리를 마친 예약 ID 목록
+     */
+    public void acknowledge(final ExpiryBatch batch, final Collection<ReservationId> reservationIds) {
+        if (reservationIds.isEmpty()) return;
+
+        List<String> args = new ArrayList<>(reservationIds.size() + 1);
+        args.add(String.valueOf(batch.getLeaseUntil()));
+        reservationIds.forEach(reservationId -> args.add(toMember(reservationId)));
+
+        stringRedisTemplate.execute(ACK_SCRIPT, List.of(REDIS_RESERVATION_EXPIRY_KEY), args.toArray());
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private String toMember(final ReservationId reservationId) {
+        return reservationId.getAccountId() + ":" + reservationId.getSeatId();
+    }
+
+    private ReservationId toReservationId(final String member) {
+        int delimiter = member.lastIndexOf(':');
+        return new ReservationId(UUID.fromString(member.substring(0, delimiter)),
+                                 Long.valueOf(member.substring(delimiter + 1)));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ExpiryBatch {
+        private final long                leaseUntil;       // 임대 만료 시각(epoch ms)
+        private final List<ReservationId> reservationIds;   // 가져간 예약 ID 목록
+    }
+
+}
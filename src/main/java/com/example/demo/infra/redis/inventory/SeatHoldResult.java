@@ -0,0 +1,19 @@
+package com.example.demo.infra.redis.inventory;
+
+/**
+ * PackageName : com.example.demo.infra.redis.inventory
+ * FileName    : SeatHoldResult
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : Redis 좌석 재고 선점 결과
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public enum SeatHoldResult {
+    HELD,           // 선점 성공
+    UNAVAILABLE,    // 이미 선점되었거나 판매된 좌석
+    NOT_FOUND,      // 해당 공연에 존재하지 않는 좌석
+    NOT_LOADED      // 공연 좌석 재고가 Redis에 적재되지 않음
+}
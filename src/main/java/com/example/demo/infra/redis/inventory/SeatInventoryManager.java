@@ -0,0 +1,517 @@
+package com.example.demo.infra.redis.inventory;
+
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.domain.performance.model.SeatStatus.SOLD;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_SEAT_INVENTORY_BASE_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_SEAT_INVENTORY_CHANGES_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_SEAT_INVENTORY_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_SEAT_INVENTORY_LOAD_CHUNK;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_SEAT_INVENTORY_LOAD_LEASE_MILLIS;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_SEAT_INVENTORY_LOAD_LEASE_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_SEAT_INVENTORY_LOAD_POLL_MILLIS;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_SEAT_INVENTORY_VERSION_KEY_PREFIX;
+
+import com.example.demo.domain.performance.model.SeatStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PackageName : com.example.demo.infra.redis.inventory
+ * FileName    : SeatInventoryManager
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연별 좌석 재고(Redis Hash: 좌석 ID -> 좌석 상태) 관리 컴포넌트
+ *               좌석 선점은 Lua 스크립트로 원자적으로 처리하여, 선점에 실패한 요청이 DB에 접근하지 않도록 합니다.
+ *               좌석 상태가 바뀔 때마다 재고 버전을 올리고 좌석별 마지막 변경 버전(Sorted Set)을 기록하여,
+ *               좌석 배치도 조회 시 특정 버전 이후 변경된 좌석만 조회할 수 있도록 합니다.
+ *               재고가 없는 공연에 요청이 몰려도 DB에서 재고를 읽는 적재는 노드 안에서는 하나로 합치고, 노드 간에는 짧은 Redis 임대를 얻은
+ *               노드만 실행합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatInventoryManager {
+
+    /**
+     * KEYS[1] = 재고 키, KEYS[2] = 버전 키, KEYS[3] = 변경 이력 키,
+     * ARGV[1] = 선점 가능 상태, ARGV[2] = 선점 상태, ARGV[3..] = 좌석 ID 목록
+     * 반환값: 1(선점 성공), 0(선점 불가), -1(재고 미적재), -2(존재하지 않는 좌석)
+     */
+    private static final RedisScript<Long> HOLD_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            for i = 3, #ARGV do
+                local status = redis.call('HGET', KEYS[1], ARGV[i])
+                if not status then
+                    return -2
+                end
+                if status ~= ARGV[1] then
+                    return 0
+                end
+            end
+            local version = redis.call('INCR', KEYS[2])
+            for i = 3, #ARGV do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[2])
+                redis.call('ZADD', KEYS[3], version, ARGV[i])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 재고 키, KEYS[2] = 버전 키, KEYS[3] = 변경 이력 키,
+     * ARGV[1] = 변경 전 상태('*'이면 상태 무관), ARGV[2] = 변경 후 상태, ARGV[3..] = 좌석 ID 목록
+     * 반환값: 상태가 변경된 좌석 수, 재고가 적재되지 않은 경우 부분 적재를 막기 위해 아무것도 기록하지 않습니다.
+     */
+    private static final RedisScript<Long> TRANSITION_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local changed = 0
+            local version
+            for i = 3, #ARGV do
+                local status = redis.call('HGET', KEYS[1], ARGV[i])
+                if status and status ~= ARGV[2] and (ARGV[1] == '*' or status == ARGV[1]) then
+                    if not version then
+                        version = redis.call('INCR', KEYS[2])
+                    end
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[2])
+                    redis.call('ZADD', KEYS[3], version, ARGV[i])
+                    changed = changed + 1
+                end
+            end
+            return changed
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 임시 적재 키, KEYS[2] = 재고 키, KEYS[3] = 버전 키, KEYS[4] = 변경 이력 키, KEYS[5] = 적재 기준 버전 키,
+     * ARGV[1] = 만료 시각(epoch ms)
+     * 재고 키가 없을 때만 임시 적재 키를 재고 키로 교체하고, 새 버전을 적재 기준 버전 키에 기록합니다.
+     * 재고 Hash에는 좌석만 두어 좌석 수 조회나 전체 조회에 좌석이 아닌 필드가 섞이지 않도록 합니다.
+     * 변경 이력은 적재 시점부터 다시 기록하며, 만료 시각을 지정하기 위해 빈 이력 대신 점수 0의 표식을 둡니다.
+     * 반환값: 1(적재 성공), 0(이미 적재됨)
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('DEL', KEYS[1])
+                return 0
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            local version = redis.call('INCR', KEYS[3])
+            redis.call('SET', KEYS[5], version)
+            redis.call('DEL', KEYS[4])
+            redis.call('ZADD', KEYS[4], 0, '_')
+            redis.call('PEXPIREAT', KEYS[3], ARGV[1])
+            redis.call('PEXPIREAT', KEYS[4], ARGV[1])
+            redis.call('PEXPIREAT', KEYS[5], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 재고 키, KEYS[2] = 버전 키, KEYS[3] = 변경 이력 키, KEYS[4] = 적재 기준 버전 키,
+     * ARGV[1] = 기준 버전(-1이면 전체), ARGV[2] = 보유 버전
+     * 기준 버전이 적재 기준 버전 이상이고 현재 버전 이하이면 그 이후 변경된 좌석만, 아니면 전체 좌석을 반환합니다.
+     * 전체 좌석이 필요하지만 현재 버전이 보유 버전과 같다면 좌석을 반환하지 않습니다.
+     * 적재 기준 버전 키가 없으면 재고는 그대로 두고 미적재로 처리합니다.
+     * 반환값: {버전, 유형(0: 변경분, 1: 전체, 2: 변경 없음), 좌석 ID, 좌석 상태, ...}, 재고 미적재 시 빈 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SNAPSHOT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            local base = tonumber(redis.call('GET', KEYS[4]))
+            if not base then
+                return {}
+            end
+            local version = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local since = tonumber(ARGV[1])
+            local result = {tostring(version)}
+            if since >= base and since <= version then
+                result[2] = '0'
+                local seatIds = redis.call('ZRANGEBYSCORE', KEYS[3], '(' .. since, '+inf')
+                for i = 1, #seatIds do
+                    result[#result + 1] = seatIds[i]
+                    result[#result + 1] = redis.call('HGET', KEYS[1], seatIds[i])
+                end
+                return result
+            end
+            if tonumber(ARGV[2]) == version then
+                result[2] = '2'
+                return result
+            end
+            result[2] = '1'
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries do
+                result[#result + 1] = entries[i]
+            end
+            return result
+            """, List.class);
+
+    private static final String   ANY_STATUS     = "*";
+    private static final Duration LOAD_LEASE_TTL = Duration.ofMillis(REDIS_SEAT_INVENTORY_LOAD_LEASE_MILLIS);
+
+    private final StringRedisTemplate                stringRedisTemplate;
+    private final Map<Long, CompletableFuture<Void>> loading = new ConcurrentHashMap<>();  // 이 노드에서 진행 중인 재고 적재
+
+    /**
+     * 좌석들을 원자적으로 선점합니다. 모든 좌석이 선점 가능한 경우에만 선점하며, 하나라도 불가능하면 아무것도 선점하지 않습니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 좌석 ID 목록
+     * @return 선점 결과
+     */
+    public SeatHoldResult hold(final Long performanceId, final Collection<Long> seatIds) {
+        List<String> args = new ArrayList<>(seatIds.size() + 2);
+        args.add(AVAILABLE.name());
+        args.add(TEMPORARY_RESERVED.name());
+        seatIds.forEach(seatId -> args.add(String.valueOf(seatId)));
+
+        Long result = stringRedisTemplate.execute(HOLD_SCRIPT, getKeys(performanceId), args.toArray());
+        if (result == null) return SeatHoldResult.NOT_LOADED;
+
+        return switch (result.intValue()) {
+            case 1 -> SeatHoldResult.HELD;
+            case 0 -> SeatHoldResult.UNAVAILABLE;
+            case -2 -> SeatHoldResult.NOT_FOUND;
+            default -> SeatHoldResult.NOT_LOADED;
+        };
+    }
+
+    /**
+     * 선점된 좌석들을 다시 선점 가능 상태로 되돌립니다. 트랜잭션이 진행 중이면 커밋 이후에 반영합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 좌석 ID 목록
+     */
+    public void release(final Long performanceId, final Collection<Long> seatIds) {
+        runAfterCommit(performanceId, () -> transition(performanceId, seatIds, TEMPORARY_RESERVED.name(), AVAILABLE));
+    }
+
+    /**
+     * 좌석들을 선점 상태로 기록합니다. Redis를 거치지 않고 DB에서 선점된 좌석을 재고에 반영할 때 사용합니다.
+     * 트랜잭션이 진행 중이면 커밋 이후에 반영합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 좌석 ID 목록
+     */
+    public void markHeld(final Long performanceId, final Collection<Long> seatIds) {
+        runAfterCommit(performanceId, () -> transition(performanceId, seatIds, AVAILABLE.name(), TEMPORARY_RESERVED));
+    }
+
+    /**
+     * 좌석들을 판매 완료 상태로 기록합니다. 트랜잭션이 진행 중이면 커밋 이후에 반영합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param seatIds       - 좌석 ID 목록
+     */
+    public void markSold(final Long performanceId, final Collection<Long> seatIds) {
+        runAfterCommit(performanceId, () -> transition(performanceId, seatIds, ANY_STATUS, SOLD));
+    }
+
+    /**
+     * 공연 좌석 재고가 적재되어 있는지 확인합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @return 적재 여부
+     */
+    public boolean isLoaded(final Long performanceId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(getKey(performanceId)));
+    }
+
+    /**
+     * 공연 좌석 재고를 적재합니다. 임시 키에 나누어 기록한 뒤 재고 키가 없을 때만 교체하므로,
+     * 여러 노드가 동시에 적재하더라도 부분 적재된 재고가 노출되지 않고 먼저 적재된 재고가 유지됩니다.
+     * 재고 버전은 재적재 시에도 초기화하지 않으므로, 이전 적재 시점의 버전으로는 변경분을 조회할 수 없습니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param statuses      - 좌석 ID별 좌석 상태
+     * @param expireAt      - 재고 만료 시각
+     */
+    public void load(final Long performanceId, final Map<Long, SeatStatus> statuses, final Instant expireAt) {
+        if (statuses.isEmpty()) return;
+
+        String key     = getKey(performanceId);
+        String loadKey = "%s:loading:%s".formatted(key, UUID.randomUUID());
+
+        Map<String, String> chunk = new HashMap<>();
+        for (Entry<Long, SeatStatus> entry : statuses.entrySet()) {
+            chunk.put(String.valueOf(entry.getKey()), entry.getValue().name());
+            if (chunk.size() >= REDIS_SEAT_INVENTORY_LOAD_CHUNK) {
+                stringRedisTemplate.opsForHash().putAll(loadKey, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) stringRedisTemplate.opsForHash().putAll(loadKey, chunk);
+
+        stringRedisTemplate.expireAt(loadKey, expireAt);
+        stringRedisTemplate.execute(LOAD_SCRIPT,
+                                    List.of(loadKey,
+                                            key,
+                                            getVersionKey(performanceId),
+                                            getChangesKey(performanceId),
+                                            getBaseKey(performanceId)),
+                                    String.valueOf(expireAt.toEpochMilli()));
+    }
+
+    /**
+     * 공연 좌석 재고 적재를 한 번만 실행합니다. 이 노드에서 같은 공연의 적재가 진행 중이면 그 적재가 끝나기를 기다리며,
+     * 적재에서 발생한 예외도 그대로 전달됩니다. 다른 노드가 적재 임대를 얻었다면 재고가 적재되거나 임대가 풀릴 때까지 기다리고,
+     * 임대가 풀렸는데도 적재되지 않았다면(좌석이 없는 공연, 적재 실패) 다시 적재하지 않고 반환하므로 호출자는 재고 미적재로 처리합니다.
+     * Redis 장애 시에는 임대 없이 적재합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param loader        - DB에서 좌석 상태를 읽어 load()로 적재하는 작업
+     */
+    public void loadOnce(final Long performanceId, final Runnable loader) {
+        CompletableFuture<Void> flight = new CompletableFuture<>();
+        CompletableFuture<Void> leader = loading.putIfAbsent(performanceId, flight);
+        if (leader != null) {
+            join(leader);
+            return;
+        }
+
+        try {
+            loadWithLease(performanceId, loader);
+            flight.complete(null);
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(performanceId, flight);
+        }
+    }
+
+    /**
+     * 공연 좌석 재고를 조회합니다. 기준 버전이 현재 적재 기간에 속하면 그 이후 변경된 좌석만 조회하고,
+     * 그렇지 않으면 전체 좌석을 조회합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param sinceVersion  - 기준 버전, null이면 전체 좌석 조회
+     * @param cachedVersion - 호출자가 전체 스냅샷을 보유한 버전, 현재 버전과 같으면 전체 좌석을 다시 읽지 않음
+     * @return 좌석 재고 조회 결과, 재고가 적재되지 않은 경우 null
+     */
+    public SeatInventorySnapshot getSnapshot(final Long performanceId,
+                                             final Long sinceVersion,
+                                             final Long cachedVersion) {
+        List<?> result = stringRedisTemplate.execute(SNAPSHOT_SCRIPT,
+                                                     List.of(getKey(performanceId),
+                                                             getVersionKey(performanceId),
+                                                             getChangesKey(performanceId),
+                                                             getBaseKey(performanceId)),
+                                                     String.valueOf(sinceVersion == null ? -1L : sinceVersion),
+                                                     String.valueOf(cachedVersion == null ? -1L : cachedVersion));
+        if (result == null || result.isEmpty()) return null;
+
+        long version = Long.parseLong(String.valueOf(result.get(0)));
+        SeatInventorySnapshot.Type type = switch (String.valueOf(result.get(1))) {
+            case "0" -> SeatInventorySnapshot.Type.DELTA;
+            case "2" -> SeatInventorySnapshot.Type.UNCHANGED;
+            default -> SeatInventorySnapshot.Type.FULL;
+        };
+
+        SortedMap<Long, SeatStatus> statuses = new TreeMap<>();
+        for (int i = 2; i + 1 < result.size(); i += 2)
+            statuses.put(Long.valueOf(String.valueOf(result.get(i))),
+                         SeatStatus.valueOf(String.valueOf(result.get(i + 1))));
+
+        return new SeatInventorySnapshot(version, type, statuses);
+    }
+
+    /**
+     * 공연 좌석 재고를 삭제합니다. 트랜잭션이 진행 중이면 커밋 이후에 반영합니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    public void evict(final Long performanceId) {
+        runAfterCommit(performanceId, () -> delete(performanceId));
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 적재 임대를 얻은 경우에만 재고를 적재하고, 얻지 못했다면 다른 노드의 적재를 기다립니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param loader        - 재고 적재 작업
+     */
+    private void loadWithLease(final Long performanceId, final Runnable loader) {
+        String leaseKey = getLoadLeaseKey(performanceId);
+        if (!tryAcquireLoadLease(leaseKey)) {
+            awaitLoad(performanceId, leaseKey);
+            return;
+        }
+
+        try {
+            if (!isLoaded(performanceId)) loader.run();   // 임대를 얻기 직전에 다른 노드가 적재를 마쳤을 수 있음
+        } finally {
+            releaseLoadLease(leaseKey);
+        }
+    }
+
+    /**
+     * 재고가 적재되거나, 적재 임대가 풀리거나, 임대 만료 시간이 지날 때까지 기다립니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param leaseKey      - 적재 임대 키
+     */
+    private void awaitLoad(final Long performanceId, final String leaseKey) {
+        long deadline = System.nanoTime() + LOAD_LEASE_TTL.toNanos();
+        while (System.nanoTime() < deadline && sleep()) {
+            if (isLoaded(performanceId) || !Boolean.TRUE.equals(stringRedisTemplate.hasKey(leaseKey))) return;
+        }
+    }
+
+    /**
+     * 적재 임대를 얻습니다. Redis 장애 시에는 임대를 얻은 것으로 봅니다.
+     *
+     * @param leaseKey - 적재 임대 키
+     * @return 임대 획득 여부
+     */
+    private boolean tryAcquireLoadLease(final String leaseKey) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, "1", LOAD_LEASE_TTL));
+        } catch (Exception e) {
+            log.warn("좌석 재고 적재 임대 획득 실패, 임대 없이 적재합니다. - leaseKey: {}", leaseKey, e);
+            return true;
+        }
+    }
+
+    /**
+     * 적재 임대를 반납합니다. 임대가 만료되어 다른 노드가 얻은 임대를 지우더라도 적재가 한 번 더 일어날 뿐이고, 적재는 재고 키가 없을 때만
+     * 교체되므로 소유자를 확인하지 않습니다.
+     *
+     * @param leaseKey - 적재 임대 키
+     */
+    private void releaseLoadLease(final String leaseKey) {
+        try {
+            stringRedisTemplate.delete(leaseKey);
+        } catch (Exception e) {
+            log.warn("좌석 재고 적재 임대 반납 실패 - leaseKey: {}", leaseKey, e);
+        }
+    }
+
+    private void join(final CompletableFuture<Void> flight) {
+        try {
+            flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(REDIS_SEAT_INVENTORY_LOAD_POLL_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void transition(final Long performanceId,
+                            final Collection<Long> seatIds,
+                            final String from,
+                            final SeatStatus to) {
+        List<String> args = new ArrayList<>(seatIds.size() + 2);
+        args.add(from);
+        args.add(to.name());
+        seatIds.forEach(seatId -> args.add(String.valueOf(seatId)));
+
+        stringRedisTemplate.execute(TRANSITION_SCRIPT, getKeys(performanceId), args.toArray());
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 커밋 이후에, 아니면 즉시 재고 변경을 수행합니다.
+     * 재고는 DB 상태의 사본이므로 반영에 실패하면 재고를 삭제하여 다음 요청에서 다시 적재되도록 합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param task          - 재고 변경 작업
+     */
+    private void runAfterCommit(final Long performanceId, final Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("좌석 재고 반영 실패 - performanceId: {}", performanceId, e);
+                try {
+                    delete(performanceId);
+                } catch (Exception ignored) {
+                    // Redis 장애 시 재고 키의 TTL 만료 후 다시 적재됩니다.
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        else safeTask.run();
+    }
+
+    /**
+     * 재고 키, 변경 이력 키, 적재 기준 버전 키를 삭제합니다. 버전 키는 재적재 후에도 버전이 증가하도록 유지합니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    private void delete(final Long performanceId) {
+        stringRedisTemplate.delete(List.of(getKey(performanceId),
+                                           getChangesKey(performanceId),
+                                           getBaseKey(performanceId)));
+    }
+
+    private List<String> getKeys(final Long performanceId) {
+        return List.of(getKey(performanceId), getVersionKey(performanceId), getChangesKey(performanceId));
+    }
+
+    private String getKey(final Long performanceId) {
+        return REDIS_SEAT_INVENTORY_KEY_PREFIX.formatted(performanceId);
+    }
+
+    private String getVersionKey(final Long performanceId) {
+        return REDIS_SEAT_INVENTORY_VERSION_KEY_PREFIX.formatted(performanceId);
+    }
+
+    private String getChangesKey(final Long performanceId) {
+        return REDIS_SEAT_INVENTORY_CHANGES_KEY_PREFIX.formatted(performanceId);
+    }
+
+    private String getBaseKey(final Long performanceId) {
+        return REDIS_SEAT_INVENTORY_BASE_KEY_PREFIX.formatted(performanceId);
+    }
+
+    private String getLoadLeaseKey(final Long performanceId) {
+        return REDIS_SEAT_INVENTORY_LOAD_LEASE_PREFIX.formatted(performanceId);
+    }
+
+}
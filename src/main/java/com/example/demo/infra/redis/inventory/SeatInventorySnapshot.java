@@ -0,0 +1,33 @@
+package com.example.demo.infra.redis.inventory;
+
+import com.example.demo.domain.performance.model.SeatStatus;
+import java.util.SortedMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.infra.redis.inventory
+ * FileName    : SeatInventorySnapshot
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : Redis 좌석 재고 조회 결과 (전체 스냅샷 또는 특정 버전 이후의 변경분)
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatInventorySnapshot {
+
+    private final long                        version;    // 재고 버전
+    private final Type                        type;       // 조회 결과 유형
+    private final SortedMap<Long, SeatStatus> statuses;   // 좌석 ID 오름차순 좌석 상태 (UNCHANGED인 경우 비어 있음)
+
+    public enum Type {
+        FULL,       // 전체 좌석 스냅샷
+        DELTA,      // 요청 버전 이후 변경된 좌석만 포함
+        UNCHANGED   // 전체 스냅샷이 필요하지만 호출자가 보유한 버전과 동일
+    }
+
+}
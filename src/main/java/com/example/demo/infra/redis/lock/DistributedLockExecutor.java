@@ -2,15 +2,25 @@ package com.example.demo.infra.redis.lock;
 
 import static com.example.demo.common.response.ErrorCode.LOCK_ACQUISITION_FAILED;
 import static com.example.demo.common.response.ErrorCode.LOCK_THREAD_INTERRUPTED;
+import static com.example.demo.infra.redis.constant.RedisConst.REDISSON_FENCING_EPOCH_KEY;
 
 import com.example.demo.common.error.BusinessException;
 import jakarta.validation.constraints.Min;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RFencedLock;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -31,60 +41,199 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 @Slf4j
 public class DistributedLockExecutor {
 
+    private static final long FENCING_EPOCH_BASE_MILLIS = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+    private static final int  FENCING_COUNTER_BITS      = 22;   // 펜싱 토큰에서 락별 카운터가 차지하는 하위 비트 수
+
     private final RedissonClient redissonClient;
+    private final LockMetrics    lockMetrics;
 
     public <T> T execute(final String lockKey,
                          @Min(0) final long waitTime,
                          @Min(0) final long leaseTime,
                          final TimeUnit timeUnit,
                          final Supplier<T> callback) {
-        RLock lock = redissonClient.getLock(lockKey);
+        return execute(redissonClient.getLock(lockKey), lockKey, waitTime, leaseTime, timeUnit, callback);
+    }
+
+    public void execute(final String lockKey,
+                        @Min(0) final long waitTime,
+                        @Min(0) final long leaseTime,
+                        final TimeUnit timeUnit,
+                        final Runnable callback) {
+        execute(lockKey, waitTime, leaseTime, timeUnit, () -> {
+            callback.run();
+            return null;
+        });
+    }
+
+    /**
+     * 여러 펜싱 락(RFencedLock)을 모두 획득한 경우에만 작업을 실행합니다. 하나라도 획득하지 못하면 획득한 락을 모두 해제하고
+     * 예외를 던집니다. 락마다 획득과 동시에 단조 증가하는 펜싱 토큰이 발급되며, 작업은 이 토큰을 보호 대상 자원의 쓰기 조건으로
+     * 사용해야 합니다. 임대 시간이 지나 다른 노드가 락을 다시 획득했다면 그 노드가 더 큰 토큰으로 먼저 쓰므로, 늦게 도착한 쓰기는
+     * 거부됩니다. 락은 키 순서대로 획득하므로, 호출자는 교착 상태를 피하도록 키를 일정한 순서로 정렬해 전달해야 합니다.
+     * <p>
+     * Redisson의 토큰 카운터는 Redis에만 있으므로 Redis가 초기화되면 1부터 다시 발급됩니다. 이 경우에도 보호 대상 자원에 남은
+     * 이전 토큰보다 큰 토큰을 발급하도록, 카운터 앞에 에포크(에포크 키가 처음 기록된 시각)를 붙여 토큰을 만듭니다. Redis 초기화로
+     * 에포크 키가 사라지면 다음 획득 시 현재 시각으로 새 에포크가 기록되므로 별도의 복구 작업은 필요하지 않습니다.
+     *
+     * @param lockKeys  - 락 키 목록
+     * @param waitTime  - 락 획득 대기 시간 (전체 락 기준)
+     * @param leaseTime - 락 임대 시간
+     * @param timeUnit  - 시간 단위
+     * @param callback  - 락 키별 펜싱 토큰을 받아 락을 획득한 상태로 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T executeWithFencingTokens(final List<String> lockKeys,
+                                          @Min(0) final long waitTime,
+                                          @Min(0) final long leaseTime,
+                                          final TimeUnit timeUnit,
+                                          final Function<Map<String, Long>, T> callback) {
+        long              startedAt     = System.nanoTime();
+        long              deadline      = startedAt + timeUnit.toNanos(waitTime);
+        List<RLock>       acquiredLocks = new ArrayList<>(lockKeys.size());
+        Map<String, Long> tokens        = new LinkedHashMap<>();
+        Long              acquiredAt    = null;
 
         try {
-            boolean available = lock.tryLock(waitTime, leaseTime, timeUnit);
+            try {
+                for (String lockKey : lockKeys) {
+                    RFencedLock lock  = redissonClient.getFencedLock(lockKey);
+                    Long        token = lock.tryLockAndGetToken(Math.max(0L, deadline - System.nanoTime()),
+                                                                timeUnit.toNanos(leaseTime),
+                                                                TimeUnit.NANOSECONDS);
+                    if (token == null) break;
+                    acquiredLocks.add(lock);
+                    tokens.put(lockKey, token);
+                }
+                if (acquiredLocks.size() == lockKeys.size()) {   // 락을 모두 획득한 뒤 에포크를 읽어 초기화 직후의 에포크를 사용
+                    long epoch = getFencingEpoch();
+                    tokens.replaceAll((lockKey, token) -> toFencingToken(epoch, token));
+                }
+            } catch (RuntimeException e) {
+                lockMetrics.recordFailure(lockKeys.getFirst(), "error");
+                throw e;
+            }
+
+            boolean available = acquiredLocks.size() == lockKeys.size();
+            lockMetrics.recordAcquire(lockKeys, available, System.nanoTime() - startedAt);
 
             if (!available) {
-                log.warn("락 획득 실패: {}", lockKey);
+                log.warn("락 획득 실패: {}", lockKeys);
                 throw new BusinessException(LOCK_ACQUISITION_FAILED);
             }
 
-            return callback.get();
+            acquiredAt = System.nanoTime();
+            return callback.apply(tokens);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            lockMetrics.recordFailure(lockKeys.getFirst(), "interrupted");
             throw new BusinessException(LOCK_THREAD_INTERRUPTED);
         } finally {
-            unlock(lock);
+            if (acquiredAt != null) unlock(acquiredLocks, lockKeys.getFirst(), acquiredAt);
+            else acquiredLocks.forEach(this::safeUnlock);
         }
     }
 
-    public void execute(final String lockKey,
-                        @Min(0) final long waitTime,
-                        @Min(0) final long leaseTime,
-                        final TimeUnit timeUnit,
-                        final Runnable callback) {
-        execute(lockKey, waitTime, leaseTime, timeUnit, () -> {
-            callback.run();
-            return null;
-        });
+    /**
+     * 에포크와 락별 카운터로 펜싱 토큰을 만듭니다. 에포크가 커지면 카운터와 무관하게 이전 에포크의 토큰보다 커집니다.
+     *
+     * @param epoch   - 펜싱 에포크
+     * @param counter - 락별 토큰 카운터
+     * @return 펜싱 토큰
+     */
+    static long toFencingToken(final long epoch, final long counter) {
+        return (epoch << FENCING_COUNTER_BITS) + counter;
     }
 
     // ========================= 내부 메서드 =========================
 
-    private void unlock(final RLock lock) {
+    /**
+     * 펜싱 에포크를 조회합니다. 에포크 키가 없다면(최초 실행 또는 Redis 초기화) 현재 시각으로 기록한 뒤, 여러 노드가 동시에
+     * 기록하더라도 먼저 기록된 값을 사용합니다.
+     *
+     * @return 펜싱 에포크 (기준 시각 이후 경과 시간(ms))
+     */
+    private long getFencingEpoch() {
+        RBucket<Long> bucket = redissonClient.getBucket(REDISSON_FENCING_EPOCH_KEY, LongCodec.INSTANCE);
+        Long          epoch  = bucket.get();
+        if (epoch != null) return epoch;
+
+        bucket.setIfAbsent(System.currentTimeMillis() - FENCING_EPOCH_BASE_MILLIS);
+        return bucket.get();
+    }
+
+    /**
+     * 락을 획득한 경우에만 작업을 실행하고, 획득 대기 시간과 보유 시간, 획득 실패를 락 지표로 기록합니다.
+     *
+     * @param lock      - 락
+     * @param lockKey   - 락 키
+     * @param waitTime  - 락 획득 대기 시간
+     * @param leaseTime - 락 임대 시간
+     * @param timeUnit  - 시간 단위
+     * @param callback  - 락을 획득한 상태로 실행할 작업
+     * @return 작업 결과
+     */
+    private <T> T execute(final RLock lock,
+                          final String lockKey,
+                          final long waitTime,
+                          final long leaseTime,
+                          final TimeUnit timeUnit,
+                          final Supplier<T> callback) {
+        long startedAt  = System.nanoTime();
+        Long acquiredAt = null;
+
+        try {
+            boolean available;
+            try {
+                available = lock.tryLock(waitTime, leaseTime, timeUnit);
+            } catch (RuntimeException e) {
+                lockMetrics.recordFailure(lockKey, "error");   // Redis 장애 등 대기 시간 초과가 아닌 획득 실패
+                throw e;
+            }
+            lockMetrics.recordAcquire(List.of(lockKey), available, System.nanoTime() - startedAt);
+
+            if (!available) {
+                log.warn("락 획득 실패: {}", lockKey);
+                throw new BusinessException(LOCK_ACQUISITION_FAILED);
+            }
+
+            acquiredAt = System.nanoTime();
+            return callback.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lockMetrics.recordFailure(lockKey, "interrupted");
+            throw new BusinessException(LOCK_THREAD_INTERRUPTED);
+        } finally {
+            if (acquiredAt != null) unlock(List.of(lock), lockKey, acquiredAt);
+        }
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 트랜잭션 종료 후, 아니면 즉시 락을 해제하고 락 보유 시간을 기록합니다.
+     *
+     * @param locks      - 해제할 락 목록
+     * @param lockKey    - 지표에 사용할 락 키 (여러 락은 첫 번째 키)
+     * @param acquiredAt - 락 획득 시각(ns)
+     */
+    private void unlock(final List<RLock> locks, final String lockKey, final long acquiredAt) {
         if (TransactionSynchronizationManager.isActualTransactionActive())
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCompletion(int status) {
-                    safeUnlock(lock);
+                    releaseAll(locks, lockKey, acquiredAt);
                 }
             });
-        else safeUnlock(lock);
+        else releaseAll(locks, lockKey, acquiredAt);
+    }
+
+    private void releaseAll(final List<RLock> locks, final String lockKey, final long acquiredAt) {
+        lockMetrics.recordHold(lockKey, System.nanoTime() - acquiredAt);
+        locks.forEach(this::safeUnlock);
     }
 
     private void safeUnlock(final RLock lock) {
         try {
-            if (lock.isLocked() && lock.isHeldByCurrentThread())
-                lock.unlock();
+            if (lock.isLocked() && lock.isHeldByCurrentThread()) lock.unlock();
         } catch (IllegalMonitorStateException e) {
             log.warn("이미 락이 해제되었거나, 현재 스레드가 점유하지 않음: {}", lock.getName());
         } catch (Exception e) {
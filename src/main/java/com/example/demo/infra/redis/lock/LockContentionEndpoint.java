@@ -0,0 +1,51 @@
+package com.example.demo.infra.redis.lock;
+
+import com.example.demo.infra.redis.lock.LockContentionTracker.LockContention;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.infra.redis.lock
+ * FileName    : LockContentionEndpoint
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 경합이 많은 분산 락 키 조회 Actuator 엔드포인트 (GET {management base-path}/locks?limit=)
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@Endpoint(id = "locks")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;    // 기본 조회 개수
+
+    private final LockMetrics lockMetrics;
+
+    /**
+     * 경합이 많은 순으로 락 키 목록을 조회합니다.
+     *
+     * @param limit - 최대 개수 (기본 20)
+     * @return 경합이 많은 락 키 목록
+     */
+    @ReadOperation
+    public LockContentionReport contendedLocks(@Nullable final Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+        return new LockContentionReport(lockMetrics.getContentionSampleRate(), lockMetrics.getTopContended(size));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class LockContentionReport {
+        private final double               sampleRate;   // 경합 이벤트 표본 추출 비율
+        private final List<LockContention> locks;        // 경합이 많은 순 락 키 목록
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.example.demo.infra.redis.lock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.infra.redis.lock
+ * FileName    : LockContentionTracker
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 경합이 많은 락 키 상위 K개 추적기 (Space-Saving 알고리즘)
+ *               락 획득 실패(경합) 이벤트를 표본 추출하여 고정된 개수의 카운터만으로 가장 경합이 많은 키를 근사합니다.
+ *               카운터가 가득 차면 가장 작은 카운터를 새 키에 넘겨주므로, 메모리 사용량은 키 종류 수와 무관합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+public class LockContentionTracker {
+
+    private final int    capacity;      // 추적할 최대 키 수
+    private final double sampleRate;    // 경합 이벤트 표본 추출 비율
+
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    LockContentionTracker(final int capacity, final double sampleRate) {
+        this.capacity = capacity;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * 락 키의 경합 이벤트를 표본 추출 비율에 따라 기록합니다.
+     *
+     * @param lockKey - 락 키
+     */
+    void record(final String lockKey) {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) return;
+
+        synchronized (counters) {
+            Counter counter = counters.get(lockKey);
+            if (counter != null) {
+                counter.count++;
+                return;
+            }
+
+            if (counters.size() < capacity) {
+                counters.put(lockKey, new Counter(1L, 0L));
+                return;
+            }
+
+            // 가장 작은 카운터를 새 키로 교체하고, 교체 전 값을 오차로 남깁니다.
+            Map.Entry<String, Counter> min = counters.entrySet()
+                                                     .stream()
+                                                     .min(Comparator.comparingLong(e -> e.getValue().count))
+                                                     .orElseThrow();
+            counters.remove(min.getKey());
+            counters.put(lockKey, new Counter(min.getValue().count + 1, min.getValue().count));
+        }
+    }
+
+    /**
+     * 경합이 많은 순으로 락 키 목록을 반환합니다. 경합 횟수는 표본 추출 비율로 보정한 추정값입니다.
+     *
+     * @param limit - 최대 개수
+     * @return 경합이 많은 락 키 목록
+     */
+    List<LockContention> getTopContended(final int limit) {
+        List<LockContention> result = new ArrayList<>();
+        synchronized (counters) {
+            counters.forEach((key, counter) -> result.add(new LockContention(key,
+                                                                             Math.round(counter.count / sampleRate),
+                                                                             Math.round(counter.error / sampleRate))));
+        }
+        result.sort(Comparator.comparingLong(LockContention::getEstimatedCount).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    double getSampleRate() {
+        return sampleRate;
+    }
+
+    private static class Counter {
+        private       long count;   // 표본 경합 횟수
+        private final long error;   // 교체로 인해 과대 추정되었을 수 있는 최대 횟수
+
+        private Counter(final long count, final long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class LockContention {
+        private final String key;               // 락 키
+        private final long   estimatedCount;    // 추정 경합 횟수
+        private final long   maxOverestimate;   // 추정 경합 횟수의 최대 과대 추정치
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.example.demo.infra.redis.lock;
+
+import com.example.demo.infra.redis.lock.LockContentionTracker.LockContention;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.infra.redis.lock
+ * FileName    : LockMetrics
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 분산 락 지표 수집
+ *               락 획득 대기 시간, 락 보유 시간(트랜잭션 종료 후 해제 시점까지), 락 획득 실패 횟수를 락 키 접두사별로 기록합니다.
+ *               태그에는 좌석 ID 등 식별자를 제외한 접두사만 사용하여 지표 종류 수가 키 수에 비례해 늘어나지 않도록 합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+public class LockMetrics {
+
+    private static final int    CONTENTION_TRACKER_CAPACITY    = 128;   // 경합 추적 최대 키 수
+    private static final double CONTENTION_TRACKER_SAMPLE_RATE = 0.25;  // 경합 이벤트 표본 추출 비율
+
+    private final MeterRegistry         meterRegistry;
+    private final LockContentionTracker contentionTracker = new LockContentionTracker(CONTENTION_TRACKER_CAPACITY,
+                                                                                      CONTENTION_TRACKER_SAMPLE_RATE);
+
+    public LockMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 락 키에서 식별자 부분을 제외한 접두사를 반환합니다. 숫자가 포함된 첫 구간부터 잘라냅니다.
+     * 예) "reserveSeat:lock:seat:42" -> "reserveSeat:lock:seat", "admission-queue:7:admit-lock" -> "admission-queue"
+     *
+     * @param lockKey - 락 키
+     * @return 락 키 접두사
+     */
+    public static String normalize(final String lockKey) {
+        StringBuilder prefix = new StringBuilder();
+        for (String segment : lockKey.split(":")) {
+            if (segment.isEmpty() || segment.chars().anyMatch(Character::isDigit)) break;
+            if (!prefix.isEmpty()) prefix.append(':');
+            prefix.append(segment);
+        }
+        return prefix.isEmpty() ? "unknown" : prefix.toString();
+    }
+
+    /**
+     * 락 획득 시도 결과를 기록합니다. 획득에 실패했다면 경합이 발생한 락 키로 기록합니다.
+     *
+     * @param lockKeys    - 락 키 목록 (다중 락은 모든 키)
+     * @param acquired    - 획득 여부
+     * @param waitedNanos - 획득 시도에 걸린 시간(ns)
+     */
+    public void recordAcquire(final List<String> lockKeys, final boolean acquired, final long waitedNanos) {
+        String prefix = normalize(lockKeys.getFirst());
+        Timer.builder("distributed.lock.acquire")
+             .description("분산 락 획득 대기 시간")
+             .tag("prefix", prefix)
+             .tag("result", acquired ? "acquired" : "failed")
+             .register(meterRegistry)
+             .record(waitedNanos, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            incrementFailure(prefix, "timeout");
+            lockKeys.forEach(contentionTracker::record);
+        }
+    }
+
+    /**
+     * 락 보유 시간을 기록합니다.
+     *
+     * @param lockKey   - 락 키 (다중 락은 첫 번째 키)
+     * @param heldNanos - 락 보유 시간(ns)
+     */
+    public void recordHold(final String lockKey, final long heldNanos) {
+        Timer.builder("distributed.lock.hold")
+             .description("분산 락 보유 시간")
+             .tag("prefix", normalize(lockKey))
+             .register(meterRegistry)
+             .record(heldNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 락 획득 실패를 기록합니다.
+     *
+     * @param lockKey - 락 키
+     * @param reason  - 실패 사유 (timeout, interrupted, error)
+     */
+    public void recordFailure(final String lockKey, final String reason) {
+        incrementFailure(normalize(lockKey), reason);
+    }
+
+    /**
+     * 경합이 많은 락 키 목록을 반환합니다.
+     *
+     * @param limit - 최대 개수
+     * @return 경합이 많은 락 키 목록
+     */
+    public List<LockContention> getTopContended(final int limit) {
+        return contentionTracker.getTopContended(limit);
+    }
+
+    public double getContentionSampleRate() {
+        return contentionTracker.getSampleRate();
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void incrementFailure(final String prefix, final String reason) {
+        Counter.builder("distributed.lock.failures")
+               .description("분산 락 획득 실패 횟수")
+               .tag("prefix", prefix)
+               .tag("reason", reason)
+               .register(meterRegistry)
+               .increment();
+    }
+
+}
@@ -0,0 +1,300 @@
+package com.example.demo.infra.redis.queue;
+
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_ADMISSION_QUEUE_ACTIVE_KEY;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_ADMISSION_QUEUE_ADMITTED_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_ADMISSION_QUEUE_ADMIT_LOCK_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_ADMISSION_QUEUE_EXPIRE_AT_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_ADMISSION_QUEUE_TOKEN_KEY_PREFIX;
+import static com.example.demo.infra.redis.constant.RedisConst.REDIS_ADMISSION_QUEUE_WAITING_KEY_PREFIX;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.infra.redis.queue
+ * FileName    : AdmissionQueueManager
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연별 입장 대기열(Redis Sorted Set) 관리 컴포넌트
+ *               대기열(waiting)은 진입 시각, 입장 목록(admitted)은 입장 만료 시각을 점수로 사용합니다.
+ *               대기열 키들은 활성화 시 기록한 공연 종료 시각에 함께 만료되며, 종료 시각이 지난 대기열은 입장 처리 시 비활성화됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionQueueManager {
+
+    /**
+     * KEYS[1] = 활성 공연 키, KEYS[2] = 대기열 만료 시각 키, KEYS[3..] = 대기열 키, 입장 목록 키, 토큰 키
+     * ARGV[1] = 공연 ID, ARGV[2] = 대기열 만료 시각(ms)
+     * 이미 대기열 키가 있다면(재활성화) 새 만료 시각을 적용합니다.
+     */
+    private static final RedisScript<Long> ACTIVATE_SCRIPT = RedisScript.of("""
+            redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('SET', KEYS[2], ARGV[2])
+            for i = 2, #KEYS do
+                redis.call('PEXPIREAT', KEYS[i], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 토큰 키, KEYS[2] = 대기열 키, KEYS[3] = 입장 목록 키, KEYS[4] = 대기열 만료 시각 키
+     * ARGV[1] = 계정 ID, ARGV[2] = 신규 토큰, ARGV[3] = 현재 시각(ms)
+     * 이미 대기 중이거나 입장한 토큰이 있으면 그 토큰을, 없으면 신규 토큰을 대기열에 등록하고 반환합니다.
+     */
+    private static final RedisScript<String> ENTER_SCRIPT = RedisScript.of("""
+            local token = redis.call('HGET', KEYS[1], ARGV[1])
+            if token then
+                if redis.call('ZSCORE', KEYS[2], token) then
+                    return token
+                end
+                local expireAt = redis.call('ZSCORE', KEYS[3], token)
+                if expireAt and tonumber(expireAt) > tonumber(ARGV[3]) then
+                    return token
+                end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2])
+            local queueExpireAt = redis.call('GET', KEYS[4])
+            if queueExpireAt then
+                redis.call('PEXPIREAT', KEYS[1], queueExpireAt)
+                redis.call('PEXPIREAT', KEYS[2], queueExpireAt)
+            end
+            return ARGV[2]
+            """, String.class);
+
+    /**
+     * KEYS[1] = 활성 공연 키, KEYS[2] = 토큰 키, KEYS[3] = 입장 목록 키
+     * ARGV[1] = 공연 ID, ARGV[2] = 계정 ID, ARGV[3] = 토큰, ARGV[4] = 현재 시각(ms)
+     * 반환값: 1(입장 가능 또는 대기열 비활성 공연), 0(입장 불가)
+     */
+    private static final RedisScript<Long> VALIDATE_SCRIPT = RedisScript.of("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then
+                return 1
+            end
+            if redis.call('HGET', KEYS[2], ARGV[2]) ~= ARGV[3] then
+                return 0
+            end
+            local expireAt = redis.call('ZSCORE', KEYS[3], ARGV[3])
+            if expireAt and tonumber(expireAt) > tonumber(ARGV[4]) then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 대기열 키, KEYS[2] = 입장 목록 키, KEYS[3] = 입장 처리 락 키, KEYS[4] = 대기열 만료 시각 키
+     * ARGV[1] = 현재 시각(ms), ARGV[2] = 1회 입장 인원, ARGV[3] = 최대 입장 인원, ARGV[4] = 입장 만료 시각(ms),
+     * ARGV[5] = 입장 처리 주기(ms)
+     * 여러 노드에서 스케줄러가 실행되더라도 입장 처리 주기마다 한 번만 입장시키도록 락 키를 사용합니다.
+     * 반환값: 입장시킨 인원 수, 다른 노드가 이미 처리한 경우 -1, 대기열 만료 시각이 지난 경우 -2
+     */
+    private static final RedisScript<Long> ADMIT_SCRIPT = RedisScript.of("""
+            local queueExpireAt = redis.call('GET', KEYS[4])
+            if not queueExpireAt then
+                return -2
+            end
+            if not redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[5]) then
+                return -1
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            local capacity = tonumber(ARGV[3]) - redis.call('ZCARD', KEYS[2])
+            local count = math.min(tonumber(ARGV[2]), capacity)
+            if count <= 0 then
+                return 0
+            end
+            local popped = redis.call('ZPOPMIN', KEYS[1], count)
+            for i = 1, #popped, 2 do
+                redis.call('ZADD', KEYS[2], ARGV[4], popped[i])
+            end
+            redis.call('PEXPIREAT', KEYS[2], queueExpireAt)
+            return #popped / 2
+            """, Long.class);
+
+    public static final long ADMIT_QUEUE_EXPIRED = -2L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 공연의 입장 대기열을 활성화합니다. 대기열 키들은 만료 시각에 함께 만료됩니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param expireAt      - 대기열 만료 시각(ms)
+     */
+    public void activate(final Long performanceId, final long expireAt) {
+        stringRedisTemplate.execute(ACTIVATE_SCRIPT,
+                                    List.of(REDIS_ADMISSION_QUEUE_ACTIVE_KEY,
+                                            REDIS_ADMISSION_QUEUE_EXPIRE_AT_KEY_PREFIX.formatted(performanceId),
+                                            REDIS_ADMISSION_QUEUE_WAITING_KEY_PREFIX.formatted(performanceId),
+                                            REDIS_ADMISSION_QUEUE_ADMITTED_KEY_PREFIX.formatted(performanceId),
+                                            REDIS_ADMISSION_QUEUE_TOKEN_KEY_PREFIX.formatted(performanceId)),
+                                    String.valueOf(performanceId),
+                                    String.valueOf(expireAt));
+    }
+
+    /**
+     * 공연의 입장 대기열을 비활성화하고, 대기열 정보를 삭제합니다.
+     *
+     * @param performanceId - 공연 ID
+     */
+    public void deactivate(final Long performanceId) {
+        stringRedisTemplate.opsForSet().remove(REDIS_ADMISSION_QUEUE_ACTIVE_KEY, String.valueOf(performanceId));
+        stringRedisTemplate.delete(List.of(REDIS_ADMISSION_QUEUE_WAITING_KEY_PREFIX.formatted(performanceId),
+                                           REDIS_ADMISSION_QUEUE_ADMITTED_KEY_PREFIX.formatted(performanceId),
+                                           REDIS_ADMISSION_QUEUE_TOKEN_KEY_PREFIX.formatted(performanceId),
+                                           REDIS_ADMISSION_QUEUE_ADMIT_LOCK_KEY_PREFIX.formatted(performanceId),
+                                           REDIS_ADMISSION_QUEUE_EXPIRE_AT_KEY_PREFIX.formatted(performanceId)));
+    }
+
+    /**
+     * 공연의 입장 대기열 활성화 여부를 확인합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @return 활성화 여부
+     */
+    public boolean isActive(final Long performanceId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet()
+                                                      .isMember(REDIS_ADMISSION_QUEUE_ACTIVE_KEY,
+                                                                String.valueOf(performanceId)));
+    }
+
+    /**
+     * 입장 대기열이 활성화된 공연 ID 목록을 조회합니다.
+     *
+     * @return 공연 ID 목록
+     */
+    public List<Long> getActivePerformanceIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(REDIS_ADMISSION_QUEUE_ACTIVE_KEY);
+        if (members == null) return List.of();
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 입장 대기열에 진입합니다. 같은 계정이 다시 진입하면 기존 토큰을 그대로 반환합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param accountId     - 계정 ID
+     * @param now           - 현재 시각(ms)
+     * @return 입장 토큰
+     */
+    public String enter(final Long performanceId, final UUID accountId, final long now) {
+        return stringRedisTemplate.execute(ENTER_SCRIPT,
+                                           List.of(REDIS_ADMISSION_QUEUE_TOKEN_KEY_PREFIX.formatted(performanceId),
+                                                   REDIS_ADMISSION_QUEUE_WAITING_KEY_PREFIX.formatted(performanceId),
+                                                   REDIS_ADMISSION_QUEUE_ADMITTED_KEY_PREFIX.formatted(performanceId),
+                                                   REDIS_ADMISSION_QUEUE_EXPIRE_AT_KEY_PREFIX.formatted(performanceId)),
+                                           accountId.toString(),
+                                           UUID.randomUUID().toString().replace("-", ""),
+                                           String.valueOf(now));
+    }
+
+    /**
+     * 계정에 발급된 입장 토큰을 조회합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param accountId     - 계정 ID
+     * @return 입장 토큰
+     */
+    public Optional<String> getToken(final Long performanceId, final UUID accountId) {
+        Object token = stringRedisTemplate.opsForHash()
+                                          .get(REDIS_ADMISSION_QUEUE_TOKEN_KEY_PREFIX.formatted(performanceId),
+                                               accountId.toString());
+        return Optional.ofNullable(token).map(String::valueOf);
+    }
+
+    /**
+     * 대기열에서 토큰의 순번(0부터 시작)을 조회합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param token         - 입장 토큰
+     * @return 대기 순번, 대기열에 없으면 empty
+     */
+    public Optional<Long> getWaitingRank(final Long performanceId, final String token) {
+        return Optional.ofNullable(
+                stringRedisTemplate.opsForZSet().rank(REDIS_ADMISSION_QUEUE_WAITING_KEY_PREFIX.formatted(performanceId),
+                                                      token)
+        );
+    }
+
+    /**
+     * 입장한 토큰의 입장 만료 시각을 조회합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param token         - 입장 토큰
+     * @return 입장 만료 시각(ms), 입장 목록에 없으면 empty
+     */
+    public Optional<Long> getAdmittedExpireAt(final Long performanceId, final String token) {
+        Double score = stringRedisTemplate.opsForZSet()
+                                          .score(REDIS_ADMISSION_QUEUE_ADMITTED_KEY_PREFIX.formatted(performanceId),
+                                                 token);
+        return Optional.ofNullable(score).map(Double::longValue);
+    }
+
+    /**
+     * 계정이 입장 토큰으로 공연 예약에 접근할 수 있는지 확인합니다. 대기열이 비활성화된 공연은 항상 접근 가능합니다.
+     *
+     * @param performanceId - 공연 ID
+     * @param accountId     - 계정 ID
+     * @param token         - 입장 토큰
+     * @param now           - 현재 시각(ms)
+     * @return 접근 가능 여부
+     */
+    public boolean isAdmitted(final Long performanceId, final UUID accountId, final String token, final long now) {
+        Long result = stringRedisTemplate.execute(VALIDATE_SCRIPT,
+                                                  List.of(REDIS_ADMISSION_QUEUE_ACTIVE_KEY,
+                                                          REDIS_ADMISSION_QUEUE_TOKEN_KEY_PREFIX.formatted(
+                                                                  performanceId
+                                                          ),
+                                                          REDIS_ADMISSION_QUEUE_ADMITTED_KEY_PREFIX.formatted(
+                                                                  performanceId
+                                                          )),
+                                                  String.valueOf(performanceId),
+                                                  accountId.toString(),
+                                                  token == null ? "" : token,
+                                                  String.valueOf(now));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 대기열의 앞에서부터 입장시킵니다. 만료된 입장 토큰은 먼저 정리됩니다.
+     *
+     * @param performanceId     - 공연 ID
+     * @param now               - 현재 시각(ms)
+     * @param batchSize         - 1회 입장 인원
+     * @param maxAdmittedCount  - 최대 입장 인원
+     * @param admittedTtlMillis - 입장 유지 시간(ms)
+     * @param intervalMillis    - 입장 처리 주기(ms)
+     * @return 입장시킨 인원 수, 다른 노드가 이미 처리한 경우 -1, 대기열 만료 시각이 지난 경우 ADMIT_QUEUE_EXPIRED
+     */
+    public long admit(final Long performanceId,
+                      final long now,
+                      final int batchSize,
+                      final int maxAdmittedCount,
+                      final long admittedTtlMillis,
+                      final long intervalMillis) {
+        Long admitted = stringRedisTemplate.execute(
+                ADMIT_SCRIPT,
+                List.of(REDIS_ADMISSION_QUEUE_WAITING_KEY_PREFIX.formatted(performanceId),
+                        REDIS_ADMISSION_QUEUE_ADMITTED_KEY_PREFIX.formatted(performanceId),
+                        REDIS_ADMISSION_QUEUE_ADMIT_LOCK_KEY_PREFIX.formatted(performanceId),
+                        REDIS_ADMISSION_QUEUE_EXPIRE_AT_KEY_PREFIX.formatted(performanceId)),
+                String.valueOf(now),
+                String.valueOf(batchSize),
+                String.valueOf(maxAdmittedCount),
+                String.valueOf(now + admittedTtlMillis),
+                String.valueOf(intervalMillis)
+        );
+        return admitted == null ? 0L : admitted;
+    }
+
+}
@@ -2,7 +2,10 @@ SET FOREIGN_KEY_CHECKS = 0;
 
 DROP TABLE IF EXISTS accounts CASCADE;
 DROP TABLE IF EXISTS oauth_connections CASCADE;
+DROP TABLE IF EXISTS venue_layouts CASCADE;
+DROP TABLE IF EXISTS venue_layout_seats CASCADE;
 DROP TABLE IF EXISTS performances CASCADE;
+DROP TABLE IF EXISTS performance_stats CASCADE;
 DROP TABLE IF EXISTS seats CASCADE;
 DROP TABLE IF EXISTS reservations CASCADE;
 DROP TABLE IF EXISTS payments CASCADE;
@@ -40,6 +43,33 @@ CREATE TABLE oauth_connections
     CONSTRAINT UK_oauth_connections_account_id_provider UNIQUE (account_id, provider)
 ) COMMENT 'OAuth 연결 테이블';
 
+CREATE TABLE venue_layouts
+(
+    layout_id   BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '좌석 배치 템플릿 고유 식별자',
+    name        VARCHAR(255)    NOT NULL COMMENT '템플릿 명칭',
+    venue       VARCHAR(255)    NOT NULL COMMENT '공연 장소',
+    total_seats INT UNSIGNED    NOT NULL DEFAULT 0 COMMENT '전체 좌석 수',
+    created_at  DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
+    updated_at  DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
+    CONSTRAINT PK_venue_layouts PRIMARY KEY (layout_id)
+) COMMENT '좌석 배치 템플릿 테이블';
+
+CREATE TABLE venue_layout_seats
+(
+    layout_seat_id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '템플릿 좌석 고유 식별자',
+    layout_id      BIGINT UNSIGNED NOT NULL COMMENT '좌석이 포함된 템플릿 식별자',
+    section        VARCHAR(255)    NOT NULL COMMENT '구역',
+    seat_row       INT UNSIGNED    NOT NULL COMMENT '열 번호',
+    seat_number    INT UNSIGNED    NOT NULL COMMENT '열 내 좌석 번호',
+    seat_code      VARCHAR(255)    NOT NULL COMMENT '좌석 번호: {구역}-{열}-{번호}',
+    price          INT UNSIGNED    NOT NULL DEFAULT 0 COMMENT '좌석 가격 (블록별 가격 등급)',
+    created_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
+    updated_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
+    CONSTRAINT PK_venue_layout_seats PRIMARY KEY (layout_seat_id),
+    CONSTRAINT FK_venue_layout_seats_venue_layouts FOREIGN KEY (layout_id) REFERENCES venue_layouts (layout_id),
+    CONSTRAINT UK_venue_layout_seats_position UNIQUE (layout_id, section, seat_row, seat_number)
+) COMMENT '좌석 배치 템플릿 좌석 테이블';
+
 CREATE TABLE performances
 (
     performance_id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '공연 고유 식별자',
@@ -48,24 +78,44 @@ CREATE TABLE performances
     info           TEXT COMMENT '공연 정보',
     start_time     DATETIME        NOT NULL COMMENT '공연 시작 시간',
     end_time       DATETIME        NOT NULL COMMENT '공연 종료 시간',
+    layout_id      BIGINT UNSIGNED NULL COMMENT '좌석을 복사한 좌석 배치 템플릿 식별자',
+    on_sale_at     DATETIME        NULL COMMENT '예매 오픈 일시 (NULL이면 생성 즉시 예매 가능)',
     created_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
-    updated_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
+    updated_at     DATETIME(6)     NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정 일시 (ETag 버전 값이므로 마이크로초 단위)',
     CONSTRAINT PK_performances PRIMARY KEY (performance_id),
+    CONSTRAINT FK_performances_venue_layouts FOREIGN KEY (layout_id) REFERENCES venue_layouts (layout_id),
+    INDEX IDX_performances_created_at (created_at, performance_id),
+    INDEX IDX_performances_start_time (start_time, performance_id),
+    INDEX IDX_performances_end_time (end_time, performance_id),
+    INDEX IDX_performances_on_sale_at (on_sale_at),
     FULLTEXT INDEX IDX_fulltext_performances_name_info (name, info) WITH PARSER ngram
 ) COMMENT '공연 테이블';
 
+CREATE TABLE performance_stats
+(
+    performance_id  BIGINT UNSIGNED NOT NULL COMMENT '공연 식별자',
+    slot            INT UNSIGNED    NOT NULL COMMENT '카운터 슬롯 (같은 공연의 동시 갱신을 여러 행으로 분산)',
+    total_seats     INT             NOT NULL DEFAULT 0 COMMENT '전체 좌석 수 (슬롯 합계가 실제 값)',
+    available_seats INT             NOT NULL DEFAULT 0 COMMENT '예약 가능 좌석 수 (슬롯 합계가 실제 값, 슬롯별로는 음수 가능)',
+    CONSTRAINT PK_performance_stats PRIMARY KEY (performance_id, slot),
+    CONSTRAINT FK_performance_stats_performances FOREIGN KEY (performance_id) REFERENCES performances (performance_id)
+) COMMENT '공연 좌석 현황 카운터 테이블';
+
 CREATE TABLE seats
 (
     seat_id        BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '좌석 고유 식별자',
     performance_id BIGINT UNSIGNED NOT NULL COMMENT '좌석이 포함된 공연 식별자',
+    layout_seat_id BIGINT UNSIGNED NULL COMMENT '좌석을 복사한 템플릿 좌석 식별자',
     seat_code      VARCHAR(255)    NOT NULL COMMENT '좌석 번호',
     price          INT UNSIGNED    NOT NULL DEFAULT 0 COMMENT '좌석 가격',
     status         VARCHAR(255)    NOT NULL DEFAULT 'AVAILABLE' COMMENT '좌석 상태 (AVAILABLE, RESERVED, SOLD)',
+    fencing_token  BIGINT UNSIGNED NOT NULL DEFAULT 0 COMMENT '마지막으로 좌석을 선점한 분산 락의 펜싱 토큰',
     created_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
     updated_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
     version        BIGINT UNSIGNED NOT NULL DEFAULT 0 COMMENT '버전',
     CONSTRAINT PK_seats PRIMARY KEY (seat_id),
-    CONSTRAINT FK_seats_performances FOREIGN KEY (performance_id) REFERENCES performances (performance_id)
+    CONSTRAINT FK_seats_performances FOREIGN KEY (performance_id) REFERENCES performances (performance_id),
+    CONSTRAINT FK_seats_venue_layout_seats FOREIGN KEY (layout_seat_id) REFERENCES venue_layout_seats (layout_seat_id)
 ) COMMENT '좌석 테이블';
 
 CREATE TABLE reservations
@@ -79,7 +129,8 @@ CREATE TABLE reservations
     updated_at   DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
     CONSTRAINT PK_reservations PRIMARY KEY (account_id, seat_id),
     CONSTRAINT FK_reservations_accounts FOREIGN KEY (account_id) REFERENCES accounts (account_id),
-    CONSTRAINT FK_reservations_seats FOREIGN KEY (seat_id) REFERENCES seats (seat_id)
+    CONSTRAINT FK_reservations_seats FOREIGN KEY (seat_id) REFERENCES seats (seat_id),
+    INDEX IDX_reservations_status_expired_at_seat_id (status, expired_at, seat_id)
 ) COMMENT '예약 테이블';
 
 CREATE TABLE payments
@@ -0,0 +1,60 @@
+package com.example.demo.common.util;
+
+import static com.example.demo.common.util.ETagUtils.generate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * PackageName : com.example.demo.common.util
+ * FileName    : ETagUtilsTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : ETagUtils 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+class ETagUtilsTest {
+
+    @Nested
+    @DisplayName("generate() 테스트")
+    class GenerateTests {
+
+        @RepeatedTest(10)
+        @DisplayName("같은 버전 값이면 같은 강한 ETag 생성")
+        void generate_sameVersions() {
+            // given
+            LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 17, 10, 0);
+
+            // when
+            String eTag  = generate(1L, updatedAt, 100);
+            String other = generate(1L, updatedAt, 100);
+
+            // then
+            assertEquals(eTag, other);
+            assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""), "ETag는 따옴표로 감싸야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("버전 값이 하나라도 다르면 다른 ETag 생성")
+        void generate_differentVersions() {
+            // given
+            LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 17, 10, 0);
+
+            // when & then
+            assertNotEquals(generate(1L, updatedAt, 100), generate(1L, updatedAt, 99));
+            assertNotEquals(generate(1L, updatedAt, 100), generate(1L, updatedAt.plusSeconds(1), 100));
+            assertNotEquals(generate(1L, updatedAt, 100), generate(1L, updatedAt.plusNanos(1000), 100));
+            assertNotEquals(generate(1L, 11), generate(11L, 1));
+        }
+
+    }
+
+}
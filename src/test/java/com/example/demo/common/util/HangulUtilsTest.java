@@ -0,0 +1,96 @@
+package com.example.demo.common.util;
+
+import static com.example.demo.common.util.HangulUtils.chosung;
+import static com.example.demo.common.util.HangulUtils.decompose;
+import static com.example.demo.common.util.HangulUtils.isChosungOnly;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * PackageName : com.example.demo.common.util
+ * FileName    : HangulUtilsTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : HangulUtils 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+class HangulUtilsTest {
+
+    @Nested
+    @DisplayName("decompose() 테스트")
+    class DecomposeTests {
+
+        @RepeatedTest(10)
+        @DisplayName("완성형 한글을 자모로 분해하고 공백 제거, 영문은 소문자로 변환")
+        void decompose_syllables() {
+            // when
+            String result = decompose("아이유 Live");
+
+            // then
+            assertEquals("ㅇㅏㅇㅣㅇㅠlive", result);
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("겹모음과 겹받침은 두 자모로 분해")
+        void decompose_compound() {
+            // when
+            String result = decompose("과닭");
+
+            // then
+            assertEquals("ㄱㅗㅏㄷㅏㄹㄱ", result);
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("입력 중인 글자는 완성된 글자의 접두사")
+        void decompose_typing() {
+            // when
+            String typing   = decompose("아잉");
+            String complete = decompose("아이유");
+
+            // then
+            assertTrue(complete.startsWith(typing), "입력 중인 글자의 자모는 완성된 글자 자모의 접두사여야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("chosung() 테스트")
+    class ChosungTests {
+
+        @RepeatedTest(10)
+        @DisplayName("완성형 한글의 초성 추출")
+        void chosung_syllables() {
+            // when
+            String result = chosung("아이유 콘서트");
+
+            // then
+            assertEquals("ㅇㅇㅇㅋㅅㅌ", result);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("isChosungOnly() 테스트")
+    class IsChosungOnlyTests {
+
+        @RepeatedTest(10)
+        @DisplayName("초성으로만 이루어진 문자열 판별")
+        void isChosungOnly_check() {
+            assertTrue(isChosungOnly("ㅇㅇㅇ"));
+            assertTrue(isChosungOnly("ㅇㅇ ㅋㅅ"));
+            assertFalse(isChosungOnly("아ㅇ"));
+            assertFalse(isChosungOnly("ㅘ"));
+            assertFalse(isChosungOnly(" "));
+        }
+
+    }
+
+}
@@ -249,8 +249,10 @@ public abstract class TestUtils {
                                                       .parameter(String.class, "info")
                                                       .parameter(LocalDateTime.class, "startTime")
                                                       .parameter(LocalDateTime.class, "endTime")
+                                                      .parameter(LocalDateTime.class, "onSaleAt")
                                                       .parameter(int.class, "totalSeats")
-                                                      .parameter(int.class, "price"))
+                                                      .parameter(int.class, "price")
+                                                      .parameter(Long.class, "layoutId"))
                              .setLazy("name", () -> FAKER.hobby().activity())
                              .setLazy("venue", () -> FAKER.address().fullAddress())
                              .setLazy("info", () -> FAKER.lorem().characters(1, 65535, true, true, true))
@@ -258,6 +260,8 @@ public abstract class TestUtils {
                              .setLazy("endTime", () -> startTime.plusHours(3))
                              .setLazy("totalSeats", () -> FAKER.number().numberBetween(1, 500))
                              .setLazy("price", () -> FAKER.number().numberBetween(0, Integer.MAX_VALUE))
+                             .setNull("onSaleAt")
+                             .setNull("layoutId")
                              .sample();
     }
 
@@ -272,12 +276,14 @@ public abstract class TestUtils {
                                                       .parameter(String.class, "venue")
                                                       .parameter(String.class, "info")
                                                       .parameter(LocalDateTime.class, "startTime")
-                                                      .parameter(LocalDateTime.class, "endTime"))
+                                                      .parameter(LocalDateTime.class, "endTime")
+                                                      .parameter(LocalDateTime.class, "onSaleAt"))
                              .setLazy("name", () -> FAKER.hobby().activity())
                              .setLazy("venue", () -> FAKER.address().fullAddress())
                              .setLazy("info", () -> FAKER.lorem().characters(1, 65535, true, true, true))
                              .setLazy("startTime", () -> startTime)
                              .setLazy("endTime", () -> startTime.plusHours(3))
+                             .setNull("onSaleAt")
                              .sample();
     }
 
@@ -323,6 +329,8 @@ public abstract class TestUtils {
                                                       .parameter(LocalDateTime.class, "endTime")
                                                       .parameter(int.class, "remainingSeats")
                                                       .parameter(int.class, "totalSeats")
+                                                      .parameter(Long.class, "layoutId")
+                                                      .parameter(LocalDateTime.class, "onSaleAt")
                                                       .parameter(LocalDateTime.class, "createdAt")
                                                       .parameter(LocalDateTime.class, "updatedAt"))
                              .setLazy("name", () -> FAKER.hobby().activity())
@@ -332,6 +340,7 @@ public abstract class TestUtils {
                              .setLazy("endTime", () -> startTime.plusHours(3))
                              .setLazy("totalSeats", () -> FAKER.number().numberBetween(1, Integer.MAX_VALUE))
                              .setLazy("price", () -> FAKER.number().numberBetween(0, Integer.MAX_VALUE))
+                             .setLazy("onSaleAt", () -> startTime.minusWeeks(1))
                              .setLazy("createdAt", () -> startTime.minusWeeks(2))
                              .setLazy("updatedAt", () -> startTime.minusWeeks(2))
                              .sample();
@@ -1,9 +1,11 @@
 package com.example.demo.domain.performance.controller;
 
 import static com.example.demo.common.response.SuccessCode.DELETE_PERFORMANCE_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.PERFORMANCE_AUTOCOMPLETE_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PERFORMANCE_CREATE_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PERFORMANCE_LIST_SEARCH_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PERFORMANCE_READ_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.SEAT_MAP_READ_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.UPDATE_PERFORMANCE_INFO_SUCCESS;
 import static com.example.demo.common.util.TestUtils.FAKER;
 import static com.example.demo.common.util.TestUtils.createPerformanceCreateRequest;
@@ -11,11 +13,15 @@ import static com.example.demo.common.util.TestUtils.createPerformanceDetailResp
 import static com.example.demo.common.util.TestUtils.createPerformanceListResponses;
 import static com.example.demo.common.util.TestUtils.createPerformanceUpdateRequest;
 import static com.example.demo.domain.account.model.AccountRole.ADMIN;
+import static com.example.demo.domain.performance.model.SeatStatus.SOLD;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -24,6 +30,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.handler;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +38,7 @@ import autoparams.AutoSource;
 import autoparams.Repeat;
 import com.example.demo.common.config.AppConfig;
 import com.example.demo.common.response.ApiResponse;
+import com.example.demo.common.response.CursorSlice;
 import com.example.demo.common.response.advice.PageResponseAdvice;
 import com.example.demo.common.security.annotation.CustomWithMockUser;
 import com.example.demo.common.security.config.SecurityConfig;
@@ -40,10 +48,15 @@ import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceCre
 import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceUpdateRequest;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceDetailResponse;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceSuggestionResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.SeatMapResponse;
 import com.example.demo.domain.performance.service.PerformanceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -134,6 +147,7 @@ class PerformanceControllerTest {
         resultActions.andExpect(handler().handlerType(PerformanceController.class))
                      .andExpect(handler().methodName("getPerformances"))
                      .andExpect(status().isOk())
+                     .andExpect(header().exists(ETAG))
                      .andExpect(jsonPath("$.message").value(PERFORMANCE_LIST_SEARCH_SUCCESS.getMessage()))
                      .andExpect(jsonPath("$.data.content").isArray())
                      .andExpect(jsonPath("$.data.content").isNotEmpty())
@@ -154,6 +168,71 @@ class PerformanceControllerTest {
         verify(performanceService, times(1)).getAllPerformances(eq(keyword), eq(pageable));
     }
 
+    @RepeatedTest(10)
+    @DisplayName("공연 목록 커서 조회")
+    void scrollPerformances() throws Exception {
+        // given
+        String   keyword  = FAKER.lorem().word();
+        String   cursor   = "Y3JlYXRlZEF0fERFU0N8MjAyNi0xMC0xN1QxMDowMHwxMA";
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+
+        CursorSlice<PerformanceListResponse> mockSlice = new CursorSlice<>(createPerformanceListResponses(10),
+                                                                           pageable,
+                                                                           "next-cursor");
+
+        when(performanceService.scrollPerformances(eq(keyword), eq(cursor), eq(pageable))).thenReturn(mockSlice);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/performances/scroll")
+                                                              .param("keyword", keyword)
+                                                              .param("cursor", cursor)
+                                                              .param("size", "10")
+                                                              .param("sort", "createdAt,DESC"));
+
+        // then
+        resultActions.andExpect(handler().handlerType(PerformanceController.class))
+                     .andExpect(handler().methodName("scrollPerformances"))
+                     .andExpect(status().isOk())
+                     .andExpect(jsonPath("$.message").value(PERFORMANCE_LIST_SEARCH_SUCCESS.getMessage()))
+                     .andExpect(jsonPath("$.data.content").isArray())
+                     .andExpect(jsonPath("$.data.content").isNotEmpty())
+                     .andExpect(jsonPath("$.data.total_elements").doesNotExist())
+                     .andExpect(jsonPath("$.data.total_pages").doesNotExist())
+                     .andExpect(jsonPath("$.data.size").value(10))
+                     .andExpect(jsonPath("$.data.has_next").value(true))
+                     .andExpect(jsonPath("$.data.next_cursor").value("next-cursor"))
+                     .andDo(print());
+
+        verify(performanceService, times(1)).scrollPerformances(eq(keyword), eq(cursor), eq(pageable));
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("공연 이름 자동완성 조회")
+    void getSuggestions() throws Exception {
+        // given
+        String                              keyword      = "ㅇㅇㅇ";
+        List<PerformanceSuggestionResponse> mockResponse = List.of(new PerformanceSuggestionResponse(1L,
+                                                                                                     "아이유 콘서트"));
+
+        when(performanceService.getSuggestions(eq(keyword), eq(5))).thenReturn(mockResponse);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/performances/autocomplete")
+                                                              .param("keyword", keyword)
+                                                              .param("size", "5"));
+
+        // then
+        resultActions.andExpect(handler().handlerType(PerformanceController.class))
+                     .andExpect(handler().methodName("getSuggestions"))
+                     .andExpect(status().isOk())
+                     .andExpect(jsonPath("$.message").value(PERFORMANCE_AUTOCOMPLETE_SUCCESS.getMessage()))
+                     .andExpect(jsonPath("$.data[0].id").value(1L))
+                     .andExpect(jsonPath("$.data[0].name").value("아이유 콘서트"))
+                     .andDo(print());
+
+        verify(performanceService, times(1)).getSuggestions(eq(keyword), eq(5));
+    }
+
     @ParameterizedTest
     @Repeat(10)
     @AutoSource
@@ -175,12 +254,78 @@ class PerformanceControllerTest {
         resultActions.andExpect(handler().handlerType(PerformanceController.class))
                      .andExpect(handler().methodName("getPerformance"))
                      .andExpect(status().isOk())
+                     .andExpect(header().exists(ETAG))
                      .andExpect(content().json(responseBody))
                      .andDo(print());
 
         verify(performanceService, times(1)).getPerformance(eq(performanceId));
     }
 
+    @ParameterizedTest
+    @Repeat(10)
+    @AutoSource
+    @DisplayName("공연 상세 조회, 변경되지 않았으면 304 응답")
+    void getPerformance_notModified(@Min(1) @Max(Long.MAX_VALUE) final long performanceId) throws Exception {
+        // given
+        PerformanceDetailResponse mockResponse = createPerformanceDetailResponse();
+
+        when(performanceService.getPerformance(eq(performanceId))).thenReturn(mockResponse);
+
+        String eTag = mockMvc.perform(get("/api/v1/performances/{performanceId}", performanceId))
+                             .andReturn()
+                             .getResponse()
+                             .getHeader(ETAG);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/performances/{performanceId}", performanceId)
+                                                              .header(IF_NONE_MATCH, eTag));
+
+        // then
+        resultActions.andExpect(handler().handlerType(PerformanceController.class))
+                     .andExpect(handler().methodName("getPerformance"))
+                     .andExpect(status().isNotModified())
+                     .andExpect(header().string(ETAG, eTag))
+                     .andExpect(content().string(""))
+                     .andDo(print());
+
+        verify(performanceService, times(2)).getPerformance(eq(performanceId));
+    }
+
+    @ParameterizedTest
+    @Repeat(10)
+    @AutoSource
+    @DisplayName("공연 좌석 배치도 조회")
+    void getSeatMap(@Min(1) @Max(Long.MAX_VALUE) final long performanceId) throws Exception {
+        // given
+        long sinceVersion = 3L;
+        SeatMapResponse mockResponse = SeatMapResponse.of(performanceId,
+                                                          5L,
+                                                          false,
+                                                          new TreeMap<>(Map.of(1L, SOLD, 2L, TEMPORARY_RESERVED)));
+
+        when(performanceService.getSeatMap(eq(performanceId), eq(sinceVersion))).thenReturn(mockResponse);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/performances/{performanceId}/seats/map",
+                                                          performanceId).param("sinceVersion",
+                                                                               String.valueOf(sinceVersion)));
+
+        // then
+        resultActions.andExpect(handler().handlerType(PerformanceController.class))
+                     .andExpect(handler().methodName("getSeatMap"))
+                     .andExpect(status().isOk())
+                     .andExpect(jsonPath("$.message").value(SEAT_MAP_READ_SUCCESS.getMessage()))
+                     .andExpect(jsonPath("$.data.version").value(5))
+                     .andExpect(jsonPath("$.data.snapshot").value(false))
+                     .andExpect(jsonPath("$.data.seat_count").value(2))
+                     .andExpect(jsonPath("$.data.seat_id_ranges[0][0]").value(1))
+                     .andExpect(jsonPath("$.data.seat_id_ranges[0][1]").value(2))
+                     .andExpect(jsonPath("$.data.statuses").value(mockResponse.getStatuses()))
+                     .andDo(print());
+
+        verify(performanceService, times(1)).getSeatMap(eq(performanceId), eq(sinceVersion));
+    }
+
     @ParameterizedTest
     @Repeat(10)
     @AutoSource
@@ -7,20 +7,26 @@ import static com.example.demo.common.util.TestUtils.getDiffTime;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import autoparams.AutoSource;
 import autoparams.Repeat;
+import com.example.demo.common.response.CursorSlice;
+import com.example.demo.domain.performance.dto.PerformanceCursor;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceDetailResponse;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
 import com.example.demo.domain.performance.model.Performance;
 import com.example.demo.infra.mysql.common.AbstractMySQLIntegrationTest;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,6 +37,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
  * PackageName : com.example.demo.domain.performance.dao
@@ -47,6 +54,8 @@ class PerformanceRepositoryCustomTest extends AbstractMySQLIntegrationTest {
 
     @Autowired
     PerformanceRepository performanceRepository;
+    @Autowired
+    JdbcTemplate          jdbcTemplate;
 
     @AfterEach
     void tearDown() {
@@ -95,6 +104,23 @@ class PerformanceRepositoryCustomTest extends AbstractMySQLIntegrationTest {
             assertFalse(opPerformanceDetailResponse.isPresent(), "조회된 PerformanceDetailResponse는 null이어야 합니다.");
         }
 
+        @RepeatedTest(10)
+        @DisplayName("같은 초 안에 수정해도 수정 일시가 달라짐")
+        void getPerformance_updatedWithinSameSecond() {
+            // given
+            Performance   performance = performanceRepository.save(createPerformance());
+            Long          id          = performance.getId();
+            LocalDateTime before      = performanceRepository.getPerformance(id).get().getUpdatedAt();
+
+            // when
+            performance.setName("updated" + performance.getName());
+            performanceRepository.saveAndFlush(performance);
+            LocalDateTime after = performanceRepository.getPerformance(id).get().getUpdatedAt();
+
+            // then
+            assertNotEquals(before, after, "updatedAt은 ETag 버전 값이므로 초 단위로 잘리지 않고 달라야 합니다.");
+        }
+
     }
 
     @Nested
@@ -211,4 +237,98 @@ class PerformanceRepositoryCustomTest extends AbstractMySQLIntegrationTest {
 
     }
 
+    @Nested
+    @DisplayName("scrollPerformances() 테스트")
+    class ScrollPerformancesTests {
+
+        @RepeatedTest(10)
+        @DisplayName("시작 일시가 같은 공연이 있어도 오름차순 커서 페이징에서 누락이나 중복 없이 조회")
+        void scrollPerformances_duplicateStartTimeAscending() {
+            // given
+            List<Performance> performances = saveWithDuplicateTimes();
+            List<Long>        expected     = performances.stream()
+                                                         .sorted(Comparator.comparing(Performance::getStartTime)
+                                                                           .thenComparing(Performance::getId))
+                                                         .map(Performance::getId)
+                                                         .toList();
+
+            // when
+            List<Long> actual = scrollAll(Sort.by("startTime").ascending(), 3);
+
+            // then
+            assertEquals(expected, actual, "시작 일시, 공연 ID 오름차순으로 모든 공연이 한 번씩 조회되어야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("생성 일시가 같은 공연이 있어도 내림차순 커서 페이징에서 누락이나 중복 없이 조회")
+        void scrollPerformances_duplicateCreatedAtDescending() {
+            // given
+            List<Performance> performances = saveWithDuplicateTimes();
+            List<Long>        ids          = performances.stream().map(Performance::getId).toList();
+            List<Long>        expected     = IntStream.range(0, ids.size())
+                                                      .boxed()
+                                                      .sorted(Comparator.comparing((Integer i) -> i % 2)
+                                                                        .thenComparing(ids::get)
+                                                                        .reversed())
+                                                      .map(ids::get)
+                                                      .toList();
+
+            // when
+            List<Long> actual = scrollAll(Sort.by("createdAt").descending(), 3);
+
+            // then
+            assertEquals(expected, actual, "생성 일시, 공연 ID 내림차순으로 모든 공연이 한 번씩 조회되어야 합니다.");
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    /**
+     * 시작 일시가 두 값, 생성 일시가 두 값으로 겹치는 공연 7건을 저장합니다. 앞의 4건과 뒤의 3건은 시작 일시가 같고,
+     * 짝수 번째와 홀수 번째 공연은 생성 일시가 같습니다 (홀수 번째가 더 늦음).
+     *
+     * @return 저장 순서대로의 공연 목록
+     */
+    private List<Performance> saveWithDuplicateTimes() {
+        LocalDateTime baseTime = LocalDateTime.now().plusMonths(1).withNano(0);
+        LocalDateTime created  = LocalDateTime.now().minusDays(1).withNano(0);
+
+        List<Performance> performances = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            LocalDateTime startTime = i < 4 ? baseTime : baseTime.plusDays(1);
+            performances.add(performanceRepository.save(Performance.of(FAKER.hobby().activity(),
+                                                                       FAKER.address().fullAddress(),
+                                                                       FAKER.lorem().sentence(),
+                                                                       startTime,
+                                                                       startTime.plusHours(2))));
+        }
+        for (int i = 0; i < performances.size(); i++)
+            jdbcTemplate.update("UPDATE performances SET created_at = ? WHERE performance_id = ?",
+                                i % 2 == 0 ? created : created.plusHours(1),
+                                performances.get(i).getId());
+        return performances;
+    }
+
+    /**
+     * 다음 페이지 커서가 없을 때까지 커서 기반으로 조회한 공연 ID를 순서대로 모읍니다.
+     *
+     * @param sort - 첫 페이지 정렬 조건
+     * @param size - 페이지 크기
+     * @return 조회된 공연 ID 목록
+     */
+    private List<Long> scrollAll(final Sort sort, final int size) {
+        List<Long>        ids    = new ArrayList<>();
+        PerformanceCursor cursor = null;
+        do {
+            CursorSlice<PerformanceListResponse> slice = performanceRepository.scrollPerformances(null,
+                                                                                                  cursor,
+                                                                                                  sort,
+                                                                                                  size);
+            slice.getContent().forEach(response -> ids.add(response.getId()));
+            cursor = slice.getNextCursor() == null ? null : PerformanceCursor.decode(slice.getNextCursor());
+        } while (cursor != null);
+        return ids;
+    }
+
 }
@@ -0,0 +1,213 @@
+package com.example.demo.domain.performance.dao;
+
+import static com.example.demo.common.util.TestUtils.createPerformance;
+import static com.example.demo.common.util.TestUtils.createSeats;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.demo.common.config.EnableJpaAuditingConfig;
+import com.example.demo.common.config.P6SpyConfig;
+import com.example.demo.common.config.QuerydslConfig;
+import com.example.demo.domain.performance.model.Performance;
+import com.example.demo.domain.performance.model.PerformanceStats;
+import com.example.demo.domain.performance.model.Seat;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : PerformanceStatsRepositoryTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : PerformanceStatsRepository 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@DataJpaTest
+@Import({EnableJpaAuditingConfig.class, P6SpyConfig.class, QuerydslConfig.class})
+class PerformanceStatsRepositoryTest {
+
+    @Autowired
+    TestEntityManager          em;
+    @Autowired
+    PerformanceStatsRepository performanceStatsRepository;
+
+    @Nested
+    @DisplayName("initialize() 테스트")
+    class InitializeTests {
+
+        @RepeatedTest(10)
+        @DisplayName("공연의 카운터 슬롯 생성")
+        void initialize() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+
+            // when
+            performanceStatsRepository.initialize(performance.getId(), 100);
+
+            // then
+            List<PerformanceStats> stats = findStats(performance.getId());
+
+            assertAll(() -> assertEquals(PerformanceStatsRepositoryImpl.SLOT_COUNT,
+                                         stats.size(),
+                                         "슬롯 수는 SLOT_COUNT와 같아야 합니다."),
+                      () -> assertEquals(100, sumTotalSeats(stats), "전체 좌석 수 합은 100이어야 합니다."),
+                      () -> assertEquals(100, sumAvailableSeats(stats), "예약 가능 좌석 수 합은 100이어야 합니다."));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("addAvailableSeats() 테스트")
+    class AddAvailableSeatsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("예약 가능 좌석 수 증감분 반영")
+        void addAvailableSeats() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            performanceStatsRepository.initialize(performance.getId(), 100);
+
+            // when
+            for (int i = 0; i < 10; i++) performanceStatsRepository.addAvailableSeats(performance.getId(), -2);
+            performanceStatsRepository.addAvailableSeats(performance.getId(), 5);
+
+            // then
+            List<PerformanceStats> stats = findStats(performance.getId());
+
+            assertAll(() -> assertEquals(100, sumTotalSeats(stats), "전체 좌석 수 합은 변하지 않아야 합니다."),
+                      () -> assertEquals(85, sumAvailableSeats(stats), "예약 가능 좌석 수 합은 85여야 합니다."));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("deleteByPerformanceId() 테스트")
+    class DeleteByPerformanceIdTests {
+
+        @RepeatedTest(10)
+        @DisplayName("공연의 카운터 슬롯 삭제")
+        void deleteByPerformanceId() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            performanceStatsRepository.initialize(performance.getId(), 100);
+
+            // when
+            int deleted = performanceStatsRepository.deleteByPerformanceId(performance.getId());
+
+            // then
+            assertEquals(PerformanceStatsRepositoryImpl.SLOT_COUNT, deleted, "삭제된 슬롯 수는 SLOT_COUNT와 같아야 합니다.");
+            assertTrue(findStats(performance.getId()).isEmpty(), "남은 슬롯이 없어야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("reconcile() 테스트")
+    class ReconcileTests {
+
+        @RepeatedTest(10)
+        @DisplayName("어긋난 카운터를 좌석 테이블의 좌석 수로 보정")
+        void reconcile() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            List<Seat>  seats       = createSeats(performance, 5);
+            seats.get(0).reserveTemporary();
+            seats.get(1).reserveTemporary();
+            seats.forEach(em::persist);
+            em.flush();
+
+            performanceStatsRepository.initialize(performance.getId(), 5);
+            for (int i = 0; i < 3; i++) performanceStatsRepository.addAvailableSeats(performance.getId(), -2);
+
+            // when
+            boolean corrected = performanceStatsRepository.reconcile(performance.getId());
+
+            // then
+            List<PerformanceStats> stats = findStats(performance.getId());
+
+            assertAll(() -> assertTrue(corrected, "카운터가 보정되어야 합니다."),
+                      () -> assertEquals(PerformanceStatsRepositoryImpl.SLOT_COUNT,
+                                         stats.size(),
+                                         "슬롯 수는 SLOT_COUNT와 같아야 합니다."),
+                      () -> assertEquals(5, sumTotalSeats(stats), "전체 좌석 수 합은 5여야 합니다."),
+                      () -> assertEquals(3, sumAvailableSeats(stats), "예약 가능 좌석 수 합은 3이어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("카운터가 좌석 수와 같으면 보정하지 않음")
+        void reconcile_consistent() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            createSeats(performance, 5).forEach(em::persist);
+            em.flush();
+
+            performanceStatsRepository.initialize(performance.getId(), 5);
+
+            // when
+            boolean corrected = performanceStatsRepository.reconcile(performance.getId());
+
+            // then
+            List<PerformanceStats> stats = findStats(performance.getId());
+
+            assertAll(() -> assertFalse(corrected, "카운터가 보정되지 않아야 합니다."),
+                      () -> assertEquals(5, sumTotalSeats(stats), "전체 좌석 수 합은 5여야 합니다."),
+                      () -> assertEquals(5, sumAvailableSeats(stats), "예약 가능 좌석 수 합은 5여야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("카운터 슬롯이 없는 공연은 좌석 테이블의 좌석 수로 슬롯 생성")
+        void reconcile_missingSlots() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            List<Seat>  seats       = createSeats(performance, 4);
+            seats.getFirst().reserveTemporary();
+            seats.forEach(em::persist);
+            em.flush();
+
+            // when
+            boolean corrected = performanceStatsRepository.reconcile(performance.getId());
+
+            // then
+            List<PerformanceStats> stats = findStats(performance.getId());
+
+            assertAll(() -> assertTrue(corrected, "카운터가 생성되어야 합니다."),
+                      () -> assertEquals(PerformanceStatsRepositoryImpl.SLOT_COUNT,
+                                         stats.size(),
+                                         "슬롯 수는 SLOT_COUNT와 같아야 합니다."),
+                      () -> assertEquals(4, sumTotalSeats(stats), "전체 좌석 수 합은 4여야 합니다."),
+                      () -> assertEquals(3, sumAvailableSeats(stats), "예약 가능 좌석 수 합은 3이어야 합니다."));
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private List<PerformanceStats> findStats(final Long performanceId) {
+        em.clear();
+        return em.getEntityManager()
+                 .createQuery("SELECT s FROM PerformanceStats s WHERE s.performanceId = :performanceId",
+                              PerformanceStats.class)
+                 .setParameter("performanceId", performanceId)
+                 .getResultList();
+    }
+
+    private int sumTotalSeats(final List<PerformanceStats> stats) {
+        return stats.stream().mapToInt(PerformanceStats::getTotalSeats).sum();
+    }
+
+    private int sumAvailableSeats(final List<PerformanceStats> stats) {
+        return stats.stream().mapToInt(PerformanceStats::getAvailableSeats).sum();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.example.demo.domain.performance.dao;
+
+import static com.example.demo.common.util.TestUtils.createPerformance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.demo.domain.performance.model.Performance;
+import com.example.demo.domain.performance.model.Seat;
+import com.example.demo.infra.mysql.common.AbstractMySQLIntegrationTest;
+import java.time.Duration;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PackageName : com.example.demo.domain.performance.dao
+ * FileName    : SeatBulkInsertBenchmarkTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 좌석 대량 생성 벤치마크 (./gradlew test -PincludeTags=benchmark)
+ *               같은 수의 좌석을 JPA saveAll()과 bulkInsertSeats()로 생성해 걸린 시간과 힙 사용량 증가를 비교하고,
+ *               대형 공연장 규모(60,000석)를 bulkInsertSeats()로 생성하는 시간을 측정합니다.
+ *               다중 행 INSERT의 효과는 DB마다 다르므로 운영과 같은 MySQL 컨테이너에서 측정합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Tag("benchmark")
+@Slf4j
+class SeatBulkInsertBenchmarkTest extends AbstractMySQLIntegrationTest {
+
+    private static final int      COMPARE_SEAT_COUNT = 10_000;
+    private static final int      STADIUM_SEAT_COUNT = 60_000;
+    private static final Duration STADIUM_TIME_LIMIT = Duration.ofSeconds(10);
+
+    @Autowired
+    TransactionTemplate   transactionTemplate;
+    @Autowired
+    PerformanceRepository performanceRepository;
+    @Autowired
+    SeatRepository        seatRepository;
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+        performanceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 좌석 대량 생성은 JPA saveAll()보다 빨라야 함")
+    void bulkInsertSeats_fasterThanSaveAll() {
+        // given
+        Performance jpaPerformance  = performanceRepository.save(createPerformance());
+        Performance bulkPerformance = performanceRepository.save(createPerformance());
+
+        // when
+        Measurement jpa = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            Performance performance = performanceRepository.getReferenceById(jpaPerformance.getId());
+            seatRepository.saveAll(IntStream.rangeClosed(1, COMPARE_SEAT_COUNT)
+                                            .mapToObj(i -> Seat.of("A-" + i, 10000, performance))
+                                            .toList());
+        }));
+        Measurement bulk = measure(
+                () -> seatRepository.bulkInsertSeats(bulkPerformance.getId(), "A-", COMPARE_SEAT_COUNT, 10000)
+        );
+
+        // then
+        log.info("[saveAll] seats: {}, elapsed: {} ms, heap delta: {} KB",
+                 COMPARE_SEAT_COUNT, jpa.getElapsed().toMillis(), jpa.getHeapDeltaBytes() / 1024);
+        log.info("[bulkInsertSeats] seats: {}, elapsed: {} ms, heap delta: {} KB",
+                 COMPARE_SEAT_COUNT, bulk.getElapsed().toMillis(), bulk.getHeapDeltaBytes() / 1024);
+
+        assertEquals(COMPARE_SEAT_COUNT, countSeats(bulkPerformance), "생성된 좌석 수가 일치해야 합니다.");
+        assertTrue(bulk.getElapsed().compareTo(jpa.getElapsed()) < 0, "bulkInsertSeats()가 saveAll()보다 빨라야 합니다.");
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 60,000석 공연장의 좌석을 제한 시간 안에 생성해야 함")
+    void bulkInsertSeats_stadium() {
+        // given
+        Performance performance = performanceRepository.save(createPerformance());
+
+        // when
+        Measurement bulk = measure(
+                () -> seatRepository.bulkInsertSeats(performance.getId(), "A-", STADIUM_SEAT_COUNT, 10000)
+        );
+
+        // then
+        log.info("[bulkInsertSeats] seats: {}, elapsed: {} ms, heap delta: {} KB",
+                 STADIUM_SEAT_COUNT, bulk.getElapsed().toMillis(), bulk.getHeapDeltaBytes() / 1024);
+
+        assertEquals(STADIUM_SEAT_COUNT, countSeats(performance), "생성된 좌석 수가 일치해야 합니다.");
+        assertTrue(bulk.getElapsed().compareTo(STADIUM_TIME_LIMIT) < 0,
+                   "60,000석 생성은 " + STADIUM_TIME_LIMIT.toSeconds() + "초 안에 끝나야 합니다.");
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private long countSeats(final Performance performance) {
+        return seatRepository.findSeatStatusesByPerformanceId(performance.getId()).size();
+    }
+
+    private Measurement measure(final Runnable task) {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        long startedAt  = System.nanoTime();
+
+        task.run();
+
+        Duration elapsed   = Duration.ofNanos(System.nanoTime() - startedAt);
+        long     usedAfter = runtime.totalMemory() - runtime.freeMemory();
+        return new Measurement(elapsed, usedAfter - usedBefore);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Measurement {
+        private final Duration elapsed;         // 걸린 시간
+        private final long     heapDeltaBytes;  // 작업 전후 힙 사용량 차이 (GC 영향으로 근사값)
+    }
+
+}
@@ -9,6 +9,7 @@ import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TE
 import com.example.demo.domain.performance.model.Performance;
 import com.example.demo.domain.performance.model.Seat;
 import com.example.demo.infra.redis.config.TestRedisConfig;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -60,13 +61,13 @@ class SeatRepositoryConcurrencyTest {
     SeatRepository        seatRepository;
 
     @Nested
-    @DisplayName("findByIdWithLock() 테스트")
-    class FindByIdWithLockTests {
+    @DisplayName("findAllByIdInWithLock() 테스트")
+    class FindAllByIdInWithLockTests {
 
         @Test
         @Order(1)
         @DisplayName("[비관적 락 동작 테스트] 동시에 조회 및 수정 시 마지막 커밋 데이터가 반영되어야 함")
-        void findByIdWithLock() throws Exception {
+        void findAllByIdInWithLock() throws Exception {
             // given
             Long id = transactionTemplate.execute(status -> {
                 Performance performance = performanceRepository.save(createPerformance());
@@ -90,7 +91,7 @@ class SeatRepositoryConcurrencyTest {
                         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
                             @Override
                             protected void doInTransactionWithoutResult(TransactionStatus status) {
-                                Seat seat = seatRepository.findByIdWithLock(id).orElseThrow();
+                                Seat seat = seatRepository.findAllByIdInWithLock(List.of(id)).getFirst();
 
                                 String newSeatCode = "Seat-" + threadIndex;
                                 seat.setSeatCode(newSeatCode);
@@ -16,6 +16,9 @@ import com.example.demo.common.config.P6SpyConfig;
 import com.example.demo.common.config.QuerydslConfig;
 import com.example.demo.domain.performance.model.Performance;
 import com.example.demo.domain.performance.model.Seat;
+import com.example.demo.domain.performance.model.VenueLayout;
+import com.example.demo.domain.performance.model.VenueLayoutSeat;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -108,6 +111,192 @@ class SeatRepositoryTest {
 
     }
 
+    @Nested
+    @DisplayName("holdAvailableSeats() 테스트")
+    class HoldAvailableSeatsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("예약 가능한 좌석만 임시 예약 상태로 변경")
+        void holdAvailableSeats() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            Seat        available   = em.persistAndFlush(createSeat(performance));
+            Seat        reserved    = createSeat(performance);
+            reserved.setStatus(TEMPORARY_RESERVED);
+            em.persistAndFlush(reserved);
+            em.clear();
+
+            // when
+            int updated = seatRepository.holdAvailableSeats(List.of(available.getId(), reserved.getId()),
+                                                            performance.getId(),
+                                                            AVAILABLE,
+                                                            TEMPORARY_RESERVED);
+
+            // then
+            Seat heldSeat = em.find(Seat.class, available.getId());
+
+            assertEquals(1, updated, "변경된 좌석 수는 1이어야 합니다.");
+            assertEquals(TEMPORARY_RESERVED, heldSeat.getStatus(), "status는 TEMPORARY_RESERVED여야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("다른 공연의 좌석은 변경하지 않음")
+        void holdAvailableSeats_seatOfOtherPerformance() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            Performance other       = em.persistAndFlush(createPerformance());
+            Seat        seat        = em.persistAndFlush(createSeat(other));
+            em.clear();
+
+            // when
+            int updated = seatRepository.holdAvailableSeats(List.of(seat.getId()),
+                                                            performance.getId(),
+                                                            AVAILABLE,
+                                                            TEMPORARY_RESERVED);
+
+            // then
+            Seat findSeat = em.find(Seat.class, seat.getId());
+
+            assertEquals(0, updated, "변경된 좌석 수는 0이어야 합니다.");
+            assertEquals(AVAILABLE, findSeat.getStatus(), "status는 AVAILABLE이어야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("holdAvailableSeatWithFencingToken() 테스트")
+    class HoldAvailableSeatWithFencingTokenTests {
+
+        @RepeatedTest(10)
+        @DisplayName("펜싱 토큰과 함께 좌석을 임시 예약 상태로 변경")
+        void holdAvailableSeatWithFencingToken() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            Seat        seat        = em.persistAndFlush(createSeat(performance));
+            em.clear();
+
+            // when
+            int updated = seatRepository.holdAvailableSeatWithFencingToken(seat.getId(),
+                                                                           performance.getId(),
+                                                                           AVAILABLE,
+                                                                           TEMPORARY_RESERVED,
+                                                                           5L);
+
+            // then
+            Seat heldSeat = em.find(Seat.class, seat.getId());
+
+            assertEquals(1, updated, "변경된 좌석 수는 1이어야 합니다.");
+            assertEquals(TEMPORARY_RESERVED, heldSeat.getStatus(), "status는 TEMPORARY_RESERVED여야 합니다.");
+            assertEquals(5L, heldSeat.getFencingToken(), "fencingToken은 5여야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("기록된 펜싱 토큰보다 작거나 같은 토큰으로는 변경하지 않음")
+        void holdAvailableSeatWithFencingToken_staleToken() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            Seat        seat        = em.persistAndFlush(createSeat(performance));
+            em.clear();
+
+            seatRepository.holdAvailableSeatWithFencingToken(seat.getId(),
+                                                             performance.getId(),
+                                                             AVAILABLE,
+                                                             TEMPORARY_RESERVED,
+                                                             5L);
+            Seat canceled = em.find(Seat.class, seat.getId());
+            canceled.cancel();
+            em.flush();
+            em.clear();
+
+            // when
+            int updated = seatRepository.holdAvailableSeatWithFencingToken(seat.getId(),
+                                                                           performance.getId(),
+                                                                           AVAILABLE,
+                                                                           TEMPORARY_RESERVED,
+                                                                           5L);
+
+            // then
+            Seat findSeat = em.find(Seat.class, seat.getId());
+
+            assertEquals(0, updated, "변경된 좌석 수는 0이어야 합니다.");
+            assertEquals(AVAILABLE, findSeat.getStatus(), "status는 AVAILABLE이어야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("bulkInsertSeats() 테스트")
+    class BulkInsertSeatsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 대량 생성, INSERT 한 문장의 좌석 수보다 많은 좌석")
+        void bulkInsertSeats() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            em.clear();
+
+            // when
+            int inserted = seatRepository.bulkInsertSeats(performance.getId(), "A-", 2500, 10000);
+
+            // then
+            List<Seat> seats = em.getEntityManager()
+                                 .createQuery("SELECT s FROM Seat s WHERE s.performance.id = :performanceId "
+                                              + "ORDER BY s.id", Seat.class)
+                                 .setParameter("performanceId", performance.getId())
+                                 .getResultList();
+
+            assertEquals(2500, inserted, "생성된 좌석 수는 2500이어야 합니다.");
+            assertEquals(2500, seats.size(), "조회된 좌석 수는 2500이어야 합니다.");
+            assertEquals("A-1", seats.getFirst().getSeatCode(), "첫 좌석 번호는 A-1이어야 합니다.");
+            assertEquals("A-2500", seats.getLast().getSeatCode(), "마지막 좌석 번호는 A-2500이어야 합니다.");
+            assertEquals(AVAILABLE, seats.getLast().getStatus(), "status는 AVAILABLE이어야 합니다.");
+            assertEquals(10000, seats.getLast().getPrice(), "price는 10000이어야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copySeatsFromLayout() 테스트")
+    class CopySeatsFromLayoutTests {
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치 템플릿의 좌석을 템플릿 좌석 순서대로 공연 좌석으로 복사")
+        void copySeatsFromLayout() {
+            // given
+            Performance performance = em.persistAndFlush(createPerformance());
+            VenueLayout layout      = em.persistAndFlush(VenueLayout.of("layout", performance.getVenue(), 6));
+            List<VenueLayoutSeat> layoutSeats = List.of(VenueLayoutSeat.of(layout.getId(), "A", 1, 1, 50000),
+                                                        VenueLayoutSeat.of(layout.getId(), "A", 1, 2, 50000),
+                                                        VenueLayoutSeat.of(layout.getId(), "A", 2, 1, 50000),
+                                                        VenueLayoutSeat.of(layout.getId(), "A", 2, 2, 50000),
+                                                        VenueLayoutSeat.of(layout.getId(), "B", 1, 1, 30000),
+                                                        VenueLayoutSeat.of(layout.getId(), "B", 1, 2, 30000));
+            layoutSeats.forEach(em::persist);
+            em.flush();
+            em.clear();
+
+            // when
+            int copied = seatRepository.copySeatsFromLayout(performance.getId(), layout.getId());
+
+            // then
+            List<Seat> seats = em.getEntityManager()
+                                 .createQuery("SELECT s FROM Seat s WHERE s.performance.id = :performanceId "
+                                              + "ORDER BY s.id", Seat.class)
+                                 .setParameter("performanceId", performance.getId())
+                                 .getResultList();
+
+            assertEquals(6, copied, "복사된 좌석 수는 6이어야 합니다.");
+            assertEquals(6, seats.size(), "조회된 좌석 수는 6이어야 합니다.");
+            for (int i = 0; i < seats.size(); i++) {
+                assertEquals(layoutSeats.get(i).getId(), seats.get(i).getLayoutSeatId(), "layoutSeatId는 같아야 합니다.");
+                assertEquals(layoutSeats.get(i).getSeatCode(), seats.get(i).getSeatCode(), "seatCode는 같아야 합니다.");
+                assertEquals(layoutSeats.get(i).getPrice(), seats.get(i).getPrice(), "price는 같아야 합니다.");
+                assertEquals(AVAILABLE, seats.get(i).getStatus(), "status는 AVAILABLE이어야 합니다.");
+            }
+        }
+
+    }
+
     @Nested
     @DisplayName("existsByPerformanceIdAndStatusNot() 테스트")
     class ExistsByPerformanceIdAndStatusNotTests {
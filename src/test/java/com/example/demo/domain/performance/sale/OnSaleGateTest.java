@@ -0,0 +1,109 @@
+package com.example.demo.domain.performance.sale;
+
+import static com.example.demo.common.response.ErrorCode.PERFORMANCE_NOT_ON_SALE;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dto.PerformanceOnSaleValue;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * PackageName : com.example.demo.domain.performance.sale
+ * FileName    : OnSaleGateTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : OnSaleGate 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+class OnSaleGateTest {
+
+    OnSaleGate onSaleGate;
+
+    @BeforeEach
+    void setUp() {
+        onSaleGate = new OnSaleGate();
+    }
+
+    @Nested
+    @DisplayName("validateOnSale() 테스트")
+    class ValidateOnSaleTests {
+
+        @RepeatedTest(10)
+        @DisplayName("예매 오픈 전 공연은 차단")
+        void validateOnSale_notOnSale() {
+            // given
+            onSaleGate.update(1L, LocalDateTime.now().plusHours(1));
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> onSaleGate.validateOnSale(1L),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(PERFORMANCE_NOT_ON_SALE, exception.getErrorCode(),
+                         "errorCode는 PERFORMANCE_NOT_ON_SALE여야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("예매가 열렸거나 일정이 없는 공연은 통과")
+        void validateOnSale_onSale() {
+            // given
+            onSaleGate.update(1L, LocalDateTime.now().minusSeconds(1));
+            onSaleGate.update(2L, null);
+
+            // when & then
+            assertDoesNotThrow(() -> onSaleGate.validateOnSale(1L));
+            assertDoesNotThrow(() -> onSaleGate.validateOnSale(2L));
+            assertDoesNotThrow(() -> onSaleGate.validateOnSale(3L));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("refresh() 테스트")
+    class RefreshTests {
+
+        @RepeatedTest(10)
+        @DisplayName("적재 중 반영된 변경은 적재 결과로 덮어쓰지 않음")
+        void refresh_keepsNewerUpdate() {
+            // given
+            LocalDateTime onSaleAt = LocalDateTime.now().plusHours(1);
+
+            // when
+            onSaleGate.refresh(() -> {
+                onSaleGate.update(1L, null);    // 적재 중 예매 오픈 일시가 제거됨
+                onSaleGate.remove(2L);          // 적재 중 공연이 삭제됨
+                return List.of(new PerformanceOnSaleValue(1L, onSaleAt), new PerformanceOnSaleValue(2L, onSaleAt));
+            });
+
+            // then
+            assertDoesNotThrow(() -> onSaleGate.validateOnSale(1L));
+            assertDoesNotThrow(() -> onSaleGate.validateOnSale(2L));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("적재 결과에 없는 이전 일정은 제거")
+        void refresh_removesStale() {
+            // given
+            onSaleGate.update(1L, LocalDateTime.now().plusHours(1));
+
+            // when
+            onSaleGate.refresh(List::of);
+
+            // then
+            assertDoesNotThrow(() -> onSaleGate.validateOnSale(1L));
+        }
+
+    }
+
+}
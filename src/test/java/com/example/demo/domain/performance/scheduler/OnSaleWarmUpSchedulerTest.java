@@ -0,0 +1,179 @@
+package com.example.demo.domain.performance.scheduler;
+
+import static com.example.demo.common.response.ErrorCode.PERFORMANCE_NOT_ON_SALE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.dto.PerformanceOnSaleValue;
+import com.example.demo.domain.performance.properties.OnSaleProperties;
+import com.example.demo.domain.performance.sale.OnSaleGate;
+import com.example.demo.domain.performance.service.PerformanceService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PackageName : com.example.demo.domain.performance.scheduler
+ * FileName    : OnSaleWarmUpSchedulerTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : OnSaleWarmUpScheduler 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class OnSaleWarmUpSchedulerTest {
+
+    private static final long WARM_UP_LEAD_MILLIS = 5 * 60 * 1000L;
+
+    @Mock
+    PerformanceRepository performanceRepository;
+    @Mock
+    PerformanceService    performanceService;
+    @Mock
+    DataSource            dataSource;
+    @Mock
+    HikariDataSource      hikariDataSource;
+    @Mock
+    HikariPoolMXBean      hikariPool;
+    @Mock
+    Connection            connection;
+
+    OnSaleGate            onSaleGate;
+    OnSaleWarmUpScheduler onSaleWarmUpScheduler;
+
+    @BeforeEach
+    void setUp() {
+        onSaleGate = new OnSaleGate();
+        onSaleWarmUpScheduler = new OnSaleWarmUpScheduler(onSaleGate,
+                                                          performanceRepository,
+                                                          performanceService,
+                                                          dataSource,
+                                                          new OnSaleProperties(60000L, WARM_UP_LEAD_MILLIS));
+    }
+
+    @Nested
+    @DisplayName("warmUp() 테스트")
+    class WarmUpTests {
+
+        @RepeatedTest(10)
+        @DisplayName("준비 시간 안에 예매가 열리는 공연만 준비하고, 모든 일정을 예매 오픈 차단에 반영")
+        void warmUp_selectsTargets() throws Exception {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            when(performanceRepository.getOnSaleSchedules(any(LocalDateTime.class)))
+                    .thenReturn(List.of(new PerformanceOnSaleValue(1L, now.plusMinutes(1)),
+                                        new PerformanceOnSaleValue(2L, now.plusHours(1))));
+            stubConnectionPool(0);
+
+            // when
+            onSaleWarmUpScheduler.warmUp();
+
+            // then
+            verify(performanceService, times(1)).getPerformance(eq(1L));
+            verify(performanceService, times(1)).getSeatMap(eq(1L), isNull());
+            verify(performanceService, never()).getPerformance(eq(2L));
+            verify(performanceService, never()).getSeatMap(eq(2L), any());
+
+            assertNotOnSale(1L);
+            assertNotOnSale(2L);
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("이미 준비한 공연은 다시 준비하지 않고, 예매 오픈 일시가 바뀌면 다시 준비")
+        void warmUp_skipsWarmedUp() throws Exception {
+            // given
+            LocalDateTime onSaleAt    = LocalDateTime.now().plusMinutes(1);
+            LocalDateTime rescheduled = onSaleAt.plusMinutes(2);
+            when(performanceRepository.getOnSaleSchedules(any(LocalDateTime.class)))
+                    .thenReturn(List.of(new PerformanceOnSaleValue(1L, onSaleAt)),
+                                List.of(new PerformanceOnSaleValue(1L, onSaleAt)),
+                                List.of(new PerformanceOnSaleValue(1L, rescheduled)));
+            stubConnectionPool(0);
+
+            // when
+            onSaleWarmUpScheduler.warmUp();
+            onSaleWarmUpScheduler.warmUp();
+            onSaleWarmUpScheduler.warmUp();
+
+            // then
+            verify(performanceService, times(2)).getPerformance(eq(1L));
+            verify(performanceService, times(2)).getSeatMap(eq(1L), isNull());
+            verify(dataSource, times(2)).isWrapperFor(eq(HikariDataSource.class));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("준비할 공연이 있으면 유휴 커넥션을 모두 빌려 검증한 뒤 반환")
+        void warmUp_primesConnectionPool() throws Exception {
+            // given
+            when(performanceRepository.getOnSaleSchedules(any(LocalDateTime.class)))
+                    .thenReturn(List.of(new PerformanceOnSaleValue(1L, LocalDateTime.now().plusMinutes(1))));
+            stubConnectionPool(3);
+            when(hikariDataSource.getConnection()).thenReturn(connection);
+
+            // when
+            onSaleWarmUpScheduler.warmUp();
+
+            // then
+            verify(hikariDataSource, times(3)).getConnection();
+            verify(connection, times(3)).close();
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("준비할 공연이 없으면 공연 정보와 커넥션을 준비하지 않음")
+        void warmUp_noTargets() throws Exception {
+            // given
+            when(performanceRepository.getOnSaleSchedules(any(LocalDateTime.class)))
+                    .thenReturn(List.of(new PerformanceOnSaleValue(1L, LocalDateTime.now().plusHours(1))));
+
+            // when
+            onSaleWarmUpScheduler.warmUp();
+
+            // then
+            verify(performanceService, never()).getPerformance(anyLong());
+            verify(dataSource, never()).isWrapperFor(any());
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void stubConnectionPool(final int idleConnections) throws Exception {
+        when(dataSource.isWrapperFor(eq(HikariDataSource.class))).thenReturn(true);
+        when(dataSource.unwrap(eq(HikariDataSource.class))).thenReturn(hikariDataSource);
+        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(hikariPool);
+        when(hikariPool.getIdleConnections()).thenReturn(idleConnections);
+    }
+
+    private void assertNotOnSale(final Long performanceId) {
+        BusinessException exception = assertThrows(BusinessException.class,
+                                                   () -> onSaleGate.validateOnSale(performanceId),
+                                                   "BusinessException이 발생해야 합니다.");
+        assertEquals(PERFORMANCE_NOT_ON_SALE,
+                     exception.getErrorCode(),
+                     "errorCode는 PERFORMANCE_NOT_ON_SALE여야 합니다.");
+    }
+
+}
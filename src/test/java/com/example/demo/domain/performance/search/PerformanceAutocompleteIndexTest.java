@@ -0,0 +1,122 @@
+package com.example.demo.domain.performance.search;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceSuggestionResponse;
+import com.example.demo.domain.performance.dto.PerformanceSearchValue;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * PackageName : com.example.demo.domain.performance.search
+ * FileName    : PerformanceAutocompleteIndexTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : PerformanceAutocompleteIndex 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+class PerformanceAutocompleteIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 10, 17, 10, 0);
+
+    PerformanceAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PerformanceAutocompleteIndex();
+        index.put(createValue(1L, "아이유 콘서트", 0));
+        index.put(createValue(2L, "아이브 팬미팅", 0));
+        index.put(createValue(3L, "오페라의 유령", 0));
+    }
+
+    @Nested
+    @DisplayName("suggest() 테스트")
+    class SuggestTests {
+
+        @RepeatedTest(10)
+        @DisplayName("초성, 완성된 글자, 입력 중인 글자로 최신 공연부터 조회")
+        void suggest() {
+            assertAll(() -> assertEquals(List.of(1L), getIds(index.suggest("ㅇㅇㅇ", 10))),
+                      () -> assertEquals(List.of(2L, 1L), getIds(index.suggest("아이", 10))),
+                      () -> assertEquals(List.of(1L), getIds(index.suggest("아잉", 10))),
+                      () -> assertEquals(List.of(2L, 1L), getIds(index.suggest("ㅇㅇ", 10))));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("이름 중간 단어부터 입력해도 조회")
+        void suggest_middleWord() {
+            // when
+            List<PerformanceSuggestionResponse> result = index.suggest("콘서", 10);
+
+            // then
+            assertAll(() -> assertEquals(List.of(1L), getIds(result)),
+                      () -> assertEquals("아이유 콘서트", result.getFirst().getName()));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("최대 응답 수만큼만 조회")
+        void suggest_limit() {
+            // given
+            LongStream.rangeClosed(10, 30).forEach(id -> index.put(createValue(id, "아이유 앵콜 " + id, 0)));
+
+            // when
+            List<PerformanceSuggestionResponse> result = index.suggest("아이유", 5);
+
+            // then
+            assertEquals(List.of(30L, 29L, 28L, 27L, 26L), getIds(result), "최신 공연 5건이어야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("put() / remove() 테스트")
+    class PutAndRemoveTests {
+
+        @RepeatedTest(10)
+        @DisplayName("이름이 바뀐 공연은 이전 이름으로 조회되지 않음")
+        void put_rename() {
+            // when
+            index.put(createValue(1L, "아이유 팬미팅", 1));
+
+            // then
+            assertAll(() -> assertTrue(index.suggest("콘서트", 10).isEmpty()),
+                      () -> assertEquals(List.of(2L, 1L), getIds(index.suggest("팬미", 10))));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("삭제된 공연은 조회되지 않고 남은 공연이 대신 조회됨")
+        void remove() {
+            // given
+            LongStream.rangeClosed(10, 20).forEach(id -> index.put(createValue(id, "아이유 앵콜 " + id, 0)));
+
+            // when
+            LongStream.rangeClosed(12, 20).forEach(index::remove);
+
+            // then
+            assertEquals(List.of(11L, 10L, 2L, 1L), getIds(index.suggest("ㅇㅇ", 10)));
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private PerformanceSearchValue createValue(final Long id, final String name, final int minutes) {
+        LocalDateTime time = BASE_TIME.plusMinutes(minutes);
+        return new PerformanceSearchValue(id, name, "venue", "info", time, time.plusHours(2), null, time, time);
+    }
+
+    private List<Long> getIds(final List<PerformanceSuggestionResponse> suggestions) {
+        return suggestions.stream().map(PerformanceSuggestionResponse::getId).toList();
+    }
+
+}
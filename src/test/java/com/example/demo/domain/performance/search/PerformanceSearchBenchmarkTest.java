@@ -0,0 +1,111 @@
+package com.example.demo.domain.performance.search;
+
+import static com.example.demo.common.util.TestUtils.FAKER;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.model.Performance;
+import com.example.demo.infra.mysql.common.AbstractMySQLIntegrationTest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * PackageName : com.example.demo.domain.performance.search
+ * FileName    : PerformanceSearchBenchmarkTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : 공연 검색 벤치마크 (./gradlew test -PincludeTags=benchmark)
+ *               생성한 공연 카탈로그에서 같은 검색어로 FULLTEXT 검색과 공연 검색 색인을 반복 조회해 걸린 시간을 비교합니다.
+ *               실행 환경에 따라 측정값이 달라지므로 걸린 시간은 로그로만 남기고 검증하지 않습니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Tag("benchmark")
+@Slf4j
+class PerformanceSearchBenchmarkTest extends AbstractMySQLIntegrationTest {
+
+    private static final int CATALOG_SIZE  = 5_000;
+    private static final int KEYWORD_COUNT = 20;
+    private static final int ITERATIONS    = 50;
+
+    @Autowired
+    PerformanceRepository    performanceRepository;
+    @Autowired
+    PerformanceSearchIndex   performanceSearchIndex;
+    @Autowired
+    PerformanceSearchIndexer performanceSearchIndexer;
+
+    @AfterEach
+    void tearDown() {
+        performanceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 공연 검색 색인과 FULLTEXT 검색의 조회 시간 비교")
+    void search_comparedWithFulltext() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<Performance> performances = IntStream.range(0, CATALOG_SIZE)
+                                                  .mapToObj(i -> Performance.of(FAKER.hobby().activity(),
+                                                                                FAKER.address().city(),
+                                                                                FAKER.lorem().paragraph(5),
+                                                                                now.plusDays(i % 365 + 1),
+                                                                                now.plusDays(i % 365 + 2)))
+                                                  .toList();
+        performanceRepository.saveAll(performances);
+        performanceSearchIndexer.build();
+
+        List<String> keywords = IntStream.range(0, KEYWORD_COUNT)
+                                         .mapToObj(i -> performances.get(i * (CATALOG_SIZE / KEYWORD_COUNT))
+                                                                    .getName()
+                                                                    .split("\\s+")[0])
+                                         .toList();
+        Pageable pageable = PageRequest.of(0, 20);
+
+        // when
+        Duration fulltext = measure(keywords, keyword -> performanceRepository.getPerformances(keyword, pageable)
+                                                                              .getTotalElements());
+        Duration index    = measure(keywords, keyword -> performanceSearchIndex.search(keyword, pageable)
+                                                                               .getTotalElements());
+
+        // then
+        List<Long> fulltextTotals = new ArrayList<>();
+        List<Long> indexTotals    = new ArrayList<>();
+        for (String keyword : keywords) {
+            fulltextTotals.add(performanceRepository.getPerformances(keyword, pageable).getTotalElements());
+            indexTotals.add(performanceSearchIndex.search(keyword, pageable).getTotalElements());
+        }
+        log.info("[FULLTEXT] performances: {}, queries: {}, elapsed: {} ms, totals: {}",
+                 CATALOG_SIZE, KEYWORD_COUNT * ITERATIONS, fulltext.toMillis(), fulltextTotals);
+        log.info("[search index] performances: {}, queries: {}, elapsed: {} ms, totals: {}",
+                 CATALOG_SIZE, KEYWORD_COUNT * ITERATIONS, index.toMillis(), indexTotals);
+        log.info("[search index / FULLTEXT] speedup: {}x",
+                 String.format("%.2f", (double) fulltext.toNanos() / Math.max(index.toNanos(), 1L)));
+
+        assertTrue(performanceSearchIndex.size() >= CATALOG_SIZE, "모든 공연이 색인되어야 합니다.");
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private Duration measure(final List<String> keywords, final Function<String, Long> search) {
+        search.apply(keywords.getFirst());  // 준비 운동
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) keywords.forEach(search::apply);
+        return Duration.ofNanos(System.nanoTime() - startedAt);
+    }
+
+}
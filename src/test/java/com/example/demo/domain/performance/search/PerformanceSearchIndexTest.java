@@ -0,0 +1,160 @@
+package com.example.demo.domain.performance.search;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.PerformanceSearchValue;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * PackageName : com.example.demo.domain.performance.search
+ * FileName    : PerformanceSearchIndexTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : PerformanceSearchIndex 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+class PerformanceSearchIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 10, 17, 10, 0);
+
+    PerformanceSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PerformanceSearchIndex();
+        index.put(createValue(1L, "뮤지컬 레미제라블", "빅토르 위고 원작 뮤지컬", 0));
+        index.put(createValue(2L, "오페라의 유령", "Andrew Lloyd Webber Musical", 1));
+        index.put(createValue(3L, "뮤지컬 캣츠", "T.S. Eliot 원작", 2));
+    }
+
+    @Nested
+    @DisplayName("search() 테스트")
+    class SearchTests {
+
+        @RepeatedTest(10)
+        @DisplayName("모든 단어가 공연 이름 또는 정보에 포함된 공연을 최신 공연부터 조회")
+        void search() {
+            // when
+            Page<PerformanceListResponse> result = index.search("뮤지컬 원작", PageRequest.of(0, 10));
+
+            // then
+            assertAll(() -> assertEquals(2, result.getTotalElements(), "검색된 공연은 2건이어야 합니다."),
+                      () -> assertEquals(List.of(3L, 1L), getIds(result), "최신 공연부터 조회되어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("대소문자를 구분하지 않음")
+        void search_ignoreCase() {
+            // when
+            Page<PerformanceListResponse> result = index.search("MUSICAL", PageRequest.of(0, 10));
+
+            // then
+            assertEquals(List.of(2L), getIds(result), "대소문자와 관계없이 검색되어야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("바이그램은 모두 포함하지만 단어가 포함되지 않은 공연은 제외")
+        void search_bigramsOnly() {
+            // given
+            index.put(createValue(4L, "제라블레", "레미제", 3));
+
+            // when
+            Page<PerformanceListResponse> result = index.search("레미제라블", PageRequest.of(0, 10));
+
+            // then
+            assertEquals(List.of(1L), getIds(result), "단어가 포함된 공연만 검색되어야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("정렬 조건과 페이징 적용")
+        void search_sortAndPage() {
+            // when
+            Page<PerformanceListResponse> result = index.search("뮤지컬",
+                                                                PageRequest.of(1, 1, Sort.by("startTime").ascending()));
+
+            // then
+            assertAll(() -> assertEquals(2, result.getTotalElements(), "검색된 공연은 2건이어야 합니다."),
+                      () -> assertEquals(List.of(3L), getIds(result), "두 번째로 빠른 공연이어야 합니다."));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("put() / remove() 테스트")
+    class PutAndRemoveTests {
+
+        @RepeatedTest(10)
+        @DisplayName("수정된 공연은 이전 내용으로 검색되지 않음")
+        void put_update() {
+            // when
+            index.put(createValue(1L, "레미제라블 갈라 콘서트", "콘서트", 5));
+
+            // then
+            assertAll(() -> assertEquals(List.of(3L), getIds(index.search("뮤지컬", PageRequest.of(0, 10)))),
+                      () -> assertEquals(List.of(1L), getIds(index.search("콘서트", PageRequest.of(0, 10)))));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("색인된 공연보다 이전에 수정된 공연은 무시")
+        void put_stale() {
+            // given
+            index.put(createValue(1L, "레미제라블 갈라 콘서트", "콘서트", 5));
+
+            // when
+            index.put(createValue(1L, "뮤지컬 레미제라블", "빅토르 위고 원작 뮤지컬", 4));
+
+            // then
+            assertEquals(List.of(1L), getIds(index.search("콘서트", PageRequest.of(0, 10))));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("삭제된 공연은 검색되지 않음")
+        void remove() {
+            // when
+            index.remove(3L);
+
+            // then
+            assertAll(() -> assertEquals(2, index.size(), "색인된 공연은 2건이어야 합니다."),
+                      () -> assertEquals(List.of(1L), getIds(index.search("뮤지컬", PageRequest.of(0, 10)))),
+                      () -> assertTrue(index.search("캣츠", PageRequest.of(0, 10)).isEmpty()));
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private PerformanceSearchValue createValue(final Long id,
+                                               final String name,
+                                               final String info,
+                                               final int minutes) {
+        LocalDateTime time = BASE_TIME.plusMinutes(minutes);
+        return new PerformanceSearchValue(id,
+                                          name,
+                                          "venue",
+                                          info,
+                                          time.plusDays(id),
+                                          time.plusDays(id + 1),
+                                          null,
+                                          time,
+                                          time);
+    }
+
+    private List<Long> getIds(final Page<PerformanceListResponse> page) {
+        return page.map(PerformanceListResponse::getId).getContent();
+    }
+
+}
@@ -1,45 +1,85 @@
 package com.example.demo.domain.performance.service;
 
 import static com.example.demo.common.response.ErrorCode.DELETE_NOT_ALLOWED_HAS_RESERVATION;
+import static com.example.demo.common.response.ErrorCode.INVALID_ON_SALE_TIME;
+import static com.example.demo.common.response.ErrorCode.INVALID_PERFORMANCE_CURSOR;
 import static com.example.demo.common.response.ErrorCode.PERFORMANCE_NOT_FOUND;
+import static com.example.demo.common.response.ErrorCode.VENUE_LAYOUT_NOT_FOUND;
 import static com.example.demo.common.util.TestUtils.createPerformanceCreateRequest;
 import static com.example.demo.common.util.TestUtils.createPerformanceDetailResponse;
 import static com.example.demo.common.util.TestUtils.createPerformanceListResponses;
 import static com.example.demo.common.util.TestUtils.createPerformanceUpdateRequest;
 import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.domain.performance.model.SeatStatus.SOLD;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.demo.common.error.BusinessException;
+import com.example.demo.common.response.CursorSlice;
 import com.example.demo.common.util.TestUtils;
+import com.example.demo.domain.performance.cache.PerformanceCatalogCache;
 import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.dao.PerformanceStatsRepository;
+import com.example.demo.domain.performance.dao.VenueLayoutRepository;
+import com.example.demo.domain.performance.dto.PerformanceCursor;
 import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceCreateRequest;
 import com.example.demo.domain.performance.dto.PerformanceRequest.PerformanceUpdateRequest;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceDetailResponse;
 import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceListResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.PerformanceSuggestionResponse;
+import com.example.demo.domain.performance.dto.PerformanceResponse.SeatMapResponse;
+import com.example.demo.domain.performance.dto.SeatCountValue;
+import com.example.demo.domain.performance.dto.SeatStatusValue;
+import com.example.demo.domain.performance.event.PerformanceChangedEvent;
 import com.example.demo.domain.performance.model.Performance;
 import com.example.demo.domain.performance.dao.SeatRepository;
+import com.example.demo.domain.performance.model.SeatStatus;
+import com.example.demo.domain.performance.search.PerformanceAutocompleteIndex;
+import com.example.demo.domain.performance.search.PerformanceSearchIndex;
+import com.example.demo.infra.redis.inventory.SeatInventoryManager;
+import com.example.demo.infra.redis.inventory.SeatInventorySnapshot;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -57,11 +97,25 @@ import org.springframework.test.util.ReflectionTestUtils;
 class PerformanceServiceTest {
 
     @InjectMocks
-    PerformanceServiceImpl performanceService;
+    PerformanceServiceImpl       performanceService;
     @Mock
-    PerformanceRepository performanceRepository;
+    PerformanceRepository        performanceRepository;
     @Mock
-    SeatRepository        seatRepository;
+    SeatRepository               seatRepository;
+    @Mock
+    VenueLayoutRepository        venueLayoutRepository;
+    @Mock
+    PerformanceStatsRepository   performanceStatsRepository;
+    @Mock
+    SeatInventoryManager         seatInventoryManager;
+    @Mock
+    PerformanceCatalogCache      performanceCatalogCache;
+    @Mock
+    PerformanceSearchIndex       performanceSearchIndex;
+    @Mock
+    PerformanceAutocompleteIndex performanceAutocompleteIndex;
+    @Mock
+    ApplicationEventPublisher    applicationEventPublisher;
 
     @Nested
     @DisplayName("createPerformance() 테스트")
@@ -81,13 +135,76 @@ class PerformanceServiceTest {
             ReflectionTestUtils.setField(performance, "id", 1L);
 
             when(performanceRepository.save(any(Performance.class))).thenReturn(performance);
+            when(seatRepository.bulkInsertSeats(eq(performance.getId()),
+                                                eq("A-"),
+                                                eq(request.getTotalSeats()),
+                                                eq(request.getPrice()))).thenReturn(request.getTotalSeats());
 
             // when
             performanceService.createPerformance(request);
 
             // then
             verify(performanceRepository, times(1)).save(any(Performance.class));
-            verify(seatRepository, times(1)).saveAll(any(List.class));
+            verify(seatRepository, times(1)).bulkInsertSeats(eq(performance.getId()),
+                                                             eq("A-"),
+                                                             eq(request.getTotalSeats()),
+                                                             eq(request.getPrice()));
+            verify(performanceStatsRepository, times(1)).initialize(eq(performance.getId()),
+                                                                    eq(request.getTotalSeats()));
+            verify(applicationEventPublisher, times(1)).publishEvent(any(PerformanceChangedEvent.class));
+            verify(performanceCatalogCache, times(1)).evictPerformances();
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("공연 생성, 좌석 배치 템플릿의 좌석 복사")
+        void createPerformance_withLayout() {
+            // given
+            PerformanceCreateRequest request = createPerformanceCreateRequest();
+            request.setLayoutId(1L);
+
+            Performance performance = Performance.of(request.getName(),
+                                                     request.getVenue(),
+                                                     request.getInfo(),
+                                                     request.getStartTime(),
+                                                     request.getEndTime(),
+                                                     null,
+                                                     request.getLayoutId());
+            ReflectionTestUtils.setField(performance, "id", 1L);
+
+            when(venueLayoutRepository.existsById(request.getLayoutId())).thenReturn(true);
+            when(performanceRepository.save(any(Performance.class))).thenReturn(performance);
+            when(seatRepository.copySeatsFromLayout(performance.getId(), request.getLayoutId())).thenReturn(300);
+
+            // when
+            performanceService.createPerformance(request);
+
+            // then
+            verify(performanceRepository, times(1)).save(any(Performance.class));
+            verify(seatRepository, times(1)).copySeatsFromLayout(performance.getId(), request.getLayoutId());
+            verify(seatRepository, never()).bulkInsertSeats(any(), any(), anyInt(), anyInt());
+            verify(performanceStatsRepository, times(1)).initialize(eq(performance.getId()), eq(300));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("공연 생성, 존재하지 않는 좌석 배치 템플릿")
+        void createPerformance_layoutNotFound() {
+            // given
+            PerformanceCreateRequest request = createPerformanceCreateRequest();
+            request.setLayoutId(1L);
+
+            when(venueLayoutRepository.existsById(request.getLayoutId())).thenReturn(false);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> performanceService.createPerformance(request),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(VENUE_LAYOUT_NOT_FOUND, exception.getErrorCode(),
+                                         "errorCode는 VENUE_LAYOUT_NOT_FOUND여야 합니다."));
+
+            verify(performanceRepository, never()).save(any(Performance.class));
         }
 
     }
@@ -106,16 +223,44 @@ class PerformanceServiceTest {
             Page<PerformanceListResponse> mockPage = new PageImpl<>(createPerformanceListResponses(5));
 
             when(performanceRepository.getPerformances(eq(keyword), eq(pageable))).thenReturn(mockPage);
+            when(performanceCatalogCache.getPerformances(eq(keyword), eq(pageable), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+            stubSeatCounts(7, 10);
 
             // when
             Page<PerformanceListResponse> result = performanceService.getAllPerformances(keyword, pageable);
 
             // then
-            assertEquals(mockPage, result);
+            assertPageWithSeatCounts(mockPage, result, 7, 10);
 
             verify(performanceRepository, times(1)).getPerformances(eq(keyword), eq(pageable));
         }
 
+        @RepeatedTest(10)
+        @DisplayName("공연 목록 조회, 공연 검색 색인 사용")
+        void getAllPerformances_searchIndex() {
+            // given
+            String keyword = "test";
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Page<PerformanceListResponse> indexPage = new PageImpl<>(createPerformanceListResponses(5));
+
+            when(performanceSearchIndex.isReady()).thenReturn(true);
+            when(performanceSearchIndex.search(eq(keyword), eq(pageable))).thenReturn(indexPage);
+            when(performanceCatalogCache.getPerformances(eq(keyword), eq(pageable), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+            stubSeatCounts(7, 10);
+
+            // when
+            Page<PerformanceListResponse> result = performanceService.getAllPerformances(keyword, pageable);
+
+            // then
+            assertPageWithSeatCounts(indexPage, result, 7, 10);
+
+            verify(performanceSearchIndex, times(1)).search(eq(keyword), eq(pageable));
+            verify(performanceRepository, never()).getPerformances(any(), any());
+        }
+
         @RepeatedTest(10)
         @DisplayName("공연 목록 조회, 검색어 없음")
         void getAllPerformances_noKeyword() {
@@ -126,16 +271,40 @@ class PerformanceServiceTest {
             Page<PerformanceListResponse> mockPage = new PageImpl<>(createPerformanceListResponses(5));
 
             when(performanceRepository.getPerformances(eq(keyword), eq(pageable))).thenReturn(mockPage);
+            when(performanceCatalogCache.getPerformances(eq(keyword), eq(pageable), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+            stubSeatCounts(7, 10);
 
             // when
             Page<PerformanceListResponse> result = performanceService.getAllPerformances(keyword, pageable);
 
             // then
-            assertEquals(mockPage, result);
+            assertPageWithSeatCounts(mockPage, result, 7, 10);
 
             verify(performanceRepository, times(1)).getPerformances(eq(keyword), eq(pageable));
         }
 
+        @RepeatedTest(10)
+        @DisplayName("공연 목록 조회, 캐시된 공연 목록에 최신 좌석 현황 반영")
+        void getAllPerformances_cached() {
+            // given
+            String keyword = "test";
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Page<PerformanceListResponse> cachedPage = new PageImpl<>(createPerformanceListResponses(5));
+
+            when(performanceCatalogCache.getPerformances(eq(keyword), eq(pageable), any())).thenReturn(cachedPage);
+            stubSeatCounts(3, 10);
+
+            // when
+            Page<PerformanceListResponse> result = performanceService.getAllPerformances(keyword, pageable);
+
+            // then
+            assertPageWithSeatCounts(cachedPage, result, 3, 10);
+
+            verify(performanceRepository, never()).getPerformances(any(), any());
+        }
+
     }
 
     @Nested
@@ -150,12 +319,19 @@ class PerformanceServiceTest {
             PerformanceDetailResponse mockResponse = createPerformanceDetailResponse();
 
             when(performanceRepository.getPerformance(eq(performanceId))).thenReturn(Optional.of(mockResponse));
+            when(performanceCatalogCache.getPerformance(eq(performanceId), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+            stubSeatCounts(7, 10);
 
             // when
             PerformanceDetailResponse result = performanceService.getPerformance(performanceId);
 
             // then
-            assertEquals(mockResponse, result);
+            assertAll(() -> assertEquals(mockResponse.getId(), result.getId(), "id는 같아야 합니다."),
+                      () -> assertEquals(mockResponse.getName(), result.getName(), "name은 같아야 합니다."),
+                      () -> assertEquals(mockResponse.getLayoutId(), result.getLayoutId(), "layoutId는 같아야 합니다."),
+                      () -> assertEquals(7, result.getRemainingSeats(), "remainingSeats는 7이어야 합니다."),
+                      () -> assertEquals(10, result.getTotalSeats(), "totalSeats는 10이어야 합니다."));
 
             verify(performanceRepository, times(1)).getPerformance(eq(performanceId));
         }
@@ -167,6 +343,8 @@ class PerformanceServiceTest {
             Long performanceId = 1L;
 
             when(performanceRepository.getPerformance(eq(performanceId))).thenReturn(Optional.empty());
+            when(performanceCatalogCache.getPerformance(eq(performanceId), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -183,6 +361,130 @@ class PerformanceServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("scrollPerformances() 테스트")
+    class ScrollPerformancesTests {
+
+        @RepeatedTest(10)
+        @DisplayName("공연 목록 커서 조회, 첫 페이지")
+        void scrollPerformances_firstPage() {
+            // given
+            String   keyword  = "test";
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+
+            CursorSlice<PerformanceListResponse> mockSlice = new CursorSlice<>(createPerformanceListResponses(10),
+                                                                               pageable,
+                                                                               "next-cursor");
+
+            when(performanceRepository.scrollPerformances(eq(keyword), isNull(), eq(pageable.getSort()), eq(10)))
+                    .thenReturn(mockSlice);
+
+            // when
+            CursorSlice<PerformanceListResponse> result = performanceService.scrollPerformances(keyword,
+                                                                                                "",
+                                                                                                pageable);
+
+            // then
+            assertAll(() -> assertSame(mockSlice, result),
+                      () -> assertTrue(result.hasNext()),
+                      () -> assertEquals("next-cursor", result.getNextCursor()));
+
+            verify(performanceRepository, times(1)).scrollPerformances(eq(keyword),
+                                                                       isNull(),
+                                                                       eq(pageable.getSort()),
+                                                                       eq(10));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("공연 목록 커서 조회, 다음 페이지")
+        void scrollPerformances_nextPage() {
+            // given
+            String            keyword  = "test";
+            Pageable          pageable = PageRequest.of(0, 10);
+            LocalDateTime     value    = LocalDateTime.of(2026, 10, 17, 10, 0);
+            PerformanceCursor cursor   = new PerformanceCursor("startTime", true, value, 42L);
+
+            when(performanceRepository.scrollPerformances(eq(keyword), any(), any(), eq(10)))
+                    .thenReturn(new CursorSlice<>(List.of(), pageable, null));
+
+            // when
+            CursorSlice<PerformanceListResponse> result = performanceService.scrollPerformances(keyword,
+                                                                                                cursor.encode(),
+                                                                                                pageable);
+
+            // then
+            ArgumentCaptor<PerformanceCursor> captor = ArgumentCaptor.forClass(PerformanceCursor.class);
+            verify(performanceRepository, times(1)).scrollPerformances(eq(keyword), captor.capture(), any(), eq(10));
+
+            PerformanceCursor decoded = captor.getValue();
+            assertAll(() -> assertFalse(result.hasNext()),
+                      () -> assertEquals("startTime", decoded.getSortProperty()),
+                      () -> assertTrue(decoded.isAscending()),
+                      () -> assertEquals(value, decoded.getValue()),
+                      () -> assertEquals(42L, decoded.getId()));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("공연 목록 커서 조회 시도, 유효하지 않은 커서")
+        void scrollPerformances_invalidCursor() {
+            // given
+            String   cursor   = Base64.getUrlEncoder().encodeToString("title|ASC|not-a-date|1".getBytes());
+            Pageable pageable = PageRequest.of(0, 10);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> performanceService.scrollPerformances(null,
+                                                                                                   cursor,
+                                                                                                   pageable),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(INVALID_PERFORMANCE_CURSOR, exception.getErrorCode(),
+                                         "errorCode는 INVALID_PERFORMANCE_CURSOR여야 합니다."));
+
+            verify(performanceRepository, never()).scrollPerformances(any(), any(), any(), anyInt());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getSuggestions() 테스트")
+    class GetSuggestionsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("공연 이름 자동완성 조회")
+        void getSuggestions() {
+            // given
+            String                              keyword     = "ㅇㅇㅇ";
+            List<PerformanceSuggestionResponse> suggestions = List.of(new PerformanceSuggestionResponse(1L,
+                                                                                                        "아이유 콘서트"));
+
+            when(performanceAutocompleteIndex.suggest(keyword, 5)).thenReturn(suggestions);
+
+            // when
+            List<PerformanceSuggestionResponse> result = performanceService.getSuggestions(keyword, 5);
+
+            // then
+            assertSame(suggestions, result, "자동완성 색인의 조회 결과여야 합니다.");
+
+            verify(performanceAutocompleteIndex, times(1)).suggest(keyword, 5);
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("공연 이름 자동완성 조회, 빈 검색어")
+        void getSuggestions_blankKeyword() {
+            // when
+            List<PerformanceSuggestionResponse> result = performanceService.getSuggestions(" ", 5);
+
+            // then
+            assertTrue(result.isEmpty(), "빈 목록이어야 합니다.");
+
+            verify(performanceAutocompleteIndex, never()).suggest(any(), anyInt());
+        }
+
+    }
+
     @Nested
     @DisplayName("updatePerformance() 테스트")
     class UpdatePerformanceTests {
@@ -208,8 +510,37 @@ class PerformanceServiceTest {
             assertEquals(request.getInfo(), performance.getInfo());
             assertEquals(request.getStartTime(), performance.getStartTime());
             assertEquals(request.getEndTime(), performance.getEndTime());
+            assertEquals(request.getOnSaleAt(), performance.getOnSaleAt());
 
             verify(performanceRepository, times(1)).findById(eq(performanceId));
+            verify(applicationEventPublisher, times(1)).publishEvent(any(PerformanceChangedEvent.class));
+            verify(performanceCatalogCache, times(1)).evictPerformance();
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("공연 정보 수정 시도, 예매 오픈 시간이 공연 시작 시간 이후")
+        void updatePerformance_invalidOnSaleTime() {
+            // given
+            Long performanceId = 1L;
+            PerformanceUpdateRequest request = createPerformanceUpdateRequest();
+            request.setOnSaleAt(request.getStartTime().plusHours(1));
+
+            Performance performance = TestUtils.createPerformance();
+            ReflectionTestUtils.setField(performance, "id", performanceId);
+
+            when(performanceRepository.findById(eq(performanceId))).thenReturn(Optional.of(performance));
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> performanceService.updatePerformance(performanceId, request),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(INVALID_ON_SALE_TIME, exception.getErrorCode(),
+                                         "errorCode는 INVALID_ON_SALE_TIME이어야 합니다."));
+
+            verify(applicationEventPublisher, never()).publishEvent(any(PerformanceChangedEvent.class));
         }
 
         @RepeatedTest(10)
@@ -253,7 +584,11 @@ class PerformanceServiceTest {
 
             // then
             verify(seatRepository, times(1)).existsByPerformanceIdAndStatusNot(eq(performanceId), eq(AVAILABLE));
+            verify(performanceStatsRepository, times(1)).deleteByPerformanceId(eq(performanceId));
             verify(performanceRepository, times(1)).deleteById(eq(performanceId));
+            verify(seatInventoryManager, times(1)).evict(eq(performanceId));
+            verify(applicationEventPublisher, times(1)).publishEvent(any(PerformanceChangedEvent.class));
+            verify(performanceCatalogCache, times(1)).evictPerformance();
         }
 
         @RepeatedTest(10)
@@ -276,8 +611,192 @@ class PerformanceServiceTest {
 
             verify(seatRepository, times(1)).existsByPerformanceIdAndStatusNot(eq(performanceId), eq(AVAILABLE));
             verify(performanceRepository, never()).deleteById(eq(performanceId));
+            verify(seatInventoryManager, never()).evict(any());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getSeatMap() 테스트")
+    class GetSeatMapTests {
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치도 조회, 전체 스냅샷")
+        void getSeatMap_snapshot() {
+            // given
+            Long performanceId = 1L;
+            SortedMap<Long, SeatStatus> statuses = new TreeMap<>(Map.of(1L, AVAILABLE,
+                                                                        2L, TEMPORARY_RESERVED,
+                                                                        3L, SOLD,
+                                                                        4L, AVAILABLE,
+                                                                        5L, SOLD,
+                                                                        10L, TEMPORARY_RESERVED));
+
+            when(seatInventoryManager.getSnapshot(eq(performanceId), isNull(), isNull()))
+                    .thenReturn(new SeatInventorySnapshot(7L, SeatInventorySnapshot.Type.FULL, statuses));
+
+            // when
+            SeatMapResponse result = performanceService.getSeatMap(performanceId, null);
+
+            // then
+            assertAll(() -> assertEquals(7L, result.getVersion()),
+                      () -> assertTrue(result.isSnapshot()),
+                      () -> assertEquals(6, result.getSeatCount()),
+                      () -> assertEquals(2, result.getSeatIdRanges().size()),
+                      () -> assertArrayEquals(new long[]{1L, 5L}, result.getSeatIdRanges().get(0)),
+                      () -> assertArrayEquals(new long[]{10L, 10L}, result.getSeatIdRanges().get(1)),
+                      () -> assertArrayEquals(new byte[]{(byte) 0b00_10_01_00, (byte) 0b01_10},
+                                              Base64.getDecoder().decode(result.getStatuses())));
+
+            verify(seatInventoryManager, never()).load(any(), any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치도 조회, 기준 버전 이후 변경분")
+        void getSeatMap_delta() {
+            // given
+            Long performanceId = 1L;
+            Long sinceVersion = 5L;
+            SortedMap<Long, SeatStatus> statuses = new TreeMap<>(Map.of(3L, SOLD));
+
+            when(seatInventoryManager.getSnapshot(eq(performanceId), eq(sinceVersion), isNull()))
+                    .thenReturn(new SeatInventorySnapshot(7L, SeatInventorySnapshot.Type.DELTA, statuses));
+
+            // when
+            SeatMapResponse result = performanceService.getSeatMap(performanceId, sinceVersion);
+
+            // then
+            assertAll(() -> assertEquals(7L, result.getVersion()),
+                      () -> assertFalse(result.isSnapshot()),
+                      () -> assertEquals(1, result.getSeatCount()),
+                      () -> assertArrayEquals(new long[]{3L, 3L}, result.getSeatIdRanges().get(0)),
+                      () -> assertArrayEquals(new byte[]{(byte) 0b10},
+                                              Base64.getDecoder().decode(result.getStatuses())));
         }
 
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치도 조회, 버전이 바뀌지 않았다면 보유한 전체 스냅샷 재사용")
+        void getSeatMap_unchanged() {
+            // given
+            Long performanceId = 1L;
+            SortedMap<Long, SeatStatus> statuses = new TreeMap<>(Map.of(1L, AVAILABLE));
+
+            when(seatInventoryManager.getSnapshot(eq(performanceId), isNull(), isNull()))
+                    .thenReturn(new SeatInventorySnapshot(7L, SeatInventorySnapshot.Type.FULL, statuses));
+            when(seatInventoryManager.getSnapshot(eq(performanceId), isNull(), eq(7L)))
+                    .thenReturn(new SeatInventorySnapshot(7L, SeatInventorySnapshot.Type.UNCHANGED, new TreeMap<>()));
+
+            SeatMapResponse first = performanceService.getSeatMap(performanceId, null);
+
+            // when
+            SeatMapResponse result = performanceService.getSeatMap(performanceId, null);
+
+            // then
+            assertSame(first, result);
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치도 조회, 재고가 적재되지 않았다면 적재 후 조회")
+        void getSeatMap_notLoaded() {
+            // given
+            Long performanceId = 1L;
+            Performance performance = TestUtils.createPerformance();
+            ReflectionTestUtils.setField(performance, "id", performanceId);
+            SortedMap<Long, SeatStatus> statuses = new TreeMap<>(Map.of(1L, AVAILABLE));
+
+            when(seatInventoryManager.getSnapshot(eq(performanceId), isNull(), isNull()))
+                    .thenReturn(null)
+                    .thenReturn(new SeatInventorySnapshot(1L, SeatInventorySnapshot.Type.FULL, statuses));
+            when(performanceRepository.findById(eq(performanceId))).thenReturn(Optional.of(performance));
+            when(seatRepository.findSeatStatusesByPerformanceId(eq(performanceId)))
+                    .thenReturn(List.of(new SeatStatusValue(1L, AVAILABLE)));
+            doAnswer(invocation -> {
+                invocation.<Runnable>getArgument(1).run();
+                return null;
+            }).when(seatInventoryManager).loadOnce(eq(performanceId), any(Runnable.class));
+
+            // when
+            SeatMapResponse result = performanceService.getSeatMap(performanceId, null);
+
+            // then
+            assertEquals(1L, result.getVersion());
+
+            verify(seatInventoryManager, times(1)).loadOnce(eq(performanceId), any(Runnable.class));
+            verify(seatInventoryManager, times(1)).load(eq(performanceId), any(), any());
+            verify(seatInventoryManager, times(2)).getSnapshot(eq(performanceId), isNull(), isNull());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치도 조회, Redis 장애 시 DB에서 전체 스냅샷 조회")
+        void getSeatMap_redisFailure() {
+            // given
+            Long performanceId = 1L;
+
+            when(seatInventoryManager.getSnapshot(eq(performanceId), any(), any()))
+                    .thenThrow(new RedisConnectionFailureException("connection refused"));
+            when(performanceRepository.existsById(eq(performanceId))).thenReturn(true);
+            when(seatRepository.findSeatStatusesByPerformanceId(eq(performanceId)))
+                    .thenReturn(List.of(new SeatStatusValue(2L, SOLD), new SeatStatusValue(1L, AVAILABLE)));
+
+            // when
+            SeatMapResponse result = performanceService.getSeatMap(performanceId, 3L);
+
+            // then
+            assertAll(() -> assertEquals(0L, result.getVersion()),
+                      () -> assertTrue(result.isSnapshot()),
+                      () -> assertArrayEquals(new long[]{1L, 2L}, result.getSeatIdRanges().get(0)),
+                      () -> assertArrayEquals(new byte[]{(byte) 0b10_00},
+                                              Base64.getDecoder().decode(result.getStatuses())));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치도 조회 시도, 해당 공연이 없음")
+        void getSeatMap_notFound() {
+            // given
+            Long performanceId = 1L;
+
+            when(seatInventoryManager.getSnapshot(eq(performanceId), isNull(), isNull())).thenReturn(null);
+            when(performanceRepository.findById(eq(performanceId))).thenReturn(Optional.empty());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> performanceService.getSeatMap(performanceId, null),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(PERFORMANCE_NOT_FOUND, exception.getErrorCode(),
+                                         "errorCode는 PERFORMANCE_NOT_FOUND여야 합니다."));
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void stubSeatCounts(final int remainingSeats, final int totalSeats) {
+        when(performanceCatalogCache.getSeatCounts(anyCollection(), any())).thenAnswer(invocation -> {
+            Map<Long, SeatCountValue> seatCounts = new HashMap<>();
+            invocation.<Collection<Long>>getArgument(0)
+                      .forEach(id -> seatCounts.put(id, new SeatCountValue(id, remainingSeats, totalSeats)));
+            return seatCounts;
+        });
+    }
+
+    private void assertPageWithSeatCounts(final Page<PerformanceListResponse> expected,
+                                          final Page<PerformanceListResponse> actual,
+                                          final int remainingSeats,
+                                          final int totalSeats) {
+        assertEquals(expected.getTotalElements(), actual.getTotalElements(), "totalElements는 같아야 합니다.");
+        assertEquals(expected.getContent().size(), actual.getContent().size(), "content 크기는 같아야 합니다.");
+        for (int i = 0; i < expected.getContent().size(); i++) {
+            PerformanceListResponse expectedResponse = expected.getContent().get(i);
+            PerformanceListResponse actualResponse   = actual.getContent().get(i);
+
+            assertEquals(expectedResponse.getId(), actualResponse.getId(), "id는 같아야 합니다.");
+            assertEquals(expectedResponse.getName(), actualResponse.getName(), "name은 같아야 합니다.");
+            assertEquals(remainingSeats, actualResponse.getRemainingSeats(), "remainingSeats는 최신 값이어야 합니다.");
+            assertEquals(totalSeats, actualResponse.getTotalSeats(), "totalSeats는 최신 값이어야 합니다.");
+        }
     }
 
 }
@@ -0,0 +1,208 @@
+package com.example.demo.domain.performance.service;
+
+import static com.example.demo.common.response.ErrorCode.INVALID_VENUE_LAYOUT;
+import static com.example.demo.common.response.ErrorCode.VENUE_LAYOUT_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dao.VenueLayoutRepository;
+import com.example.demo.domain.performance.dao.VenueLayoutSeatRepository;
+import com.example.demo.domain.performance.dto.VenueLayoutRequest.VenueLayoutBlockRequest;
+import com.example.demo.domain.performance.dto.VenueLayoutRequest.VenueLayoutCreateRequest;
+import com.example.demo.domain.performance.dto.VenueLayoutResponse.VenueLayoutDetailResponse;
+import com.example.demo.domain.performance.dto.VenueLayoutResponse.VenueLayoutRowResponse;
+import com.example.demo.domain.performance.model.VenueLayout;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * PackageName : com.example.demo.domain.performance.service
+ * FileName    : VenueLayoutServiceTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : VenueLayoutService 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class VenueLayoutServiceTest {
+
+    @InjectMocks
+    VenueLayoutServiceImpl    venueLayoutService;
+    @Mock
+    VenueLayoutRepository     venueLayoutRepository;
+    @Mock
+    VenueLayoutSeatRepository venueLayoutSeatRepository;
+
+    @Nested
+    @DisplayName("createVenueLayout() 테스트")
+    class CreateVenueLayoutTests {
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치 템플릿 생성")
+        void createVenueLayout() {
+            // given
+            List<VenueLayoutBlockRequest> blocks = List.of(new VenueLayoutBlockRequest("VIP", 1, 5, 20, 150000),
+                                                           new VenueLayoutBlockRequest("A", 1, 30, 40, 90000),
+                                                           new VenueLayoutBlockRequest("VIP", 6, 10, 20, 120000));
+            VenueLayoutCreateRequest request = new VenueLayoutCreateRequest("arena", "Olympic Hall", blocks);
+
+            when(venueLayoutRepository.save(any(VenueLayout.class))).thenAnswer(invocation -> {
+                VenueLayout layout = invocation.getArgument(0);
+                ReflectionTestUtils.setField(layout, "id", 1L);
+                return layout;
+            });
+
+            // when
+            Long layoutId = venueLayoutService.createVenueLayout(request);
+
+            // then
+            ArgumentCaptor<VenueLayout> captor = ArgumentCaptor.forClass(VenueLayout.class);
+            verify(venueLayoutRepository, times(1)).save(captor.capture());
+
+            assertEquals(1L, layoutId, "layoutId는 1이어야 합니다.");
+            assertEquals(5 * 20 + 30 * 40 + 5 * 20, captor.getValue().getTotalSeats(), "전체 좌석 수가 일치해야 합니다.");
+            verify(venueLayoutSeatRepository, times(1)).bulkInsertLayoutSeats(eq(1L), eq(blocks));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치 템플릿 생성 시도, 같은 구역에서 열이 겹치는 블록")
+        void createVenueLayout_overlappingBlocks() {
+            // given
+            List<VenueLayoutBlockRequest> blocks = List.of(new VenueLayoutBlockRequest("A", 1, 10, 20, 90000),
+                                                           new VenueLayoutBlockRequest("A", 10, 20, 20, 70000));
+            VenueLayoutCreateRequest request = new VenueLayoutCreateRequest("arena", "Olympic Hall", blocks);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> venueLayoutService.createVenueLayout(request),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(INVALID_VENUE_LAYOUT, exception.getErrorCode(),
+                                         "errorCode는 INVALID_VENUE_LAYOUT이어야 합니다."));
+
+            verify(venueLayoutRepository, never()).save(any(VenueLayout.class));
+            verify(venueLayoutSeatRepository, never()).bulkInsertLayoutSeats(anyLong(), anyList());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치 템플릿 생성 시도, 대소문자만 다른 구역에서 열이 겹치는 블록")
+        void createVenueLayout_overlappingBlocksIgnoringCase() {
+            // given
+            List<VenueLayoutBlockRequest> blocks = List.of(new VenueLayoutBlockRequest("vip", 1, 10, 20, 150000),
+                                                           new VenueLayoutBlockRequest("VIP ", 5, 12, 20, 120000));
+            VenueLayoutCreateRequest request = new VenueLayoutCreateRequest("arena", "Olympic Hall", blocks);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> venueLayoutService.createVenueLayout(request),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(INVALID_VENUE_LAYOUT, exception.getErrorCode(), "errorCode는 INVALID_VENUE_LAYOUT이어야 합니다.");
+
+            verify(venueLayoutRepository, never()).save(any(VenueLayout.class));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치 템플릿 생성 시도, DB에서 좌석 위치가 중복되면 BusinessException 발생")
+        void createVenueLayout_duplicatedPosition() {
+            // given
+            List<VenueLayoutBlockRequest> blocks = List.of(new VenueLayoutBlockRequest("Café", 1, 1, 20, 90000),
+                                                           new VenueLayoutBlockRequest("Cafe", 1, 1, 20, 90000));
+            VenueLayoutCreateRequest request = new VenueLayoutCreateRequest("arena", "Olympic Hall", blocks);
+
+            when(venueLayoutRepository.save(any(VenueLayout.class))).thenAnswer(invocation -> {
+                VenueLayout layout = invocation.getArgument(0);
+                ReflectionTestUtils.setField(layout, "id", 1L);
+                return layout;
+            });
+            when(venueLayoutSeatRepository.bulkInsertLayoutSeats(eq(1L), eq(blocks)))
+                    .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> venueLayoutService.createVenueLayout(request),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(INVALID_VENUE_LAYOUT, exception.getErrorCode(), "errorCode는 INVALID_VENUE_LAYOUT이어야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getVenueLayout() 테스트")
+    class GetVenueLayoutTests {
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치 템플릿 조회")
+        void getVenueLayout() {
+            // given
+            Long        layoutId = 1L;
+            VenueLayout layout   = VenueLayout.of("arena", "Olympic Hall", 6);
+            ReflectionTestUtils.setField(layout, "id", layoutId);
+            List<VenueLayoutRowResponse> rows = List.of(new VenueLayoutRowResponse("A", 1, 3L, 50000),
+                                                        new VenueLayoutRowResponse("A", 2, 3L, 30000));
+
+            when(venueLayoutRepository.findById(eq(layoutId))).thenReturn(Optional.of(layout));
+            when(venueLayoutSeatRepository.findRowsByLayoutId(eq(layoutId))).thenReturn(rows);
+
+            // when
+            VenueLayoutDetailResponse result = venueLayoutService.getVenueLayout(layoutId);
+
+            // then
+            assertAll(() -> assertEquals(layoutId, result.getId(), "id는 같아야 합니다."),
+                      () -> assertEquals(6, result.getTotalSeats(), "totalSeats는 6이어야 합니다."),
+                      () -> assertEquals(rows, result.getRows(), "rows는 같아야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 배치 템플릿 조회 시도, 해당 템플릿이 없음")
+        void getVenueLayout_notFound() {
+            // given
+            Long layoutId = 1L;
+
+            when(venueLayoutRepository.findById(eq(layoutId))).thenReturn(Optional.empty());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> venueLayoutService.getVenueLayout(layoutId),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(VENUE_LAYOUT_NOT_FOUND, exception.getErrorCode(),
+                                         "errorCode는 VENUE_LAYOUT_NOT_FOUND여야 합니다."));
+
+            verify(venueLayoutSeatRepository, never()).findRowsByLayoutId(anyLong());
+        }
+
+    }
+
+}
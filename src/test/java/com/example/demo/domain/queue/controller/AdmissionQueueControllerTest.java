@@ -0,0 +1,210 @@
+package com.example.demo.domain.queue.controller;
+
+import static com.example.demo.common.response.SuccessCode.ADMISSION_QUEUE_ACTIVATE_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.ADMISSION_QUEUE_DEACTIVATE_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.ADMISSION_QUEUE_ENTER_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.ADMISSION_QUEUE_STATUS_READ_SUCCESS;
+import static com.example.demo.common.security.constant.SecurityConst.JWT_ACCESS_TOKEN_PREFIX;
+import static com.example.demo.domain.account.model.AccountRole.ADMIN;
+import static com.example.demo.domain.queue.model.AdmissionStatus.ADMITTED;
+import static com.example.demo.domain.queue.model.AdmissionStatus.WAITING;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.handler;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.common.config.AppConfig;
+import com.example.demo.common.response.ApiResponse;
+import com.example.demo.common.response.advice.PageResponseAdvice;
+import com.example.demo.common.security.annotation.CustomWithMockUser;
+import com.example.demo.common.security.config.SecurityConfig;
+import com.example.demo.common.security.config.TestSecurityConfig;
+import com.example.demo.common.security.jwt.filter.JwtAuthenticationFilter;
+import com.example.demo.domain.queue.dto.AdmissionQueueResponse.AdmissionTokenResponse;
+import com.example.demo.domain.queue.service.AdmissionQueueService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * PackageName : com.example.demo.domain.queue.controller
+ * FileName    : AdmissionQueueControllerTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : AdmissionQueueController 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@WebMvcTest(value = AdmissionQueueController.class,
+            excludeFilters = @Filter(type = ASSIGNABLE_TYPE,
+                                     classes = {SecurityConfig.class, JwtAuthenticationFilter.class}))
+@AutoConfigureWebMvc
+@Import({AppConfig.class, PageResponseAdvice.class, TestSecurityConfig.class})
+class AdmissionQueueControllerTest {
+
+    @Autowired
+    MockMvc               mockMvc;
+    @Autowired
+    ObjectMapper          objectMapper;
+    @MockitoBean
+    AdmissionQueueService admissionQueueService;
+
+    @RepeatedTest(10)
+    @CustomWithMockUser
+    @DisplayName("입장 대기열 진입")
+    void enterQueue() throws Exception {
+        // given
+        Long performanceId = 1L;
+
+        String rawAccessToken    = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        AdmissionTokenResponse response = new AdmissionTokenResponse(performanceId,
+                                                                     UUID.randomUUID().toString(),
+                                                                     WAITING,
+                                                                     10L,
+                                                                     1000L,
+                                                                     null);
+
+        when(admissionQueueService.enterQueue(any(UUID.class), eq(performanceId))).thenReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/admission-queues/{performanceId}", performanceId)
+                                                              .header(AUTHORIZATION, bearerAccessToken));
+
+        // then
+        ApiResponse<AdmissionTokenResponse> apiResponse  = ApiResponse.success(ADMISSION_QUEUE_ENTER_SUCCESS, response);
+        String                              responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(AdmissionQueueController.class))
+                     .andExpect(handler().methodName("enterQueue"))
+                     .andExpect(status().isCreated())
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+
+        verify(admissionQueueService, times(1)).enterQueue(any(UUID.class), eq(performanceId));
+    }
+
+    @RepeatedTest(10)
+    @CustomWithMockUser
+    @DisplayName("입장 대기 상태 조회")
+    void getQueueStatus() throws Exception {
+        // given
+        Long performanceId = 1L;
+
+        String rawAccessToken    = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        AdmissionTokenResponse response = new AdmissionTokenResponse(performanceId,
+                                                                     UUID.randomUUID().toString(),
+                                                                     ADMITTED,
+                                                                     0L,
+                                                                     0L,
+                                                                     LocalDateTime.now().plusMinutes(10));
+
+        when(admissionQueueService.getQueueStatus(any(UUID.class), eq(performanceId))).thenReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/admission-queues/{performanceId}", performanceId)
+                                                              .header(AUTHORIZATION, bearerAccessToken));
+
+        // then
+        ApiResponse<AdmissionTokenResponse> apiResponse  = ApiResponse.success(ADMISSION_QUEUE_STATUS_READ_SUCCESS,
+                                                                               response);
+        String                              responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(AdmissionQueueController.class))
+                     .andExpect(handler().methodName("getQueueStatus"))
+                     .andExpect(status().isOk())
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+
+        verify(admissionQueueService, times(1)).getQueueStatus(any(UUID.class), eq(performanceId));
+    }
+
+    @RepeatedTest(10)
+    @CustomWithMockUser(role = ADMIN)
+    @DisplayName("입장 대기열 활성화")
+    void activateQueue() throws Exception {
+        // given
+        Long performanceId = 1L;
+
+        String rawAccessToken    = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        doNothing().when(admissionQueueService).activateQueue(eq(performanceId));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/api/v1/admission-queues/{performanceId}/activation", performanceId)
+                        .header(AUTHORIZATION, bearerAccessToken)
+        );
+
+        // then
+        ApiResponse<Void> apiResponse  = ApiResponse.success(ADMISSION_QUEUE_ACTIVATE_SUCCESS);
+        String            responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(AdmissionQueueController.class))
+                     .andExpect(handler().methodName("activateQueue"))
+                     .andExpect(status().isOk())
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+
+        verify(admissionQueueService, times(1)).activateQueue(eq(performanceId));
+    }
+
+    @RepeatedTest(10)
+    @CustomWithMockUser(role = ADMIN)
+    @DisplayName("입장 대기열 비활성화")
+    void deactivateQueue() throws Exception {
+        // given
+        Long performanceId = 1L;
+
+        String rawAccessToken    = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        doNothing().when(admissionQueueService).deactivateQueue(eq(performanceId));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                delete("/api/v1/admission-queues/{performanceId}/activation", performanceId)
+                        .header(AUTHORIZATION, bearerAccessToken)
+        );
+
+        // then
+        ApiResponse<Void> apiResponse  = ApiResponse.success(ADMISSION_QUEUE_DEACTIVATE_SUCCESS);
+        String            responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(AdmissionQueueController.class))
+                     .andExpect(handler().methodName("deactivateQueue"))
+                     .andExpect(status().isOk())
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+
+        verify(admissionQueueService, times(1)).deactivateQueue(eq(performanceId));
+    }
+
+}
@@ -0,0 +1,306 @@
+package com.example.demo.domain.queue.service;
+
+import static com.example.demo.common.response.ErrorCode.ADMISSION_QUEUE_NOT_ACTIVE;
+import static com.example.demo.common.response.ErrorCode.ADMISSION_REQUIRED;
+import static com.example.demo.common.response.ErrorCode.ADMISSION_TOKEN_NOT_FOUND;
+import static com.example.demo.common.response.ErrorCode.PERFORMANCE_NOT_FOUND;
+import static com.example.demo.common.util.TestUtils.createPerformance;
+import static com.example.demo.domain.queue.model.AdmissionStatus.ADMITTED;
+import static com.example.demo.domain.queue.model.AdmissionStatus.WAITING;
+import static com.example.demo.infra.redis.queue.AdmissionQueueManager.ADMIT_QUEUE_EXPIRED;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.model.Performance;
+import com.example.demo.domain.queue.dto.AdmissionQueueResponse.AdmissionTokenResponse;
+import com.example.demo.domain.queue.properties.AdmissionQueueProperties;
+import com.example.demo.infra.redis.queue.AdmissionQueueManager;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PackageName : com.example.demo.domain.queue.service
+ * FileName    : AdmissionQueueServiceTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : AdmissionQueueService 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class AdmissionQueueServiceTest {
+
+    AdmissionQueueServiceImpl admissionQueueService;
+    @Mock
+    PerformanceRepository     performanceRepository;
+    @Mock
+    AdmissionQueueManager     admissionQueueManager;
+
+    AdmissionQueueProperties admissionQueueProperties = new AdmissionQueueProperties(1000L, 100, 1000, 600L);
+
+    @BeforeEach
+    void setUp() {
+        admissionQueueService = new AdmissionQueueServiceImpl(performanceRepository,
+                                                              admissionQueueManager,
+                                                              admissionQueueProperties);
+    }
+
+    @Nested
+    @DisplayName("activateQueue() 테스트")
+    class ActivateQueueTests {
+
+        @RepeatedTest(10)
+        @DisplayName("입장 대기열 활성화")
+        void activateQueue() {
+            // given
+            Long        performanceId = 1L;
+            Performance performance   = createPerformance();
+            long        expireAt      = performance.getEndTime()
+                                                   .atZone(ZoneId.systemDefault())
+                                                   .toInstant()
+                                                   .toEpochMilli();
+
+            when(performanceRepository.findById(eq(performanceId))).thenReturn(Optional.of(performance));
+
+            // when
+            admissionQueueService.activateQueue(performanceId);
+
+            // then
+            verify(admissionQueueManager, times(1)).activate(eq(performanceId), eq(expireAt));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("입장 대기열 활성화 시도, 공연이 존재하지 않음")
+        void activateQueue_performanceNotFound() {
+            // given
+            Long performanceId = 1L;
+
+            when(performanceRepository.findById(eq(performanceId))).thenReturn(Optional.empty());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> admissionQueueService.activateQueue(performanceId),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(PERFORMANCE_NOT_FOUND, exception.getErrorCode(), "errorCode는 PERFORMANCE_NOT_FOUND여야 합니다.");
+
+            verify(admissionQueueManager, never()).activate(any(), anyLong());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("enterQueue() 테스트")
+    class EnterQueueTests {
+
+        @RepeatedTest(10)
+        @DisplayName("입장 대기열 진입")
+        void enterQueue() {
+            // given
+            UUID   accountId     = UUID.randomUUID();
+            Long   performanceId = 1L;
+            String token         = UUID.randomUUID().toString();
+
+            when(admissionQueueManager.isActive(eq(performanceId))).thenReturn(true);
+            when(admissionQueueManager.enter(eq(performanceId), eq(accountId), anyLong())).thenReturn(token);
+            when(admissionQueueManager.getWaitingRank(eq(performanceId), eq(token))).thenReturn(Optional.of(249L));
+
+            // when
+            AdmissionTokenResponse response = admissionQueueService.enterQueue(accountId, performanceId);
+
+            // then
+            assertAll(() -> assertNotNull(response, "response는 null이 아니어야 합니다."),
+                      () -> assertEquals(token, response.getToken(), "token이 일치해야 합니다."),
+                      () -> assertEquals(WAITING, response.getStatus(), "status는 WAITING이어야 합니다."),
+                      () -> assertEquals(250L, response.getPosition(), "position은 250이어야 합니다."),
+                      () -> assertEquals(1000L, response.getPollAfterMillis(), "pollAfterMillis는 1000이어야 합니다."),
+                      () -> assertNull(response.getExpiredAt(), "expiredAt은 null이어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("입장 대기열 진입 시도, 대기열이 비활성화된 공연")
+        void enterQueue_notActive() {
+            // given
+            UUID accountId     = UUID.randomUUID();
+            Long performanceId = 1L;
+
+            when(admissionQueueManager.isActive(eq(performanceId))).thenReturn(false);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> admissionQueueService.enterQueue(accountId,
+                                                                                              performanceId),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(ADMISSION_QUEUE_NOT_ACTIVE, exception.getErrorCode(),
+                         "errorCode는 ADMISSION_QUEUE_NOT_ACTIVE여야 합니다.");
+
+            verify(admissionQueueManager, never()).enter(any(), any(), anyLong());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getQueueStatus() 테스트")
+    class GetQueueStatusTests {
+
+        @RepeatedTest(10)
+        @DisplayName("입장 대기 상태 조회, 입장 완료")
+        void getQueueStatus_admitted() {
+            // given
+            UUID   accountId     = UUID.randomUUID();
+            Long   performanceId = 1L;
+            String token         = UUID.randomUUID().toString();
+
+            when(admissionQueueManager.getToken(eq(performanceId), eq(accountId))).thenReturn(Optional.of(token));
+            when(admissionQueueManager.getWaitingRank(eq(performanceId), eq(token))).thenReturn(Optional.empty());
+            when(admissionQueueManager.getAdmittedExpireAt(eq(performanceId), eq(token)))
+                    .thenReturn(Optional.of(System.currentTimeMillis() + 60_000L));
+
+            // when
+            AdmissionTokenResponse response = admissionQueueService.getQueueStatus(accountId, performanceId);
+
+            // then
+            assertAll(() -> assertEquals(ADMITTED, response.getStatus(), "status는 ADMITTED여야 합니다."),
+                      () -> assertEquals(0L, response.getPosition(), "position은 0이어야 합니다."),
+                      () -> assertNotNull(response.getExpiredAt(), "expiredAt은 null이 아니어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("입장 대기 상태 조회 시도, 입장 시간 만료")
+        void getQueueStatus_expired() {
+            // given
+            UUID   accountId     = UUID.randomUUID();
+            Long   performanceId = 1L;
+            String token         = UUID.randomUUID().toString();
+
+            when(admissionQueueManager.getToken(eq(performanceId), eq(accountId))).thenReturn(Optional.of(token));
+            when(admissionQueueManager.getWaitingRank(eq(performanceId), eq(token))).thenReturn(Optional.empty());
+            when(admissionQueueManager.getAdmittedExpireAt(eq(performanceId), eq(token)))
+                    .thenReturn(Optional.of(System.currentTimeMillis() - 1L));
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> admissionQueueService.getQueueStatus(accountId,
+                                                                                                  performanceId),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(ADMISSION_TOKEN_NOT_FOUND, exception.getErrorCode(),
+                         "errorCode는 ADMISSION_TOKEN_NOT_FOUND여야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("validateAdmission() 테스트")
+    class ValidateAdmissionTests {
+
+        @RepeatedTest(10)
+        @DisplayName("입장 토큰 검증 시도, 입장하지 않은 계정")
+        void validateAdmission_notAdmitted() {
+            // given
+            UUID   accountId     = UUID.randomUUID();
+            Long   performanceId = 1L;
+            String token         = UUID.randomUUID().toString();
+
+            when(admissionQueueManager.isAdmitted(eq(performanceId), eq(accountId), eq(token), anyLong()))
+                    .thenReturn(false);
+
+            // when
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> admissionQueueService.validateAdmission(accountId, performanceId, token),
+                    "BusinessException이 발생해야 합니다."
+            );
+
+            // then
+            assertEquals(ADMISSION_REQUIRED, exception.getErrorCode(), "errorCode는 ADMISSION_REQUIRED여야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("입장 토큰 검증, Redis 장애 시 검증 생략")
+        void validateAdmission_redisFailure() {
+            // given
+            UUID accountId     = UUID.randomUUID();
+            Long performanceId = 1L;
+
+            when(admissionQueueManager.isAdmitted(eq(performanceId), eq(accountId), any(), anyLong()))
+                    .thenThrow(new IllegalStateException("Redis connection failure"));
+
+            // when & then
+            assertDoesNotThrow(() -> admissionQueueService.validateAdmission(accountId, performanceId, null));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("admitWaitingAccounts() 테스트")
+    class AdmitWaitingAccountsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("활성화된 공연마다 입장 처리")
+        void admitWaitingAccounts() {
+            // given
+            when(admissionQueueManager.getActivePerformanceIds()).thenReturn(List.of(1L, 2L));
+            when(admissionQueueManager.admit(eq(1L), anyLong(), anyInt(), anyInt(), anyLong(), anyLong()))
+                    .thenThrow(new IllegalStateException("Redis connection failure"));
+
+            // when
+            admissionQueueService.admitWaitingAccounts();
+
+            // then
+            verify(admissionQueueManager, times(1)).admit(eq(1L), anyLong(), eq(100), eq(1000), eq(600_000L),
+                                                          eq(1000L));
+            verify(admissionQueueManager, times(1)).admit(eq(2L), anyLong(), eq(100), eq(1000), eq(600_000L),
+                                                          eq(1000L));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("공연 종료 시각이 지난 대기열은 비활성화")
+        void admitWaitingAccounts_expired() {
+            // given
+            when(admissionQueueManager.getActivePerformanceIds()).thenReturn(List.of(1L, 2L));
+            when(admissionQueueManager.admit(eq(1L), anyLong(), anyInt(), anyInt(), anyLong(), anyLong()))
+                    .thenReturn(ADMIT_QUEUE_EXPIRED);
+            when(admissionQueueManager.admit(eq(2L), anyLong(), anyInt(), anyInt(), anyLong(), anyLong()))
+                    .thenReturn(10L);
+
+            // when
+            admissionQueueService.admitWaitingAccounts();
+
+            // then
+            verify(admissionQueueManager, times(1)).deactivate(eq(1L));
+            verify(admissionQueueManager, never()).deactivate(eq(2L));
+        }
+
+    }
+
+}
@@ -2,20 +2,27 @@ package com.example.demo.domain.reservation.controller;
 
 import static com.example.demo.common.response.SuccessCode.PAYMENT_REFUND_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PAYMENT_SUCCESS;
+import static com.example.demo.common.response.SuccessCode.PAYMENT_VERIFICATION_ACCEPTED;
+import static com.example.demo.common.response.SuccessCode.PAYMENT_VERIFICATION_STATUS_READ_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.PRE_PAYMENT_SAVE_SUCCESS;
 import static com.example.demo.common.security.constant.SecurityConst.JWT_ACCESS_TOKEN_PREFIX;
 import static com.example.demo.common.util.TestUtils.FAKER;
 import static com.example.demo.common.util.TestUtils.generatePaymentKey;
+import static com.example.demo.domain.reservation.model.PaymentVerificationStatus.PENDING;
+import static com.example.demo.domain.reservation.model.PaymentVerificationStatus.SUCCEEDED;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -32,8 +39,10 @@ import com.example.demo.common.security.jwt.filter.JwtAuthenticationFilter;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PaymentCancelRequest;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PaymentCompleteRequest;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PrePaymentRequest;
+import com.example.demo.domain.reservation.dto.PaymentResponse.PaymentVerificationResponse;
 import com.example.demo.domain.reservation.dto.PaymentResponse.PrePaymentInfoResponse;
 import com.example.demo.domain.reservation.facade.ReservationFacade;
+import com.example.demo.domain.reservation.verification.AsyncPaymentVerifier;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -67,11 +76,13 @@ import org.springframework.test.web.servlet.ResultActions;
 class PaymentControllerTest {
 
     @Autowired
-    MockMvc           mockMvc;
+    MockMvc              mockMvc;
     @Autowired
-    ObjectMapper      objectMapper;
+    ObjectMapper         objectMapper;
     @MockitoBean
-    ReservationFacade reservationFacade;
+    ReservationFacade    reservationFacade;
+    @MockitoBean
+    AsyncPaymentVerifier asyncPaymentVerifier;
 
     @RepeatedTest(10)
     @CustomWithMockUser
@@ -93,7 +104,8 @@ class PaymentControllerTest {
                 LocalDateTime.now().plusMinutes(30)
         );
 
-        when(reservationFacade.savePrePayment(any(UUID.class), eq(request), anyString())).thenReturn(response);
+        when(reservationFacade.savePrePayment(any(UUID.class), eq(request), isNull(), anyString()))
+                .thenReturn(response);
 
         // when
         ResultActions resultActions = mockMvc.perform(post("/api/v1/payments/prepare")
@@ -111,7 +123,7 @@ class PaymentControllerTest {
                      .andExpect(content().json(responseBody))
                      .andDo(print());
 
-        verify(reservationFacade, times(1)).savePrePayment(any(UUID.class), eq(request), anyString());
+        verify(reservationFacade, times(1)).savePrePayment(any(UUID.class), eq(request), isNull(), anyString());
     }
 
     @RepeatedTest(10)
@@ -146,6 +158,79 @@ class PaymentControllerTest {
         verify(reservationFacade, times(1)).verifyPayment(any(UUID.class), eq(request.getPaymentId()), anyString());
     }
 
+    @RepeatedTest(10)
+    @CustomWithMockUser
+    @DisplayName("결제 검증 비동기 요청")
+    void completePaymentAsync() throws Exception {
+        // given
+        PaymentCompleteRequest request     = new PaymentCompleteRequest("payment123");
+        String                 requestBody = objectMapper.writeValueAsString(request);
+
+        String rawAccessToken = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        PaymentVerificationResponse response = new PaymentVerificationResponse(request.getPaymentId(),
+                                                                                PENDING,
+                                                                                null,
+                                                                                null,
+                                                                                500L);
+
+        when(asyncPaymentVerifier.submit(any(UUID.class), eq(request.getPaymentId()), anyString()))
+                .thenReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/payments/complete/async")
+                                                             .header(AUTHORIZATION, bearerAccessToken)
+                                                             .contentType(APPLICATION_JSON_VALUE)
+                                                             .content(requestBody));
+
+        // then
+        ApiResponse<PaymentVerificationResponse> apiResponse = ApiResponse.success(PAYMENT_VERIFICATION_ACCEPTED,
+                                                                                   response);
+        String responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(PaymentController.class))
+                     .andExpect(handler().methodName("completePaymentAsync"))
+                     .andExpect(status().isAccepted())
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+
+        verify(asyncPaymentVerifier, times(1)).submit(any(UUID.class), eq(request.getPaymentId()), anyString());
+        verify(reservationFacade, never()).verifyPayment(any(UUID.class), anyString(), anyString());
+    }
+
+    @RepeatedTest(10)
+    @CustomWithMockUser
+    @DisplayName("결제 검증 상태 조회")
+    void getPaymentVerification() throws Exception {
+        // given
+        String paymentId = "payment123";
+
+        String rawAccessToken = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        PaymentVerificationResponse response = new PaymentVerificationResponse(paymentId, SUCCEEDED, null, null, 0L);
+
+        when(asyncPaymentVerifier.getStatus(any(UUID.class), eq(paymentId))).thenReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/payments/verifications/{paymentId}", paymentId)
+                                                             .header(AUTHORIZATION, bearerAccessToken));
+
+        // then
+        ApiResponse<PaymentVerificationResponse> apiResponse =
+                ApiResponse.success(PAYMENT_VERIFICATION_STATUS_READ_SUCCESS, response);
+        String responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(PaymentController.class))
+                     .andExpect(handler().methodName("getPaymentVerification"))
+                     .andExpect(status().isOk())
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+
+        verify(asyncPaymentVerifier, times(1)).getStatus(any(UUID.class), eq(paymentId));
+    }
+
     @RepeatedTest(10)
     @CustomWithMockUser
     @DisplayName("결제 취소")
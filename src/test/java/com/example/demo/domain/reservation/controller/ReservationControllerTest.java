@@ -3,19 +3,25 @@ package com.example.demo.domain.reservation.controller;
 import static com.example.demo.common.response.SuccessCode.RESERVATION_CANCEL_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.RESERVATION_CREATE_SUCCESS;
 import static com.example.demo.common.security.constant.SecurityConst.JWT_ACCESS_TOKEN_PREFIX;
+import static com.example.demo.domain.reservation.mailbox.SeatHoldForwarder.FORWARDED_HEADER_NAME;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.handler;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.demo.common.config.AppConfig;
@@ -25,9 +31,14 @@ import com.example.demo.common.security.annotation.CustomWithMockUser;
 import com.example.demo.common.security.config.SecurityConfig;
 import com.example.demo.common.security.config.TestSecurityConfig;
 import com.example.demo.common.security.jwt.filter.JwtAuthenticationFilter;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationBulkCreateRequest;
 import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationCreateRequest;
+import com.example.demo.domain.reservation.facade.ReservationFacade;
+import com.example.demo.domain.reservation.mailbox.SeatHoldForwarder;
 import com.example.demo.domain.reservation.service.ReservationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
@@ -36,6 +47,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebM
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -64,19 +76,23 @@ class ReservationControllerTest {
     ObjectMapper       objectMapper;
     @MockitoBean
     ReservationService reservationService;
+    @MockitoBean
+    ReservationFacade  reservationFacade;
+    @MockitoBean
+    SeatHoldForwarder  seatHoldForwarder;
 
     @RepeatedTest(10)
     @CustomWithMockUser
     @DisplayName("좌석 예매")
     void reserveSeat() throws Exception {
         // given
-        ReservationCreateRequest request     = new ReservationCreateRequest(1L);
+        ReservationCreateRequest request     = new ReservationCreateRequest(1L, 1L);
         String                   requestBody = objectMapper.writeValueAsString(request);
 
         String rawAccessToken    = UUID.randomUUID().toString().replace("-", "");
         String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
 
-        doNothing().when(reservationService).reserveSeat(any(UUID.class), eq(request));
+        doNothing().when(reservationFacade).reserveSeat(any(UUID.class), eq(request), isNull());
 
         // when
         ResultActions resultActions = mockMvc.perform(post("/api/v1/reservations")
@@ -94,7 +110,147 @@ class ReservationControllerTest {
                      .andExpect(content().json(responseBody))
                      .andDo(print());
 
-        verify(reservationService, times(1)).reserveSeat(any(UUID.class), eq(request));
+        verify(reservationFacade, times(1)).reserveSeat(any(UUID.class), eq(request), isNull());
+    }
+
+    @RepeatedTest(10)
+    @CustomWithMockUser
+    @DisplayName("다른 노드가 담당하는 공연의 좌석 예매는 리다이렉트 없이 담당 노드의 응답을 그대로 반환")
+    void reserveSeat_forwardedToOwnerNode() throws Exception {
+        // given
+        ReservationCreateRequest request     = new ReservationCreateRequest(1L, 1L);
+        String                   requestBody = objectMapper.writeValueAsString(request);
+        String                   ownerNode   = "http://node-2:8080";
+
+        String rawAccessToken    = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        ApiResponse<Void> apiResponse = ApiResponse.success(RESERVATION_CREATE_SUCCESS);
+
+        when(reservationFacade.findSeatHoldOwnerNode(eq(request.getPerformanceId())))
+                .thenReturn(Optional.of(ownerNode));
+        when(seatHoldForwarder.forward(eq(ownerNode), any(), eq(request)))
+                .thenReturn(ResponseEntity.status(RESERVATION_CREATE_SUCCESS.getStatus()).body(apiResponse));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/reservations")
+                                                              .header(AUTHORIZATION, bearerAccessToken)
+                                                              .contentType(APPLICATION_JSON_VALUE)
+                                                              .content(requestBody));
+
+        // then
+        String responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(ReservationController.class))
+                     .andExpect(handler().methodName("reserveSeat"))
+                     .andExpect(status().isCreated())
+                     .andExpect(header().doesNotExist(LOCATION))
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+
+        verify(seatHoldForwarder, times(1)).forward(eq(ownerNode), any(), eq(request));
+        verify(reservationFacade, never()).reserveSeat(any(), any(), any());
+    }
+
+    @RepeatedTest(10)
+    @CustomWithMockUser
+    @DisplayName("다른 노드에서 전달받은 좌석 예매는 다시 전달하지 않고 현재 노드에서 처리")
+    void reserveSeat_alreadyForwarded() throws Exception {
+        // given
+        ReservationCreateRequest request     = new ReservationCreateRequest(1L, 1L);
+        String                   requestBody = objectMapper.writeValueAsString(request);
+
+        String rawAccessToken    = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        when(seatHoldForwarder.isForwarded(any())).thenReturn(true);
+        doNothing().when(reservationFacade).reserveSeat(any(UUID.class), eq(request), isNull());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/reservations")
+                                                              .header(AUTHORIZATION, bearerAccessToken)
+                                                              .header(FORWARDED_HEADER_NAME, "true")
+                                                              .contentType(APPLICATION_JSON_VALUE)
+                                                              .content(requestBody));
+
+        // then
+        resultActions.andExpect(handler().handlerType(ReservationController.class))
+                     .andExpect(handler().methodName("reserveSeat"))
+                     .andExpect(status().isCreated())
+                     .andDo(print());
+
+        verify(reservationFacade, never()).findSeatHoldOwnerNode(any());
+        verify(seatHoldForwarder, never()).forward(any(), any(), any());
+        verify(reservationFacade, times(1)).reserveSeat(any(UUID.class), eq(request), isNull());
+    }
+
+    @RepeatedTest(10)
+    @CustomWithMockUser
+    @DisplayName("서명이 유효하지 않은 전달 헤더를 보낸 좌석 예매는 담당 노드로 전달")
+    void reserveSeat_forgedForwardedHeader() throws Exception {
+        // given
+        ReservationCreateRequest request     = new ReservationCreateRequest(1L, 1L);
+        String                   requestBody = objectMapper.writeValueAsString(request);
+        String                   ownerNode   = "http://node-2:8080";
+
+        String rawAccessToken    = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        ApiResponse<Void> apiResponse = ApiResponse.success(RESERVATION_CREATE_SUCCESS);
+
+        when(seatHoldForwarder.isForwarded(any())).thenReturn(false);
+        when(reservationFacade.findSeatHoldOwnerNode(eq(request.getPerformanceId())))
+                .thenReturn(Optional.of(ownerNode));
+        when(seatHoldForwarder.forward(eq(ownerNode), any(), eq(request)))
+                .thenReturn(ResponseEntity.status(RESERVATION_CREATE_SUCCESS.getStatus()).body(apiResponse));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/reservations")
+                                                              .header(AUTHORIZATION, bearerAccessToken)
+                                                              .header(FORWARDED_HEADER_NAME, "true")
+                                                              .contentType(APPLICATION_JSON_VALUE)
+                                                              .content(requestBody));
+
+        // then
+        resultActions.andExpect(handler().handlerType(ReservationController.class))
+                     .andExpect(handler().methodName("reserveSeat"))
+                     .andExpect(status().isCreated())
+                     .andDo(print());
+
+        verify(seatHoldForwarder, times(1)).forward(eq(ownerNode), any(), eq(request));
+        verify(reservationFacade, never()).reserveSeat(any(), any(), any());
+    }
+
+    @RepeatedTest(10)
+    @CustomWithMockUser
+    @DisplayName("다중 좌석 예매")
+    void reserveSeats() throws Exception {
+        // given
+        ReservationBulkCreateRequest request     = new ReservationBulkCreateRequest(1L, List.of(1L, 2L, 3L));
+        String                       requestBody = objectMapper.writeValueAsString(request);
+
+        String rawAccessToken    = UUID.randomUUID().toString().replace("-", "");
+        String bearerAccessToken = JWT_ACCESS_TOKEN_PREFIX + rawAccessToken;
+
+        doNothing().when(reservationFacade).reserveSeats(any(UUID.class), eq(request), isNull());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/reservations/bulk")
+                                                              .header(AUTHORIZATION, bearerAccessToken)
+                                                              .contentType(APPLICATION_JSON_VALUE)
+                                                              .content(requestBody));
+
+        // then
+        ApiResponse<Void> apiResponse  = ApiResponse.success(RESERVATION_CREATE_SUCCESS);
+        String            responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(ReservationController.class))
+                     .andExpect(handler().methodName("reserveSeats"))
+                     .andExpect(status().isCreated())
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+
+        verify(reservationFacade, times(1)).reserveSeats(any(UUID.class), eq(request), isNull());
     }
 
     @RepeatedTest(10)
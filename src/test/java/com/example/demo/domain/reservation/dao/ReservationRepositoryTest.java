@@ -4,6 +4,12 @@ import static com.example.demo.common.util.TestUtils.createAccount;
 import static com.example.demo.common.util.TestUtils.createPerformance;
 import static com.example.demo.common.util.TestUtils.createReservation;
 import static com.example.demo.common.util.TestUtils.createSeat;
+import static com.example.demo.common.util.TestUtils.createSeats;
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.domain.performance.model.SeatStatus.SOLD;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
+import static com.example.demo.domain.reservation.model.ReservationStatus.CANCELLED;
+import static com.example.demo.domain.reservation.model.ReservationStatus.PENDING_PAYMENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -15,10 +21,14 @@ import com.example.demo.common.config.EnableJpaAuditingConfig;
 import com.example.demo.common.config.P6SpyConfig;
 import com.example.demo.common.config.QuerydslConfig;
 import com.example.demo.domain.account.model.Account;
+import com.example.demo.domain.performance.dao.SeatRepository;
 import com.example.demo.domain.performance.model.Performance;
 import com.example.demo.domain.performance.model.Seat;
+import com.example.demo.domain.reservation.dto.ExpiredReservationValue;
 import com.example.demo.domain.reservation.model.Reservation;
 import com.example.demo.domain.reservation.model.ReservationId;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +39,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * PackageName : com.example.demo.domain.reservation.dao
@@ -45,10 +57,14 @@ import org.springframework.context.annotation.Import;
 @Import({EnableJpaAuditingConfig.class, P6SpyConfig.class, QuerydslConfig.class})
 class ReservationRepositoryTest {
 
+    private static final LocalDateTime MIN_EXPIRED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+
     @Autowired
     TestEntityManager     em;
     @Autowired
     ReservationRepository reservationRepository;
+    @Autowired
+    SeatRepository        seatRepository;
 
     @Nested
     @DisplayName("save() 테스트")
@@ -162,4 +178,102 @@ class ReservationRepositoryTest {
 
     }
 
+    @Nested
+    @DisplayName("cancelExpiredReservations() 테스트")
+    class CancelExpiredReservationsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("만료 예약 조회 후 좌석 반환 및 예약 일괄 취소")
+        void cancelExpiredReservations() {
+            // given
+            Account       account     = em.persistAndFlush(createAccount());
+            Performance   performance = em.persistAndFlush(createPerformance());
+            List<Seat>    seats       = createSeats(performance, 3);
+            LocalDateTime now         = LocalDateTime.now();
+
+            seats.forEach(seat -> {
+                seat.reserveTemporary();
+                em.persist(seat);
+            });
+            Reservation expired    = persistReservation(account, seats.get(0), now.minusMinutes(1));
+            Reservation notExpired = persistReservation(account, seats.get(1), now.plusMinutes(1));
+            Reservation sold       = persistReservation(account, seats.get(2), now.minusMinutes(1));
+            seats.get(2).confirmSale();
+            em.flush();
+            em.clear();
+
+            // when
+            List<ExpiredReservationValue> expiredReservations = reservationRepository.findExpiredReservations(
+                    PENDING_PAYMENT, now, MIN_EXPIRED_AT, 0L, Limit.of(10)
+            );
+            List<Long> seatIds = expiredReservations.stream().map(ExpiredReservationValue::getSeatId).toList();
+            int released  = seatRepository.releaseExpiredSeats(seatIds,
+                                                                now,
+                                                                TEMPORARY_RESERVED,
+                                                                AVAILABLE,
+                                                                PENDING_PAYMENT);
+            int cancelled = reservationRepository.cancelExpiredReservations(seatIds,
+                                                                            now,
+                                                                            PENDING_PAYMENT,
+                                                                            CANCELLED,
+                                                                            AVAILABLE);
+
+            // then
+            assertEquals(List.of(seats.get(0).getId(), seats.get(2).getId()), seatIds, "만료 예약 좌석 ID 오름차순");
+            assertEquals(performance.getId(), expiredReservations.getFirst().getPerformanceId());
+            assertEquals(1, released, "판매 완료된 좌석은 반환되지 않아야 합니다.");
+            assertEquals(1, cancelled, "좌석이 반환된 예약만 취소되어야 합니다.");
+            assertEquals(CANCELLED, em.find(Reservation.class, expired.getReservationId()).getStatus());
+            assertEquals(PENDING_PAYMENT, em.find(Reservation.class, notExpired.getReservationId()).getStatus());
+            assertEquals(PENDING_PAYMENT, em.find(Reservation.class, sold.getReservationId()).getStatus());
+            assertEquals(AVAILABLE, em.find(Seat.class, seats.get(0).getId()).getStatus());
+            assertEquals(TEMPORARY_RESERVED, em.find(Seat.class, seats.get(1).getId()).getStatus());
+            assertEquals(SOLD, em.find(Seat.class, seats.get(2).getId()).getStatus());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("만료 예약 조회, (만료 시간, 좌석 ID) 키셋 페이징")
+        void findExpiredReservations_keyset() {
+            // given
+            Account       account     = em.persistAndFlush(createAccount());
+            Performance   performance = em.persistAndFlush(createPerformance());
+            List<Seat>    seats       = createSeats(performance, 4);
+            LocalDateTime now         = LocalDateTime.now().withNano(0);
+
+            seats.forEach(em::persist);
+            persistReservation(account, seats.get(0), now.minusMinutes(1));
+            persistReservation(account, seats.get(1), now.minusMinutes(3));
+            persistReservation(account, seats.get(2), now.minusMinutes(1));
+            persistReservation(account, seats.get(3), now.minusMinutes(2));
+            em.flush();
+            em.clear();
+
+            // when
+            List<ExpiredReservationValue> first  = reservationRepository.findExpiredReservations(
+                    PENDING_PAYMENT, now, MIN_EXPIRED_AT, 0L, Limit.of(3)
+            );
+            List<ExpiredReservationValue> second = reservationRepository.findExpiredReservations(
+                    PENDING_PAYMENT, now, first.getLast().getExpiredAt(), first.getLast().getSeatId(), Limit.of(3)
+            );
+
+            // then
+            assertEquals(List.of(seats.get(1).getId(), seats.get(3).getId(), seats.get(0).getId()),
+                         first.stream().map(ExpiredReservationValue::getSeatId).toList(),
+                         "만료 시간, 좌석 ID 오름차순");
+            assertEquals(List.of(seats.get(2).getId()),
+                         second.stream().map(ExpiredReservationValue::getSeatId).toList(),
+                         "같은 만료 시간의 남은 예약부터 이어서 조회");
+        }
+
+        private Reservation persistReservation(final Account account,
+                                               final Seat seat,
+                                               final LocalDateTime expiredAt) {
+            Reservation reservation = createReservation(account, seat);
+            ReflectionTestUtils.setField(reservation, "expiredAt", expiredAt);
+            em.persist(reservation);
+            return reservation;
+        }
+
+    }
+
 }
@@ -1,5 +1,7 @@
 package com.example.demo.domain.reservation.facade;
 
+import static com.example.demo.common.response.ErrorCode.ACCOUNT_NOT_FOUND;
+import static com.example.demo.common.response.ErrorCode.ADMISSION_REQUIRED;
 import static com.example.demo.common.response.ErrorCode.EXPIRE_PAYMENT_VERIFICATION_TIME;
 import static com.example.demo.common.response.ErrorCode.PAYMENT_ACCOUNT_MISMATCH;
 import static com.example.demo.common.response.ErrorCode.PAYMENT_ALREADY_CANCELED;
@@ -7,6 +9,8 @@ import static com.example.demo.common.response.ErrorCode.PAYMENT_AMOUNT_MISMATCH
 import static com.example.demo.common.response.ErrorCode.PAYMENT_NOT_COMPLETED;
 import static com.example.demo.common.response.ErrorCode.PAYMENT_NOT_FOUND;
 import static com.example.demo.common.response.ErrorCode.PAYMENT_VERIFICATION_FAILED;
+import static com.example.demo.common.response.ErrorCode.PERFORMANCE_NOT_ON_SALE;
+import static com.example.demo.common.response.ErrorCode.SEAT_ALREADY_RESERVED;
 import static com.example.demo.common.util.TestUtils.createAccount;
 import static com.example.demo.common.util.TestUtils.createPayment;
 import static com.example.demo.common.util.TestUtils.createPerformance;
@@ -14,6 +18,10 @@ import static com.example.demo.common.util.TestUtils.createReservation;
 import static com.example.demo.common.util.TestUtils.createSeat;
 import static com.example.demo.common.util.TestUtils.generateIpAddress;
 import static com.example.demo.common.util.TestUtils.generatePaymentKey;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.OPTIMISTIC;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.PESSIMISTIC;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.SINGLE_WRITER;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.REDIS_ATOMIC;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -21,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -31,21 +40,32 @@ import static org.mockito.Mockito.when;
 import com.example.demo.common.error.BusinessException;
 import com.example.demo.domain.account.model.Account;
 import com.example.demo.domain.account.service.AccountService;
+import com.example.demo.domain.performance.sale.OnSaleGate;
+import com.example.demo.domain.performance.service.PerformanceService;
+import com.example.demo.domain.queue.service.AdmissionQueueService;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PaymentCancelRequest;
 import com.example.demo.domain.reservation.dto.PaymentRequest.PrePaymentRequest;
 import com.example.demo.domain.reservation.dto.PaymentResponse.PrePaymentInfoResponse;
 import com.example.demo.domain.reservation.dto.PaymentVerifyCommand;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationBulkCreateRequest;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationCreateRequest;
+import com.example.demo.domain.reservation.mailbox.SeatHoldMailboxRouter;
 import com.example.demo.domain.reservation.model.Payment;
 import com.example.demo.domain.reservation.model.Reservation;
 import com.example.demo.domain.reservation.service.PaymentService;
 import com.example.demo.domain.reservation.service.ReservationService;
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyResolver;
 import com.example.demo.infra.payment.portone.client.PortOnePGPaymentApiClient;
 import com.example.demo.infra.payment.portone.dto.PortOneCancelPaymentApiRequest;
 import com.example.demo.infra.payment.portone.dto.PortOnePaymentApiRequest;
 import com.example.demo.infra.payment.portone.dto.PortOnePaymentApiResponse;
+import com.example.demo.infra.redis.inventory.SeatHoldResult;
+import com.example.demo.infra.redis.inventory.SeatInventoryManager;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.RepeatedTest;
@@ -53,7 +73,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * PackageName : com.example.demo.domain.reservation.facade
@@ -78,7 +101,336 @@ class ReservationFacadeTest {
     @Mock
     AccountService            accountService;
     @Mock
+    PerformanceService        performanceService;
+    @Mock
+    AdmissionQueueService     admissionQueueService;
+    @Mock
+    OnSaleGate                onSaleGate;
+    @Mock
+    SeatInventoryManager      seatInventoryManager;
+    @Mock
+    SeatHoldStrategyResolver  seatHoldStrategyResolver;
+    @Mock
+    SeatHoldMailboxRouter     seatHoldMailboxRouter;
+    @Mock
     PortOnePGPaymentApiClient portOneApiClient;
+    @Mock
+    TransactionTemplate       transactionTemplate;
+
+    @Nested
+    @DisplayName("reserveSeat() 테스트")
+    class ReserveSeatTests {
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약")
+        void reserveSeat() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
+            List<Long>               seatIds   = List.of(request.getSeatId());
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.HELD);
+            when(seatHoldStrategyResolver.resolve(eq(request.getPerformanceId()), eq(true))).thenReturn(REDIS_ATOMIC);
+
+            // when
+            reservationFacade.reserveSeat(accountId, request, null);
+
+            // then
+            verify(seatInventoryManager, times(1)).hold(eq(request.getPerformanceId()), eq(seatIds));
+            verify(performanceService, never()).loadSeatInventory(any());
+            verify(reservationService, times(1)).reserveSeat(eq(accountId), eq(request), eq(REDIS_ATOMIC));
+            verify(seatInventoryManager, never()).release(any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약, 좌석 재고가 적재되지 않아 적재 후 선점")
+        void reserveSeat_inventoryNotLoaded() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
+            List<Long>               seatIds   = List.of(request.getSeatId());
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.NOT_LOADED, SeatHoldResult.HELD);
+
+            // when
+            reservationFacade.reserveSeat(accountId, request, null);
+
+            // then
+            verify(seatInventoryManager, times(2)).hold(eq(request.getPerformanceId()), eq(seatIds));
+            verify(performanceService, times(1)).loadSeatInventory(eq(request.getPerformanceId()));
+            verify(reservationService, times(1)).reserveSeat(eq(accountId), eq(request), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약 시도, 좌석 재고에서 이미 선점된 좌석")
+        void reserveSeat_alreadyHeld() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
+            List<Long>               seatIds   = List.of(request.getSeatId());
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.UNAVAILABLE);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> reservationFacade.reserveSeat(accountId, request, null),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(SEAT_ALREADY_RESERVED, exception.getErrorCode(),
+                                         "errorCode는 SEAT_ALREADY_RESERVED여야 합니다."));
+
+            verify(reservationService, never()).reserveSeat(any(), any(), any());
+            verify(seatInventoryManager, never()).release(any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약 시도, 입장 토큰이 유효하지 않음")
+        void reserveSeat_notAdmitted() {
+            // given
+            UUID                     accountId      = UUID.randomUUID();
+            ReservationCreateRequest request        = new ReservationCreateRequest(1L, 1L);
+            String                   admissionToken = UUID.randomUUID().toString();
+
+            doThrow(new BusinessException(ADMISSION_REQUIRED)).when(admissionQueueService)
+                                                              .validateAdmission(eq(accountId),
+                                                                                 eq(request.getPerformanceId()),
+                                                                                 eq(admissionToken));
+
+            // when
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> reservationFacade.reserveSeat(accountId, request, admissionToken),
+                    "BusinessException이 발생해야 합니다."
+            );
+
+            // then
+            assertEquals(ADMISSION_REQUIRED, exception.getErrorCode(), "errorCode는 ADMISSION_REQUIRED여야 합니다.");
+
+            verify(seatInventoryManager, never()).hold(any(), any());
+            verify(reservationService, never()).reserveSeat(any(), any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약 시도, 예매 오픈 전")
+        void reserveSeat_notOnSale() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
+
+            doThrow(new BusinessException(PERFORMANCE_NOT_ON_SALE)).when(onSaleGate)
+                                                                   .validateOnSale(eq(request.getPerformanceId()));
+
+            // when
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> reservationFacade.reserveSeat(accountId, request, null),
+                    "BusinessException이 발생해야 합니다."
+            );
+
+            // then
+            assertEquals(PERFORMANCE_NOT_ON_SALE, exception.getErrorCode(),
+                         "errorCode는 PERFORMANCE_NOT_ON_SALE여야 합니다.");
+
+            verify(admissionQueueService, never()).validateAdmission(any(), any(), any());
+            verify(seatInventoryManager, never()).hold(any(), any());
+            verify(reservationService, never()).reserveSeat(any(), any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약 시도, DB 저장 실패 시 선점 해제")
+        void reserveSeat_releaseOnFailure() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
+            List<Long>               seatIds   = List.of(request.getSeatId());
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.HELD);
+            doThrow(new BusinessException(ACCOUNT_NOT_FOUND)).when(reservationService)
+                                                             .reserveSeat(eq(accountId), eq(request), any());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> reservationFacade.reserveSeat(accountId, request, null),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode(),
+                         "errorCode는 ACCOUNT_NOT_FOUND여야 합니다.");
+
+            verify(seatInventoryManager, times(1)).release(eq(request.getPerformanceId()), eq(seatIds));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약, 락을 기다리지 않는 전략은 일시적인 동시성 오류 시 재시도")
+        void reserveSeat_retryOnConcurrencyFailure() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
+            List<Long>               seatIds   = List.of(request.getSeatId());
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.HELD);
+            when(seatHoldStrategyResolver.resolve(eq(request.getPerformanceId()), eq(true))).thenReturn(OPTIMISTIC);
+            doThrow(new CannotAcquireLockException("Deadlock found")).doNothing()
+                                                                     .when(reservationService)
+                                                                     .reserveSeat(eq(accountId),
+                                                                                  eq(request),
+                                                                                  eq(OPTIMISTIC));
+
+            // when
+            reservationFacade.reserveSeat(accountId, request, null);
+
+            // then
+            verify(reservationService, times(2)).reserveSeat(eq(accountId), eq(request), eq(OPTIMISTIC));
+            verify(seatInventoryManager, never()).release(any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약 시도, 비관적 락 전략은 동시성 오류 시 재시도하지 않음")
+        void reserveSeat_noRetryForPessimistic() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
+            List<Long>               seatIds   = List.of(request.getSeatId());
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.HELD);
+            when(seatHoldStrategyResolver.resolve(eq(request.getPerformanceId()), eq(true))).thenReturn(PESSIMISTIC);
+            doThrow(new CannotAcquireLockException("Lock wait timeout exceeded")).when(reservationService)
+                                                                                .reserveSeat(eq(accountId),
+                                                                                             eq(request),
+                                                                                             eq(PESSIMISTIC));
+
+            // when
+            assertThrows(CannotAcquireLockException.class,
+                         () -> reservationFacade.reserveSeat(accountId, request, null),
+                         "CannotAcquireLockException이 발생해야 합니다.");
+
+            // then
+            verify(reservationService, times(1)).reserveSeat(eq(accountId), eq(request), eq(PESSIMISTIC));
+            verify(seatInventoryManager, times(1)).release(eq(request.getPerformanceId()), eq(seatIds));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약, 단일 작성자 전략은 공연별 메일박스에서 처리")
+        void reserveSeat_singleWriter() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
+            List<Long>               seatIds   = List.of(request.getSeatId());
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.HELD);
+            when(seatHoldStrategyResolver.resolve(eq(request.getPerformanceId()), eq(true))).thenReturn(SINGLE_WRITER);
+
+            // when
+            reservationFacade.reserveSeat(accountId, request, null);
+
+            // then
+            verify(seatHoldMailboxRouter, times(1)).hold(eq(accountId), eq(request.getPerformanceId()), eq(seatIds));
+            verify(reservationService, never()).reserveSeat(any(), any(), any());
+            verify(seatInventoryManager, never()).release(any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약, Redis 장애 시 DB 락으로 처리")
+        void reserveSeat_redisFailure() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
+            List<Long>               seatIds   = List.of(request.getSeatId());
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenThrow(
+                    new IllegalStateException("Redis connection failure"));
+            when(seatHoldStrategyResolver.resolve(eq(request.getPerformanceId()), eq(false))).thenReturn(PESSIMISTIC);
+
+            // when
+            reservationFacade.reserveSeat(accountId, request, null);
+
+            // then
+            verify(seatHoldStrategyResolver, times(1)).resolve(eq(request.getPerformanceId()), eq(false));
+            verify(reservationService, times(1)).reserveSeat(eq(accountId), eq(request), eq(PESSIMISTIC));
+            verify(seatInventoryManager, never()).release(any(), any());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("reserveSeats() 테스트")
+    class ReserveSeatsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("다중 좌석 예약")
+        void reserveSeats() {
+            // given
+            UUID                         accountId = UUID.randomUUID();
+            ReservationBulkCreateRequest request   = new ReservationBulkCreateRequest(1L, List.of(3L, 1L, 2L));
+            List<Long>                   seatIds   = List.of(1L, 2L, 3L);
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.HELD);
+
+            // when
+            reservationFacade.reserveSeats(accountId, request, null);
+
+            // then
+            verify(seatInventoryManager, times(1)).hold(eq(request.getPerformanceId()), eq(seatIds));
+            verify(reservationService, times(1)).reserveSeats(eq(accountId), eq(request), any());
+            verify(seatInventoryManager, never()).release(any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("다중 좌석 예약 시도, 일부 좌석이 이미 선점됨")
+        void reserveSeats_partiallyHeld() {
+            // given
+            UUID                         accountId = UUID.randomUUID();
+            ReservationBulkCreateRequest request   = new ReservationBulkCreateRequest(1L, List.of(1L, 2L));
+            List<Long>                   seatIds   = List.of(1L, 2L);
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.UNAVAILABLE);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> reservationFacade.reserveSeats(accountId, request, null),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(SEAT_ALREADY_RESERVED, exception.getErrorCode(), "errorCode는 SEAT_ALREADY_RESERVED여야 합니다.");
+
+            verify(reservationService, never()).reserveSeats(any(), any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("다중 좌석 예약 시도, DB에서 이미 선점된 좌석이 있으면 재고 삭제")
+        void reserveSeats_takenInDatabase() {
+            // given
+            UUID                         accountId = UUID.randomUUID();
+            ReservationBulkCreateRequest request   = new ReservationBulkCreateRequest(1L, List.of(1L, 2L));
+            List<Long>                   seatIds   = List.of(1L, 2L);
+
+            when(seatInventoryManager.hold(eq(request.getPerformanceId()), eq(seatIds))).thenReturn(
+                    SeatHoldResult.HELD);
+            doThrow(new BusinessException(SEAT_ALREADY_RESERVED)).when(reservationService)
+                                                                 .reserveSeats(eq(accountId), eq(request), any());
+
+            // when
+            assertThrows(BusinessException.class,
+                         () -> reservationFacade.reserveSeats(accountId, request, null),
+                         "BusinessException이 발생해야 합니다.");
+
+            // then
+            verify(seatInventoryManager, times(1)).evict(eq(request.getPerformanceId()));
+            verify(seatInventoryManager, never()).release(any(), any());
+        }
+
+    }
 
     @Nested
     @DisplayName("savePrePayment() 테스트")
@@ -110,7 +462,7 @@ class ReservationFacadeTest {
                     .thenReturn(response);
 
             // when
-            PrePaymentInfoResponse result = reservationFacade.savePrePayment(accountId, request, clientIp);
+            PrePaymentInfoResponse result = reservationFacade.savePrePayment(accountId, request, null, clientIp);
 
             // then
             assertEquals(response, result);
@@ -478,14 +830,19 @@ class ReservationFacadeTest {
                     ));
             doNothing().when(paymentService).refundPayment(eq(payment), eq(request.getRefundReason()));
             doNothing().when(reservationService).cancelReservation(eq(payment.getReservation()));
+            doAnswer(invocation -> {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                return null;
+            }).when(transactionTemplate).executeWithoutResult(any());
 
             // when
             reservationFacade.refundPayment(accountId, request);
 
             // then
             verify(accountService, times(1)).findByAccountId(eq(accountId));
-            verify(paymentService, times(1)).findByAccountIdAndPaymentKey(eq(accountId), eq(request.getPaymentId()));
+            verify(paymentService, times(2)).findByAccountIdAndPaymentKey(eq(accountId), eq(request.getPaymentId()));
             verify(portOneApiClient, times(1)).getPayment(any(PortOnePaymentApiRequest.class));
+            verify(transactionTemplate, times(1)).executeWithoutResult(any());
             verify(paymentService, times(1)).refundPayment(eq(payment), eq(request.getRefundReason()));
             verify(reservationService, times(1)).cancelReservation(eq(payment.getReservation()));
         }
@@ -512,6 +869,7 @@ class ReservationFacadeTest {
             verify(accountService, times(1)).findByAccountId(eq(accountId));
             verify(paymentService, never()).findByAccountIdAndPaymentKey(any(UUID.class), anyString());
             verify(portOneApiClient, never()).getPayment(any(PortOnePaymentApiRequest.class));
+            verify(transactionTemplate, never()).executeWithoutResult(any());
             verify(paymentService, never()).refundPayment(any(Payment.class), anyString());
             verify(reservationService, never()).cancelReservation(any(Reservation.class));
         }
@@ -541,6 +899,7 @@ class ReservationFacadeTest {
             verify(accountService, times(1)).findByAccountId(eq(accountId));
             verify(paymentService, times(1)).findByAccountIdAndPaymentKey(eq(accountId), eq(request.getPaymentId()));
             verify(portOneApiClient, never()).getPayment(any(PortOnePaymentApiRequest.class));
+            verify(transactionTemplate, never()).executeWithoutResult(any());
             verify(paymentService, never()).refundPayment(any(Payment.class), anyString());
             verify(reservationService, never()).cancelReservation(any(Reservation.class));
         }
@@ -570,6 +929,10 @@ class ReservationFacadeTest {
                     ));
             doThrow(new BusinessException(PAYMENT_ALREADY_CANCELED))
                     .when(paymentService).refundPayment(eq(payment), eq(request.getRefundReason()));
+            doAnswer(invocation -> {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                return null;
+            }).when(transactionTemplate).executeWithoutResult(any());
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -582,7 +945,7 @@ class ReservationFacadeTest {
                                          "errorCode는 PAYMENT_ALREADY_CANCELED이어야 합니다."));
 
             verify(accountService, times(1)).findByAccountId(eq(accountId));
-            verify(paymentService, times(1)).findByAccountIdAndPaymentKey(eq(accountId), eq(request.getPaymentId()));
+            verify(paymentService, times(2)).findByAccountIdAndPaymentKey(eq(accountId), eq(request.getPaymentId()));
             verify(portOneApiClient, times(1)).getPayment(any(PortOnePaymentApiRequest.class));
             verify(paymentService, times(1)).refundPayment(eq(payment), eq(request.getRefundReason()));
             verify(reservationService, never()).cancelReservation(any(Reservation.class));
@@ -0,0 +1,124 @@
+package com.example.demo.domain.reservation.facade;
+
+import static com.example.demo.common.util.TestUtils.createAccount;
+import static com.example.demo.common.util.TestUtils.createPayment;
+import static com.example.demo.common.util.TestUtils.createPerformance;
+import static com.example.demo.common.util.TestUtils.createReservation;
+import static com.example.demo.common.util.TestUtils.createSeat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.domain.account.model.Account;
+import com.example.demo.domain.account.service.AccountService;
+import com.example.demo.domain.reservation.dto.PaymentRequest.PaymentCancelRequest;
+import com.example.demo.domain.reservation.model.Payment;
+import com.example.demo.domain.reservation.service.PaymentService;
+import com.example.demo.domain.reservation.service.ReservationService;
+import com.example.demo.infra.payment.portone.client.PortOnePGPaymentApiClient;
+import com.example.demo.infra.payment.portone.dto.PortOnePaymentApiRequest;
+import com.example.demo.infra.payment.portone.dto.PortOnePaymentApiResponse;
+import com.example.demo.infra.redis.config.TestRedisConfig;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.facade
+ * FileName    : ReservationFacadeTransactionTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : ReservationFacade 트랜잭션 경계 테스트
+ *               PG사 API 호출 동안 트랜잭션과 DB 커넥션을 점유하지 않는지 검증합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Import(TestRedisConfig.class)
+@SpringBootTest
+class ReservationFacadeTransactionTest {
+
+    private static final long PG_RESPONSE_DELAY_MILLIS = 500;
+
+    @Autowired
+    ReservationFacade         reservationFacade;
+    @Autowired
+    DataSource                dataSource;
+    @Autowired
+    EntityManagerFactory      entityManagerFactory;
+    @MockitoBean
+    AccountService            accountService;
+    @MockitoBean
+    PaymentService            paymentService;
+    @MockitoBean
+    ReservationService        reservationService;
+    @MockitoBean
+    PortOnePGPaymentApiClient portOneApiClient;
+
+    @Nested
+    @DisplayName("refundPayment() 테스트")
+    class RefundPaymentTests {
+
+        @Test
+        @DisplayName("PG사 응답이 느려도 응답을 기다리는 동안 트랜잭션과 DB 커넥션을 점유하지 않고, 환불 반영은 트랜잭션 안에서 처리")
+        void refundPayment_slowPGResponse() {
+            // given
+            UUID                 accountId = UUID.randomUUID();
+            PaymentCancelRequest request   = new PaymentCancelRequest("payment123", "고객 요청");
+            Account              account   = createAccount();
+            Payment              payment   = createPayment(createReservation(account, createSeat(createPerformance())));
+
+            AtomicBoolean transactionActiveDuringPGCall = new AtomicBoolean(true);
+            AtomicBoolean connectionHeldDuringPGCall    = new AtomicBoolean(true);
+            AtomicBoolean transactionActiveOnRefund     = new AtomicBoolean(false);
+
+            when(accountService.findByAccountId(eq(accountId))).thenReturn(account);
+            when(paymentService.findByAccountIdAndPaymentKey(eq(accountId), eq(request.getPaymentId()))).thenReturn(
+                    payment);
+            when(portOneApiClient.getPayment(any(PortOnePaymentApiRequest.class))).thenAnswer(invocation -> {
+                transactionActiveDuringPGCall.set(TransactionSynchronizationManager.isActualTransactionActive());
+                connectionHeldDuringPGCall.set(TransactionSynchronizationManager.hasResource(dataSource)
+                                               || TransactionSynchronizationManager.hasResource(entityManagerFactory));
+                Thread.sleep(PG_RESPONSE_DELAY_MILLIS);
+                return new PortOnePaymentApiResponse(request.getPaymentId(),
+                                                     "PAID",
+                                                     new PortOnePaymentApiResponse.Amount(BigDecimal.valueOf(10000)),
+                                                     "CARD",
+                                                     "https://receipt.url",
+                                                     "1735689600",
+                                                     "1735689600");
+            });
+            doAnswer(invocation -> {
+                transactionActiveOnRefund.set(TransactionSynchronizationManager.isActualTransactionActive());
+                return null;
+            }).when(paymentService).refundPayment(eq(payment), eq(request.getRefundReason()));
+
+            // when
+            reservationFacade.refundPayment(accountId, request);
+
+            // then
+            assertAll(
+                    () -> assertFalse(transactionActiveDuringPGCall.get(), "PG사 API 호출 중에는 트랜잭션이 없어야 합니다."),
+                    () -> assertFalse(connectionHeldDuringPGCall.get(), "PG사 API 호출 중에는 DB 커넥션을 점유하지 않아야 합니다."),
+                    () -> assertTrue(transactionActiveOnRefund.get(), "환불 반영은 트랜잭션 안에서 처리되어야 합니다.")
+            );
+        }
+
+    }
+
+}
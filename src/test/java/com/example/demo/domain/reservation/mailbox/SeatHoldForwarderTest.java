@@ -0,0 +1,202 @@
+package com.example.demo.domain.reservation.mailbox;
+
+import static com.example.demo.common.response.ErrorCode.SEAT_HOLD_OWNER_UNAVAILABLE;
+import static com.example.demo.domain.queue.constant.AdmissionQueueConst.ADMISSION_TOKEN_HEADER_NAME;
+import static com.example.demo.domain.reservation.mailbox.SeatHoldForwarder.FORWARDED_HEADER_NAME;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.common.response.ApiResponse;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationCreateRequest;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties.SingleWriter;
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyType;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.mailbox
+ * FileName    : SeatHoldForwarderTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : SeatHoldForwarder 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+class SeatHoldForwarderTest {
+
+    private static final String       OWNER_NODE     = "http://node-2:8080";
+    private static final String       URI            = "/api/v1/reservations";
+    private static final String       FORWARD_SECRET = "forward-secret";
+    private static final List<String> NODES          = List.of("http://node-1:8080", OWNER_NODE);
+
+    MockRestServiceServer  server;
+    SeatHoldForwarder      seatHoldForwarder;
+    MockHttpServletRequest httpRequest;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        seatHoldForwarder = new SeatHoldForwarder(builder.build(), createProperties(FORWARD_SECRET, NODES));
+
+        httpRequest = new MockHttpServletRequest(POST.name(), URI);
+        httpRequest.addHeader(AUTHORIZATION, "Bearer access-token");
+        httpRequest.addHeader(ADMISSION_TOKEN_HEADER_NAME, "admission-token");
+    }
+
+    @Nested
+    @DisplayName("forward() 테스트")
+    class ForwardTests {
+
+        @Test
+        @DisplayName("인증 헤더와 입장 토큰을 담아 담당 노드에 전달하고, 담당 노드의 응답 상태와 메시지를 반환")
+        void forward() {
+            // given
+            ReservationCreateRequest request = new ReservationCreateRequest(1L, 2L);
+
+            server.expect(requestTo(OWNER_NODE + URI))
+                  .andExpect(method(POST))
+                  .andExpect(header(AUTHORIZATION, "Bearer access-token"))
+                  .andExpect(header(ADMISSION_TOKEN_HEADER_NAME, "admission-token"))
+                  .andExpect(header(FORWARDED_HEADER_NAME, matchesPattern("\\d+\\.[0-9a-f]{64}")))
+                  .andExpect(jsonPath("$.seatId").value(2))
+                  .andRespond(withStatus(HttpStatus.CONFLICT).contentType(APPLICATION_JSON)
+                                                            .body("{\"message\":\"이미 예약된 좌석입니다.\"}"));
+
+            // when
+            ResponseEntity<ApiResponse<Void>> response = seatHoldForwarder.forward(OWNER_NODE, httpRequest, request);
+
+            // then
+            assertAll(() -> assertEquals(HttpStatus.CONFLICT, response.getStatusCode(), "상태 코드는 409여야 합니다."),
+                      () -> assertEquals("이미 예약된 좌석입니다.",
+                                         response.getBody().getMessage(),
+                                         "담당 노드의 메시지를 그대로 반환해야 합니다."));
+            server.verify();
+        }
+
+        @Test
+        @DisplayName("담당 노드에 연결할 수 없으면 BusinessException 발생")
+        void forward_ownerUnavailable() {
+            // given
+            server.expect(requestTo(OWNER_NODE + URI)).andRespond(withException(new IOException("connection refused")));
+
+            // when
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> seatHoldForwarder.forward(OWNER_NODE, httpRequest, new ReservationCreateRequest(1L, 2L)),
+                    "BusinessException이 발생해야 합니다."
+            );
+
+            // then
+            assertEquals(SEAT_HOLD_OWNER_UNAVAILABLE,
+                         exception.getErrorCode(),
+                         "errorCode는 SEAT_HOLD_OWNER_UNAVAILABLE여야 합니다.");
+        }
+
+        @Test
+        @DisplayName("노드가 여러 개인데 전달 서명 키가 없으면 생성 실패")
+        void forward_noSecret() {
+            // when & then
+            assertThrows(IllegalStateException.class,
+                         () -> new SeatHoldForwarder(RestClient.create(), createProperties(null, NODES)),
+                         "IllegalStateException이 발생해야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("isForwarded() 테스트")
+    class IsForwardedTests {
+
+        @Test
+        @DisplayName("같은 서명 키를 가진 노드가 전달한 요청은 전달받은 요청으로 판단")
+        void isForwarded_signed() {
+            // given
+            String signature = forwardAndCaptureSignature();
+
+            // when & then
+            assertTrue(seatHoldForwarder.isForwarded(forwardedRequest(URI, signature)),
+                       "서명이 유효한 요청은 전달받은 요청이어야 합니다.");
+        }
+
+        @Test
+        @DisplayName("클라이언트가 임의로 보낸 전달 헤더는 무시")
+        void isForwarded_forged() {
+            // when & then
+            assertFalse(seatHoldForwarder.isForwarded(forwardedRequest(URI, "true")),
+                        "서명이 없는 전달 헤더는 무시되어야 합니다.");
+            assertFalse(seatHoldForwarder.isForwarded(forwardedRequest(URI, System.currentTimeMillis() + ".abcd")),
+                        "서명이 틀린 전달 헤더는 무시되어야 합니다.");
+        }
+
+        @Test
+        @DisplayName("다른 서명 키로 만들었거나 다른 경로의 서명은 무시")
+        void isForwarded_mismatched() {
+            // given
+            String            signature = forwardAndCaptureSignature();
+            SeatHoldForwarder otherNode = new SeatHoldForwarder(RestClient.create(),
+                                                                createProperties("other-secret", NODES));
+
+            // when & then
+            assertFalse(otherNode.isForwarded(forwardedRequest(URI, signature)),
+                        "다른 서명 키로 만든 서명은 무시되어야 합니다.");
+            assertFalse(seatHoldForwarder.isForwarded(forwardedRequest(URI + "/bulk", signature)),
+                        "다른 경로의 서명은 무시되어야 합니다.");
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private SeatHoldProperties createProperties(final String forwardSecret, final List<String> nodes) {
+        return new SeatHoldProperties(SeatHoldStrategyType.SINGLE_WRITER,
+                                      Map.of(),
+                                      new SingleWriter(5L, 100, 3000L, 60000L, nodes, 0, forwardSecret));
+    }
+
+    private String forwardAndCaptureSignature() {
+        AtomicReference<String> signature = new AtomicReference<>();
+        server.expect(requestTo(OWNER_NODE + URI))
+              .andExpect(request -> signature.set(request.getHeaders().getFirst(FORWARDED_HEADER_NAME)))
+              .andRespond(withStatus(HttpStatus.CREATED).contentType(APPLICATION_JSON).body("{}"));
+
+        seatHoldForwarder.forward(OWNER_NODE, httpRequest, new ReservationCreateRequest(1L, 2L));
+        server.verify();
+        return signature.get();
+    }
+
+    private MockHttpServletRequest forwardedRequest(final String uri, final String signature) {
+        MockHttpServletRequest request = new MockHttpServletRequest(POST.name(), uri);
+        request.addHeader(FORWARDED_HEADER_NAME, signature);
+        return request;
+    }
+
+}
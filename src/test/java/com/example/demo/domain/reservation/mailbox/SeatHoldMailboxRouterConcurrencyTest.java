@@ -0,0 +1,166 @@
+package com.example.demo.domain.reservation.mailbox;
+
+import static com.example.demo.common.util.TestUtils.createAccounts;
+import static com.example.demo.common.util.TestUtils.createPerformance;
+import static com.example.demo.common.util.TestUtils.createSeat;
+import static com.example.demo.domain.account.model.AccountStatus.ACTIVE;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
+
+import com.example.demo.domain.account.dao.AccountRepository;
+import com.example.demo.domain.account.model.Account;
+import com.example.demo.domain.performance.dao.PerformanceRepository;
+import com.example.demo.domain.performance.dao.SeatRepository;
+import com.example.demo.domain.performance.model.Performance;
+import com.example.demo.domain.performance.model.Seat;
+import com.example.demo.domain.reservation.dao.ReservationRepository;
+import com.example.demo.infra.redis.config.TestRedisConfig;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.mailbox
+ * FileName    : SeatHoldMailboxRouterConcurrencyTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : SeatHoldMailboxRouter 동시성 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Tag("concurrency")
+@Import(TestRedisConfig.class)
+@SpringBootTest
+@SqlGroup({@Sql(executionPhase = BEFORE_TEST_METHOD, scripts = "classpath:/sql/truncate_tables.sql"),
+           @Sql(executionPhase = AFTER_TEST_METHOD, scripts = "classpath:/sql/truncate_tables.sql")})
+@Slf4j
+class SeatHoldMailboxRouterConcurrencyTest {
+
+    private static final int THREAD_COUNT = Math.max(100, Runtime.getRuntime().availableProcessors());
+
+    @Autowired
+    TransactionTemplate   transactionTemplate;
+    @Autowired
+    SeatHoldMailboxRouter seatHoldMailboxRouter;
+    @Autowired
+    AccountRepository     accountRepository;
+    @Autowired
+    PerformanceRepository performanceRepository;
+    @Autowired
+    SeatRepository        seatRepository;
+    @Autowired
+    ReservationRepository reservationRepository;
+
+    @Nested
+    @DisplayName("hold() 테스트")
+    class HoldTests {
+
+        @Test
+        @DisplayName("[단일 작성자 동작 테스트] 같은 좌석을 동시에 선점 시 한 요청만 예약되어야 함")
+        void hold_sameSeat() throws InterruptedException {
+            // given
+            List<UUID> accountIds = saveAccounts();
+            Seat savedSeat = transactionTemplate.execute(
+                    status -> seatRepository.save(createSeat(performanceRepository.save(createPerformance())))
+            );
+            Long performanceId = savedSeat.getPerformance().getId();
+            Long seatId        = savedSeat.getId();
+
+            // when
+            int successCount = runConcurrently(i -> seatHoldMailboxRouter.hold(accountIds.get(i),
+                                                                              performanceId,
+                                                                              List.of(seatId)));
+
+            // then
+            Seat seat = seatRepository.findById(seatId).orElseThrow();
+
+            assertEquals(1, successCount, "성공한 요청은 1개여야 합니다.");
+            assertEquals(1, reservationRepository.count(), "저장된 예약은 1개여야 합니다.");
+            assertEquals(TEMPORARY_RESERVED, seat.getStatus(), "좌석 상태는 TEMPORARY_RESERVED여야 합니다.");
+        }
+
+        @Test
+        @DisplayName("[단일 작성자 동작 테스트] 서로 다른 좌석을 동시에 선점 시 모든 요청이 예약되어야 함")
+        void hold_differentSeats() throws InterruptedException {
+            // given
+            List<UUID> accountIds = saveAccounts();
+            List<Seat> savedSeats = transactionTemplate.execute(status -> {
+                Performance performance = performanceRepository.save(createPerformance());
+                return seatRepository.saveAll(IntStream.range(0, THREAD_COUNT)
+                                                       .mapToObj(i -> createSeat(performance))
+                                                       .toList());
+            });
+            Long performanceId = savedSeats.getFirst().getPerformance().getId();
+
+            // when
+            int successCount = runConcurrently(i -> seatHoldMailboxRouter.hold(accountIds.get(i),
+                                                                              performanceId,
+                                                                              List.of(savedSeats.get(i).getId())));
+
+            // then
+            assertEquals(THREAD_COUNT, successCount, "모든 요청이 성공해야 합니다.");
+            assertEquals(THREAD_COUNT, reservationRepository.count(), "저장된 예약 수는 요청 수와 같아야 합니다.");
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private List<UUID> saveAccounts() {
+        List<Account> accounts = createAccounts(THREAD_COUNT);
+        accounts.forEach(account -> {
+            account.setNickname(account.getNickname() + "_" + UUID.randomUUID().toString().substring(0, 5));
+            account.setStatus(ACTIVE);
+        });
+        return transactionTemplate.execute(
+                status -> accountRepository.saveAll(accounts).stream().map(Account::getId).toList()
+        );
+    }
+
+    private int runConcurrently(final IntConsumer task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch  startLatch      = new CountDownLatch(1);
+        CountDownLatch  endLatch        = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger   successCount    = new AtomicInteger();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int threadIndex = i;
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    task.accept(threadIndex);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.error("[Thread-{}] Error: ", threadIndex, e);
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        endLatch.await();
+        executorService.shutdown();
+        return successCount.get();
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.example.demo.domain.reservation.mailbox;
+
+import static com.example.demo.common.response.ErrorCode.SEAT_HOLD_MAILBOX_TIMEOUT;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.SINGLE_WRITER;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties.SingleWriter;
+import com.example.demo.domain.reservation.service.ReservationService;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.mailbox
+ * FileName    : SeatHoldMailboxRouterTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : SeatHoldMailboxRouter 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class SeatHoldMailboxRouterTest {
+
+    private static final Long   PERFORMANCE_ID  = 1L;
+    private static final long   REQUEST_TIMEOUT = 100L;
+    private static final long   IDLE_TIMEOUT    = 50L;
+    private static final String OWNER_NODE      = "http://node-2:8080";
+
+    @Mock
+    ReservationService    reservationService;
+    SeatHoldMailboxRouter seatHoldMailboxRouter;
+
+    @AfterEach
+    void tearDown() {
+        if (seatHoldMailboxRouter != null) seatHoldMailboxRouter.shutdown();
+    }
+
+    @Nested
+    @DisplayName("findOwnerNode() 테스트")
+    class FindOwnerNodeTests {
+
+        @RepeatedTest(10)
+        @DisplayName("노드 목록이 없으면 현재 노드에서 처리")
+        void findOwnerNode_noNodes() {
+            // given
+            seatHoldMailboxRouter = createRouter(List.of(), 0);
+
+            // when
+            Optional<String> ownerNode = seatHoldMailboxRouter.findOwnerNode(PERFORMANCE_ID);
+
+            // then
+            assertTrue(ownerNode.isEmpty(), "담당 노드는 비어 있어야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("공연 ID 해시로 담당 노드를 정하고, 현재 노드가 담당하면 빈 값 반환")
+        void findOwnerNode() {
+            // given
+            seatHoldMailboxRouter = createRouter(List.of("http://node-1:8080", OWNER_NODE), 0);
+
+            // when
+            Optional<String> otherNode = seatHoldMailboxRouter.findOwnerNode(1L);
+            Optional<String> localNode = seatHoldMailboxRouter.findOwnerNode(2L);
+
+            // then
+            assertEquals(Optional.of(OWNER_NODE), otherNode, "공연 ID 1은 두 번째 노드가 담당해야 합니다.");
+            assertTrue(localNode.isEmpty(), "공연 ID 2는 현재 노드가 담당해야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("hold() 테스트")
+    class HoldTests {
+
+        @RepeatedTest(10)
+        @DisplayName("처리를 시작하지 않은 요청은 시간이 초과되면 취소되고 처리되지 않음")
+        void hold_timeoutWhileQueued() throws Exception {
+            // given
+            seatHoldMailboxRouter = createRouter(List.of(), 0);
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            when(reservationService.reserveInBatch(eq(PERFORMANCE_ID), anyList())).thenAnswer(invocation -> {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return Map.of();
+            });
+
+            CompletableFuture<Void> first = CompletableFuture.runAsync(
+                    () -> seatHoldMailboxRouter.hold(UUID.randomUUID(), PERFORMANCE_ID, List.of(1L))
+            );
+            assertTrue(entered.await(5, TimeUnit.SECONDS), "첫 요청의 처리가 시작되어야 합니다.");
+
+            // when
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> seatHoldMailboxRouter.hold(UUID.randomUUID(), PERFORMANCE_ID, List.of(2L)),
+                    "BusinessException이 발생해야 합니다."
+            );
+
+            // then
+            assertEquals(SEAT_HOLD_MAILBOX_TIMEOUT,
+                         exception.getErrorCode(),
+                         "errorCode는 SEAT_HOLD_MAILBOX_TIMEOUT여야 합니다.");
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            verify(reservationService, times(1)).reserveInBatch(eq(PERFORMANCE_ID), anyList());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("이미 처리 중인 요청은 시간이 초과되어도 취소하지 않고 처리 결과를 기다림")
+        void hold_timeoutWhileProcessing() {
+            // given
+            seatHoldMailboxRouter = createRouter(List.of(), 0);
+
+            when(reservationService.reserveInBatch(eq(PERFORMANCE_ID), anyList())).thenAnswer(invocation -> {
+                Thread.sleep(REQUEST_TIMEOUT * 3);
+                return Map.of();
+            });
+
+            // when & then
+            assertDoesNotThrow(() -> seatHoldMailboxRouter.hold(UUID.randomUUID(), PERFORMANCE_ID, List.of(1L)),
+                               "처리된 요청은 예외가 발생하지 않아야 합니다.");
+
+            verify(reservationService, never()).cancelReservation(any(UUID.class), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("유휴 시간 동안 요청이 없으면 메일박스를 정리하고, 이후 요청은 새 메일박스에서 처리")
+        void hold_afterIdleTimeout() throws Exception {
+            // given
+            seatHoldMailboxRouter = createRouter(List.of(), 0);
+
+            when(reservationService.reserveInBatch(eq(PERFORMANCE_ID), anyList())).thenReturn(Map.of());
+
+            seatHoldMailboxRouter.hold(UUID.randomUUID(), PERFORMANCE_ID, List.of(1L));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (seatHoldMailboxRouter.getMailboxCount() > 0 && System.nanoTime() < deadline)
+                Thread.sleep(IDLE_TIMEOUT);
+            assertEquals(0, seatHoldMailboxRouter.getMailboxCount(), "유휴 메일박스는 정리되어야 합니다.");
+
+            // when
+            seatHoldMailboxRouter.hold(UUID.randomUUID(), PERFORMANCE_ID, List.of(2L));
+
+            // then
+            verify(reservationService, times(2)).reserveInBatch(eq(PERFORMANCE_ID), anyList());
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private SeatHoldMailboxRouter createRouter(final List<String> nodes, final int nodeIndex) {
+        SingleWriter singleWriter = new SingleWriter(0L, 1, REQUEST_TIMEOUT, IDLE_TIMEOUT, nodes, nodeIndex, null);
+        return new SeatHoldMailboxRouter(reservationService,
+                                         new SeatHoldProperties(SINGLE_WRITER, Map.of(), singleWriter));
+    }
+
+}
@@ -6,6 +6,7 @@ import static com.example.demo.common.util.TestUtils.createSeat;
 import static com.example.demo.domain.account.model.AccountStatus.ACTIVE;
 import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.params.provider.EnumSource.Mode.EXCLUDE;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
 
@@ -18,6 +19,7 @@ import com.example.demo.domain.reservation.dao.ReservationRepository;
 import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationCreateRequest;
 import com.example.demo.domain.reservation.model.Reservation;
 import com.example.demo.domain.reservation.model.ReservationId;
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyType;
 import com.example.demo.infra.redis.config.TestRedisConfig;
 import java.util.List;
 import java.util.Optional;
@@ -31,8 +33,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
@@ -79,9 +82,10 @@ class ReservationServiceConcurrencyTest {
     @DisplayName("reserveSeat() 테스트")
     class ReserveSeatTests {
 
-        @Test
-        @DisplayName("[Redisson 락 동작 테스트] 동시에 예약 시 락 획득에 성공한 클라이언트만 예약되어야 함")
-        void reserveSeat() throws InterruptedException {
+        @ParameterizedTest
+        @EnumSource(value = SeatHoldStrategyType.class, mode = EXCLUDE, names = "SINGLE_WRITER")
+        @DisplayName("[좌석 선점 전략 동작 테스트] 동시에 예약 시 좌석 선점에 성공한 클라이언트만 예약되어야 함")
+        void reserveSeat(final SeatHoldStrategyType strategyType) throws InterruptedException {
             // given
             List<Account> accounts = createAccounts(THREAD_COUNT);
             accounts.forEach(
@@ -98,9 +102,11 @@ class ReservationServiceConcurrencyTest {
                                                .map(Account::getId)
                                                .toList()
             );
-            Long seatId = transactionTemplate.execute(
-                    status -> seatRepository.save(createSeat(performanceRepository.save(createPerformance()))).getId()
+            Seat savedSeat = transactionTemplate.execute(
+                    status -> seatRepository.save(createSeat(performanceRepository.save(createPerformance())))
             );
+            Long performanceId = savedSeat.getPerformance().getId();
+            Long seatId        = savedSeat.getId();
 
             ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
             CountDownLatch  startLatch      = new CountDownLatch(1);
@@ -116,10 +122,10 @@ class ReservationServiceConcurrencyTest {
                         startLatch.await();
 
                         UUID                     accountId = accountIds.get(threadIndex - 1);
-                        ReservationCreateRequest request   = new ReservationCreateRequest(seatId);
+                        ReservationCreateRequest request   = new ReservationCreateRequest(performanceId, seatId);
 
-                        log.info("[Thread-{}] 예약 요청 시작, 계정 ID: {}", threadIndex, accountId);
-                        reservationService.reserveSeat(accountId, request);
+                        log.info("[Thread-{}] 예약 요청 시작, 계정 ID: {}, 전략: {}", threadIndex, accountId, strategyType);
+                        reservationService.reserveSeat(accountId, request, strategyType);
 
                         successThreadIndex.set(threadIndex);
                     } catch (Exception e) {
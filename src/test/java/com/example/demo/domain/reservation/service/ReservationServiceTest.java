@@ -2,17 +2,27 @@ package com.example.demo.domain.reservation.service;
 
 import static com.example.demo.common.response.ErrorCode.ACCOUNT_NOT_FOUND;
 import static com.example.demo.common.response.ErrorCode.RESERVATION_NOT_FOUND;
+import static com.example.demo.common.response.ErrorCode.SEAT_ALREADY_RESERVED;
 import static com.example.demo.common.response.ErrorCode.SEAT_NOT_FOUND;
 import static com.example.demo.common.util.TestUtils.createAccount;
 import static com.example.demo.common.util.TestUtils.createPerformance;
 import static com.example.demo.common.util.TestUtils.createReservation;
 import static com.example.demo.common.util.TestUtils.createReservationInfoResponses;
 import static com.example.demo.common.util.TestUtils.createSeat;
+import static com.example.demo.common.util.TestUtils.createSeats;
+import static com.example.demo.domain.account.model.AccountStatus.ACTIVE;
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
+import static com.example.demo.domain.reservation.model.ReservationStatus.CANCELLED;
+import static com.example.demo.domain.reservation.model.ReservationStatus.CONFIRMED;
+import static com.example.demo.domain.reservation.model.ReservationStatus.PENDING_PAYMENT;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.PESSIMISTIC;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -20,18 +30,30 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.demo.common.error.BusinessException;
+import com.example.demo.common.response.ErrorCode;
 import com.example.demo.domain.account.dao.AccountRepository;
 import com.example.demo.domain.account.model.Account;
+import com.example.demo.domain.performance.dao.PerformanceStatsRepository;
 import com.example.demo.domain.performance.dao.SeatRepository;
 import com.example.demo.domain.performance.model.Performance;
 import com.example.demo.domain.performance.model.Seat;
 import com.example.demo.domain.reservation.dao.ReservationRepository;
+import com.example.demo.domain.reservation.dto.ExpiredReservationValue;
+import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationBulkCreateRequest;
 import com.example.demo.domain.reservation.dto.ReservationRequest.ReservationCreateRequest;
 import com.example.demo.domain.reservation.dto.ReservationResponse.ReservationInfoResponse;
+import com.example.demo.domain.reservation.dto.SeatHoldCommand;
 import com.example.demo.domain.reservation.model.Reservation;
 import com.example.demo.domain.reservation.model.ReservationId;
+import com.example.demo.domain.reservation.strategy.PessimisticSeatHoldStrategy;
+import com.example.demo.domain.reservation.strategy.SeatHoldStrategyResolver;
+import com.example.demo.infra.redis.expiry.ReservationExpiryQueue;
+import com.example.demo.infra.redis.inventory.SeatInventoryManager;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -60,13 +82,21 @@ import org.springframework.test.util.ReflectionTestUtils;
 class ReservationServiceTest {
 
     @InjectMocks
-    ReservationServiceImpl reservationService;
+    ReservationServiceImpl     reservationService;
     @Mock
-    ReservationRepository  reservationRepository;
+    ReservationRepository      reservationRepository;
     @Mock
-    AccountRepository      accountRepository;
+    AccountRepository          accountRepository;
     @Mock
-    SeatRepository         seatRepository;
+    SeatRepository             seatRepository;
+    @Mock
+    PerformanceStatsRepository performanceStatsRepository;
+    @Mock
+    SeatInventoryManager       seatInventoryManager;
+    @Mock
+    ReservationExpiryQueue     reservationExpiryQueue;
+    @Mock
+    SeatHoldStrategyResolver   seatHoldStrategyResolver;
 
     @Nested
     @DisplayName("reserveSeat() 테스트")
@@ -83,19 +113,59 @@ class ReservationServiceTest {
             Seat seat = createSeat(performance);
             ReflectionTestUtils.setField(seat, "id", 1L);
             Reservation              reservation = createReservation(account, seat);
-            ReservationCreateRequest request     = new ReservationCreateRequest(seat.getId());
+            ReservationCreateRequest request     = new ReservationCreateRequest(performance.getId(), seat.getId());
 
             when(accountRepository.findByIdAndStatus(eq(account.getId()), any())).thenReturn(Optional.of(account));
-            when(seatRepository.findByIdWithLock(eq(seat.getId()))).thenReturn(Optional.of(seat));
-            when(reservationRepository.save(any(Reservation.class))).thenReturn(reservation);
+            when(seatHoldStrategyResolver.getStrategy(eq(PESSIMISTIC)))
+                    .thenReturn(new PessimisticSeatHoldStrategy(seatRepository));
+            when(seatRepository.findAllByIdInWithLock(eq(List.of(seat.getId())))).thenReturn(List.of(seat));
+            when(reservationRepository.saveAll(anyList())).thenReturn(List.of(reservation));
 
             // when
-            reservationService.reserveSeat(account.getId(), request);
+            reservationService.reserveSeat(account.getId(), request, PESSIMISTIC);
 
             // then
+            assertEquals(TEMPORARY_RESERVED, seat.getStatus(), "좌석 상태는 TEMPORARY_RESERVED여야 합니다.");
+
             verify(accountRepository, times(1)).findByIdAndStatus(eq(account.getId()), any());
-            verify(seatRepository, times(1)).findByIdWithLock(eq(seat.getId()));
-            verify(reservationRepository, times(1)).save(any(Reservation.class));
+            verify(seatRepository, times(1)).findAllByIdInWithLock(eq(List.of(seat.getId())));
+            verify(reservationRepository, times(1)).saveAll(anyList());
+            verify(performanceStatsRepository, times(1)).addAvailableSeats(eq(performance.getId()), eq(-1));
+            verify(seatInventoryManager, times(1)).markHeld(eq(performance.getId()), eq(List.of(seat.getId())));
+            verify(reservationExpiryQueue, times(1)).schedule(eq(account.getId()), eq(List.of(seat.getId())), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 예약 시도, 다른 공연의 좌석")
+        void reserveTemporarySeat_seatOfOtherPerformance() {
+            // given
+            Account account = createAccount();
+            ReflectionTestUtils.setField(account, "id", UUID.randomUUID());
+            Performance performance = createPerformance();
+            ReflectionTestUtils.setField(performance, "id", 1L);
+            Seat seat = createSeat(performance);
+            ReflectionTestUtils.setField(seat, "id", 1L);
+            ReservationCreateRequest request = new ReservationCreateRequest(2L, seat.getId());
+
+            when(accountRepository.findByIdAndStatus(eq(account.getId()), any())).thenReturn(Optional.of(account));
+            when(seatHoldStrategyResolver.getStrategy(eq(PESSIMISTIC)))
+                    .thenReturn(new PessimisticSeatHoldStrategy(seatRepository));
+            when(seatRepository.findAllByIdInWithLock(eq(List.of(seat.getId())))).thenReturn(List.of(seat));
+
+            // when
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> reservationService.reserveSeat(account.getId(), request, PESSIMISTIC),
+                    "BusinessException이 발생해야 합니다."
+            );
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(SEAT_NOT_FOUND, exception.getErrorCode(),
+                                         "errorCode는 SEAT_NOT_FOUND여야 합니다."));
+
+            verify(reservationRepository, never()).saveAll(anyList());
+            verify(seatInventoryManager, never()).markHeld(any(), any());
         }
 
         @RepeatedTest(10)
@@ -103,14 +173,16 @@ class ReservationServiceTest {
         void reserveTemporarySeat_accountNotFound() {
             // given
             UUID                     accountId = UUID.randomUUID();
-            ReservationCreateRequest request   = new ReservationCreateRequest(1L);
+            ReservationCreateRequest request   = new ReservationCreateRequest(1L, 1L);
 
             when(accountRepository.findByIdAndStatus(eq(accountId), any())).thenReturn(Optional.empty());
 
             // when
-            BusinessException exception = assertThrows(BusinessException.class,
-                                                       () -> reservationService.reserveSeat(accountId, request),
-                                                       "BusinessException이 발생해야 합니다.");
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> reservationService.reserveSeat(accountId, request, PESSIMISTIC),
+                    "BusinessException이 발생해야 합니다."
+            );
 
             // then
             assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
@@ -118,8 +190,8 @@ class ReservationServiceTest {
                                          "errorCode는 ACCOUNT_NOT_FOUND여야 합니다."));
 
             verify(accountRepository, times(1)).findByIdAndStatus(eq(accountId), any());
-            verify(seatRepository, never()).findById(any());
-            verify(reservationRepository, never()).save(any(Reservation.class));
+            verify(seatHoldStrategyResolver, never()).getStrategy(any());
+            verify(reservationRepository, never()).saveAll(anyList());
         }
 
         @RepeatedTest(10)
@@ -128,15 +200,19 @@ class ReservationServiceTest {
             // given
             Account account = createAccount();
             ReflectionTestUtils.setField(account, "id", UUID.randomUUID());
-            ReservationCreateRequest request = new ReservationCreateRequest(1L);
+            ReservationCreateRequest request = new ReservationCreateRequest(1L, 1L);
 
             when(accountRepository.findByIdAndStatus(eq(account.getId()), any())).thenReturn(Optional.of(account));
-            when(seatRepository.findByIdWithLock(eq(request.getSeatId()))).thenReturn(Optional.empty());
+            when(seatHoldStrategyResolver.getStrategy(eq(PESSIMISTIC)))
+                    .thenReturn(new PessimisticSeatHoldStrategy(seatRepository));
+            when(seatRepository.findAllByIdInWithLock(eq(List.of(request.getSeatId())))).thenReturn(List.of());
 
             // when
-            BusinessException exception = assertThrows(BusinessException.class,
-                                                       () -> reservationService.reserveSeat(account.getId(), request),
-                                                       "BusinessException이 발생해야 합니다.");
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> reservationService.reserveSeat(account.getId(), request, PESSIMISTIC),
+                    "BusinessException이 발생해야 합니다."
+            );
 
             // then
             assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
@@ -144,8 +220,178 @@ class ReservationServiceTest {
                                          "errorCode는 SEAT_NOT_FOUND여야 합니다."));
 
             verify(accountRepository, times(1)).findByIdAndStatus(eq(account.getId()), any());
-            verify(seatRepository, times(1)).findByIdWithLock(eq(request.getSeatId()));
-            verify(reservationRepository, never()).save(any(Reservation.class));
+            verify(seatRepository, times(1)).findAllByIdInWithLock(eq(List.of(request.getSeatId())));
+            verify(reservationRepository, never()).saveAll(anyList());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("reserveSeats() 테스트")
+    class ReserveSeatsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("다중 좌석 예약")
+        void reserveSeats() {
+            // given
+            Account account = createAccount();
+            ReflectionTestUtils.setField(account, "id", UUID.randomUUID());
+            Performance performance = createPerformance();
+            ReflectionTestUtils.setField(performance, "id", 1L);
+            List<Seat> seats = createSeats(performance, 3);
+            for (int i = 0; i < seats.size(); i++) ReflectionTestUtils.setField(seats.get(i), "id", i + 1L);
+            ReservationBulkCreateRequest request = new ReservationBulkCreateRequest(performance.getId(),
+                                                                                   List.of(3L, 1L, 2L, 1L));
+
+            when(accountRepository.findByIdAndStatus(eq(account.getId()), any())).thenReturn(Optional.of(account));
+            when(seatHoldStrategyResolver.getStrategy(eq(PESSIMISTIC)))
+                    .thenReturn(new PessimisticSeatHoldStrategy(seatRepository));
+            when(seatRepository.findAllByIdInWithLock(eq(List.of(1L, 2L, 3L)))).thenReturn(seats);
+
+            // when
+            reservationService.reserveSeats(account.getId(), request, PESSIMISTIC);
+
+            // then
+            seats.forEach(seat -> assertEquals(TEMPORARY_RESERVED, seat.getStatus(),
+                                               "좌석 상태는 TEMPORARY_RESERVED여야 합니다."));
+
+            verify(seatRepository, times(1)).findAllByIdInWithLock(eq(List.of(1L, 2L, 3L)));
+            verify(reservationRepository, times(1)).saveAll(anyList());
+            verify(seatInventoryManager, times(1)).markHeld(eq(performance.getId()), eq(List.of(1L, 2L, 3L)));
+            verify(reservationExpiryQueue, times(1)).schedule(eq(account.getId()), eq(List.of(1L, 2L, 3L)), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("다중 좌석 예약 시도, 일부 좌석이 존재하지 않음")
+        void reserveSeats_seatNotFound() {
+            // given
+            Account account = createAccount();
+            ReflectionTestUtils.setField(account, "id", UUID.randomUUID());
+            Performance performance = createPerformance();
+            ReflectionTestUtils.setField(performance, "id", 1L);
+            Seat seat = createSeat(performance);
+            ReflectionTestUtils.setField(seat, "id", 1L);
+            ReservationBulkCreateRequest request = new ReservationBulkCreateRequest(performance.getId(),
+                                                                                   List.of(1L, 2L));
+
+            when(accountRepository.findByIdAndStatus(eq(account.getId()), any())).thenReturn(Optional.of(account));
+            when(seatHoldStrategyResolver.getStrategy(eq(PESSIMISTIC)))
+                    .thenReturn(new PessimisticSeatHoldStrategy(seatRepository));
+            when(seatRepository.findAllByIdInWithLock(eq(List.of(1L, 2L)))).thenReturn(List.of(seat));
+
+            // when
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> reservationService.reserveSeats(account.getId(), request, PESSIMISTIC),
+                    "BusinessException이 발생해야 합니다."
+            );
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(SEAT_NOT_FOUND, exception.getErrorCode(),
+                                         "errorCode는 SEAT_NOT_FOUND여야 합니다."));
+
+            verify(reservationRepository, never()).saveAll(anyList());
+            verify(seatInventoryManager, never()).markHeld(any(), any());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("reserveInBatch() 테스트")
+    class ReserveInBatchTests {
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 일괄 선점, 앞선 요청이 차지한 좌석을 요청하면 실패로 기록")
+        void reserveInBatch() {
+            // given
+            Account first  = createAccount();
+            Account second = createAccount();
+            ReflectionTestUtils.setField(first, "id", UUID.randomUUID());
+            ReflectionTestUtils.setField(second, "id", UUID.randomUUID());
+            first.setStatus(ACTIVE);
+            second.setStatus(ACTIVE);
+            Performance performance = createPerformance();
+            ReflectionTestUtils.setField(performance, "id", 1L);
+            Seat seat1 = createSeat(performance);
+            Seat seat2 = createSeat(performance);
+            ReflectionTestUtils.setField(seat1, "id", 1L);
+            ReflectionTestUtils.setField(seat2, "id", 2L);
+
+            SeatHoldCommand firstCommand  = new SeatHoldCommand(first.getId(), List.of(1L));
+            SeatHoldCommand secondCommand = new SeatHoldCommand(second.getId(), List.of(1L, 2L));
+            SeatHoldCommand thirdCommand  = new SeatHoldCommand(second.getId(), List.of(2L));
+
+            when(accountRepository.findAllById(any())).thenReturn(List.of(first, second));
+            when(seatRepository.findAllByIdInWithLock(any())).thenReturn(List.of(seat1, seat2));
+            when(seatRepository.holdAvailableSeats(eq(Set.of(1L, 2L)),
+                                                   eq(performance.getId()),
+                                                   eq(AVAILABLE),
+                                                   eq(TEMPORARY_RESERVED))).thenReturn(2);
+
+            // when
+            Map<SeatHoldCommand, ErrorCode> failures = reservationService.reserveInBatch(
+                    performance.getId(),
+                    List.of(firstCommand, secondCommand, thirdCommand)
+            );
+
+            // then
+            assertAll(
+                    () -> assertEquals(1, failures.size(), "실패한 요청은 1개여야 합니다."),
+                    () -> assertEquals(SEAT_ALREADY_RESERVED,
+                                       failures.get(secondCommand),
+                                       "두 번째 요청의 errorCode는 SEAT_ALREADY_RESERVED여야 합니다.")
+            );
+
+            verify(reservationRepository, times(1)).saveAll(anyList());
+            verify(performanceStatsRepository, times(1)).addAvailableSeats(eq(performance.getId()), eq(-2));
+            verify(seatInventoryManager, times(1)).markHeld(eq(performance.getId()), eq(Set.of(1L, 2L)));
+            verify(reservationExpiryQueue, times(1)).schedule(eq(first.getId()), eq(List.of(1L)), any());
+            verify(reservationExpiryQueue, times(1)).schedule(eq(second.getId()), eq(List.of(2L)), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 일괄 선점, 다른 노드가 먼저 선점한 좌석을 포함한 요청만 실패로 기록")
+        void reserveInBatch_concurrentlyHeld() {
+            // given
+            Account account = createAccount();
+            ReflectionTestUtils.setField(account, "id", UUID.randomUUID());
+            account.setStatus(ACTIVE);
+            Performance performance = createPerformance();
+            ReflectionTestUtils.setField(performance, "id", 1L);
+            Seat availableSeat = createSeat(performance);
+            Seat heldSeat      = createSeat(performance);
+            ReflectionTestUtils.setField(availableSeat, "id", 1L);
+            ReflectionTestUtils.setField(heldSeat, "id", 2L);
+            heldSeat.reserveTemporary();   // 잠금 전에 다른 노드가 선점
+
+            SeatHoldCommand acceptedCommand = new SeatHoldCommand(account.getId(), List.of(1L));
+            SeatHoldCommand rejectedCommand = new SeatHoldCommand(account.getId(), List.of(2L));
+
+            when(accountRepository.findAllById(any())).thenReturn(List.of(account));
+            when(seatRepository.findAllByIdInWithLock(any())).thenReturn(List.of(availableSeat, heldSeat));
+            when(seatRepository.holdAvailableSeats(eq(Set.of(1L)),
+                                                   eq(performance.getId()),
+                                                   eq(AVAILABLE),
+                                                   eq(TEMPORARY_RESERVED))).thenReturn(1);
+
+            // when
+            Map<SeatHoldCommand, ErrorCode> failures = reservationService.reserveInBatch(
+                    performance.getId(),
+                    List.of(acceptedCommand, rejectedCommand)
+            );
+
+            // then
+            assertAll(
+                    () -> assertEquals(Set.of(rejectedCommand), failures.keySet(), "실패한 요청은 1개여야 합니다."),
+                    () -> assertEquals(SEAT_ALREADY_RESERVED,
+                                       failures.get(rejectedCommand),
+                                       "errorCode는 SEAT_ALREADY_RESERVED여야 합니다.")
+            );
+
+            verify(reservationRepository, times(1)).saveAll(anyList());
+            verify(seatInventoryManager, times(1)).markHeld(eq(performance.getId()), eq(Set.of(1L)));
+            verify(reservationExpiryQueue, times(1)).schedule(eq(account.getId()), eq(List.of(1L)), any());
         }
 
     }
@@ -177,6 +423,7 @@ class ReservationServiceTest {
             // then
             verify(reservationRepository, times(1)).findById(eq(reservationId));
             verify(reservationRepository, times(1)).delete(eq(reservation));
+            verify(seatInventoryManager, times(1)).release(eq(performance.getId()), eq(List.of(seatId)));
         }
 
         @RepeatedTest(10)
@@ -205,6 +452,123 @@ class ReservationServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("expireReservations() 테스트")
+    class ExpireReservationsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("만료 예약 취소")
+        void expireReservations() {
+            // given
+            Account account = createAccount();
+            ReflectionTestUtils.setField(account, "id", UUID.randomUUID());
+            Performance performance = createPerformance();
+            ReflectionTestUtils.setField(performance, "id", 1L);
+            List<Seat> seats = createSeats(performance, 2);
+            for (int i = 0; i < seats.size(); i++) ReflectionTestUtils.setField(seats.get(i), "id", i + 1L);
+            seats.forEach(Seat::reserveTemporary);
+
+            LocalDateTime now = LocalDateTime.now();
+            Reservation expired    = createPendingReservation(account, seats.get(0), now.minusSeconds(1));
+            Reservation notExpired = createPendingReservation(account, seats.get(1), now.plusSeconds(1));
+            List<ReservationId> reservationIds = List.of(expired.getReservationId(), notExpired.getReservationId());
+
+            when(reservationRepository.findAllById(eq(reservationIds))).thenReturn(List.of(expired, notExpired));
+
+            // when
+            List<ReservationId> result = reservationService.expireReservations(reservationIds, now);
+
+            // then
+            assertAll(() -> assertEquals(List.of(expired.getReservationId()), result),
+                      () -> assertEquals(CANCELLED, expired.getStatus()),
+                      () -> assertEquals(PENDING_PAYMENT, notExpired.getStatus()),
+                      () -> assertEquals(AVAILABLE, seats.get(0).getStatus()),
+                      () -> assertEquals(TEMPORARY_RESERVED, seats.get(1).getStatus()));
+
+            verify(performanceStatsRepository, times(1)).addAvailableSeats(eq(performance.getId()), eq(1));
+            verify(seatInventoryManager, times(1)).release(eq(performance.getId()), eq(List.of(1L)));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("만료 예약 취소, 이미 처리되었거나 존재하지 않는 예약은 처리 완료로 간주")
+        void expireReservations_alreadyHandled() {
+            // given
+            Account account = createAccount();
+            ReflectionTestUtils.setField(account, "id", UUID.randomUUID());
+            Performance performance = createPerformance();
+            ReflectionTestUtils.setField(performance, "id", 1L);
+            Seat seat = createSeat(performance);
+            ReflectionTestUtils.setField(seat, "id", 1L);
+
+            LocalDateTime now = LocalDateTime.now();
+            Reservation confirmed = createPendingReservation(account, seat, now.minusSeconds(1));
+            ReflectionTestUtils.setField(confirmed, "status", CONFIRMED);
+            ReservationId missingId = new ReservationId(account.getId(), 2L);
+            List<ReservationId> reservationIds = List.of(confirmed.getReservationId(), missingId);
+
+            when(reservationRepository.findAllById(eq(reservationIds))).thenReturn(List.of(confirmed));
+
+            // when
+            List<ReservationId> result = reservationService.expireReservations(reservationIds, now);
+
+            // then
+            assertAll(() -> assertEquals(reservationIds, result),
+                      () -> assertEquals(CONFIRMED, confirmed.getStatus()));
+
+            verify(seatInventoryManager, never()).release(any(), any());
+        }
+
+        private Reservation createPendingReservation(final Account account,
+                                                     final Seat seat,
+                                                     final LocalDateTime expiredAt) {
+            Reservation reservation = createReservation(account, seat);
+            ReflectionTestUtils.setField(reservation, "accountId", account.getId());
+            ReflectionTestUtils.setField(reservation, "seatId", seat.getId());
+            ReflectionTestUtils.setField(reservation, "expiredAt", expiredAt);
+            return reservation;
+        }
+
+    }
+
+    @Nested
+    @DisplayName("cancelExpiredReservations() 테스트")
+    class CancelExpiredReservationsTests {
+
+        @RepeatedTest(10)
+        @DisplayName("만료 예약 일괄 취소")
+        void cancelExpiredReservations() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            List<ExpiredReservationValue> expiredReservations = List.of(
+                    new ExpiredReservationValue(1L, 10L, now.minusMinutes(1)),
+                    new ExpiredReservationValue(2L, 10L, now.minusMinutes(1)),
+                    new ExpiredReservationValue(3L, 20L, now.minusMinutes(1))
+            );
+            List<Long> seatIds = List.of(1L, 2L, 3L);
+
+            when(seatRepository.releaseExpiredSeats(eq(List.of(1L, 2L)), eq(now), eq(TEMPORARY_RESERVED), eq(AVAILABLE),
+                                                    eq(PENDING_PAYMENT))).thenReturn(1);
+            when(seatRepository.releaseExpiredSeats(eq(List.of(3L)), eq(now), eq(TEMPORARY_RESERVED), eq(AVAILABLE),
+                                                    eq(PENDING_PAYMENT))).thenReturn(1);
+            when(reservationRepository.cancelExpiredReservations(eq(seatIds), eq(now), eq(PENDING_PAYMENT),
+                                                                 eq(CANCELLED), eq(AVAILABLE))).thenReturn(2);
+            when(seatRepository.findIdsByIdInAndStatus(eq(seatIds), eq(AVAILABLE))).thenReturn(List.of(1L, 2L, 3L));
+
+            // when
+            int result = reservationService.cancelExpiredReservations(expiredReservations, now);
+
+            // then
+            assertEquals(2, result);
+
+            // 좌석 2는 이미 예약 가능 상태였으므로 변경 행 수에 포함되지 않아 예약 가능 좌석 수에 다시 더해지지 않음
+            verify(performanceStatsRepository, times(1)).addAvailableSeats(eq(10L), eq(1));
+            verify(performanceStatsRepository, times(1)).addAvailableSeats(eq(20L), eq(1));
+            verify(seatInventoryManager, times(1)).release(eq(10L), eq(List.of(1L, 2L)));
+            verify(seatInventoryManager, times(1)).release(eq(20L), eq(List.of(3L)));
+        }
+
+    }
+
     @Nested
     @DisplayName("getMyReservations() 테스트")
     class GetMyReservationsTests {
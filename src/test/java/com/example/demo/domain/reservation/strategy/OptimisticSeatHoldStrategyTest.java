@@ -0,0 +1,134 @@
+package com.example.demo.domain.reservation.strategy;
+
+import static com.example.demo.common.response.ErrorCode.SEAT_ALREADY_RESERVED;
+import static com.example.demo.common.response.ErrorCode.SEAT_NOT_FOUND;
+import static com.example.demo.common.util.TestUtils.createPerformance;
+import static com.example.demo.common.util.TestUtils.createSeats;
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.performance.dao.SeatRepository;
+import com.example.demo.domain.performance.model.Performance;
+import com.example.demo.domain.performance.model.Seat;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : OptimisticSeatHoldStrategyTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : OptimisticSeatHoldStrategy 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class OptimisticSeatHoldStrategyTest {
+
+    @InjectMocks
+    OptimisticSeatHoldStrategy optimisticSeatHoldStrategy;
+    @Mock
+    SeatRepository             seatRepository;
+
+    @Nested
+    @DisplayName("hold() 테스트")
+    class HoldTests {
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 선점")
+        void hold() {
+            // given
+            Performance performance = createPerformance();
+            ReflectionTestUtils.setField(performance, "id", 1L);
+            List<Seat> seats = createSeats(performance, 2);
+            for (int i = 0; i < seats.size(); i++) {
+                ReflectionTestUtils.setField(seats.get(i), "id", i + 1L);
+                ReflectionTestUtils.setField(seats.get(i), "status", TEMPORARY_RESERVED);
+            }
+            List<Long> seatIds = List.of(1L, 2L);
+
+            when(seatRepository.holdAvailableSeats(eq(seatIds), eq(performance.getId()), eq(AVAILABLE),
+                                                   eq(TEMPORARY_RESERVED))).thenReturn(2);
+            when(seatRepository.findAllById(eq(seatIds))).thenReturn(List.of(seats.get(1), seats.get(0)));
+
+            // when
+            List<Seat> held = optimisticSeatHoldStrategy.hold(performance.getId(), seatIds);
+
+            // then
+            assertAll(() -> assertEquals(2, held.size(), "선점한 좌석 수는 2여야 합니다."),
+                      () -> assertEquals(1L, held.get(0).getId(), "좌석은 ID 오름차순이어야 합니다."),
+                      () -> assertEquals(2L, held.get(1).getId(), "좌석은 ID 오름차순이어야 합니다."));
+
+            verify(seatRepository, never()).countByIdInAndPerformanceId(any(), any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 선점 시도, 일부 좌석이 이미 선점됨")
+        void hold_alreadyReserved() {
+            // given
+            List<Long> seatIds = List.of(1L, 2L);
+
+            when(seatRepository.holdAvailableSeats(eq(seatIds), eq(1L), eq(AVAILABLE), eq(TEMPORARY_RESERVED)))
+                    .thenReturn(1);
+            when(seatRepository.countByIdInAndPerformanceId(eq(seatIds), eq(1L))).thenReturn(2L);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> optimisticSeatHoldStrategy.hold(1L, seatIds),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(SEAT_ALREADY_RESERVED, exception.getErrorCode(),
+                                         "errorCode는 SEAT_ALREADY_RESERVED여야 합니다."));
+
+            verify(seatRepository, never()).findAllById(any());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("좌석 선점 시도, 공연에 속하지 않는 좌석이 있음")
+        void hold_seatNotFound() {
+            // given
+            List<Long> seatIds = List.of(1L, 2L);
+
+            when(seatRepository.holdAvailableSeats(eq(seatIds), eq(1L), eq(AVAILABLE), eq(TEMPORARY_RESERVED)))
+                    .thenReturn(1);
+            when(seatRepository.countByIdInAndPerformanceId(eq(seatIds), eq(1L))).thenReturn(1L);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> optimisticSeatHoldStrategy.hold(1L, seatIds),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertNotNull(exception, "exception은 null이 아니어야 합니다."),
+                      () -> assertEquals(SEAT_NOT_FOUND, exception.getErrorCode(),
+                                         "errorCode는 SEAT_NOT_FOUND여야 합니다."));
+
+            verify(seatRepository, times(1)).countByIdInAndPerformanceId(eq(seatIds), eq(1L));
+            verify(seatRepository, never()).findAllById(any());
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.example.demo.domain.reservation.strategy;
+
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.DISTRIBUTED_LOCK;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.OPTIMISTIC;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.PESSIMISTIC;
+import static com.example.demo.domain.reservation.strategy.SeatHoldStrategyType.REDIS_ATOMIC;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.domain.reservation.properties.SeatHoldProperties;
+import com.example.demo.domain.reservation.properties.SeatHoldProperties.SingleWriter;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.strategy
+ * FileName    : SeatHoldStrategyResolverTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : SeatHoldStrategyResolver 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class SeatHoldStrategyResolverTest {
+
+    SeatHoldStrategyResolver    seatHoldStrategyResolver;
+    @Mock
+    PessimisticSeatHoldStrategy pessimisticSeatHoldStrategy;
+    @Mock
+    OptimisticSeatHoldStrategy  optimisticSeatHoldStrategy;
+
+    SeatHoldProperties seatHoldProperties = new SeatHoldProperties(
+            OPTIMISTIC,
+            Map.of(1L, REDIS_ATOMIC, 2L, PESSIMISTIC),
+            new SingleWriter(5L, 100, 3000L, 60000L, List.of(), 0, null)
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(pessimisticSeatHoldStrategy.getType()).thenReturn(PESSIMISTIC);
+        when(optimisticSeatHoldStrategy.getType()).thenReturn(OPTIMISTIC);
+        seatHoldStrategyResolver = new SeatHoldStrategyResolver(seatHoldProperties,
+                                                                List.of(pessimisticSeatHoldStrategy,
+                                                                        optimisticSeatHoldStrategy));
+    }
+
+    @Nested
+    @DisplayName("resolve() 테스트")
+    class ResolveTests {
+
+        @RepeatedTest(10)
+        @DisplayName("공연별 전략 선택, 지정되지 않은 공연은 기본 전략")
+        void resolve() {
+            // when
+            SeatHoldStrategyType redisAtomic = seatHoldStrategyResolver.resolve(1L, true);
+            SeatHoldStrategyType pessimistic = seatHoldStrategyResolver.resolve(2L, true);
+            SeatHoldStrategyType optimistic  = seatHoldStrategyResolver.resolve(3L, false);
+
+            // then
+            assertAll(() -> assertEquals(REDIS_ATOMIC, redisAtomic, "1번 공연은 REDIS_ATOMIC이어야 합니다."),
+                      () -> assertEquals(PESSIMISTIC, pessimistic, "2번 공연은 PESSIMISTIC이어야 합니다."),
+                      () -> assertEquals(OPTIMISTIC, optimistic, "지정되지 않은 공연은 기본 전략이어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("Redis 재고에서 선점하지 못한 경우 REDIS_ATOMIC 대신 PESSIMISTIC")
+        void resolve_inventoryNotHeld() {
+            // when
+            SeatHoldStrategyType strategyType = seatHoldStrategyResolver.resolve(1L, false);
+
+            // then
+            assertEquals(PESSIMISTIC, strategyType, "Redis 재고에서 선점하지 못했다면 PESSIMISTIC이어야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getStrategy() 테스트")
+    class GetStrategyTests {
+
+        @RepeatedTest(10)
+        @DisplayName("등록된 전략 조회")
+        void getStrategy() {
+            // when
+            SeatHoldStrategy pessimistic = seatHoldStrategyResolver.getStrategy(PESSIMISTIC);
+            SeatHoldStrategy optimistic  = seatHoldStrategyResolver.getStrategy(OPTIMISTIC);
+
+            // then
+            assertAll(() -> assertSame(pessimisticSeatHoldStrategy, pessimistic, "비관적 락 전략이어야 합니다."),
+                      () -> assertSame(optimisticSeatHoldStrategy, optimistic, "조건부 UPDATE 전략이어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("등록되지 않은 전략 조회 시도")
+        void getStrategy_notRegistered() {
+            // when & then
+            assertThrows(IllegalStateException.class,
+                         () -> seatHoldStrategyResolver.getStrategy(DISTRIBUTED_LOCK),
+                         "IllegalStateException이 발생해야 합니다.");
+        }
+
+    }
+
+}
@@ -0,0 +1,278 @@
+package com.example.demo.domain.reservation.verification;
+
+import static com.example.demo.common.response.ErrorCode.PAYMENT_VERIFICATION_FAILED;
+import static com.example.demo.common.response.ErrorCode.PAYMENT_VERIFICATION_NOT_FOUND;
+import static com.example.demo.domain.reservation.model.PaymentVerificationStatus.FAILED;
+import static com.example.demo.domain.reservation.model.PaymentVerificationStatus.PENDING;
+import static com.example.demo.domain.reservation.model.PaymentVerificationStatus.SUCCEEDED;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.domain.reservation.dto.PaymentResponse.PaymentVerificationResponse;
+import com.example.demo.domain.reservation.dto.PaymentVerificationValue;
+import com.example.demo.domain.reservation.facade.ReservationFacade;
+import com.example.demo.domain.reservation.model.PaymentVerificationStatus;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PackageName : com.example.demo.domain.reservation.verification
+ * FileName    : AsyncPaymentVerifierTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : AsyncPaymentVerifier 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncPaymentVerifierTest {
+
+    private static final long   VERIFY_TIMEOUT_MILLIS        = 1000L;
+    private static final int    MAX_CONCURRENT_VERIFICATIONS = 1;
+    private static final String PAYMENT_KEY                  = "payment123";
+    private static final String REDIS_KEY                    = "payment-verification:" + PAYMENT_KEY;
+    private static final String CLIENT_IP                    = "127.0.0.1";
+
+    @Mock
+    ReservationFacade reservationFacade;
+    @Mock
+    RedisRepository   redisRepository;
+
+    AsyncPaymentVerifier asyncPaymentVerifier;
+
+    @BeforeEach
+    void setUp() {
+        asyncPaymentVerifier = new AsyncPaymentVerifier(reservationFacade,
+                                                        redisRepository,
+                                                        MAX_CONCURRENT_VERIFICATIONS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncPaymentVerifier.shutdown();
+    }
+
+    @Nested
+    @DisplayName("submit() 테스트")
+    class SubmitTests {
+
+        @RepeatedTest(10)
+        @DisplayName("검증을 접수하고 PENDING 반환, 검증이 끝나면 SUCCEEDED 기록")
+        void submit() {
+            // given
+            UUID accountId = UUID.randomUUID();
+
+            when(redisRepository.setValueIfAbsent(eq(REDIS_KEY), any(PaymentVerificationValue.class),
+                                                  any(Duration.class))).thenReturn(true);
+
+            // when
+            PaymentVerificationResponse response = asyncPaymentVerifier.submit(accountId, PAYMENT_KEY, CLIENT_IP);
+
+            // then
+            assertAll(() -> assertEquals(PAYMENT_KEY, response.getPaymentKey(), "PG사 결제 ID가 일치해야 합니다."),
+                      () -> assertEquals(PENDING, response.getStatus(), "검증 상태는 PENDING이어야 합니다."),
+                      () -> assertEquals(500L, response.getPollAfterMillis(), "상태 조회 간격은 500ms여야 합니다."));
+
+            verify(reservationFacade, timeout(VERIFY_TIMEOUT_MILLIS)).verifyPayment(eq(accountId),
+                                                                                     eq(PAYMENT_KEY),
+                                                                                     eq(CLIENT_IP));
+            verify(redisRepository, timeout(VERIFY_TIMEOUT_MILLIS)).setValue(eq(REDIS_KEY),
+                                                                              recordedAs(SUCCEEDED, null),
+                                                                              any(Duration.class));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("검증에 실패하면 FAILED와 에러 코드 기록")
+        void submit_verificationFailed() {
+            // given
+            UUID accountId = UUID.randomUUID();
+
+            when(redisRepository.setValueIfAbsent(eq(REDIS_KEY), any(PaymentVerificationValue.class),
+                                                  any(Duration.class))).thenReturn(true);
+            doThrow(new BusinessException(PAYMENT_VERIFICATION_FAILED))
+                    .when(reservationFacade).verifyPayment(eq(accountId), eq(PAYMENT_KEY), eq(CLIENT_IP));
+
+            // when
+            asyncPaymentVerifier.submit(accountId, PAYMENT_KEY, CLIENT_IP);
+
+            // then
+            verify(redisRepository, timeout(VERIFY_TIMEOUT_MILLIS)).setValue(
+                    eq(REDIS_KEY),
+                    recordedAs(FAILED, PAYMENT_VERIFICATION_FAILED.getCode()),
+                    any(Duration.class)
+            );
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("비즈니스 예외가 아닌 오류로 실패하면 다시 접수할 수 있도록 검증 요청 삭제")
+        void submit_unexpectedFailure() {
+            // given
+            UUID accountId = UUID.randomUUID();
+
+            when(redisRepository.setValueIfAbsent(eq(REDIS_KEY), any(PaymentVerificationValue.class),
+                                                  any(Duration.class))).thenReturn(true);
+            doThrow(new IllegalStateException("connection timeout"))
+                    .when(reservationFacade).verifyPayment(eq(accountId), eq(PAYMENT_KEY), eq(CLIENT_IP));
+
+            // when
+            asyncPaymentVerifier.submit(accountId, PAYMENT_KEY, CLIENT_IP);
+
+            // then
+            verify(redisRepository, timeout(VERIFY_TIMEOUT_MILLIS)).deleteData(eq(REDIS_KEY));
+            verify(redisRepository, never()).setValue(anyString(), any(), any(Duration.class));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("동시에 진행하는 검증 수를 제한하고, 진행 중인 검증이 끝나면 대기 중인 검증 시작")
+        void submit_concurrencyLimited() {
+            // given
+            UUID           accountId = UUID.randomUUID();
+            CountDownLatch latch     = new CountDownLatch(1);
+
+            when(redisRepository.setValueIfAbsent(anyString(), any(PaymentVerificationValue.class),
+                                                  any(Duration.class))).thenReturn(true);
+            doAnswer(invocation -> {
+                latch.await();
+                return null;
+            }).when(reservationFacade).verifyPayment(eq(accountId), anyString(), eq(CLIENT_IP));
+
+            // when
+            asyncPaymentVerifier.submit(accountId, PAYMENT_KEY, CLIENT_IP);
+            asyncPaymentVerifier.submit(accountId, PAYMENT_KEY + "-other", CLIENT_IP);
+
+            // then
+            verify(reservationFacade, after(200L).times(MAX_CONCURRENT_VERIFICATIONS))
+                    .verifyPayment(eq(accountId), anyString(), eq(CLIENT_IP));
+
+            latch.countDown();
+            verify(reservationFacade, timeout(VERIFY_TIMEOUT_MILLIS).times(2))
+                    .verifyPayment(eq(accountId), anyString(), eq(CLIENT_IP));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("이미 접수된 결제는 다시 검증하지 않고 현재 상태 반환")
+        void submit_alreadySubmitted() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            PaymentVerificationValue value     = new PaymentVerificationValue(accountId, SUCCEEDED, null, null);
+
+            when(redisRepository.setValueIfAbsent(eq(REDIS_KEY), any(PaymentVerificationValue.class),
+                                                  any(Duration.class))).thenReturn(false);
+            when(redisRepository.getValue(eq(REDIS_KEY), eq(PaymentVerificationValue.class)))
+                    .thenReturn(Optional.of(value));
+
+            // when
+            PaymentVerificationResponse response = asyncPaymentVerifier.submit(accountId, PAYMENT_KEY, CLIENT_IP);
+
+            // then
+            assertAll(() -> assertEquals(SUCCEEDED, response.getStatus(), "검증 상태는 SUCCEEDED여야 합니다."),
+                      () -> assertEquals(0L, response.getPollAfterMillis(), "상태 조회 간격은 0이어야 합니다."));
+
+            verify(reservationFacade, never()).verifyPayment(any(UUID.class), anyString(), anyString());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getStatus() 테스트")
+    class GetStatusTests {
+
+        @RepeatedTest(10)
+        @DisplayName("검증 상태 조회")
+        void getStatus() {
+            // given
+            UUID                     accountId = UUID.randomUUID();
+            PaymentVerificationValue value     = new PaymentVerificationValue(accountId,
+                                                                              FAILED,
+                                                                              PAYMENT_VERIFICATION_FAILED.getCode(),
+                                                                              PAYMENT_VERIFICATION_FAILED.getMessage());
+
+            when(redisRepository.getValue(eq(REDIS_KEY), eq(PaymentVerificationValue.class)))
+                    .thenReturn(Optional.of(value));
+
+            // when
+            PaymentVerificationResponse response = asyncPaymentVerifier.getStatus(accountId, PAYMENT_KEY);
+
+            // then
+            assertAll(() -> assertEquals(FAILED, response.getStatus(), "검증 상태는 FAILED여야 합니다."),
+                      () -> assertEquals(PAYMENT_VERIFICATION_FAILED.getCode(), response.getErrorCode()),
+                      () -> assertEquals(PAYMENT_VERIFICATION_FAILED.getMessage(), response.getErrorMessage()));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("다른 계정이 접수한 검증은 조회 불가")
+        void getStatus_otherAccount() {
+            // given
+            PaymentVerificationValue value = new PaymentVerificationValue(UUID.randomUUID(), PENDING, null, null);
+
+            when(redisRepository.getValue(eq(REDIS_KEY), eq(PaymentVerificationValue.class)))
+                    .thenReturn(Optional.of(value));
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> asyncPaymentVerifier.getStatus(UUID.randomUUID(),
+                                                                                            PAYMENT_KEY),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(PAYMENT_VERIFICATION_NOT_FOUND,
+                         exception.getErrorCode(),
+                         "errorCode는 PAYMENT_VERIFICATION_NOT_FOUND여야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("접수되지 않았거나 만료된 검증은 조회 불가")
+        void getStatus_notFound() {
+            // given
+            when(redisRepository.getValue(eq(REDIS_KEY), eq(PaymentVerificationValue.class)))
+                    .thenReturn(Optional.empty());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> asyncPaymentVerifier.getStatus(UUID.randomUUID(),
+                                                                                            PAYMENT_KEY),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(PAYMENT_VERIFICATION_NOT_FOUND,
+                         exception.getErrorCode(),
+                         "errorCode는 PAYMENT_VERIFICATION_NOT_FOUND여야 합니다.");
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private PaymentVerificationValue recordedAs(final PaymentVerificationStatus status, final String errorCode) {
+        return argThat(value -> value.getStatus() == status && Objects.equals(errorCode, value.getErrorCode()));
+    }
+
+}
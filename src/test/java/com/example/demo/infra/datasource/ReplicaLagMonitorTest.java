@@ -0,0 +1,254 @@
+package com.example.demo.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * PackageName : com.example.demo.infra.datasource
+ * FileName    : ReplicaLagMonitorTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : ReplicaLagMonitor 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+class ReplicaLagMonitorTest {
+
+    private static final long MAX_LAG_SECONDS              = 1L;
+    private static final long HEALTH_CHECK_INTERVAL_MILLIS = 10L;
+    private static final long HEALTH_CHECK_EXPIRY_MILLIS   = 60000L;
+
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Nested
+    @DisplayName("checkReplicationLag() 테스트")
+    class CheckReplicationLagTests {
+
+        @RepeatedTest(10)
+        @DisplayName("복제가 멈춰 지연 시간이 NULL이면 라우팅에서 제외")
+        void checkReplicationLag_nullLag() throws SQLException {
+            // given
+            ReplicaLagMonitor monitor = createMonitor(replicaWithStatus(true, 0L, true));
+
+            // when
+            monitor.checkReplicationLag();
+
+            // then
+            assertAll(() -> assertNull(monitor.selectReplica(), "라우팅 대상 복제본이 없어야 합니다."),
+                      () -> assertEquals(-1.0, getLag("replica-0"), "복제 지연 시간은 -1이어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("복제 상태가 없는 서버는 지연이 없는 것으로 보고 라우팅")
+        void checkReplicationLag_noReplicaStatus() throws SQLException {
+            // given
+            ReplicaLagMonitor monitor = createMonitor(replicaWithStatus(false, 0L, false));
+
+            // when
+            monitor.checkReplicationLag();
+
+            // then
+            assertAll(() -> assertEquals("replica-0", monitor.selectReplica(), "복제본이 라우팅 대상이어야 합니다."),
+                      () -> assertEquals(0.0, getLag("replica-0"), "복제 지연 시간은 0이어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("허용 지연을 넘은 복제본은 제외하고, 지연이 회복되면 다시 라우팅")
+        void checkReplicationLag_recovered() throws SQLException {
+            // given
+            HikariDataSource  replica    = mock(HikariDataSource.class);
+            Connection        connection = mock(Connection.class);
+            Statement         statement  = mock(Statement.class);
+            ResultSet         resultSet  = mock(ResultSet.class);
+            ReplicaLagMonitor monitor    = createMonitor(replica);
+
+            when(replica.getConnection()).thenReturn(connection);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(resultSet);
+            when(resultSet.next()).thenReturn(true);
+            when(resultSet.getLong(eq("Seconds_Behind_Source"))).thenReturn(MAX_LAG_SECONDS + 1, MAX_LAG_SECONDS);
+
+            // when
+            monitor.checkReplicationLag();
+            String lagging = monitor.selectReplica();
+            monitor.checkReplicationLag();
+            String recovered = monitor.selectReplica();
+
+            // then
+            assertAll(() -> assertNull(lagging, "허용 지연을 넘은 복제본은 제외되어야 합니다."),
+                      () -> assertEquals("replica-0", recovered, "지연이 회복된 복제본은 다시 라우팅되어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("연결할 수 없는 복제본은 라우팅에서 제외")
+        void checkReplicationLag_unreachable() throws SQLException {
+            // given
+            HikariDataSource replica = mock(HikariDataSource.class);
+            when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+            ReplicaLagMonitor monitor = createMonitor(replica);
+
+            // when
+            monitor.checkReplicationLag();
+
+            // then
+            assertNull(monitor.selectReplica(), "라우팅 대상 복제본이 없어야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("selectReplica() 테스트")
+    class SelectReplicaTests {
+
+        @RepeatedTest(10)
+        @DisplayName("라우팅 대상 복제본을 라운드 로빈으로 선택하고, 제외된 복제본은 건너뜀")
+        void selectReplica_roundRobin() throws SQLException {
+            // given
+            ReplicaLagMonitor monitor = createMonitor(replicaWithStatus(true, 0L, false),
+                                                      replicaWithStatus(true, MAX_LAG_SECONDS + 10, false),
+                                                      replicaWithStatus(true, MAX_LAG_SECONDS, false));
+            monitor.checkReplicationLag();
+
+            // when
+            List<String> selected = new ArrayList<>();
+            for (int i = 0; i < 6; i++) selected.add(monitor.selectReplica());
+
+            // then
+            assertEquals(List.of("replica-0", "replica-2", "replica-2", "replica-0", "replica-2", "replica-2"),
+                         selected,
+                         "제외된 replica-1 대신 다음 복제본이 선택되어야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("확인 결과가 유효 기간보다 오래되면 마지막 결과와 관계없이 라우팅에서 제외")
+        void selectReplica_expiredCheck() throws Exception {
+            // given
+            ReplicaLagMonitor monitor = new ReplicaLagMonitor(Map.of("replica-0", replicaWithStatus(true, 0L, false)),
+                                                              MAX_LAG_SECONDS,
+                                                              HEALTH_CHECK_INTERVAL_MILLIS,
+                                                              50L,
+                                                              meterRegistry);
+            monitor.checkReplicationLag();
+
+            // when
+            String fresh = monitor.selectReplica();
+            Thread.sleep(100L);
+            String expired = monitor.selectReplica();
+
+            // then
+            assertAll(() -> assertEquals("replica-0", fresh, "유효 기간 이내의 복제본은 라우팅되어야 합니다."),
+                      () -> assertNull(expired, "확인 결과가 오래된 복제본은 제외되어야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("복제 지연을 확인하기 전에는 어떤 복제본도 선택하지 않음")
+        void selectReplica_beforeCheck() {
+            // given
+            ReplicaLagMonitor monitor = createMonitor(mock(HikariDataSource.class));
+
+            // when & then
+            assertNull(monitor.selectReplica(), "라우팅 대상 복제본이 없어야 합니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("afterPropertiesSet() 테스트")
+    class AfterPropertiesSetTests {
+
+        @RepeatedTest(10)
+        @DisplayName("전용 스레드에서 확인 주기마다 복제 지연을 확인")
+        void afterPropertiesSet() throws SQLException {
+            // given
+            HikariDataSource  replica = replicaWithStatus(true, 0L, false);
+            ReplicaLagMonitor monitor = createMonitor(replica);
+
+            // when
+            monitor.afterPropertiesSet();
+
+            // then
+            try {
+                verify(replica, timeout(1000L).atLeast(2)).getConnection();
+                assertEquals("replica-0", monitor.selectReplica(), "복제본이 라우팅 대상이어야 합니다.");
+            } finally {
+                monitor.destroy();
+            }
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private ReplicaLagMonitor createMonitor(final HikariDataSource... replicas) {
+        Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.length; i++) dataSources.put("replica-" + i, replicas[i]);
+        return new ReplicaLagMonitor(dataSources,
+                                     MAX_LAG_SECONDS,
+                                     HEALTH_CHECK_INTERVAL_MILLIS,
+                                     HEALTH_CHECK_EXPIRY_MILLIS,
+                                     meterRegistry);
+    }
+
+    /**
+     * SHOW REPLICA STATUS 결과를 돌려주는 복제본 커넥션 풀을 생성합니다.
+     *
+     * @param hasStatus  - 복제 상태 행이 있는지 여부
+     * @param lagSeconds - Seconds_Behind_Source 값
+     * @param nullLag    - Seconds_Behind_Source가 NULL인지 여부
+     * @return 복제본 커넥션 풀
+     */
+    private HikariDataSource replicaWithStatus(final boolean hasStatus,
+                                               final long lagSeconds,
+                                               final boolean nullLag) throws SQLException {
+        HikariDataSource replica    = mock(HikariDataSource.class);
+        Connection       connection = mock(Connection.class);
+        Statement        statement  = mock(Statement.class);
+        ResultSet        resultSet  = mock(ResultSet.class);
+
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(eq("SHOW REPLICA STATUS"))).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(hasStatus);
+        if (hasStatus) {
+            when(resultSet.getLong(eq("Seconds_Behind_Source"))).thenReturn(nullLag ? 0L : lagSeconds);
+            when(resultSet.wasNull()).thenReturn(nullLag);
+        }
+        return replica;
+    }
+
+    private double getLag(final String replica) {
+        return meterRegistry.get("datasource.replica.lag").tag("replica", replica).gauge().value();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.example.demo.infra.datasource;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PackageName : com.example.demo.infra.datasource
+ * FileName    : ReplicaRoutingDataSourceTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : ReplicaRoutingDataSource 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    DataSource        primaryDataSource;
+    @Mock
+    HikariDataSource  replicaDataSource;
+    @Mock
+    ReplicaLagMonitor replicaLagMonitor;
+
+    ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        when(replicaLagMonitor.getDataSources()).thenReturn(Map.of("replica-0", replicaDataSource));
+        routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaLagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Nested
+    @DisplayName("getConnection() 테스트")
+    class GetConnectionTests {
+
+        @RepeatedTest(10)
+        @DisplayName("읽기 전용 트랜잭션은 복제본으로 라우팅")
+        void getConnection_readOnly() throws SQLException {
+            // given
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            when(replicaLagMonitor.selectReplica()).thenReturn("replica-0");
+
+            // when
+            routingDataSource.getConnection();
+
+            // then
+            verify(replicaDataSource, times(1)).getConnection();
+            verify(primaryDataSource, never()).getConnection();
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("읽기 전용 트랜잭션이지만 허용 지연 이내인 복제본이 없으면 primary로 라우팅")
+        void getConnection_readOnly_noHealthyReplica() throws SQLException {
+            // given
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            when(replicaLagMonitor.selectReplica()).thenReturn(null);
+
+            // when
+            routingDataSource.getConnection();
+
+            // then
+            verify(primaryDataSource, times(1)).getConnection();
+            verify(replicaDataSource, never()).getConnection();
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("읽기 전용이 아닌 트랜잭션은 primary로 라우팅")
+        void getConnection_readWrite() throws SQLException {
+            // when
+            routingDataSource.getConnection();
+
+            // then
+            verify(primaryDataSource, times(1)).getConnection();
+            verify(replicaDataSource, never()).getConnection();
+            verify(replicaLagMonitor, never()).selectReplica();
+        }
+
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.example.demo.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRED;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PackageName : com.example.demo.infra.datasource
+ * FileName    : ReplicaRoutingTransactionTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : JpaTransactionManager + LazyConnectionDataSourceProxy + ReplicaRoutingDataSource 통합 테스트
+ *               primary와 복제본을 각각 H2 메모리 DB로 띄우고, 각 DB에 자신의 이름을 저장해 트랜잭션이 어느 DB에서 실행되었는지 확인합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingTransactionTest {
+
+    private static final String SERVER_NAME_QUERY = "SELECT name FROM server_name";
+
+    @Mock
+    ReplicaLagMonitor replicaLagMonitor;
+
+    HikariDataSource      primaryDataSource;
+    HikariDataSource      replicaDataSource;
+    EntityManagerFactory  entityManagerFactory;
+    EntityManager         entityManager;
+    JpaTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primaryDataSource = createDatabase("primary");
+        replicaDataSource = createDatabase("replica");
+        when(replicaLagMonitor.getDataSources()).thenReturn(Map.of("replica-0", replicaDataSource));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource,
+                                                                                               replicaLagMonitor));
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(ReplicaRoutingTransactionTest.class.getPackageName()); // 엔티티 없이 네이티브 쿼리만 사용
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionManager = new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (entityManagerFactory != null) entityManagerFactory.close();
+        primaryDataSource.close();
+        replicaDataSource.close();
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 라우팅 테스트")
+    class RoutingTests {
+
+        @RepeatedTest(10)
+        @DisplayName("읽기 전용 트랜잭션은 복제본에서 실행")
+        void readOnly() {
+            // given
+            when(replicaLagMonitor.selectReplica()).thenReturn("replica-0");
+
+            // when
+            String serverName = transactionTemplate(true).execute(status -> queryServerName());
+
+            // then
+            assertEquals("replica", serverName, "복제본에서 조회해야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("읽기 전용이 아닌 트랜잭션은 primary에서 실행")
+        void readWrite() {
+            // when
+            String serverName = transactionTemplate(false).execute(status -> queryServerName());
+
+            // then
+            assertEquals("primary", serverName, "primary에서 조회해야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("허용 지연 이내인 복제본이 없으면 읽기 전용 트랜잭션도 primary에서 실행")
+        void readOnly_noHealthyReplica() {
+            // given
+            when(replicaLagMonitor.selectReplica()).thenReturn(null);
+
+            // when
+            String serverName = transactionTemplate(true).execute(status -> queryServerName());
+
+            // then
+            assertEquals("primary", serverName, "primary에서 조회해야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("쓰기 트랜잭션에 참여한 읽기 전용 트랜잭션은 primary에서 실행")
+        void readOnly_joinedReadWrite() {
+            // when
+            String serverName = transactionTemplate(false).execute(
+                    outer -> transactionTemplate(true).execute(inner -> queryServerName())
+            );
+
+            // then
+            assertEquals("primary", serverName, "쓰기 트랜잭션의 커넥션으로 조회해야 합니다.");
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private HikariDataSource createDatabase(final String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(2);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE server_name (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO server_name (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private TransactionTemplate transactionTemplate(final boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRED);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate;
+    }
+
+    private String queryServerName() {
+        return (String) entityManager.createNativeQuery(SERVER_NAME_QUERY).getSingleResult();
+    }
+
+}
@@ -0,0 +1,415 @@
+package com.example.demo.infra.redis.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static com.example.demo.common.response.ErrorCode.PERFORMANCE_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.common.error.BusinessException;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+/**
+ * PackageName : com.example.demo.infra.redis.cache
+ * FileName    : TwoLevelCacheTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : TwoLevelCache 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    RedisRepository  redisRepository;
+    @Mock
+    Consumer<String> invalidationPublisher;
+
+    MeterRegistry         meterRegistry;
+    TwoLevelCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache<>("test",
+                                    String.class,
+                                    Duration.ofMinutes(1),
+                                    Duration.ofMinutes(10),
+                                    100,
+                                    redisRepository,
+                                    invalidationPublisher,
+                                    meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("get() 테스트")
+    class GetTests {
+
+        @RepeatedTest(10)
+        @DisplayName("캐시에 없으면 원본에서 조회하여 Redis와 로컬 캐시에 저장")
+        void get_miss() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.of(3L));
+            when(redisRepository.multiGetValues(eq(List.of("cache:test:3:key")), eq(String.class)))
+                    .thenReturn(nullValues(1));
+            when(redisRepository.setValueIfAbsent(eq("cache:test:3:key:lease"), any(), any(Duration.class)))
+                    .thenReturn(true);
+            stubNoLoadFailure();
+
+            // when
+            String first  = cache.get("key", () -> "value-" + loadCount.incrementAndGet());
+            String second = cache.get("key", () -> "value-" + loadCount.incrementAndGet());
+
+            // then
+            assertAll(() -> assertEquals("value-1", first, "원본에서 조회한 값이어야 합니다."),
+                      () -> assertEquals("value-1", second, "로컬 캐시의 값이어야 합니다."),
+                      () -> assertEquals(1, loadCount.get(), "원본 조회는 한 번이어야 합니다."));
+
+            verify(redisRepository, times(1)).setValue(eq("cache:test:3:key"),
+                                                       eq("value-1"),
+                                                       eq(Duration.ofMinutes(10)));
+            verify(redisRepository, times(1)).deleteData(eq("cache:test:3:key:lease"));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("Redis 캐시에 있으면 원본을 조회하지 않음")
+        void get_remoteHit() {
+            // given
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.empty());
+            when(redisRepository.multiGetValues(eq(List.of("cache:test:0:key")), eq(String.class)))
+                    .thenReturn(List.of("remote"));
+
+            // when
+            String result = cache.get("key", () -> "origin");
+
+            // then
+            assertEquals("remote", result, "Redis 캐시의 값이어야 합니다.");
+
+            verify(redisRepository, never()).setValue(any(), any(), any(Duration.class));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("Redis 장애 시 원본에서 조회")
+        void get_redisFailure() {
+            // given
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class)))
+                    .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+            // when
+            String result = cache.get("key", () -> "origin");
+
+            // then
+            assertEquals("origin", result, "원본의 값이어야 합니다.");
+
+            verify(redisRepository, never()).multiGetValues(anyList(), any());
+            verify(redisRepository, never()).setValue(any(), any(), any(Duration.class));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("같은 키를 동시에 조회하면 원본 조회는 한 번만 실행되고 나머지는 결과를 함께 받음")
+        void get_coalesced() throws Exception {
+            // given
+            int            followers = 8;
+            CountDownLatch entered   = new CountDownLatch(1);
+            CountDownLatch release   = new CountDownLatch(1);
+            AtomicInteger  loadCount = new AtomicInteger();
+
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.of(0L));
+            when(redisRepository.multiGetValues(eq(List.of("cache:test:0:key")), eq(String.class)))
+                    .thenReturn(nullValues(1));
+            when(redisRepository.setValueIfAbsent(eq("cache:test:0:key:lease"), any(), any(Duration.class)))
+                    .thenReturn(true);
+            stubNoLoadFailure();
+
+            ExecutorService executor = Executors.newFixedThreadPool(followers + 1);
+            try {
+                Future<String> leader = executor.submit(() -> cache.get("key", () -> {
+                    entered.countDown();
+                    await(release);
+                    return "value-" + loadCount.incrementAndGet();
+                }));
+                assertTrue(entered.await(5, TimeUnit.SECONDS), "원본 조회가 시작되어야 합니다.");
+
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < followers; i++)
+                    results.add(executor.submit(() -> cache.get("key",
+                                                                () -> "value-" + loadCount.incrementAndGet())));
+                while (getLoadCount("coalesced") < followers) Thread.onSpinWait();
+
+                // when
+                release.countDown();
+
+                // then
+                assertEquals("value-1", leader.get(5, TimeUnit.SECONDS), "원본에서 조회한 값이어야 합니다.");
+                for (Future<String> result : results)
+                    assertEquals("value-1", result.get(5, TimeUnit.SECONDS), "함께 받은 값이어야 합니다.");
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertAll(() -> assertEquals(1, loadCount.get(), "원본 조회는 한 번이어야 합니다."),
+                      () -> assertEquals(1, getLoadCount("executed"), "실행된 원본 조회는 한 번이어야 합니다."),
+                      () -> assertEquals(followers, getLoadCount("coalesced"), "나머지 요청은 모두 합류해야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("원본 조회 예외는 합류한 요청에도 전달")
+        void get_coalescedException() throws InterruptedException {
+            // given
+            CountDownLatch   entered   = new CountDownLatch(1);
+            CountDownLatch   release   = new CountDownLatch(1);
+            RuntimeException exception = new IllegalStateException("not found");
+
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.of(0L));
+            when(redisRepository.multiGetValues(eq(List.of("cache:test:0:key")), eq(String.class)))
+                    .thenReturn(nullValues(1));
+            when(redisRepository.setValueIfAbsent(eq("cache:test:0:key:lease"), any(), any(Duration.class)))
+                    .thenReturn(true);
+            stubNoLoadFailure();
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<String> leader = executor.submit(() -> cache.get("key", () -> {
+                    entered.countDown();
+                    await(release);
+                    throw exception;
+                }));
+                assertTrue(entered.await(5, TimeUnit.SECONDS), "원본 조회가 시작되어야 합니다.");
+
+                Future<String> follower = executor.submit(() -> cache.get("key", () -> "unexpected"));
+                while (getLoadCount("coalesced") < 1) Thread.onSpinWait();
+
+                // when
+                release.countDown();
+
+                // then
+                ExecutionException leaderException   = assertThrows(ExecutionException.class,
+                                                                    () -> leader.get(5, TimeUnit.SECONDS));
+                ExecutionException followerException = assertThrows(ExecutionException.class,
+                                                                    () -> follower.get(5, TimeUnit.SECONDS));
+                assertAll(() -> assertSame(exception, leaderException.getCause(), "원본 조회 예외여야 합니다."),
+                          () -> assertSame(exception, followerException.getCause(), "원본 조회 예외여야 합니다."));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("다른 노드가 임대를 가지고 있으면 원본을 조회하지 않고 Redis 캐시에 저장된 값을 받음")
+        void get_remoteCoalesced() {
+            // given
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.of(0L));
+            when(redisRepository.multiGetValues(eq(List.of("cache:test:0:key")), eq(String.class)))
+                    .thenReturn(nullValues(1), nullValues(1), List.of("remote"));
+            when(redisRepository.setValueIfAbsent(eq("cache:test:0:key:lease"), any(), any(Duration.class)))
+                    .thenReturn(false);
+            stubNoLoadFailure();
+
+            // when
+            String result = cache.get("key", () -> "origin");
+
+            // then
+            assertAll(() -> assertEquals("remote", result, "다른 노드가 저장한 값이어야 합니다."),
+                      () -> assertEquals(0, getLoadCount("executed"), "원본 조회는 실행되지 않아야 합니다."),
+                      () -> assertEquals(1, getLoadCount("remote_coalesced"), "다른 노드의 결과를 받아야 합니다."));
+
+            verify(redisRepository, never()).setValue(any(), any(), any(Duration.class));
+            verify(redisRepository, never()).deleteData(anyString());
+        }
+
+
+        @RepeatedTest(10)
+        @DisplayName("원본 조회 결과가 null이면 값 대신 짧은 실패 기록을 남김")
+        void get_nullResult() {
+            // given
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.of(0L));
+            when(redisRepository.multiGetValues(eq(List.of("cache:test:0:key")), eq(String.class)))
+                    .thenReturn(nullValues(1));
+            when(redisRepository.setValueIfAbsent(eq("cache:test:0:key:lease"), any(), any(Duration.class)))
+                    .thenReturn(true);
+            stubNoLoadFailure();
+
+            // when
+            String result = cache.get("key", () -> null);
+
+            // then
+            assertNull(result, "원본 조회 결과는 null이어야 합니다.");
+
+            verify(redisRepository, times(1)).setValue(eq("cache:test:0:key:failure"),
+                                                       eq("NULL"),
+                                                       eq(Duration.ofSeconds(1)));
+            verify(redisRepository, never()).setValue(eq("cache:test:0:key"), any(), any(Duration.class));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("원본 조회에서 BusinessException이 발생하면 오류 코드를 실패 기록으로 남김")
+        void get_loaderBusinessException() {
+            // given
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.of(0L));
+            when(redisRepository.multiGetValues(eq(List.of("cache:test:0:key")), eq(String.class)))
+                    .thenReturn(nullValues(1));
+            when(redisRepository.setValueIfAbsent(eq("cache:test:0:key:lease"), any(), any(Duration.class)))
+                    .thenReturn(true);
+            stubNoLoadFailure();
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> cache.get("key", () -> {
+                                                           throw new BusinessException(PERFORMANCE_NOT_FOUND);
+                                                       }),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertEquals(PERFORMANCE_NOT_FOUND, exception.getErrorCode(), "errorCode는 PERFORMANCE_NOT_FOUND여야 합니다.");
+
+            verify(redisRepository, times(1)).setValue(eq("cache:test:0:key:failure"),
+                                                       eq("PERFORMANCE_NOT_FOUND"),
+                                                       eq(Duration.ofSeconds(1)));
+            verify(redisRepository, times(1)).deleteData(eq("cache:test:0:key:lease"));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("다른 노드가 임대를 가진 채 원본 조회에 실패하면 원본을 다시 조회하지 않고 같은 예외를 받음")
+        void get_remoteFailure() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.of(0L));
+            when(redisRepository.multiGetValues(eq(List.of("cache:test:0:key")), eq(String.class)))
+                    .thenReturn(nullValues(1));
+            when(redisRepository.setValueIfAbsent(eq("cache:test:0:key:lease"), any(), any(Duration.class)))
+                    .thenReturn(false);
+            when(redisRepository.getValue(eq("cache:test:0:key:failure"), eq(String.class)))
+                    .thenReturn(Optional.empty(), Optional.of("PERFORMANCE_NOT_FOUND"));
+
+            // when
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> cache.get("key", () -> "value-" + loadCount.incrementAndGet()),
+                    "BusinessException이 발생해야 합니다."
+            );
+
+            // then
+            assertAll(() -> assertEquals(PERFORMANCE_NOT_FOUND,
+                                         exception.getErrorCode(),
+                                         "errorCode는 PERFORMANCE_NOT_FOUND여야 합니다."),
+                      () -> assertEquals(0, loadCount.get(), "원본 조회는 실행되지 않아야 합니다."),
+                      () -> assertEquals(1, getLoadCount("remote_coalesced"), "다른 노드의 결과를 받아야 합니다."));
+
+            verify(redisRepository, never()).deleteData(anyString());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("실패 기록이 남아 있으면 임대를 얻지 않고 기록된 null 결과를 받음")
+        void get_recordedNullResult() {
+            // given
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.of(0L));
+            when(redisRepository.multiGetValues(eq(List.of("cache:test:0:key")), eq(String.class)))
+                    .thenReturn(nullValues(1));
+            when(redisRepository.getValue(eq("cache:test:0:key:failure"), eq(String.class)))
+                    .thenReturn(Optional.of("NULL"));
+
+            // when
+            String result = cache.get("key", () -> "origin");
+
+            // then
+            assertAll(() -> assertNull(result, "기록된 null 결과여야 합니다."),
+                      () -> assertEquals(0, getLoadCount("executed"), "원본 조회는 실행되지 않아야 합니다."));
+
+            verify(redisRepository, never()).setValueIfAbsent(anyString(), any(), any(Duration.class));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("invalidate() 테스트")
+    class InvalidateTests {
+
+        @RepeatedTest(10)
+        @DisplayName("세대 번호를 올리고 로컬 캐시를 비운 뒤 다른 노드에 무효화 전파")
+        void invalidate() {
+            // given
+            when(redisRepository.getValue(eq("cache:test:generation"), eq(Long.class))).thenReturn(Optional.of(0L),
+                                                                                                   Optional.of(1L));
+            when(redisRepository.multiGetValues(anyList(), eq(String.class))).thenReturn(nullValues(1));
+            when(redisRepository.setValueIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+            stubNoLoadFailure();
+            cache.get("key", () -> "before");
+
+            // when
+            cache.invalidate();
+            String result = cache.get("key", () -> "after");
+
+            // then
+            assertEquals("after", result, "무효화 이후 원본에서 다시 조회한 값이어야 합니다.");
+
+            verify(redisRepository, times(1)).increment(eq("cache:test:generation"));
+            verify(invalidationPublisher, times(1)).accept(eq("test"));
+            verify(redisRepository, times(1)).setValue(eq("cache:test:1:key"), eq("after"), any(Duration.class));
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void stubNoLoadFailure() {
+        when(redisRepository.getValue(endsWith(":failure"), eq(String.class))).thenReturn(Optional.empty());
+    }
+
+    private double getLoadCount(final String result) {
+        return meterRegistry.get("cache.loads").tag("cache", "test").tag("result", result).counter().count();
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<String> nullValues(final int size) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) values.add(null);
+        return values;
+    }
+
+}
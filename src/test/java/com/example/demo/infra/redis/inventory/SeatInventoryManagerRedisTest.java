@@ -0,0 +1,119 @@
+package com.example.demo.infra.redis.inventory;
+
+import static com.example.demo.domain.performance.model.SeatStatus.AVAILABLE;
+import static com.example.demo.domain.performance.model.SeatStatus.SOLD;
+import static com.example.demo.domain.performance.model.SeatStatus.TEMPORARY_RESERVED;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.demo.domain.performance.model.SeatStatus;
+import com.example.demo.infra.redis.config.TestRedisConfig;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * PackageName : com.example.demo.infra.redis.inventory
+ * FileName    : SeatInventoryManagerRedisTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : SeatInventoryManager Redis 연동 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@Import(TestRedisConfig.class)
+@SpringBootTest
+class SeatInventoryManagerRedisTest {
+
+    @Autowired
+    SeatInventoryManager seatInventoryManager;
+    @Autowired
+    StringRedisTemplate  stringRedisTemplate;
+
+    @Nested
+    @DisplayName("getSnapshot() 테스트")
+    class GetSnapshotTests {
+
+        @Test
+        @DisplayName("적재 기준 버전은 재고 Hash 밖에 기록되고, 전체 스냅샷에는 좌석만 포함")
+        void getSnapshot_full() {
+            // given
+            Long performanceId = newPerformanceId();
+            seatInventoryManager.load(performanceId, Map.of(1L, AVAILABLE, 2L, SOLD, 3L, AVAILABLE), expireAt());
+
+            // when
+            SeatInventorySnapshot snapshot = seatInventoryManager.getSnapshot(performanceId, null, null);
+
+            // then
+            assertAll(() -> assertNotNull(snapshot, "snapshot은 null이 아니어야 합니다."),
+                      () -> assertEquals(SeatInventorySnapshot.Type.FULL, snapshot.getType()),
+                      () -> assertEquals(Map.of(1L, AVAILABLE, 2L, SOLD, 3L, AVAILABLE), snapshot.getStatuses()),
+                      () -> assertEquals(3L, stringRedisTemplate.opsForHash().size("seat-inventory:" + performanceId),
+                                         "재고 Hash에는 좌석만 있어야 합니다."),
+                      () -> assertEquals(String.valueOf(snapshot.getVersion()),
+                                         stringRedisTemplate.opsForValue()
+                                                            .get("seat-inventory:%d:base".formatted(performanceId)),
+                                         "적재 기준 버전이 별도 키에 기록되어야 합니다."));
+        }
+
+        @Test
+        @DisplayName("적재 기준 버전 이후의 변경분 조회")
+        void getSnapshot_delta() {
+            // given
+            Long performanceId = newPerformanceId();
+            seatInventoryManager.load(performanceId, Map.of(1L, AVAILABLE, 2L, AVAILABLE), expireAt());
+            long baseVersion = seatInventoryManager.getSnapshot(performanceId, null, null).getVersion();
+
+            seatInventoryManager.hold(performanceId, List.of(2L));
+
+            // when
+            SeatInventorySnapshot snapshot = seatInventoryManager.getSnapshot(performanceId, baseVersion, null);
+
+            // then
+            assertAll(() -> assertEquals(SeatInventorySnapshot.Type.DELTA, snapshot.getType()),
+                      () -> assertEquals(Map.<Long, SeatStatus>of(2L, TEMPORARY_RESERVED), snapshot.getStatuses()));
+        }
+
+        @Test
+        @DisplayName("적재 기준 버전 키가 없으면 재고를 삭제하지 않고 미적재로 처리")
+        void getSnapshot_missingBase() {
+            // given
+            Long   performanceId = newPerformanceId();
+            String key           = "seat-inventory:" + performanceId;
+            stringRedisTemplate.opsForHash().putAll(key, Map.of("1", AVAILABLE.name()));
+
+            // when
+            SeatInventorySnapshot snapshot = seatInventoryManager.getSnapshot(performanceId, null, null);
+
+            // then
+            assertAll(() -> assertNull(snapshot, "snapshot은 null이어야 합니다."),
+                      () -> assertTrue(seatInventoryManager.isLoaded(performanceId), "재고는 삭제되지 않아야 합니다."));
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private Long newPerformanceId() {
+        return ThreadLocalRandom.current().nextLong(1_000_000L, Long.MAX_VALUE);
+    }
+
+    private Instant expireAt() {
+        return Instant.now().plus(1, ChronoUnit.HOURS);
+    }
+
+}
@@ -0,0 +1,218 @@
+package com.example.demo.infra.redis.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * PackageName : com.example.demo.infra.redis.inventory
+ * FileName    : SeatInventoryManagerTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : SeatInventoryManager 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryManagerTest {
+
+    private static final Long   PERFORMANCE_ID = 1L;
+    private static final String INVENTORY_KEY  = "seat-inventory:1";
+    private static final String LEASE_KEY      = "seat-inventory:1:load-lease";
+
+    @InjectMocks
+    SeatInventoryManager            seatInventoryManager;
+    @Mock
+    StringRedisTemplate             stringRedisTemplate;
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Nested
+    @DisplayName("loadOnce() 테스트")
+    class LoadOnceTests {
+
+        @RepeatedTest(10)
+        @DisplayName("적재 임대를 얻으면 재고를 적재하고 임대 반납")
+        void loadOnce() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+
+            when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.hasKey(eq(INVENTORY_KEY))).thenReturn(false);
+
+            // when
+            seatInventoryManager.loadOnce(PERFORMANCE_ID, loadCount::incrementAndGet);
+
+            // then
+            assertEquals(1, loadCount.get(), "재고 적재는 한 번이어야 합니다.");
+
+            verify(stringRedisTemplate, times(1)).delete(eq(LEASE_KEY));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("같은 공연을 동시에 적재하면 적재는 한 번만 실행되고 나머지는 적재가 끝나기를 기다림")
+        void loadOnce_coalesced() throws Exception {
+            // given
+            int            followers = 8;
+            CountDownLatch entered   = new CountDownLatch(1);
+            CountDownLatch release   = new CountDownLatch(1);
+            AtomicInteger  loadCount = new AtomicInteger();
+
+            when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.hasKey(eq(INVENTORY_KEY))).thenReturn(false);
+
+            ExecutorService executor = Executors.newFixedThreadPool(followers + 1);
+            try {
+                Future<?> leader = executor.submit(() -> seatInventoryManager.loadOnce(PERFORMANCE_ID, () -> {
+                    entered.countDown();
+                    await(release);
+                    loadCount.incrementAndGet();
+                }));
+                assertTrue(entered.await(5, TimeUnit.SECONDS), "재고 적재가 시작되어야 합니다.");
+
+                List<Future<?>> results = new ArrayList<>();
+                for (int i = 0; i < followers; i++)
+                    results.add(executor.submit(() -> seatInventoryManager.loadOnce(PERFORMANCE_ID,
+                                                                                    loadCount::incrementAndGet)));
+
+                // when
+                release.countDown();
+
+                // then
+                leader.get(5, TimeUnit.SECONDS);
+                for (Future<?> result : results) result.get(5, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(1, loadCount.get(), "재고 적재는 한 번이어야 합니다.");
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("재고 적재 예외는 기다리던 요청에도 전달")
+        void loadOnce_coalescedException() throws Exception {
+            // given
+            CountDownLatch   entered   = new CountDownLatch(1);
+            CountDownLatch   release   = new CountDownLatch(1);
+            RuntimeException exception = new IllegalStateException("not found");
+
+            when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.hasKey(eq(INVENTORY_KEY))).thenReturn(false);
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<?> leader = executor.submit(() -> seatInventoryManager.loadOnce(PERFORMANCE_ID, () -> {
+                    entered.countDown();
+                    await(release);
+                    throw exception;
+                }));
+                assertTrue(entered.await(5, TimeUnit.SECONDS), "재고 적재가 시작되어야 합니다.");
+
+                Future<?> follower = executor.submit(() -> seatInventoryManager.loadOnce(PERFORMANCE_ID, () -> {
+                }));
+
+                // when
+                release.countDown();
+
+                // then
+                ExecutionException leaderException = assertThrows(ExecutionException.class,
+                                                                  () -> leader.get(5, TimeUnit.SECONDS));
+                assertSame(exception, leaderException.getCause(), "재고 적재 예외여야 합니다.");
+                try {
+                    follower.get(5, TimeUnit.SECONDS);   // 적재가 끝난 뒤 들어온 요청은 직접 적재함
+                } catch (ExecutionException followerException) {
+                    assertSame(exception, followerException.getCause(), "재고 적재 예외여야 합니다.");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("다른 노드가 적재 임대를 가지고 있으면 적재하지 않고 재고가 적재되기를 기다림")
+        void loadOnce_remoteLease() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+
+            when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(false);
+            when(stringRedisTemplate.hasKey(eq(INVENTORY_KEY))).thenReturn(false, false, true);
+            when(stringRedisTemplate.hasKey(eq(LEASE_KEY))).thenReturn(true);
+
+            // when
+            seatInventoryManager.loadOnce(PERFORMANCE_ID, loadCount::incrementAndGet);
+
+            // then
+            assertEquals(0, loadCount.get(), "재고 적재는 실행되지 않아야 합니다.");
+
+            verify(stringRedisTemplate, times(3)).hasKey(eq(INVENTORY_KEY));
+            verify(stringRedisTemplate, never()).delete(eq(LEASE_KEY));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("다른 노드의 임대가 적재 없이 풀리면 다시 적재하지 않고 반환")
+        void loadOnce_remoteLeaseReleasedWithoutLoad() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+
+            when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(false);
+            when(stringRedisTemplate.hasKey(eq(INVENTORY_KEY))).thenReturn(false);
+            when(stringRedisTemplate.hasKey(eq(LEASE_KEY))).thenReturn(false);
+
+            // when
+            seatInventoryManager.loadOnce(PERFORMANCE_ID, loadCount::incrementAndGet);
+
+            // then
+            assertAll(() -> assertEquals(0, loadCount.get(), "재고 적재는 실행되지 않아야 합니다."),
+                      () -> verify(stringRedisTemplate, times(1)).hasKey(eq(LEASE_KEY)));
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,308 @@
+package com.example.demo.infra.redis.lock;
+
+import static com.example.demo.common.response.ErrorCode.LOCK_ACQUISITION_FAILED;
+import static com.example.demo.common.response.ErrorCode.LOCK_THREAD_INTERRUPTED;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.common.error.BusinessException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RFencedLock;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisConnectionException;
+import org.redisson.client.codec.LongCodec;
+
+/**
+ * PackageName : com.example.demo.infra.redis.lock
+ * FileName    : DistributedLockExecutorTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : DistributedLockExecutor 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class DistributedLockExecutorTest {
+
+    private static final String LOCK_KEY       = "lock:seat:1";
+    private static final String OTHER_LOCK_KEY = "lock:seat:2";
+    private static final String EPOCH_KEY      = "lock:fencing-epoch";
+
+    @InjectMocks
+    DistributedLockExecutor distributedLockExecutor;
+    @Mock
+    RedissonClient          redissonClient;
+    @Mock
+    LockMetrics             lockMetrics;
+    @Mock
+    RLock                   lock;
+    @Mock
+    RFencedLock             fencedLock;
+    @Mock
+    RFencedLock             otherFencedLock;
+    @Mock
+    RBucket<Long>           epochBucket;
+
+    @Nested
+    @DisplayName("execute() 테스트")
+    class ExecuteTests {
+
+        @RepeatedTest(10)
+        @DisplayName("락을 획득하면 작업을 실행하고 락 해제 및 보유 시간 기록")
+        void execute() throws InterruptedException {
+            // given
+            when(redissonClient.getLock(eq(LOCK_KEY))).thenReturn(lock);
+            when(lock.tryLock(eq(1L), eq(3L), eq(TimeUnit.SECONDS))).thenReturn(true);
+            when(lock.isLocked()).thenReturn(true);
+            when(lock.isHeldByCurrentThread()).thenReturn(true);
+
+            // when
+            String result = distributedLockExecutor.execute(LOCK_KEY, 1L, 3L, TimeUnit.SECONDS, () -> "done");
+
+            // then
+            assertEquals("done", result);
+
+            verify(lockMetrics, times(1)).recordAcquire(eq(List.of(LOCK_KEY)), eq(true), anyLong());
+            verify(lockMetrics, times(1)).recordHold(eq(LOCK_KEY), anyLong());
+            verify(lock, times(1)).unlock();
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("대기 시간 안에 락을 획득하지 못하면 작업을 실행하지 않고 획득 실패 기록")
+        void execute_timeout() throws InterruptedException {
+            // given
+            AtomicBoolean executed = new AtomicBoolean(false);
+
+            when(redissonClient.getLock(eq(LOCK_KEY))).thenReturn(lock);
+            when(lock.tryLock(eq(1L), eq(3L), eq(TimeUnit.SECONDS))).thenReturn(false);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> distributedLockExecutor.execute(
+                                                               LOCK_KEY, 1L, 3L, TimeUnit.SECONDS,
+                                                               () -> executed.set(true)
+                                                       ),
+                                                       "BusinessException이 발생해야 합니다.");
+
+            // then
+            assertAll(() -> assertEquals(LOCK_ACQUISITION_FAILED,
+                                         exception.getErrorCode(),
+                                         "errorCode는 LOCK_ACQUISITION_FAILED여야 합니다."),
+                      () -> assertFalse(executed.get(), "작업은 실행되지 않아야 합니다."));
+
+            verify(lockMetrics, times(1)).recordAcquire(eq(List.of(LOCK_KEY)), eq(false), anyLong());
+            verify(lock, never()).unlock();
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("락 획득 중 인터럽트되면 interrupted 실패 기록")
+        void execute_interrupted() throws InterruptedException {
+            // given
+            when(redissonClient.getLock(eq(LOCK_KEY))).thenReturn(lock);
+            when(lock.tryLock(eq(1L), eq(3L), eq(TimeUnit.SECONDS))).thenThrow(new InterruptedException());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                                                       () -> distributedLockExecutor.execute(
+                                                               LOCK_KEY, 1L, 3L, TimeUnit.SECONDS, () -> "done"
+                                                       ),
+                                                       "BusinessException이 발생해야 합니다.");
+            Thread.interrupted();   // 다음 테스트에 인터럽트 상태가 남지 않도록 초기화
+
+            // then
+            assertEquals(LOCK_THREAD_INTERRUPTED,
+                         exception.getErrorCode(),
+                         "errorCode는 LOCK_THREAD_INTERRUPTED여야 합니다.");
+
+            verify(lockMetrics, times(1)).recordFailure(eq(LOCK_KEY), eq("interrupted"));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("Redis 장애로 락 획득에 실패하면 error 실패를 기록하고 예외 전달")
+        void execute_redisFailure() throws InterruptedException {
+            // given
+            RedisConnectionException failure = new RedisConnectionException("Redis connection failure");
+
+            when(redissonClient.getLock(eq(LOCK_KEY))).thenReturn(lock);
+            when(lock.tryLock(eq(1L), eq(3L), eq(TimeUnit.SECONDS))).thenThrow(failure);
+
+            // when
+            RedisConnectionException exception = assertThrows(RedisConnectionException.class,
+                                                               () -> distributedLockExecutor.execute(
+                                                                       LOCK_KEY, 1L, 3L, TimeUnit.SECONDS,
+                                                                       () -> "done"
+                                                               ));
+
+            // then
+            assertSame(failure, exception);
+
+            verify(lockMetrics, times(1)).recordFailure(eq(LOCK_KEY), eq("error"));
+            verify(lockMetrics, never()).recordAcquire(anyList(), anyBoolean(), anyLong());
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("작업에서 발생한 예외는 락 획득 실패로 기록하지 않음")
+        void execute_callbackFailure() throws InterruptedException {
+            // given
+            when(redissonClient.getLock(eq(LOCK_KEY))).thenReturn(lock);
+            when(lock.tryLock(eq(1L), eq(3L), eq(TimeUnit.SECONDS))).thenReturn(true);
+
+            // when
+            assertThrows(IllegalStateException.class,
+                         () -> distributedLockExecutor.execute(LOCK_KEY, 1L, 3L, TimeUnit.SECONDS, () -> {
+                             throw new IllegalStateException("callback failure");
+                         }));
+
+            // then
+            verify(lockMetrics, never()).recordFailure(anyString(), anyString());
+            verify(lockMetrics, times(1)).recordHold(eq(LOCK_KEY), anyLong());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("executeWithFencingTokens() 테스트")
+    class ExecuteWithFencingTokensTests {
+
+        @RepeatedTest(10)
+        @DisplayName("모든 락을 획득하면 에포크를 붙인 펜싱 토큰으로 작업을 실행하고 모든 락 해제")
+        void executeWithFencingTokens() throws InterruptedException {
+            // given
+            stubFencedLocks();
+            when(fencedLock.tryLockAndGetToken(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(3L);
+            when(otherFencedLock.tryLockAndGetToken(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(7L);
+            when(redissonClient.<Long>getBucket(eq(EPOCH_KEY), eq(LongCodec.INSTANCE))).thenReturn(epochBucket);
+            when(epochBucket.get()).thenReturn(100L);
+            stubHeld(fencedLock);
+            stubHeld(otherFencedLock);
+
+            // when
+            Map<String, Long> tokens = distributedLockExecutor.executeWithFencingTokens(
+                    List.of(LOCK_KEY, OTHER_LOCK_KEY), 0L, 1000L, TimeUnit.MILLISECONDS, t -> t
+            );
+
+            // then
+            assertEquals(Map.of(LOCK_KEY, DistributedLockExecutor.toFencingToken(100L, 3L),
+                                OTHER_LOCK_KEY, DistributedLockExecutor.toFencingToken(100L, 7L)), tokens);
+
+            verify(lockMetrics, times(1)).recordAcquire(eq(List.of(LOCK_KEY, OTHER_LOCK_KEY)), eq(true), anyLong());
+            verify(fencedLock, times(1)).unlock();
+            verify(otherFencedLock, times(1)).unlock();
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("일부 락만 획득하면 작업을 실행하지 않고 획득한 락만 해제")
+        void executeWithFencingTokens_partiallyAcquired() throws InterruptedException {
+            // given
+            stubFencedLocks();
+            when(fencedLock.tryLockAndGetToken(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(3L);
+            when(otherFencedLock.tryLockAndGetToken(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(null);
+            stubHeld(fencedLock);
+
+            // when
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> distributedLockExecutor.executeWithFencingTokens(List.of(LOCK_KEY, OTHER_LOCK_KEY),
+                                                                           0L,
+                                                                           1000L,
+                                                                           TimeUnit.MILLISECONDS,
+                                                                           t -> {
+                                                                               throw new IllegalStateException();
+                                                                           }),
+                    "BusinessException이 발생해야 합니다."
+            );
+
+            // then
+            assertEquals(LOCK_ACQUISITION_FAILED,
+                         exception.getErrorCode(),
+                         "errorCode는 LOCK_ACQUISITION_FAILED여야 합니다.");
+
+            verify(lockMetrics, times(1)).recordAcquire(eq(List.of(LOCK_KEY, OTHER_LOCK_KEY)), eq(false), anyLong());
+            verify(lockMetrics, never()).recordHold(anyString(), anyLong());
+            verify(fencedLock, times(1)).unlock();
+            verify(otherFencedLock, never()).unlock();
+            verify(redissonClient, never()).getBucket(anyString(), any(LongCodec.class));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("에포크 키가 없으면(Redis 초기화) 새 에포크를 기록하고 기록된 에포크 사용")
+        void executeWithFencingTokens_epochReset() throws InterruptedException {
+            // given
+            when(redissonClient.getFencedLock(eq(LOCK_KEY))).thenReturn(fencedLock);
+            when(fencedLock.tryLockAndGetToken(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(1L);
+            when(redissonClient.<Long>getBucket(eq(EPOCH_KEY), eq(LongCodec.INSTANCE))).thenReturn(epochBucket);
+            when(epochBucket.get()).thenReturn(null, 200L);
+
+            // when
+            Map<String, Long> tokens = distributedLockExecutor.executeWithFencingTokens(
+                    List.of(LOCK_KEY), 0L, 1000L, TimeUnit.MILLISECONDS, t -> t
+            );
+
+            // then
+            assertEquals(DistributedLockExecutor.toFencingToken(200L, 1L), tokens.get(LOCK_KEY));
+
+            verify(epochBucket, times(1)).setIfAbsent(any(Long.class));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("toFencingToken() 테스트")
+    class ToFencingTokenTests {
+
+        @RepeatedTest(10)
+        @DisplayName("에포크가 커지면 카운터가 처음부터 다시 발급되어도 이전 에포크의 토큰보다 큼")
+        void toFencingToken() {
+            // given
+            long beforeReset = DistributedLockExecutor.toFencingToken(100L, 1_000_000L);
+
+            // when
+            long afterReset = DistributedLockExecutor.toFencingToken(101L, 1L);
+
+            // then
+            assertTrue(afterReset > beforeReset, "새 에포크의 토큰이 더 커야 합니다.");
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void stubFencedLocks() {
+        when(redissonClient.getFencedLock(eq(LOCK_KEY))).thenReturn(fencedLock);
+        when(redissonClient.getFencedLock(eq(OTHER_LOCK_KEY))).thenReturn(otherFencedLock);
+    }
+
+    private void stubHeld(final RLock heldLock) {
+        when(heldLock.isLocked()).thenReturn(true);
+        when(heldLock.isHeldByCurrentThread()).thenReturn(true);
+    }
+
+}
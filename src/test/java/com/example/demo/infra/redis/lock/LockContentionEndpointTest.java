@@ -0,0 +1,77 @@
+package com.example.demo.infra.redis.lock;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.infra.redis.lock.LockContentionEndpoint.LockContentionReport;
+import com.example.demo.infra.redis.lock.LockContentionTracker.LockContention;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PackageName : com.example.demo.infra.redis.lock
+ * FileName    : LockContentionEndpointTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : LockContentionEndpoint 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+@ExtendWith(MockitoExtension.class)
+class LockContentionEndpointTest {
+
+    @InjectMocks
+    LockContentionEndpoint lockContentionEndpoint;
+    @Mock
+    LockMetrics            lockMetrics;
+
+    @Nested
+    @DisplayName("contendedLocks() 테스트")
+    class ContendedLocksTests {
+
+        @RepeatedTest(10)
+        @DisplayName("경합이 많은 락 키 목록과 표본 추출 비율 조회")
+        void contendedLocks() {
+            // given
+            List<LockContention> locks = List.of(new LockContention("lock:seat:1", 8L, 0L));
+
+            when(lockMetrics.getContentionSampleRate()).thenReturn(0.25);
+            when(lockMetrics.getTopContended(eq(5))).thenReturn(locks);
+
+            // when
+            LockContentionReport report = lockContentionEndpoint.contendedLocks(5);
+
+            // then
+            assertAll(() -> assertEquals(0.25, report.getSampleRate()),
+                      () -> assertEquals(locks, report.getLocks()));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("조회 개수가 없거나 0 이하면 기본 20개 조회")
+        void contendedLocks_defaultLimit() {
+            // given
+            when(lockMetrics.getTopContended(eq(20))).thenReturn(List.of());
+
+            // when
+            lockContentionEndpoint.contendedLocks(null);
+            lockContentionEndpoint.contendedLocks(0);
+
+            // then
+            verify(lockMetrics, times(2)).getTopContended(eq(20));
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.example.demo.infra.redis.lock;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.demo.infra.redis.lock.LockContentionTracker.LockContention;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * PackageName : com.example.demo.infra.redis.lock
+ * FileName    : LockContentionTrackerTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : LockContentionTracker 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+class LockContentionTrackerTest {
+
+    @Nested
+    @DisplayName("getTopContended() 테스트")
+    class GetTopContendedTests {
+
+        @RepeatedTest(10)
+        @DisplayName("경합이 많은 순으로 최대 개수만큼 반환")
+        void getTopContended() {
+            // given
+            LockContentionTracker tracker = new LockContentionTracker(10, 1.0);
+            record(tracker, "lock:seat:1", 3);
+            record(tracker, "lock:seat:2", 5);
+            record(tracker, "lock:seat:3", 1);
+
+            // when
+            List<LockContention> result = tracker.getTopContended(2);
+
+            // then
+            assertAll(() -> assertEquals(2, result.size()),
+                      () -> assertEquals("lock:seat:2", result.get(0).getKey()),
+                      () -> assertEquals(5L, result.get(0).getEstimatedCount()),
+                      () -> assertEquals("lock:seat:1", result.get(1).getKey()),
+                      () -> assertEquals(3L, result.get(1).getEstimatedCount()),
+                      () -> assertEquals(0L, result.get(1).getMaxOverestimate()));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("추적 키 수가 가득 차면 가장 작은 카운터를 새 키로 교체하고, 교체 전 값을 과대 추정치로 기록")
+        void getTopContended_evicted() {
+            // given
+            LockContentionTracker tracker = new LockContentionTracker(2, 1.0);
+            record(tracker, "lock:seat:1", 3);
+            record(tracker, "lock:seat:2", 1);
+            record(tracker, "lock:seat:3", 1);
+
+            // when
+            List<LockContention> result = tracker.getTopContended(10);
+
+            // then
+            assertAll(() -> assertEquals(2, result.size(), "추적 키 수는 최대 2개여야 합니다."),
+                      () -> assertEquals("lock:seat:1", result.get(0).getKey()),
+                      () -> assertEquals("lock:seat:3", result.get(1).getKey()),
+                      () -> assertEquals(2L, result.get(1).getEstimatedCount()),
+                      () -> assertEquals(1L, result.get(1).getMaxOverestimate()));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("표본 추출 비율이 0이면 기록하지 않음")
+        void getTopContended_notSampled() {
+            // given
+            LockContentionTracker tracker = new LockContentionTracker(10, 0.0);
+            record(tracker, "lock:seat:1", 100);
+
+            // when
+            List<LockContention> result = tracker.getTopContended(10);
+
+            // then
+            assertEquals(0, result.size());
+        }
+
+    }
+
+    // ========================= 내부 메서드 =========================
+
+    private void record(final LockContentionTracker tracker, final String lockKey, final int times) {
+        for (int i = 0; i < times; i++) tracker.record(lockKey);
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.example.demo.infra.redis.lock;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * PackageName : com.example.demo.infra.redis.lock
+ * FileName    : LockMetricsTest
+ * Author      : oldolgol331
+ * Date        : 26. 10. 17.
+ * Description : LockMetrics 테스트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 26. 10. 17.   oldolgol331          Initial creation
+ */
+class LockMetricsTest {
+
+    SimpleMeterRegistry meterRegistry;
+    LockMetrics         lockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockMetrics = new LockMetrics(meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("normalize() 테스트")
+    class NormalizeTests {
+
+        @RepeatedTest(10)
+        @DisplayName("숫자가 포함된 첫 구간부터 잘라낸 접두사 반환")
+        void normalize() {
+            assertAll(() -> assertEquals("reserveSeat:lock:seat", LockMetrics.normalize("reserveSeat:lock:seat:42")),
+                      () -> assertEquals("admission-queue", LockMetrics.normalize("admission-queue:7:admit-lock")),
+                      () -> assertEquals("lock:reservation-expiry-sweep",
+                                         LockMetrics.normalize("lock:reservation-expiry-sweep")),
+                      () -> assertEquals("unknown", LockMetrics.normalize("42:lock")));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("recordAcquire() 테스트")
+    class RecordAcquireTests {
+
+        @RepeatedTest(10)
+        @DisplayName("획득 성공 시 대기 시간만 기록")
+        void recordAcquire_acquired() {
+            // when
+            lockMetrics.recordAcquire(List.of("lock:seat:1"), true, TimeUnit.MILLISECONDS.toNanos(5));
+
+            // then
+            assertAll(() -> assertEquals(1L, meterRegistry.get("distributed.lock.acquire")
+                                                          .tag("prefix", "lock:seat")
+                                                          .tag("result", "acquired")
+                                                          .timer()
+                                                          .count()),
+                      () -> assertNull(meterRegistry.find("distributed.lock.failures").counter(),
+                                       "획득 실패는 기록되지 않아야 합니다."));
+        }
+
+        @RepeatedTest(10)
+        @DisplayName("획득 실패 시 첫 번째 키의 접두사로 대기 시간 초과 실패 기록")
+        void recordAcquire_failed() {
+            // when
+            lockMetrics.recordAcquire(List.of("lock:seat:1", "lock:seat:2"), false, 0L);
+
+            // then
+            assertAll(() -> assertEquals(1L, meterRegistry.get("distributed.lock.acquire")
+                                                          .tag("prefix", "lock:seat")
+                                                          .tag("result", "failed")
+                                                          .timer()
+                                                          .count()),
+                      () -> assertEquals(1.0, meterRegistry.get("distributed.lock.failures")
+                                                           .tag("prefix", "lock:seat")
+                                                           .tag("reason", "timeout")
+                                                           .counter()
+                                                           .count()));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("recordFailure() 테스트")
+    class RecordFailureTests {
+
+        @RepeatedTest(10)
+        @DisplayName("락 키의 접두사와 실패 사유로 실패 기록")
+        void recordFailure() {
+            // when
+            lockMetrics.recordFailure("lock:seat:1", "error");
+            lockMetrics.recordFailure("lock:seat:2", "error");
+
+            // then
+            assertEquals(2.0, meterRegistry.get("distributed.lock.failures")
+                                           .tag("prefix", "lock:seat")
+                                           .tag("reason", "error")
+                                           .counter()
+                                           .count());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("recordHold() 테스트")
+    class RecordHoldTests {
+
+        @RepeatedTest(10)
+        @DisplayName("락 키의 접두사로 보유 시간 기록")
+        void recordHold() {
+            // when
+            lockMetrics.recordHold("lock:seat:1", TimeUnit.MILLISECONDS.toNanos(10));
+
+            // then
+            assertEquals(10.0, meterRegistry.get("distributed.lock.hold")
+                                            .tag("prefix", "lock:seat")
+                                            .timer()
+                                            .totalTime(TimeUnit.MILLISECONDS));
+        }
+
+    }
+
+}
@@ -2,7 +2,10 @@ SET REFERENTIAL_INTEGRITY FALSE;
 
 TRUNCATE TABLE accounts;
 TRUNCATE TABLE oauth_connections;
+TRUNCATE TABLE venue_layouts;
+TRUNCATE TABLE venue_layout_seats;
 TRUNCATE TABLE performances;
+TRUNCATE TABLE performance_stats;
 TRUNCATE TABLE seats;
 TRUNCATE TABLE reservations;
 TRUNCATE TABLE payments;